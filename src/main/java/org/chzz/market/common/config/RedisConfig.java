@@ -1,15 +1,20 @@
 package org.chzz.market.common.config;
 
+import java.util.concurrent.Executors;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
 import org.chzz.market.domain.notification.service.RedisSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
@@ -31,6 +36,7 @@ public class RedisConfig {
     }
 
     @Bean
+    @Primary
     RedisTemplate<String, Object> redisTemplate() {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory());
@@ -42,21 +48,35 @@ public class RedisConfig {
     }
 
     @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.transport", havingValue = "pubsub", matchIfMissing = true)
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       MessageListenerAdapter listenerAdapter) {
+                                                                       MessageListenerAdapter listenerAdapter,
+                                                                       ChannelTopic topic) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, new ChannelTopic("notification"));
+        // 기본 실행기는 메시지마다 스레드를 만들고 순서를 보장하지 않으므로, 수신 순서대로 NotificationDispatcher 에 넘기도록 한 스레드에서 처리합니다.
+        container.setTaskExecutor(Executors.newSingleThreadExecutor());
+        container.addMessageListener(listenerAdapter, topic);
         return container;
     }
 
     @Bean
+    @ConditionalOnProperty(name = "notification.transport", havingValue = "pubsub", matchIfMissing = true)
     public MessageListenerAdapter listenerAdapter(RedisSubscriber redisSubscriber) {
         return new MessageListenerAdapter(redisSubscriber, "onMessage");
     }
 
+    /**
+     * 이 노드에 SSE로 연결된 사용자에게 보낼 알림만 받는 노드별 채널
+     */
     @Bean
-    public ChannelTopic topic() {
-        return new ChannelTopic("notification");
+    @ConditionalOnProperty(name = "notification.transport", havingValue = "pubsub", matchIfMissing = true)
+    public ChannelTopic topic(SsePresenceRepository ssePresenceRepository) {
+        return new ChannelTopic(ssePresenceRepository.nodeChannel());
     }
 }
@@ -59,6 +59,7 @@ public class SecurityConfig {
                         .requestMatchers("/api-docs", "/swagger-ui/**", "/api/v1/v3/api-docs/**").permitAll()
                         .requestMatchers(GET,
                                 "/api/v1/auctions",
+                                "/api/v1/auctions/cursor",
                                 "/api/v1/auctions/{auctionId:\\d+}",
                                 "/api/v1/auctions/{auctionId:\\d+}/simple",
                                 "/api/v1/auctions/best",
@@ -69,6 +70,7 @@ public class SecurityConfig {
                                 "/api/v1/products/{productId:\\d+}",
                                 "/api/v1/products/users/*",
                                 "/api/v1/notifications/subscribe",
+                                "/api/v1/notifications/subscribe/stream",
                                 "/api/v1/users/*",
                                 "/api/v1/users/check/nickname/*").permitAll()
                         .requestMatchers(POST,
@@ -0,0 +1,18 @@
+package org.chzz.market.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 대기열에서 가져간 요청 묶음 하나를 처리한 결과
+ */
+public interface BatchResult {
+    /**
+     * 처리한 요청 수
+     */
+    int entryCount();
+
+    /**
+     * 가장 오래된 요청의 생성 시각 (처리한 요청이 없으면 null)
+     */
+    LocalDateTime oldestCreatedAt();
+}
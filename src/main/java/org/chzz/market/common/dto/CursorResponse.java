@@ -0,0 +1,22 @@
+package org.chzz.market.common.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지 응답. 전체 개수를 세지 않으며 다음 페이지는 nextCursor 로 요청합니다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class CursorResponse<E> {
+    private final boolean hasNext;
+    private final List<E> items;
+    private final int size;
+    private final String nextCursor;
+
+    public static <E> CursorResponse<E> of(final List<E> items, final int size, final String nextCursor) {
+        return new CursorResponse<>(nextCursor != null, items, size, nextCursor);
+    }
+}
@@ -14,6 +14,7 @@ public enum GlobalErrorCode implements ErrorCode {
     AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "Authentication is required"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access is denied"),
     UNSUPPORTED_SORT_TYPE(HttpStatus.BAD_REQUEST, "Unsupported type of sort"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "Invalid cursor"),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "Resource not exists"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error"),
     EXTERNAL_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "external api error. check server log.");
@@ -0,0 +1,51 @@
+package org.chzz.market.common.util;
+
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.chzz.market.common.dto.BatchResult;
+
+/**
+ * SKIP LOCKED 로 나누어 가져가는 DB 대기열을 한 주기 동안 묶음 단위로 비우는 공통 흐름
+ */
+public class BatchRelayUtil {
+    /**
+     * 묶음이 가득 차 있는 동안 최대 {@code maxBatches}번 묶음을 처리합니다. 묶음이 덜 찼으면 대기열이 비었다고 보고 멈추고, 묶음 처리가 실패하면
+     * {@code onFailure}에 예외를 넘긴 뒤 이번 주기를 끝냅니다.
+     *
+     * @param batchSize    묶음 크기
+     * @param maxBatches   한 주기에 처리할 최대 묶음 수
+     * @param processBatch 묶음 하나를 자체 트랜잭션으로 처리
+     * @param recorder     요청이 하나 이상 처리된 묶음의 결과 기록
+     * @param onFailure    묶음 처리 실패 처리
+     */
+    public static <R extends BatchResult> void drain(int batchSize, int maxBatches, IntFunction<R> processBatch,
+                                                     Consumer<R> recorder, Consumer<Exception> onFailure) {
+        for (int batch = 0; batch < maxBatches; batch++) {
+            R result;
+            try {
+                result = processBatch.apply(batchSize);
+            } catch (Exception e) {
+                onFailure.accept(e);
+                return;
+            }
+            if (result.entryCount() > 0) {
+                recorder.accept(result);
+            }
+            if (result.entryCount() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 묶음의 가장 오래된 요청이 저장된 뒤 처리되기까지 걸린 시간을 기록합니다.
+     */
+    public static void recordLag(Timer lagTimer, BatchResult result) {
+        if (result.oldestCreatedAt() != null) {
+            lagTimer.record(Duration.between(result.oldestCreatedAt(), LocalDateTime.now()));
+        }
+    }
+}
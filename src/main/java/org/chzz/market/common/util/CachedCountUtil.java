@@ -0,0 +1,41 @@
+package org.chzz.market.common.util;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Redis 에 둔 집계를 읽고, 없거나 Redis 를 쓸 수 없으면 DB 로 다시 세는 공통 흐름
+ */
+@Slf4j
+public class CachedCountUtil {
+    /**
+     * 캐시된 집계를 돌려주고, 없으면 DB 로 세어 캐시에 저장한 뒤 돌려줍니다. Redis 조회나 저장에 실패해도 DB 값으로 응답합니다.
+     *
+     * @param name    로그에 남길 집계 이름
+     * @param userId  사용자 ID
+     * @param cached  캐시 조회
+     * @param counter DB 집계
+     * @param saver   캐시 저장
+     */
+    public static <T> T getOrCount(String name, Long userId, Supplier<Optional<T>> cached, Supplier<T> counter,
+                                   Consumer<T> saver) {
+        try {
+            Optional<T> count = cached.get();
+            if (count.isPresent()) {
+                return count.get();
+            }
+        } catch (DataAccessException e) {
+            log.warn("{}을(를) 조회하지 못했습니다. 사용자 ID: {}", name, userId, e);
+        }
+        T count = counter.get();
+        try {
+            saver.accept(count);
+        } catch (DataAccessException e) {
+            log.warn("{}을(를) 저장하지 못했습니다. 사용자 ID: {}", name, userId, e);
+        }
+        return count;
+    }
+}
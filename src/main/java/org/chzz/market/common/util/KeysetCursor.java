@@ -0,0 +1,42 @@
+package org.chzz.market.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+import org.chzz.market.common.error.GlobalErrorCode;
+import org.chzz.market.common.error.GlobalException;
+
+/**
+ * 정렬 이름, 마지막 행의 정렬 키, 마지막 행의 ID 를 담는 불투명 커서
+ */
+public record KeysetCursor<K>(String order, K key, Long id) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = order + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석하고 정렬 키를 {@code keyParser}로 복원합니다. 커서가 없으면 null 을 반환하고, 형식이 잘못되었거나 요청한 정렬과 다르거나
+     * 정렬 키를 복원할 수 없으면 예외가 발생합니다.
+     */
+    public static <K> KeysetCursor<K> decode(String cursor, String expectedOrder, Function<String, K> keyParser) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(DELIMITER);
+            int last = raw.lastIndexOf(DELIMITER);
+            if (first < 0 || first == last || !raw.substring(0, first).equals(expectedOrder)) {
+                throw new GlobalException(GlobalErrorCode.INVALID_CURSOR);
+            }
+            K key = keyParser.apply(raw.substring(first + 1, last));
+            return new KeysetCursor<>(expectedOrder, key, Long.valueOf(raw.substring(last + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package org.chzz.market.common.util;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.LockModeType;
 import java.util.function.Supplier;
+import org.hibernate.LockOptions;
 
 public class QuerydslUtil {
     /**
@@ -28,4 +31,14 @@ public class QuerydslUtil {
             return new BooleanBuilder();
         }
     }
+
+    /**
+     * 조회한 행에 쓰기 잠금을 걸고, 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜁니다(FOR UPDATE SKIP LOCKED). 여러 노드가 DB 대기열을 나누어
+     * 가져갈 때 씁니다.
+     */
+    public static <T> JPAQuery<T> skipLocked(JPAQuery<T> query) {
+        return query
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED);
+    }
 }
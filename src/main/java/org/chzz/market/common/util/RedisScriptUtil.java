@@ -0,0 +1,70 @@
+package org.chzz.market.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+public class RedisScriptUtil {
+    /**
+     * 클래스패스의 Lua 스크립트를 읽어 {@link RedisScript}로 만듭니다.
+     *
+     * @param path       클래스패스 기준 경로 (예: redis/bid-ledger-place.lua)
+     * @param resultType 스크립트 반환 타입
+     */
+    public static <T> RedisScript<T> load(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 같은 스크립트를 호출마다 다른 키와 인자로 한 번의 파이프라인에서 EVALSHA 로 실행합니다. 호출마다 스크립트 본문을 보내지 않으므로 Redis 가
+     * 매번 본문을 해시하고 찾지 않습니다.
+     * <p>
+     * Redis 에 스크립트가 없으면(재시작, 장애 조치 등) 모든 호출이 NOSCRIPT 로 실행되지 않으므로, 스크립트를 올린 뒤 한 번 다시 실행합니다.
+     *
+     * @param numKeys     호출마다 앞에서부터 키로 쓸 개수
+     * @param keysAndArgs 호출별 키와 인자
+     * @return 호출 순서대로의 스크립트 반환값
+     */
+    public static List<Object> executePipelined(StringRedisTemplate redisTemplate, RedisScript<?> script,
+                                                int numKeys, List<String[]> keysAndArgs) {
+        try {
+            return evalShaPipelined(redisTemplate, script, numKeys, keysAndArgs);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            return evalShaPipelined(redisTemplate, script, numKeys, keysAndArgs);
+        }
+    }
+
+    private static List<Object> evalShaPipelined(StringRedisTemplate redisTemplate, RedisScript<?> script,
+                                                 int numKeys, List<String[]> keysAndArgs) {
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keysAndArgs.forEach(call -> stringConnection.evalSha(script.getSha1(), returnType, numKeys, call));
+            return null;
+        });
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import org.chzz.market.common.config.LoginUser;
 import org.chzz.market.common.springdoc.ApiExceptionExplanation;
 import org.chzz.market.common.springdoc.ApiResponseExplanations;
+import org.chzz.market.common.dto.CursorResponse;
 import org.chzz.market.domain.auction.dto.request.BaseRegisterRequest;
 import org.chzz.market.domain.auction.dto.request.StartAuctionRequest;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
@@ -36,18 +37,31 @@ public interface AuctionApi {
     @Operation(summary = "경매 목록 조회")
     ResponseEntity<Page<AuctionResponse>> getAuctionList(Category category, Long userId, @ParameterObject Pageable pageable);
 
-    @Operation(summary = "베스트 경매 목록 조회")
-    ResponseEntity<List<AuctionResponse>> bestAuctionList();
+    @Operation(summary = "경매 목록 커서 기반 조회",
+            description = "전체 개수 없이 다음 페이지 커서를 반환합니다. 다음 페이지는 응답의 nextCursor 와 같은 sort 로 요청합니다.")
+    ResponseEntity<CursorResponse<AuctionResponse>> getAuctionListByCursor(Category category, Long userId, String cursor,
+                                                                           @ParameterObject Pageable pageable);
 
-    @Operation(summary = "마감 임박 경매 목록 조회")
-    ResponseEntity<List<AuctionResponse>> imminentAuctionList();
+    @Operation(summary = "베스트 경매 목록 조회", description = "카테고리를 지정하지 않으면 전체 경매 중에서 조회합니다.")
+    ResponseEntity<List<AuctionResponse>> bestAuctionList(Category category);
+
+    @Operation(summary = "마감 임박 경매 목록 조회", description = "카테고리를 지정하지 않으면 전체 경매 중에서 조회합니다.")
+    ResponseEntity<List<AuctionResponse>> imminentAuctionList(Category category);
 
     @Operation(summary = "내가 성공한 경매 목록 조회")
     ResponseEntity<Page<WonAuctionResponse>> getWonAuctionHistory(Long userId, @ParameterObject Pageable pageable);
 
+    @Operation(summary = "내가 성공한 경매 목록 커서 기반 조회")
+    ResponseEntity<CursorResponse<WonAuctionResponse>> getWonAuctionHistoryByCursor(Long userId, String cursor,
+                                                                                    @ParameterObject Pageable pageable);
+
     @Operation(summary = "내가 실패한 경매 조회")
     ResponseEntity<Page<LostAuctionResponse>> getLostAuctionHistory(Long userId, @ParameterObject Pageable pageable);
 
+    @Operation(summary = "내가 실패한 경매 커서 기반 조회")
+    ResponseEntity<CursorResponse<LostAuctionResponse>> getLostAuctionHistoryByCursor(Long userId, String cursor,
+                                                                                      @ParameterObject Pageable pageable);
+
     @Operation(summary = "경매 상세 조회",
             description = "주문 여부는 민감한 정보이므로 낙찰자와 판매자인 경우에만 해당 정보를 확인할 수 있습니다. " +
                     "그 외의 사용자에게는 주문 여부 필드는 응답에 포함되지 않습니다.")
@@ -62,19 +76,39 @@ public interface AuctionApi {
     @Operation(summary = "내가 등록한 모든 경매 목록 조회(현재 사용 X)")
     ResponseEntity<Page<UserAuctionResponse>> getUserRegisteredAuction(Long userId, @ParameterObject Pageable pageable);
 
+    @Operation(summary = "내가 등록한 모든 경매 목록 커서 기반 조회")
+    ResponseEntity<CursorResponse<UserAuctionResponse>> getUserRegisteredAuctionByCursor(
+            Long userId, String cursor, @ParameterObject Pageable pageable);
+
     @Operation(summary = "특정 닉네임 사용자의 모든 경매 상품 목록 조회(현재 사용 X)")
     ResponseEntity<Page<UserAuctionResponse>> getUserAuctionList(String nickname, @ParameterObject Pageable pageable);
 
+    @Operation(summary = "특정 닉네임 사용자의 모든 경매 상품 목록 커서 기반 조회")
+    ResponseEntity<CursorResponse<UserAuctionResponse>> getUserAuctionListByCursor(String nickname, String cursor,
+                                                                                   @ParameterObject Pageable pageable);
+
     @Operation(summary = "내가 등록한 진행 중인 경매 목록 조회")
     ResponseEntity<Page<UserAuctionResponse>> getProceedingAuctions(Long userId, @ParameterObject Pageable pageable);
 
+    @Operation(summary = "내가 등록한 진행 중인 경매 목록 커서 기반 조회")
+    ResponseEntity<CursorResponse<UserAuctionResponse>> getProceedingAuctionsByCursor(Long userId, String cursor,
+                                                                                      @ParameterObject Pageable pageable);
+
     @Operation(summary = "내가 등록한 종료된 경매 목록 조회")
     ResponseEntity<Page<UserEndedAuctionResponse>> getEndedAuctions(Long userId, Pageable pageable);
 
+    @Operation(summary = "내가 등록한 종료된 경매 목록 커서 기반 조회")
+    ResponseEntity<CursorResponse<UserEndedAuctionResponse>> getEndedAuctionsByCursor(Long userId, String cursor,
+                                                                                      @ParameterObject Pageable pageable);
+
     @Operation(summary = "경매 등록")
     ResponseEntity<RegisterResponse> registerAuction(Long userId, BaseRegisterRequest request,
                                                      List<MultipartFile> images);
 
+    @Operation(summary = "경매 등록 (직접 업로드한 이미지)",
+            description = "이미지는 미리 서명된 URL로 올린 뒤 imageKeys 에 키를 순서대로 담아 보냅니다.")
+    ResponseEntity<RegisterResponse> registerAuctionWithUploadedImages(Long userId, BaseRegisterRequest request);
+
     @ApiResponseExplanations(
             errors = {
                     @ApiExceptionExplanation(
@@ -5,6 +5,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.common.config.LoginUser;
+import org.chzz.market.common.dto.CursorResponse;
 import org.chzz.market.domain.auction.dto.request.BaseRegisterRequest;
 import org.chzz.market.domain.auction.dto.request.StartAuctionRequest;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
@@ -16,6 +17,7 @@ import org.chzz.market.domain.auction.dto.response.UserAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.UserEndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
+import org.chzz.market.domain.auction.service.AuctionFeedService;
 import org.chzz.market.domain.auction.service.AuctionRegistrationServiceFactory;
 import org.chzz.market.domain.auction.service.AuctionService;
 import org.chzz.market.domain.auction.service.register.AuctionRegistrationService;
@@ -45,6 +47,7 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/auctions")
 public class AuctionController implements AuctionApi {
     private final AuctionService auctionService;
+    private final AuctionFeedService auctionFeedService;
     private final BidService bidService;
     private final TestService testService;
     private final AuctionRegistrationServiceFactory registrationServiceFactory;
@@ -60,13 +63,26 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getAuctionListByCategory(category, userId, pageable));
     }
 
+    /**
+     * 경매 목록 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<AuctionResponse>> getAuctionListByCursor(
+            @RequestParam Category category,
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getAuctionListByCategory(category, userId, cursor, pageable));
+    }
+
     /**
      * Best 경매 상품 목록 조회
      */
     @Override
     @GetMapping("/best")
-    public ResponseEntity<List<AuctionResponse>> bestAuctionList() {
-        List<AuctionResponse> bestAuctionList = auctionService.getBestAuctionList();
+    public ResponseEntity<List<AuctionResponse>> bestAuctionList(@RequestParam(required = false) Category category) {
+        List<AuctionResponse> bestAuctionList = auctionFeedService.getBestAuctions(category);
         return ResponseEntity.ok(bestAuctionList);
     }
 
@@ -75,8 +91,9 @@ public class AuctionController implements AuctionApi {
      */
     @Override
     @GetMapping("/imminent")
-    public ResponseEntity<List<AuctionResponse>> imminentAuctionList() {
-        List<AuctionResponse> imminentAuctionList = auctionService.getImminentAuctionList();
+    public ResponseEntity<List<AuctionResponse>> imminentAuctionList(
+            @RequestParam(required = false) Category category) {
+        List<AuctionResponse> imminentAuctionList = auctionFeedService.getImminentAuctions(category);
         return ResponseEntity.ok(imminentAuctionList);
     }
 
@@ -91,6 +108,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getWonAuctionHistory(userId, pageable));
     }
 
+    /**
+     * 내가 성공한 경매 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/won/cursor")
+    public ResponseEntity<CursorResponse<WonAuctionResponse>> getWonAuctionHistoryByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getWonAuctionHistory(userId, cursor, pageable));
+    }
+
     /**
      * 내가 실패한 경매 조회
      */
@@ -102,6 +131,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getLostAuctionHistory(userId, pageable));
     }
 
+    /**
+     * 내가 실패한 경매 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/lost/cursor")
+    public ResponseEntity<CursorResponse<LostAuctionResponse>> getLostAuctionHistoryByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getLostAuctionHistory(userId, cursor, pageable));
+    }
+
     /**
      * 경매 상세 조회
      */
@@ -143,6 +184,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getAuctionListByUserId(userId, pageable));
     }
 
+    /**
+     * 사용자가 등록한 모든 경매 목록 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/users/cursor")
+    public ResponseEntity<CursorResponse<UserAuctionResponse>> getUserRegisteredAuctionByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getAuctionListByUserId(userId, cursor, pageable));
+    }
+
     /**
      * 사용자 경매 상품 목록 조회 (닉네임) 현재 사용 X
      */
@@ -153,6 +206,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getAuctionListByNickname(nickname, pageable));
     }
 
+    /**
+     * 사용자 경매 상품 목록 커서 기반 조회 (닉네임)
+     */
+    @Override
+    @GetMapping("/users/{nickname}/cursor")
+    public ResponseEntity<CursorResponse<UserAuctionResponse>> getUserAuctionListByCursor(
+            @PathVariable String nickname,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getAuctionListByNickname(nickname, cursor, pageable));
+    }
+
     /**
      * 사용자의 진행 중인 경매 목록 조회
      */
@@ -163,6 +228,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getProceedingAuctionListByUserId(userId, pageable));
     }
 
+    /**
+     * 사용자의 진행 중인 경매 목록 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/users/proceeding/cursor")
+    public ResponseEntity<CursorResponse<UserAuctionResponse>> getProceedingAuctionsByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getProceedingAuctionListByUserId(userId, cursor, pageable));
+    }
+
     /**
      * 사용자의 종료된 경매 목록 조회
      */
@@ -173,6 +250,18 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.ok(auctionService.getEndedAuctionListByUserId(userId, pageable));
     }
 
+    /**
+     * 사용자의 종료된 경매 목록 커서 기반 조회
+     */
+    @Override
+    @GetMapping("/users/ended/cursor")
+    public ResponseEntity<CursorResponse<UserEndedAuctionResponse>> getEndedAuctionsByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(sort = "newest") Pageable pageable) {
+        return ResponseEntity.ok(auctionService.getEndedAuctionListByUserId(userId, cursor, pageable));
+    }
+
     /**
      * 경매 등록
      */
@@ -190,6 +279,19 @@ public class AuctionController implements AuctionApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 경매 등록 (미리 서명된 URL로 직접 업로드한 이미지)
+     */
+    @Override
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE}, produces = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<RegisterResponse> registerAuctionWithUploadedImages(
+            @LoginUser Long userId,
+            @RequestBody @Valid BaseRegisterRequest request) {
+        RegisterResponse response = registrationServiceFactory.getService(request.getAuctionRegisterType())
+                .registerWithUploadedImages(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * 경매 상품으로 전환
      */
@@ -1,5 +1,8 @@
 package org.chzz.market.domain.auction.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -11,6 +14,8 @@ public abstract class BaseAuctionDto {
     protected Long timeRemaining;
     protected Long minPrice;
     protected Long participantCount;
+    @JsonIgnore
+    protected LocalDateTime endDateTime;
 
     public BaseAuctionDto(String productName, String imageUrl, Long timeRemaining, Long minPrice, Long participantCount) {
         this.productName = productName;
@@ -19,4 +24,29 @@ public abstract class BaseAuctionDto {
         this.minPrice = minPrice;
         this.participantCount = participantCount;
     }
+
+    /**
+     * 조회한 종료 시간으로 만듭니다. 남은 시간은 {@link #calculateTimeRemaining(LocalDateTime)}로 채웁니다.
+     */
+    public BaseAuctionDto(String productName, String imageUrl, LocalDateTime endDateTime, Long minPrice,
+                          Long participantCount) {
+        this(productName, imageUrl, (Long) null, minPrice, participantCount);
+        this.endDateTime = endDateTime;
+    }
+
+    /**
+     * 목록의 모든 경매가 같은 기준 시각으로 계산되도록 조회 후 한 번 잡은 현재 시각을 넘겨받습니다.
+     */
+    public void calculateTimeRemaining(LocalDateTime now) {
+        if (endDateTime != null) {
+            this.timeRemaining = timeRemaining(endDateTime, now);
+        }
+    }
+
+    /**
+     * 종료 시간까지 남은 초. 이미 지났으면 0입니다.
+     */
+    public static long timeRemaining(LocalDateTime endDateTime, LocalDateTime now) {
+        return Math.max(0, Duration.between(now, endDateTime).getSeconds());
+    }
 }
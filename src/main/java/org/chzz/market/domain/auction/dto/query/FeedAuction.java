@@ -0,0 +1,25 @@
+package org.chzz.market.domain.auction.dto.query;
+
+import java.time.LocalDateTime;
+import org.chzz.market.domain.auction.dto.BaseAuctionDto;
+import org.chzz.market.domain.auction.dto.response.AuctionResponse;
+
+/**
+ * 홈 화면 피드 스냅샷에 보관하는 경매 정보. 남은 시간은 조회 시점에 종료 시간으로 계산합니다.
+ */
+public record FeedAuction(
+        Long auctionId,
+        String productName,
+        String imageUrl,
+        Long minPrice,
+        Long participantCount,
+        LocalDateTime endDateTime
+) {
+    public long timeRemaining(LocalDateTime now) {
+        return BaseAuctionDto.timeRemaining(endDateTime, now);
+    }
+
+    public AuctionResponse toResponse(LocalDateTime now) {
+        return new AuctionResponse(auctionId, productName, imageUrl, timeRemaining(now), minPrice, participantCount);
+    }
+}
@@ -0,0 +1,15 @@
+package org.chzz.market.domain.auction.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+
+/**
+ * 종료 시간이 지난 경매의 키셋 커서 (종료 시간, 경매 ID)
+ */
+public record OverdueAuction(
+        Long auctionId,
+        LocalDateTime endDateTime
+) {
+    @QueryProjection
+    public OverdueAuction {}
+}
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -43,4 +44,8 @@ public abstract class BaseRegisterRequest {
 
     @NotNull(message = "경매 타입을 선택해주세요")
     protected AuctionRegisterType auctionRegisterType;
+
+    // 미리 서명된 URL로 직접 올린 이미지의 키 (이미지 파일 없이 JSON 으로 등록할 때만 사용)
+    @Size(max = 5, message = "이미지는 최대 5개까지 등록할 수 있습니다.")
+    protected List<String> imageKeys;
 }
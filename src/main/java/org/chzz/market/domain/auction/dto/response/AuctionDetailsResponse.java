@@ -1,11 +1,14 @@
 package org.chzz.market.domain.auction.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
+import org.chzz.market.domain.auction.dto.BaseAuctionDto;
 import org.chzz.market.domain.auction.type.AuctionStatus;
 import org.chzz.market.domain.image.dto.ImageResponse;
 import org.chzz.market.domain.product.entity.Product.Category;
@@ -19,7 +22,9 @@ public class AuctionDetailsResponse {
     private final String description;
     private final Integer minPrice;
     private final Category category;
-    private final Long timeRemaining;
+    private Long timeRemaining;
+    @JsonIgnore
+    private final LocalDateTime endDateTime;
     private final AuctionStatus status;
     private final Boolean isSeller;
     private final Long participantCount;
@@ -44,7 +49,7 @@ public class AuctionDetailsResponse {
     @QueryProjection
     public AuctionDetailsResponse(Long productId, String sellerNickname, String sellerProfileImageUrl,
                                   String productName, String description,
-                                  Integer minPrice, Category category, Long timeRemaining, AuctionStatus status,
+                                  Integer minPrice, Category category, LocalDateTime endDateTime, AuctionStatus status,
                                   Boolean isSeller,
                                   Long participantCount, Boolean isParticipated, Long bidId, Long bidAmount,
                                   int remainingBidCount, Boolean isCancelled, Boolean isWinner, Boolean isWon,
@@ -56,7 +61,7 @@ public class AuctionDetailsResponse {
         this.description = description;
         this.minPrice = minPrice;
         this.category = category;
-        this.timeRemaining = timeRemaining;
+        this.endDateTime = endDateTime;
         this.status = status;
         this.isSeller = isSeller;
         this.participantCount = participantCount;
@@ -70,6 +75,15 @@ public class AuctionDetailsResponse {
         this.isOrdered = isOrdered;
     }
 
+    /**
+     * 조회한 종료 시간과 현재 시각으로 남은 시간을 계산합니다.
+     */
+    public void calculateTimeRemaining(LocalDateTime now) {
+        if (endDateTime != null) {
+            this.timeRemaining = BaseAuctionDto.timeRemaining(endDateTime, now);
+        }
+    }
+
     public AuctionDetailsResponse clearOrderIfNotEligible() {
         if (!isSeller && !isWinner) {
             this.isOrdered = null;
@@ -3,6 +3,7 @@ package org.chzz.market.domain.auction.dto.response;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import org.chzz.market.domain.auction.dto.BaseAuctionDto;
 
@@ -16,14 +17,13 @@ public class AuctionResponse extends BaseAuctionDto {
     private Boolean isParticipated;
 
     @QueryProjection
-    public AuctionResponse(Long auctionId, String name, String cdnPath, Long timeRemaining, Long minPrice,
+    public AuctionResponse(Long auctionId, String name, String cdnPath, LocalDateTime endDateTime, Long minPrice,
                            Long participantCount, Boolean isParticipated) {
-        super(name, cdnPath, timeRemaining, minPrice, participantCount);
+        super(name, cdnPath, endDateTime, minPrice, participantCount);
         this.auctionId = auctionId;
         this.isParticipated = isParticipated;
     }
 
-    @QueryProjection
     public AuctionResponse(Long auctionId, String name, String cdnPath, Long timeRemaining, Long minPrice,
                            Long participantCount) {
         super(name, cdnPath, timeRemaining, minPrice, participantCount);
@@ -19,9 +19,9 @@ public class UserAuctionResponse extends BaseAuctionDto {
     private final LocalDateTime createdAt;
 
     @QueryProjection
-    public UserAuctionResponse(Long auctionId, String name, String cdnPath, Long timeRemaining, Long minPrice,
+    public UserAuctionResponse(Long auctionId, String name, String cdnPath, LocalDateTime endDateTime, Long minPrice,
                                Long participantCount, AuctionStatus status, LocalDateTime createdAt) {
-        super(name, cdnPath, timeRemaining, minPrice, participantCount);
+        super(name, cdnPath, endDateTime, minPrice, participantCount);
         this.auctionId = auctionId;
         this.status = status;
         this.createdAt = createdAt;
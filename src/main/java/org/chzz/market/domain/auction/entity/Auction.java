@@ -8,7 +8,6 @@ import static org.chzz.market.domain.auction.type.AuctionStatus.PROCEEDING;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -27,22 +26,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.chzz.market.domain.auction.entity.listener.AuctionEntityListener;
 import org.chzz.market.domain.auction.error.AuctionException;
 import org.chzz.market.domain.auction.type.AuctionStatus;
 import org.chzz.market.domain.base.entity.BaseTimeEntity;
 import org.chzz.market.domain.bid.entity.Bid;
 import org.chzz.market.domain.product.entity.Product;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_auction_end_date_time",columnList = "end_date_time")
+        @Index(name = "idx_auction_status_end_date_time", columnList = "status, end_date_time"),
+        @Index(name = "idx_auction_status_active_bid_count", columnList = "status, active_bid_count")
 })
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(value = AuctionEntityListener.class)
 public class Auction extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -63,6 +62,21 @@ public class Auction extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private AuctionStatus status;
 
+    // 종료 처리에 실패해 다시 시도할 시각. 이 시각 전까지는 종료 대상에서 제외됩니다.
+    @Column
+    private LocalDateTime closeRetryAt;
+
+    /**
+     * 활성 입찰 수와 최고 입찰 금액은 입찰/취소 시 원자적 UPDATE 로만 갱신되므로 엔티티에서는 읽기 전용으로 매핑합니다.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long activeBidCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long highestBidAmount;
+
     public Integer getMinPrice() {
         return product.getMinPrice();
     }
@@ -0,0 +1,12 @@
+package org.chzz.market.domain.auction.event;
+
+import java.util.List;
+
+/**
+ * 홈 화면 피드(베스트, 마감 임박)에 영향을 주는 변경(입찰, 취소, 경매 시작, 경매 종료)이 일어났음을 알리는 이벤트
+ */
+public record AuctionFeedChangedEvent(List<Long> auctionIds) {
+    public static AuctionFeedChangedEvent of(Long auctionId) {
+        return new AuctionFeedChangedEvent(List.of(auctionId));
+    }
+}
@@ -1,7 +1,13 @@
 package org.chzz.market.domain.auction.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.domain.auction.dto.query.FeedAuction;
+import org.chzz.market.domain.auction.dto.query.OverdueAuction;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.AuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
@@ -10,6 +16,7 @@ import org.chzz.market.domain.auction.dto.response.UserAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.UserEndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
+import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.product.entity.Product.Category;
 import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
 import org.springframework.data.domain.Page;
@@ -26,6 +33,15 @@ public interface AuctionRepositoryCustom {
      */
     Page<AuctionResponse> findAuctionsByCategory(Category category, Long userId, Pageable pageable);
 
+    /**
+     * 카테고리와 정렬 조건에 따라 경매 리스트를 커서 기반으로 조회합니다.
+     *
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param pageable 페이지 크기와 정렬 정보 (페이지 번호는 사용하지 않음)
+     */
+    CursorResponse<AuctionResponse> findAuctionsByCategory(Category category, Long userId, String cursor,
+                                                           Pageable pageable);
+
     /**
      * 경매 ID와 사용자 ID로 경매 상세 정보를 조회합니다.
      *
@@ -52,6 +68,11 @@ public interface AuctionRepositoryCustom {
      */
     Page<UserAuctionResponse> findAuctionsByNickname(String nickname, Pageable pageable);
 
+    /**
+     * 사용자 닉네임에 따라 경매 리스트를 커서 기반으로 조회합니다.
+     */
+    CursorResponse<UserAuctionResponse> findAuctionsByNickname(String nickname, String cursor, Pageable pageable);
+
     /**
      * @param userId   사용자 ID
      * @param pageable 페이징 정보
@@ -60,18 +81,34 @@ public interface AuctionRepositoryCustom {
     Page<UserAuctionResponse> findAuctionsByUserId(Long userId, Pageable pageable);
 
     /**
-     * 홈 화면의 베스트 경매 조회
+     * 사용자가 등록한 경매 리스트를 커서 기반으로 조회합니다.
+     */
+    CursorResponse<UserAuctionResponse> findAuctionsByUserId(Long userId, String cursor, Pageable pageable);
+
+    /**
+     * 홈 화면 피드용 베스트 경매 후보를 카테고리마다 활성 입찰 수 내림차순으로 최대 {@code limitPerCategory}개씩 한 번에 조회합니다.
+     *
+     * @param limitPerCategory 카테고리별 최대 조회 개수
+     */
+    Map<Category, List<FeedAuction>> findBestFeedAuctionsByCategory(int limitPerCategory);
+
+    /**
+     * 홈 화면 피드용 마감 임박 경매 후보를 카테고리마다 종료 시간 오름차순, 활성 입찰 수 내림차순으로 최대 {@code limitPerCategory}개씩 한 번에
+     * 조회합니다.
      *
-     * @return 입찰 기록이 많은 경매 정보
+     * @param from             종료 시간 하한 (제외)
+     * @param to               종료 시간 상한 (포함)
+     * @param limitPerCategory 카테고리별 최대 조회 개수
      */
-    List<AuctionResponse> findBestAuctions();
+    Map<Category, List<FeedAuction>> findImminentFeedAuctionsByCategory(LocalDateTime from, LocalDateTime to,
+                                                                        int limitPerCategory);
 
     /**
-     * 홈 화면의 임박 경매 조회
+     * 변경된 경매 중 진행 중인 경매를 피드 후보와 같은 형태로 카테고리별로 조회합니다. 피드 스냅샷을 다시 만들어야 하는지 판단할 때 사용합니다.
      *
-     * @return 경매 종료까지 1시간 이내인 경매 정보
+     * @param auctionIds 경매 ID 목록
      */
-    List<AuctionResponse> findImminentAuctions();
+    Map<Category, List<FeedAuction>> findFeedAuctionsByIds(Collection<Long> auctionIds);
 
     /**
      * 사용자가 낙찰한 경매 이력을 조회합니다.
@@ -82,6 +119,11 @@ public interface AuctionRepositoryCustom {
      */
     Page<WonAuctionResponse> findWonAuctionHistoryByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자가 낙찰한 경매 이력을 커서 기반으로 조회합니다.
+     */
+    CursorResponse<WonAuctionResponse> findWonAuctionHistoryByUserId(Long userId, String cursor, Pageable pageable);
+
     /**
      * 사용자가 낙찰하지 못한 경매 이력을 조회합니다.
      *
@@ -91,6 +133,11 @@ public interface AuctionRepositoryCustom {
      */
     Page<LostAuctionResponse> findLostAuctionHistoryByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자가 낙찰하지 못한 경매 이력을 커서 기반으로 조회합니다.
+     */
+    CursorResponse<LostAuctionResponse> findLostAuctionHistoryByUserId(Long userId, String cursor, Pageable pageable);
+
     /**
      * @param userId - 사용자 ID
      * @return 사용자가 참여한 상태별 경매들의 수
@@ -106,6 +153,11 @@ public interface AuctionRepositoryCustom {
      */
     Page<UserAuctionResponse> findProceedingAuctionByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자가 등록한 진행 중인 경매 목록을 커서 기반으로 조회합니다.
+     */
+    CursorResponse<UserAuctionResponse> findProceedingAuctionByUserId(Long userId, String cursor, Pageable pageable);
+
     /**
      * 사용자 ID에 해당하는 종료된 경매 목록을 페이징하여 조회합니다.
      *
@@ -115,8 +167,79 @@ public interface AuctionRepositoryCustom {
      */
     Page<UserEndedAuctionResponse> findEndedAuctionByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 사용자가 등록한 종료된 경매 목록을 커서 기반으로 조회합니다.
+     */
+    CursorResponse<UserEndedAuctionResponse> findEndedAuctionByUserId(Long userId, String cursor, Pageable pageable);
+
     /**
      * 낙찰 정보 조회합니다.
      */
     Optional<WonAuctionDetailsResponse> findWinningBidById(Long auctionId);
+
+    /**
+     * 신규 입찰 또는 입찰 금액 상향을 경매의 입찰 요약 정보에 반영합니다.
+     *
+     * @param auctionId  경매 ID
+     * @param countDelta 활성 입찰 수 증감량 (신규 입찰 1, 금액 수정 0)
+     * @param bidAmount  입찰 금액
+     */
+    void increaseBidSummary(Long auctionId, long countDelta, Long bidAmount);
+
+    /**
+     * 입찰 취소 또는 금액 하향 이후 경매의 입찰 요약 정보를 갱신합니다. 최고 입찰 금액은 활성 입찰에서 다시 계산합니다.
+     *
+     * @param auctionId  경매 ID
+     * @param countDelta 활성 입찰 수 증감량 (입찰 취소 -1, 금액 수정 0)
+     */
+    void decreaseBidSummary(Long auctionId, long countDelta);
+
+    /**
+     * 경매들의 활성 입찰 수와 최고 입찰 금액을 bid 테이블에서 다시 계산합니다.
+     */
+    void recalculateBidSummary(List<Long> auctionIds);
+
+    /**
+     * 종료 시간이 지난 진행 중인 경매 ID를 종료 시간 순으로 조회합니다. 종료를 다시 시도할 시각이 되지 않은 경매는 제외합니다.
+     *
+     * @param now   기준 시간
+     * @param limit 최대 조회 개수
+     */
+    List<Long> findDueAuctionIds(LocalDateTime now, int limit);
+
+    /**
+     * 종료 시간이 지난 진행 중인 경매를 (종료 시간, 경매 ID) 순서의 키셋으로 조회합니다.
+     *
+     * @param now    기준 시간
+     * @param cursor 이전 페이지의 마지막 경매 (첫 페이지는 null)
+     * @param limit  최대 조회 개수
+     */
+    List<OverdueAuction> findOverdueAuctions(LocalDateTime now, OverdueAuction cursor, int limit);
+
+    /**
+     * 아직 진행 중인 경매에 행 잠금을 걸고 ID를 반환합니다. 다른 노드가 잠근 경매는 건너뜁니다(SKIP LOCKED).
+     */
+    List<Long> lockProceedingAuctionIds(List<Long> auctionIds);
+
+    /**
+     * 경매들을 종료 상태로 변경합니다.
+     */
+    long endAuctions(List<Long> auctionIds);
+
+    /**
+     * 종료 처리에 실패한 경매들을 {@code retryAt}까지 종료 대상에서 제외합니다.
+     */
+    long deferClose(List<Long> auctionIds, LocalDateTime retryAt);
+
+    /**
+     * 경매별 낙찰자를 한 번의 UPDATE 로 지정합니다.
+     *
+     * @param winnerIds 경매 ID - 낙찰자 ID
+     */
+    void assignWinners(Map<Long, Long> winnerIds);
+
+    /**
+     * 상품과 이미지를 함께 로딩하여 경매 목록을 조회합니다.
+     */
+    List<Auction> findAllWithProductByIdIn(List<Long> auctionIds);
 }
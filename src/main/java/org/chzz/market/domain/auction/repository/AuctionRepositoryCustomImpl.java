@@ -1,8 +1,8 @@
 package org.chzz.market.domain.auction.repository;
 
 import static org.chzz.market.common.util.QuerydslUtil.nullSafeBuilder;
+import static org.chzz.market.common.util.QuerydslUtil.skipLocked;
 import static org.chzz.market.domain.auction.entity.QAuction.auction;
-import static org.chzz.market.domain.auction.repository.AuctionRepositoryCustomImpl.AuctionOrder.POPULARITY;
 import static org.chzz.market.domain.auction.type.AuctionStatus.ENDED;
 import static org.chzz.market.domain.auction.type.AuctionStatus.PROCEEDING;
 import static org.chzz.market.domain.bid.entity.Bid.BidStatus.ACTIVE;
@@ -14,25 +14,45 @@ import static org.chzz.market.domain.product.entity.QProduct.product;
 import static org.chzz.market.domain.user.entity.QUser.user;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Ops.DateTimeOps;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTimeOperation;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.common.error.GlobalErrorCode;
+import org.chzz.market.common.error.GlobalException;
+import org.chzz.market.common.util.KeysetCursor;
 import org.chzz.market.common.util.QuerydslOrder;
 import org.chzz.market.common.util.QuerydslOrderProvider;
+import org.chzz.market.domain.auction.dto.BaseAuctionDto;
+import org.chzz.market.domain.auction.dto.query.FeedAuction;
+import org.chzz.market.domain.auction.dto.query.OverdueAuction;
+import org.chzz.market.domain.auction.dto.query.QOverdueAuction;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.AuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
@@ -49,19 +69,66 @@ import org.chzz.market.domain.auction.dto.response.UserAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.UserEndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.type.AuctionStatus;
 import org.chzz.market.domain.bid.entity.QBid;
 import org.chzz.market.domain.image.dto.ImageResponse;
 import org.chzz.market.domain.image.dto.QImageResponse;
 import org.chzz.market.domain.product.entity.Product.Category;
 import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
+import org.chzz.market.domain.user.dto.response.QParticipationCountsResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
+    /**
+     * 홈 화면 피드 후보. 카테고리마다 순위를 매겨 상위 N개만 남기므로 전체와 카테고리별 피드를 한 번의 조회로 만듭니다. 전체 피드의 상위 N개는
+     * 각 카테고리 상위 N개 안에 있습니다.
+     */
+    private static final String BEST_FEED_SQL = """
+            SELECT auction_id, name, image_url, min_price, active_bid_count, end_date_time, category
+            FROM (SELECT a.auction_id, p.name, COALESCE(i.thumbnail_path, i.cdn_path) AS image_url, p.min_price,
+                         a.active_bid_count, a.end_date_time, p.category,
+                         ROW_NUMBER() OVER (PARTITION BY p.category
+                                            ORDER BY a.active_bid_count DESC, a.auction_id DESC) AS category_rank
+                  FROM auction a
+                  JOIN product p ON p.product_id = a.product_id
+                  LEFT JOIN image i ON i.product_id = p.product_id AND i.sequence = 1
+                  WHERE a.status = 'PROCEEDING') ranked
+            WHERE category_rank <= ?
+            ORDER BY category, category_rank
+            """;
+    static final String IMMINENT_FEED_SQL = """
+            SELECT auction_id, name, image_url, min_price, active_bid_count, end_date_time, category
+            FROM (SELECT a.auction_id, p.name, COALESCE(i.thumbnail_path, i.cdn_path) AS image_url, p.min_price,
+                         a.active_bid_count, a.end_date_time, p.category,
+                         ROW_NUMBER() OVER (PARTITION BY p.category
+                                            ORDER BY a.end_date_time, a.active_bid_count DESC, a.auction_id)
+                             AS category_rank
+                  FROM auction a
+                  JOIN product p ON p.product_id = a.product_id
+                  LEFT JOIN image i ON i.product_id = p.product_id AND i.sequence = 1
+                  WHERE a.status = 'PROCEEDING' AND a.end_date_time > ? AND a.end_date_time <= ?) ranked
+            WHERE category_rank <= ?
+            ORDER BY category, category_rank
+            """;
+    private static final String FEED_AUCTIONS_BY_ID_SQL = """
+            SELECT a.auction_id, p.name, COALESCE(i.thumbnail_path, i.cdn_path) AS image_url, p.min_price,
+                   a.active_bid_count, a.end_date_time, p.category
+            FROM auction a
+            JOIN product p ON p.product_id = a.product_id
+            LEFT JOIN image i ON i.product_id = p.product_id AND i.sequence = 1
+            WHERE a.status = 'PROCEEDING' AND a.auction_id IN (%s)
+            """;
+
     private final JPAQueryFactory jpaQueryFactory;
     private final QuerydslOrderProvider querydslOrderProvider;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 카테고리와 정렬 조건에 따라 경매 리스트를 조회합니다.
@@ -74,31 +141,53 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
     @Override
     public Page<AuctionResponse> findAuctionsByCategory(Category category, Long userId,
                                                         Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
+        JPAQuery<?> baseQuery = categoryBaseQuery(category);
+
+        List<AuctionResponse> content = withTimeRemaining(selectAuctionResponses(baseQuery, userId)
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
+
+        JPAQuery<Long> countQuery = baseQuery
+                .select(auction.count());
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+    }
+
+    /**
+     * 카테고리와 정렬 조건에 따라 경매 리스트를 커서 기반으로 조회합니다.
+     *
+     * @param category 카테고리
+     * @param userId   사용자 ID
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param pageable 페이지 크기와 정렬 정보 (페이지 번호는 사용하지 않음)
+     * @return 커서 기반 경매 응답 리스트
+     */
+    @Override
+    public CursorResponse<AuctionResponse> findAuctionsByCategory(Category category, Long userId, String cursor,
+                                                                  Pageable pageable) {
+        return withTimeRemaining(
+                fetchByCursor(selectAuctionResponses(categoryBaseQuery(category), userId), cursor, pageable));
+    }
+
+    private JPAQuery<?> categoryBaseQuery(Category category) {
+        return jpaQueryFactory.from(auction)
                 .join(auction.product, product)
                 .where(auction.product.category.eq(category).and(auction.status.eq(PROCEEDING)));
+    }
 
-        List<AuctionResponse> content = baseQuery
+    private JPAQuery<AuctionResponse> selectAuctionResponses(JPAQuery<?> baseQuery, Long userId) {
+        return baseQuery
                 .select(new QAuctionResponse(
                         auction.id,
                         product.name,
-                        image.cdnPath,
-                        timeRemaining().longValue(),
+                        thumbnailPath(),
+                        auction.endDateTime,
                         product.minPrice.longValue(),
-                        bid.countDistinct(),
+                        auction.activeBidCount,
                         isParticipating(userId)
                 ))
-                .leftJoin(bid).on(bid.auction.id.eq(auction.id).and(bid.status.eq(ACTIVE)))
-                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .groupBy(auction.id, product.name, image.cdnPath, auction.createdAt, product.minPrice)
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        JPAQuery<Long> countQuery = baseQuery
-                .select(auction.count());
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()));
     }
 
     /**
@@ -121,10 +210,10 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                         product.description,
                         product.minPrice,
                         product.category,
-                        timeRemaining().longValue(),
+                        auction.endDateTime,
                         auction.status,
                         userIdEq(userId),
-                        getBidCount(),
+                        auction.activeBidCount,
                         activeBid.id.isNotNull(),
                         activeBid.id,
                         activeBid.amount.coalesce(0L),
@@ -149,8 +238,10 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 .where(auction.id.eq(auctionId))
                 .fetchOne());
 
-        auctionDetailsResponse.ifPresent(
-                response -> response.addImageList(getImagesByProductId(response.getProductId())));
+        auctionDetailsResponse.ifPresent(response -> {
+            response.calculateTimeRemaining(LocalDateTime.now());
+            response.addImageList(getImagesByProductId(response.getProductId()));
+        });
 
         return auctionDetailsResponse;
     }
@@ -168,14 +259,12 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                         image.cdnPath,
                         product.name,
                         product.minPrice,
-                        bid.countDistinct()
+                        auction.activeBidCount
                 ))
                 .from(auction)
                 .join(auction.product, product)
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .leftJoin(bid).on(bid.auction.id.eq(auctionId).and(bid.status.eq(ACTIVE)))
                 .where(auction.id.eq(auctionId))
-                .groupBy(product.name, image.cdnPath, product.minPrice)
                 .fetchOne());
     }
 
@@ -188,12 +277,22 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
      */
     @Override
     public Page<UserAuctionResponse> findAuctionsByNickname(String nickname, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
-                .join(auction.product, product)
-                .join(product.user, user)
-                .where(user.nickname.eq(nickname));
+        return getUserAuctionResponses(pageable, nicknameAuctionBaseQuery(nickname));
+    }
 
-        return getUserAuctionResponses(pageable, baseQuery);
+    /**
+     * 사용자 닉네임에 따라 경매 리스트를 커서 기반으로 조회합니다.
+     *
+     * @param nickname 사용자 닉네임
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param pageable 페이지 크기와 정렬 정보 (페이지 번호는 사용하지 않음)
+     * @return 커서 기반 사용자 경매 응답 리스트
+     */
+    @Override
+    public CursorResponse<UserAuctionResponse> findAuctionsByNickname(String nickname, String cursor,
+                                                                      Pageable pageable) {
+        return withTimeRemaining(
+                fetchByCursor(selectUserAuctionResponses(nicknameAuctionBaseQuery(nickname)), cursor, pageable));
     }
 
     /**
@@ -205,94 +304,84 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
      */
     @Override
     public Page<UserAuctionResponse> findAuctionsByUserId(Long userId, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
+        return getUserAuctionResponses(pageable, userAuctionBaseQuery(userId));
+    }
+
+    /**
+     * 사용자가 등록한 경매 리스트를 커서 기반으로 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param pageable 페이지 크기와 정렬 정보 (페이지 번호는 사용하지 않음)
+     * @return 커서 기반 사용자 경매 응답 리스트
+     */
+    @Override
+    public CursorResponse<UserAuctionResponse> findAuctionsByUserId(Long userId, String cursor, Pageable pageable) {
+        return withTimeRemaining(
+                fetchByCursor(selectUserAuctionResponses(userAuctionBaseQuery(userId)), cursor, pageable));
+    }
+
+    private JPAQuery<?> nicknameAuctionBaseQuery(String nickname) {
+        return jpaQueryFactory.from(auction)
                 .join(auction.product, product)
                 .join(product.user, user)
-                .on(user.id.eq(userId));
+                .where(user.nickname.eq(nickname));
+    }
 
-        return getUserAuctionResponses(pageable, baseQuery);
+    private JPAQuery<?> userAuctionBaseQuery(Long userId) {
+        return jpaQueryFactory.from(auction)
+                .join(auction.product, product)
+                .join(product.user, user)
+                .on(user.id.eq(userId));
     }
 
     private Page<UserAuctionResponse> getUserAuctionResponses(Pageable pageable, JPAQuery<?> baseQuery) {
-        JPAQuery<UserAuctionResponse> contentQuery = baseQuery
-                .select(new QUserAuctionResponse(
-                        auction.id,
-                        product.name,
-                        image.cdnPath,
-                        timeRemaining().longValue(),
-                        product.minPrice.longValue(),
-                        getBidCount(),
-                        auction.status,
-                        auction.createdAt));
-
-        List<UserAuctionResponse> content = contentQuery
-                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
+        List<UserAuctionResponse> content = withTimeRemaining(selectUserAuctionResponses(baseQuery)
                 .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch();
+                .fetch());
 
         JPAQuery<Long> countQuery = baseQuery.select(auction.count());
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
     }
 
-    /**
-     * 홈 화면의 베스트 경매 조회
-     *
-     * @return 입찰 기록이 많은 10개의 경매 정보
-     */
     @Override
-    public List<AuctionResponse> findBestAuctions() {
-        JPAQuery<?> baseQuery = jpaQueryFactory.from(auction)
-                .join(auction.product, product)
-                .where(auction.status.eq(PROCEEDING))
-                .orderBy(POPULARITY.getOrderSpecifier());
+    public Map<Category, List<FeedAuction>> findBestFeedAuctionsByCategory(int limitPerCategory) {
+        return queryFeedAuctionsByCategory(BEST_FEED_SQL, limitPerCategory);
+    }
 
-        return baseQuery.select(new QAuctionResponse(
-                        auction.id,
-                        product.name,
-                        image.cdnPath,
-                        timeRemaining().longValue(),
-                        product.minPrice.longValue(),
-                        bid.countDistinct())
-                )
-                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .leftJoin(bid).on(bid.auction.id.eq(auction.id).and(bid.status.ne(CANCELLED)))
-                .groupBy(auction.id, product.name, image.cdnPath, auction.createdAt, product.minPrice)
-                .offset(0)
-                .limit(5)
-                .fetch();
+    @Override
+    public Map<Category, List<FeedAuction>> findImminentFeedAuctionsByCategory(LocalDateTime from, LocalDateTime to,
+                                                                               int limitPerCategory) {
+        return queryFeedAuctionsByCategory(IMMINENT_FEED_SQL, Timestamp.valueOf(from), Timestamp.valueOf(to),
+                limitPerCategory);
     }
 
-    /**
-     * 홈 화면의 임박 경매 조회
-     *
-     * @return 경매 종료까지 1시간 이내인 경매 정보
-     */
     @Override
-    public List<AuctionResponse> findImminentAuctions() {
-        JPAQuery<?> baseQuery = jpaQueryFactory
-                .from(auction)
-                .join(auction.product, product)
-                .where(
-                        timeRemaining().between(0, 3600)
-                                .and(auction.status.eq(PROCEEDING)))
-                .orderBy(timeRemaining().asc(), POPULARITY.getOrderSpecifier());
+    public Map<Category, List<FeedAuction>> findFeedAuctionsByIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(auctionIds.size(), "?"));
+        return queryFeedAuctionsByCategory(FEED_AUCTIONS_BY_ID_SQL.formatted(placeholders), auctionIds.toArray());
+    }
 
-        return baseQuery.select(new QAuctionResponse(
-                        auction.id,
-                        product.name,
-                        image.cdnPath,
-                        timeRemaining().longValue(),
-                        product.minPrice.longValue(),
-                        bid.countDistinct())
-                )
-                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .leftJoin(bid).on(bid.auction.id.eq(auction.id).and(bid.status.ne(CANCELLED)))
-                .groupBy(auction.id, product.name, image.cdnPath)
-                .offset(0)
-                .limit(5)
-                .fetch();
+    /**
+     * 카테고리 순, 카테고리 안에서는 순위 순으로 조회된 피드 후보를 카테고리별로 묶습니다.
+     */
+    private Map<Category, List<FeedAuction>> queryFeedAuctionsByCategory(String sql, Object... args) {
+        Map<Category, List<FeedAuction>> feedAuctions = new EnumMap<>(Category.class);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> feedAuctions
+                .computeIfAbsent(Category.valueOf(rs.getString("category")), category -> new ArrayList<>())
+                .add(new FeedAuction(
+                        rs.getLong("auction_id"),
+                        rs.getString("name"),
+                        rs.getString("image_url"),
+                        rs.getLong("min_price"),
+                        rs.getLong("active_bid_count"),
+                        rs.getTimestamp("end_date_time").toLocalDateTime())), args);
+        return feedAuctions;
     }
 
     /**
@@ -304,19 +393,45 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
      */
     @Override
     public Page<WonAuctionResponse> findWonAuctionHistoryByUserId(Long userId, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory
+        JPAQuery<?> baseQuery = wonAuctionBaseQuery(userId);
+
+        List<WonAuctionResponse> content = selectWonAuctionResponses(baseQuery)
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = baseQuery
+                .select(auction.count());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+    }
+
+    /**
+     * 사용자가 낙찰한 경매 이력을 커서 기반으로 조회합니다.
+     */
+    @Override
+    public CursorResponse<WonAuctionResponse> findWonAuctionHistoryByUserId(Long userId, String cursor,
+                                                                            Pageable pageable) {
+        return fetchByCursor(selectWonAuctionResponses(wonAuctionBaseQuery(userId)), cursor, pageable);
+    }
+
+    private JPAQuery<?> wonAuctionBaseQuery(Long userId) {
+        return jpaQueryFactory
                 .from(auction)
                 .join(auction.bids, bid).on(bid.bidder.id.eq(userId).and(bid.status.eq(ACTIVE)))
                 .join(auction.product, product)
                 .where(auction.winnerId.eq(userId).and(auction.status.eq(ENDED)));
+    }
 
-        List<WonAuctionResponse> content = baseQuery
+    private JPAQuery<WonAuctionResponse> selectWonAuctionResponses(JPAQuery<?> baseQuery) {
+        return baseQuery
                 .select(new QWonAuctionResponse(
                         auction.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice,
-                        getBidCount(),
+                        auction.activeBidCount,
                         auction.endDateTime,
                         bid.amount,
                         order.isNotNull(),
@@ -324,129 +439,139 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 ))
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
                 .leftJoin(order).on(order.auction.id.eq(auction.id))
-                .groupBy(auction.id, product.name, image.cdnPath, product.minPrice, bid.amount, order.id)
+                .groupBy(auction.id, product.name, image.cdnPath, image.thumbnailPath, product.minPrice,
+                        auction.activeBidCount, bid.amount, order.id);
+    }
+
+    /**
+     * 사용자가 낙찰하지 못한 경매 이력을 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageable 페이징 정보
+     * @return 페이징된 낙찰 경매 응답 리스트
+     */
+    @Override
+    public Page<LostAuctionResponse> findLostAuctionHistoryByUserId(Long userId, Pageable pageable) {
+        JPAQuery<?> baseQuery = lostAuctionBaseQuery(userId);
+
+        List<LostAuctionResponse> query = selectLostAuctionResponses(baseQuery)
                 .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
         JPAQuery<Long> countQuery = baseQuery
-                .select(auction.count());
+                .select(auction.countDistinct());
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+        return PageableExecutionUtils.getPage(query, pageable, countQuery::fetchCount);
     }
 
     /**
-     * 사용자가 낙찰하지 못한 경매 이력을 조회합니다.
-     *
-     * @param userId   사용자 ID
-     * @param pageable 페이징 정보
-     * @return 페이징된 낙찰 경매 응답 리스트
+     * 사용자가 낙찰하지 못한 경매 이력을 커서 기반으로 조회합니다.
      */
     @Override
-    public Page<LostAuctionResponse> findLostAuctionHistoryByUserId(Long userId, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory
+    public CursorResponse<LostAuctionResponse> findLostAuctionHistoryByUserId(Long userId, String cursor,
+                                                                              Pageable pageable) {
+        return fetchByCursor(selectLostAuctionResponses(lostAuctionBaseQuery(userId)), cursor, pageable);
+    }
+
+    private JPAQuery<?> lostAuctionBaseQuery(Long userId) {
+        return jpaQueryFactory
                 .from(auction)
                 .join(auction.bids, bid).on(bid.bidder.id.eq(userId).and(bid.status.eq(ACTIVE)))
                 .where(auction.winnerId.ne(userId).and(auction.status.eq(ENDED)));
+    }
 
-        List<LostAuctionResponse> query = baseQuery
+    private JPAQuery<LostAuctionResponse> selectLostAuctionResponses(JPAQuery<?> baseQuery) {
+        return baseQuery
                 .select(new QLostAuctionResponse(
                         auction.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice,
-                        getBidCount(),
+                        auction.activeBidCount,
                         auction.endDateTime,
                         bid.amount
                 ))
                 .join(auction.product, product)
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .groupBy(auction.id, product.name, image.cdnPath, product.minPrice, auction.endDateTime)
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .groupBy(auction.id, product.name, image.cdnPath, image.thumbnailPath, product.minPrice,
+                        auction.activeBidCount, auction.endDateTime);
+    }
 
-        JPAQuery<Long> countQuery = baseQuery
-                .select(auction.countDistinct());
+    /**
+     * 사용자가 활성 입찰 중인 경매를 한 번만 읽어 상태별 개수를 조건부 합계로 계산합니다. 사용자당 경매 하나에 활성 입찰은 하나뿐이므로 행 수가 곧
+     * 경매 수입니다.
+     */
+    @Override
+    public ParticipationCountsResponse getParticipationCounts(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        BooleanExpression isEnded = auction.status.eq(ENDED).and(auction.endDateTime.before(now));
 
-        return PageableExecutionUtils.getPage(query, pageable, countQuery::fetchCount);
+        return jpaQueryFactory
+                .select(new QParticipationCountsResponse(
+                        countIf(auction.status.eq(PROCEEDING).and(auction.endDateTime.after(now))),
+                        countIf(isEnded.and(auction.winnerId.eq(userId))),
+                        countIf(isEnded.and(auction.winnerId.ne(userId)))
+                ))
+                .from(bid)
+                .join(bid.auction, auction)
+                .where(bid.bidder.id.eq(userId), bid.status.eq(ACTIVE))
+                .fetchOne();
     }
 
     @Override
-    public ParticipationCountsResponse getParticipationCounts(Long userId) {
-        DateTimeOperation<LocalDateTime> now = Expressions.dateTimeOperation(LocalDateTime.class,
-                DateTimeOps.CURRENT_TIMESTAMP);
+    public Page<UserAuctionResponse> findProceedingAuctionByUserId(Long userId, Pageable pageable) {
+        JPAQuery<?> baseQuery = sellerAuctionBaseQuery(userId, PROCEEDING);
 
-        BooleanExpression isEnded = auction.status.eq(ENDED)
-                .and(auction.endDateTime.before(now));
+        // 진행 중인 경매 조회 쿼리
+        List<UserAuctionResponse> result = withTimeRemaining(selectUserAuctionResponses(baseQuery)
+                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch());
 
-        // 사용자가 참여한 경매 ID 목록을 가져옵니다.
-        List<Long> participatedAuctionIds = jpaQueryFactory
-                .select(auction.id)
-                .from(auction)
-                .join(auction.bids, bid)
-                .where(bid.bidder.id.eq(userId)
-                        .and(bid.status.eq(ACTIVE)))
-                .fetch();
+        // 전체 경매 수를 계산하는 쿼리
+        JPAQuery<Long> countQuery = baseQuery
+                .select(auction.count());
 
-        BooleanExpression isParticipatedAuction = auction.id.in(participatedAuctionIds);
-
-        Long proceedingCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.status.eq(PROCEEDING))
-                                .and(auction.endDateTime.after(now)))
-                        .fetchFirst())
-                .orElse(0L);
-
-        Long successCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.winnerId.eq(userId))
-                                .and(isEnded))
-                        .fetchFirst())
-                .orElse(0L);
-
-        Long failureCount = Optional.ofNullable(jpaQueryFactory
-                        .select(auction.count())
-                        .from(auction)
-                        .where(isParticipatedAuction
-                                .and(auction.winnerId.ne(userId))
-                                .and(isEnded))
-                        .fetchFirst())
-                .orElse(0L);
-
-        return new ParticipationCountsResponse(
-                proceedingCount,
-                successCount,
-                failureCount
-        );
+        return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
     }
 
     @Override
-    public Page<UserAuctionResponse> findProceedingAuctionByUserId(Long userId, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory
+    public CursorResponse<UserAuctionResponse> findProceedingAuctionByUserId(Long userId, String cursor,
+                                                                             Pageable pageable) {
+        return withTimeRemaining(fetchByCursor(selectUserAuctionResponses(sellerAuctionBaseQuery(userId, PROCEEDING)),
+                cursor, pageable));
+    }
+
+    private JPAQuery<?> sellerAuctionBaseQuery(Long userId, AuctionStatus status) {
+        return jpaQueryFactory
                 .from(auction)
                 .join(auction.product, product)
-                .where(product.user.id.eq(userId).and(auction.status.eq(PROCEEDING)));
+                .where(product.user.id.eq(userId).and(auction.status.eq(status)));
+    }
 
-        // 진행 중인 경매 조회 쿼리
-        List<UserAuctionResponse> result = baseQuery
+    private JPAQuery<UserAuctionResponse> selectUserAuctionResponses(JPAQuery<?> baseQuery) {
+        return baseQuery
                 .select(new QUserAuctionResponse(
                         auction.id,
                         product.name,
-                        image.cdnPath,
-                        timeRemaining().longValue(),
+                        thumbnailPath(),
+                        auction.endDateTime,
                         product.minPrice.longValue(),
-                        getBidCount(),
+                        auction.activeBidCount,
                         auction.status,
                         auction.createdAt
                 ))
-                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
+                .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()));
+    }
+
+    @Override
+    public Page<UserEndedAuctionResponse> findEndedAuctionByUserId(Long userId, Pageable pageable) {
+        JPAQuery<?> baseQuery = sellerAuctionBaseQuery(userId, ENDED);
+
+        List<UserEndedAuctionResponse> result = selectEndedAuctionResponses(baseQuery)
                 .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -460,36 +585,65 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
     }
 
     @Override
-    public Page<UserEndedAuctionResponse> findEndedAuctionByUserId(Long userId, Pageable pageable) {
-        JPAQuery<?> baseQuery = jpaQueryFactory
-                .from(auction)
-                .join(auction.product, product)
-                .where(product.user.id.eq(userId).and(auction.status.eq(ENDED)));
+    public CursorResponse<UserEndedAuctionResponse> findEndedAuctionByUserId(Long userId, String cursor,
+                                                                             Pageable pageable) {
+        return fetchByCursor(selectEndedAuctionResponses(sellerAuctionBaseQuery(userId, ENDED)), cursor, pageable);
+    }
 
-        List<UserEndedAuctionResponse> result = baseQuery
+    private JPAQuery<UserEndedAuctionResponse> selectEndedAuctionResponses(JPAQuery<?> baseQuery) {
+        return baseQuery
                 .select(new QUserEndedAuctionResponse(
                         auction.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice.longValue(),
-                        getBidCount(),
-                        getWinningBidAmount(),
+                        auction.activeBidCount,
+                        auction.highestBidAmount,
                         auction.winnerId.isNotNull(),
                         order.isNotNull(),
                         auction.createdAt
                 ))
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .leftJoin(order).on(order.auction.eq(auction))
-                .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .leftJoin(order).on(order.auction.eq(auction));
+    }
 
-        // 전체 경매 수를 계산하는 쿼리
-        JPAQuery<Long> countQuery = baseQuery
-                .select(auction.count());
+    /**
+     * 정렬 키와 경매 ID 를 커서로 사용해 다음 페이지를 조회합니다. OFFSET 없이 인덱스 위치부터 읽으므로 페이지 깊이와 관계없이 비용이 같고,
+     * 전체 개수를 세지 않습니다. 다음 페이지 존재 여부는 한 건을 더 조회해 판단합니다.
+     * <p>
+     * 응답 프로젝션 옆에 정렬 키와 경매 ID 를 함께 조회하므로, 다음 커서를 만들기 위해 마지막 경매를 다시 조회하지 않습니다.
+     */
+    private <T> CursorResponse<T> fetchByCursor(JPAQuery<T> query, String cursor, Pageable pageable) {
+        AuctionOrder auctionOrder = AuctionOrder.from(pageable);
+        KeysetCursor<Object> keysetCursor = KeysetCursor.decode(cursor, auctionOrder.getName(),
+                auctionOrder.getKeyParser());
+        int size = pageable.getPageSize();
+
+        @SuppressWarnings("unchecked")
+        Expression<T> projection = (Expression<T>) query.getMetadata().getProjection();
+        Expression<?> sortKey = auctionOrder.getOrderSpecifier().getTarget();
+        if (!query.getMetadata().getGroupBy().isEmpty()) {
+            // 정렬 키는 경매마다 하나뿐이라 묶음에 더해도 결과 행이 달라지지 않습니다.
+            query.groupBy(sortKey);
+        }
+        List<Tuple> rows = query
+                .select(projection, sortKey, auction.id)
+                .where(auctionOrder.after(keysetCursor))
+                .orderBy(auctionOrder.getKeysetOrderSpecifiers())
+                .limit(size + 1L)
+                .fetch();
 
-        return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
+        List<T> items = rows.stream()
+                .limit(size)
+                .map(row -> row.get(projection))
+                .toList();
+        if (rows.size() <= size) {
+            return CursorResponse.of(items, size, null);
+        }
+        Tuple last = rows.get(size - 1);
+        String nextCursor = new KeysetCursor<>(auctionOrder.getName(), last.get(sortKey), last.get(auction.id))
+                .encode();
+        return CursorResponse.of(items, size, nextCursor);
     }
 
     @Override
@@ -509,6 +663,120 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 .fetchOne());
     }
 
+    @Override
+    @Transactional
+    public void increaseBidSummary(Long auctionId, long countDelta, Long bidAmount) {
+        jpaQueryFactory.update(auction)
+                .set(auction.activeBidCount, auction.activeBidCount.add(countDelta))
+                .set(auction.highestBidAmount, Expressions.numberTemplate(Long.class,
+                        "GREATEST({0}, {1})", auction.highestBidAmount, bidAmount))
+                .where(auction.id.eq(auctionId))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public void decreaseBidSummary(Long auctionId, long countDelta) {
+        jpaQueryFactory.update(auction)
+                .set(auction.activeBidCount, auction.activeBidCount.add(countDelta))
+                .set(auction.highestBidAmount, getHighestBidAmount())
+                .where(auction.id.eq(auctionId))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public void recalculateBidSummary(List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return;
+        }
+        jpaQueryFactory.update(auction)
+                .set(auction.activeBidCount, JPAExpressions
+                        .select(bid.count())
+                        .from(bid)
+                        .where(bid.auction.id.eq(auction.id), bid.status.eq(ACTIVE)))
+                .set(auction.highestBidAmount, getHighestBidAmount())
+                .where(auction.id.in(auctionIds))
+                .execute();
+    }
+
+    @Override
+    public List<Long> findDueAuctionIds(LocalDateTime now, int limit) {
+        return jpaQueryFactory
+                .select(auction.id)
+                .from(auction)
+                .where(auction.status.eq(PROCEEDING).and(auction.endDateTime.loe(now)), closeRetryDue(now))
+                .orderBy(auction.endDateTime.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<OverdueAuction> findOverdueAuctions(LocalDateTime now, OverdueAuction cursor, int limit) {
+        return jpaQueryFactory
+                .select(new QOverdueAuction(auction.id, auction.endDateTime))
+                .from(auction)
+                .where(auction.status.eq(PROCEEDING),
+                        auction.endDateTime.lt(now),
+                        closeRetryDue(now),
+                        afterCursor(cursor))
+                .orderBy(auction.endDateTime.asc(), auction.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> lockProceedingAuctionIds(List<Long> auctionIds) {
+        return skipLocked(jpaQueryFactory
+                .select(auction.id)
+                .from(auction)
+                .where(auction.id.in(auctionIds).and(auction.status.eq(PROCEEDING))))
+                .fetch();
+    }
+
+    @Override
+    public long endAuctions(List<Long> auctionIds) {
+        return jpaQueryFactory.update(auction)
+                .set(auction.status, ENDED)
+                .where(auction.id.in(auctionIds))
+                .execute();
+    }
+
+    @Override
+    public long deferClose(List<Long> auctionIds, LocalDateTime retryAt) {
+        return jpaQueryFactory.update(auction)
+                .set(auction.closeRetryAt, retryAt)
+                .where(auction.id.in(auctionIds))
+                .execute();
+    }
+
+    @Override
+    public void assignWinners(Map<Long, Long> winnerIds) {
+        if (winnerIds.isEmpty()) {
+            return;
+        }
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> entry : winnerIds.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(auction.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(auction.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        jpaQueryFactory.update(auction)
+                .set(auction.winnerId, cases.otherwise(auction.winnerId))
+                .where(auction.id.in(winnerIds.keySet()))
+                .execute();
+    }
+
+    @Override
+    public List<Auction> findAllWithProductByIdIn(List<Long> auctionIds) {
+        return jpaQueryFactory
+                .selectFrom(auction)
+                .join(auction.product, product).fetchJoin()
+                .leftJoin(product.images, image).fetchJoin()
+                .where(auction.id.in(auctionIds))
+                .fetch();
+    }
+
     /**
      * 상품의 대표 이미지를 조회하기 위한 조건을 반환합니다.
      *
@@ -518,6 +786,15 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
         return image.sequence.eq(1);
     }
 
+    /**
+     * 목록에 보여줄 대표 이미지 경로를 반환합니다.
+     *
+     * @return 썸네일이 만들어졌으면 썸네일 경로, 아니면 원본 이미지 경로
+     */
+    private StringExpression thumbnailPath() {
+        return image.thumbnailPath.coalesce(image.cdnPath);
+    }
+
     /**
      * 사용자가 참여 중인 경매인지 확인합니다.
      *
@@ -531,18 +808,6 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 .exists();
     }
 
-    /**
-     * 경매 참여자 수를 조회합니다.
-     *
-     * @return 참여자 수
-     */
-    private static NumberExpression<Long> getBidCount() {
-        return Expressions.asNumber(JPAExpressions
-                .select(bid.count())
-                .from(bid)
-                .where(bid.auction.id.eq(auction.id).and(bid.status.eq(ACTIVE))));
-    }
-
     /**
      * 상품의 이미지 리스트를 조회합니다.
      */
@@ -555,17 +820,12 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 .fetch();
     }
 
-    private static NumberExpression<Integer> timeRemaining() {
-        return Expressions.numberTemplate(Integer.class,
-                "GREATEST(0, TIMESTAMPDIFF(SECOND, CURRENT_TIMESTAMP, {0}))", auction.endDateTime); // 음수면 0으로 처리
-    }
-
     /**
-     * 경매의 낙찰 금액을 조회합니다.
+     * 경매의 활성 입찰 중 최고 입찰 금액을 조회합니다.
      *
-     * @return 낙찰금액
+     * @return 최고 입찰 금액 (입찰이 없으면 0)
      */
-    private JPQLQuery<Long> getWinningBidAmount() {
+    private static JPQLQuery<Long> getHighestBidAmount() {
         return JPAExpressions.select(bid.amount.max().coalesce(0L))
                 .from(bid)
                 .where(
@@ -574,6 +834,45 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                 );
     }
 
+    /**
+     * 조건을 만족하는 행 수 (SUM(CASE WHEN ... THEN 1 ELSE 0 END)). 대상 행이 없으면 0
+     */
+    private static NumberExpression<Long> countIf(BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum().coalesce(0L);
+    }
+
+    /**
+     * 조회한 종료 시간으로 남은 초를 채웁니다. 한 페이지의 경매는 조회 후 한 번 잡은 같은 기준 시각으로 계산합니다.
+     */
+    private static <T extends BaseAuctionDto> List<T> withTimeRemaining(List<T> items) {
+        LocalDateTime now = LocalDateTime.now();
+        items.forEach(item -> item.calculateTimeRemaining(now));
+        return items;
+    }
+
+    private static <T extends BaseAuctionDto> CursorResponse<T> withTimeRemaining(CursorResponse<T> response) {
+        withTimeRemaining(response.getItems());
+        return response;
+    }
+
+    /**
+     * 종료 처리에 실패해 미뤄 둔 경매는 다시 시도할 시각이 된 뒤에만 종료 대상에 포함합니다.
+     */
+    private BooleanExpression closeRetryDue(LocalDateTime now) {
+        return auction.closeRetryAt.isNull().or(auction.closeRetryAt.loe(now));
+    }
+
+    /**
+     * (종료 시간, 경매 ID) 가 커서보다 뒤인 경매. 행 값 비교 대신 풀어 쓴 조건으로 종료 시간 인덱스 범위 탐색을 유지합니다.
+     */
+    private BooleanExpression afterCursor(OverdueAuction cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return auction.endDateTime.gt(cursor.endDateTime())
+                .or(auction.endDateTime.eq(cursor.endDateTime()).and(auction.id.gt(cursor.auctionId())));
+    }
+
     private BooleanBuilder userIdEq(Long userId) {
         return nullSafeBuilder(() -> user.id.eq(userId));
     }
@@ -597,12 +896,49 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
     @Getter
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
     public enum AuctionOrder implements QuerydslOrder {
-        POPULARITY("popularity", getBidCount().desc()),
-        EXPENSIVE("expensive", product.minPrice.desc()),
-        CHEAP("cheap", product.minPrice.asc()),
-        NEWEST("newest", auction.createdAt.desc());
+        POPULARITY("popularity", auction.activeBidCount.desc(), Long::valueOf),
+        EXPENSIVE("expensive", product.minPrice.desc(), Integer::valueOf),
+        CHEAP("cheap", product.minPrice.asc(), Integer::valueOf),
+        NEWEST("newest", auction.createdAt.desc(), LocalDateTime::parse);
 
         private final String name;
         private final OrderSpecifier<?> orderSpecifier;
+        private final Function<String, Object> keyParser; // 커서에 문자열로 담긴 정렬 키 복원
+
+        /**
+         * 요청의 첫 번째 정렬 조건에 해당하는 정렬을 찾습니다. 정렬 조건이 없으면 최신순이고, 지원하지 않는 정렬이면 예외가 발생합니다.
+         */
+        public static AuctionOrder from(Pageable pageable) {
+            return pageable.getSort().stream()
+                    .findFirst()
+                    .map(sortOrder -> Arrays.stream(values())
+                            .filter(auctionOrder -> auctionOrder.name.equals(sortOrder.getProperty()))
+                            .findFirst()
+                            .orElseThrow(() -> new GlobalException(GlobalErrorCode.UNSUPPORTED_SORT_TYPE)))
+                    .orElse(NEWEST);
+        }
+
+        /**
+         * 정렬 키가 같은 경매의 순서를 고정하기 위해 경매 ID 를 같은 방향으로 덧붙입니다.
+         */
+        public OrderSpecifier<?>[] getKeysetOrderSpecifiers() {
+            return new OrderSpecifier<?>[]{orderSpecifier, new OrderSpecifier<>(orderSpecifier.getOrder(), auction.id)};
+        }
+
+        /**
+         * (정렬 키, 경매 ID) 가 커서보다 뒤에 오는 경매 조건. 커서가 없으면 null 을 반환해 조건을 생략합니다.
+         */
+        public BooleanExpression after(KeysetCursor<Object> cursor) {
+            if (cursor == null) {
+                return null;
+            }
+            Ops direction = orderSpecifier.getOrder() == Order.ASC ? Ops.GT : Ops.LT;
+            Expression<?> key = orderSpecifier.getTarget();
+            Expression<Object> lastKey = Expressions.constant(cursor.key());
+            return Expressions.booleanOperation(direction, key, lastKey)
+                    .or(Expressions.booleanOperation(Ops.EQ, key, lastKey)
+                            .and(Expressions.booleanOperation(direction, auction.id,
+                                    Expressions.constant(cursor.id()))));
+        }
     }
 }
@@ -0,0 +1,160 @@
+package org.chzz.market.domain.auction.schedule;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.service.AuctionCloseService;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매별 Quartz 작업 대신 주기적으로 종료 시간이 지난 경매를 모아 묶음 단위로 종료합니다.
+ * <p>
+ * 모든 노드에서 실행되지만 {@link AuctionCloseService}가 SKIP LOCKED 로 경매를 선점하므로 같은 경매가 두 번 종료되지 않습니다.
+ * <p>
+ * 묶음 종료가 실패하면 경매를 하나씩 다시 종료하고, 그래도 실패한 경매는 {@code auction.close.retry-delay-ms} 동안 종료 대상에서
+ * 제외합니다. 종료 시간 순으로 조회하므로 실패한 경매를 그대로 두면 그 뒤의 경매가 계속 종료되지 못합니다.
+ */
+@Slf4j
+@Component
+public class AuctionCloseEngine {
+    private final AuctionRepository auctionRepository;
+    private final AuctionCloseService auctionCloseService;
+    private final BidLedgerFlusher bidLedgerFlusher;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+    private final long retryDelayMs;
+    private final Timer tickTimer;
+    private final Counter closedCounter;
+    private final Counter failureCounter;
+    private final Counter deferredCounter;
+    private final DistributionSummary tickClosedSummary;
+
+    public AuctionCloseEngine(AuctionRepository auctionRepository,
+                              AuctionCloseService auctionCloseService,
+                              BidLedgerFlusher bidLedgerFlusher,
+                              MeterRegistry meterRegistry,
+                              @Value("${auction.close.batch-size:200}") int batchSize,
+                              @Value("${auction.close.max-batches-per-tick:50}") int maxBatchesPerTick,
+                              @Value("${auction.close.retry-delay-ms:600000}") long retryDelayMs) {
+        this.auctionRepository = auctionRepository;
+        this.auctionCloseService = auctionCloseService;
+        this.bidLedgerFlusher = bidLedgerFlusher;
+        this.batchSize = batchSize;
+        this.maxBatchesPerTick = maxBatchesPerTick;
+        this.retryDelayMs = retryDelayMs;
+        this.tickTimer = Timer.builder("auction.close.tick")
+                .description("경매 종료 주기 1회 처리 시간")
+                .register(meterRegistry);
+        this.closedCounter = Counter.builder("auction.close.closed")
+                .description("종료 처리된 경매 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("auction.close.failures")
+                .description("경매 종료 묶음 처리 실패 수")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("auction.close.deferred")
+                .description("종료에 실패해 다음 시도로 미룬 경매 수")
+                .register(meterRegistry);
+        this.tickClosedSummary = DistributionSummary.builder("auction.close.tick.closed")
+                .description("주기 1회에 종료된 경매 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.close.tick-ms:1000}")
+    public void tick() {
+        int closed = tickTimer.record(this::closeDueAuctions);
+        tickClosedSummary.record(closed);
+        if (closed > 0) {
+            log.info("경매 종료 주기 처리 완료 - 종료된 경매 수: {}", closed);
+        }
+    }
+
+    private int closeDueAuctions() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerTick; batch++) {
+            List<Long> dueIds = auctionRepository.findDueAuctionIds(LocalDateTime.now(), batchSize);
+            if (dueIds.isEmpty()) {
+                break;
+            }
+            CloseResult result = close(dueIds);
+            closedCounter.increment(result.closed());
+            total += result.closed();
+            // 실패한 경매를 미루지 못하면 다음 묶음에서 같은 경매가 다시 조회되므로 다음 주기로 넘깁니다.
+            if (!result.deferred()) {
+                break;
+            }
+            // 마지막 묶음이거나 남은 경매를 모두 다른 노드가 처리 중이면 다음 주기로 넘깁니다.
+            if (dueIds.size() < batchSize || result.closed() + result.failed() == 0) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 경매들의 입찰 원장을 반영한 뒤 묶음으로 종료합니다. 묶음이 실패하면 하나씩 다시 종료하고, 원장을 반영하지 못했거나 하나씩 종료해도 실패한
+     * 경매는 {@code auction.close.retry-delay-ms} 동안 종료 대상에서 제외합니다. 밀린 경매 정리도 같은 경로로 종료합니다.
+     *
+     * @param auctionIds 종료할 경매 ID 목록
+     * @return 종료된 경매 수, 실패해 미룬 경매 수, 미루기 성공 여부
+     */
+    public CloseResult close(List<Long> auctionIds) {
+        List<Long> flushedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        // 원장의 입찰을 반영하지 못한 경매는 낙찰자가 틀릴 수 있으므로 종료하지 않고 미뤘다가 다시 시도합니다.
+        for (Long auctionId : auctionIds) {
+            (bidLedgerFlusher.flushAuction(auctionId) ? flushedIds : failedIds).add(auctionId);
+        }
+        int closed = flushedIds.isEmpty() ? 0 : closeBatch(flushedIds, failedIds);
+        return new CloseResult(closed, failedIds.size(), deferClose(failedIds));
+    }
+
+    /**
+     * 묶음으로 종료하고, 실패하면 원인이 된 경매를 찾기 위해 하나씩 다시 종료합니다. 하나씩 종료해도 실패한 경매는 {@code failedIds}에
+     * 담습니다.
+     */
+    private int closeBatch(List<Long> auctionIds, List<Long> failedIds) {
+        try {
+            return auctionCloseService.closeAuctions(auctionIds);
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("경매 종료 묶음 처리 중 오류가 발생해 하나씩 다시 종료합니다. 경매 ID: {}", auctionIds, e);
+        }
+        int closed = 0;
+        for (Long auctionId : auctionIds) {
+            try {
+                closed += auctionCloseService.closeAuctions(List.of(auctionId));
+            } catch (Exception e) {
+                failedIds.add(auctionId);
+                log.error("경매 종료 처리 중 오류가 발생했습니다. 경매 ID: {}", auctionId, e);
+            }
+        }
+        return closed;
+    }
+
+    private boolean deferClose(List<Long> failedIds) {
+        if (failedIds.isEmpty()) {
+            return true;
+        }
+        try {
+            auctionCloseService.deferClose(failedIds, LocalDateTime.now().plus(Duration.ofMillis(retryDelayMs)));
+            deferredCounter.increment(failedIds.size());
+            return true;
+        } catch (Exception e) {
+            log.error("종료에 실패한 경매를 미루지 못했습니다. 경매 ID: {}", failedIds, e);
+            return false;
+        }
+    }
+
+    public record CloseResult(int closed, int failed, boolean deferred) {
+    }
+}
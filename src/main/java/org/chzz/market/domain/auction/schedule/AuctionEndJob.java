@@ -1,19 +1,34 @@
 package org.chzz.market.domain.auction.schedule;
 
-import org.chzz.market.domain.auction.service.AuctionService;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.service.AuctionCloseService;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * 경매 종료는 {@link AuctionCloseEngine}이 처리하며, 이 Job 은 이전에 Quartz 에 등록된 경매별 종료 트리거를 처리하기 위해 남겨둡니다.
+ */
+@Slf4j
 @Component
 public class AuctionEndJob implements Job {
     @Autowired
-    AuctionService auctionService;
+    AuctionCloseService auctionCloseService;
+
+    @Autowired
+    BidLedgerFlusher bidLedgerFlusher;
 
     @Override
     public void execute(JobExecutionContext context) {
         Long auctionId = context.getJobDetail().getJobDataMap().getLong("auctionId");
-        auctionService.completeAuction(auctionId);
+        // 원장의 입찰을 반영하지 못했으면 종료하지 않습니다. 종료 시간이 지난 경매는 AuctionCloseEngine 이 다시 종료합니다.
+        if (!bidLedgerFlusher.flushAuction(auctionId)) {
+            log.warn("입찰 원장을 반영하지 못해 경매 {}의 종료를 미룹니다.", auctionId);
+            return;
+        }
+        auctionCloseService.closeAuctions(List.of(auctionId));
     }
 }
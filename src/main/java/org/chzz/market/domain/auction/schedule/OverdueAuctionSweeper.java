@@ -0,0 +1,167 @@
+package org.chzz.market.domain.auction.schedule;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.query.OverdueAuction;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.schedule.AuctionCloseEngine.CloseResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버가 내려가 있던 동안 종료 시간이 지난 진행 중인 경매를 찾아 종료합니다.
+ * <p>
+ * 기동 직후와 이후 주기적으로 (종료 시간, 경매 ID) 키셋으로 밀린 경매를 훑고, 페이지를 묶음으로 나누어 제한된 개수의 스레드에서 병렬로
+ * {@link AuctionCloseEngine#close(List)}에 넘깁니다. 평상시 종료와 같은 경로이므로 묶음이 실패하면 하나씩 다시 종료하고, 그래도 실패한 경매만
+ * 미뤄 둡니다. 평상시 종료는 {@link AuctionCloseEngine}이 담당하고 이 클래스는 밀린 경매를 따라잡는 용도입니다.
+ */
+@Slf4j
+@Component
+public class OverdueAuctionSweeper {
+    private final AuctionRepository auctionRepository;
+    private final AuctionCloseEngine auctionCloseEngine;
+    private final int pageSize;
+    private final int batchSize;
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final Timer sweepTimer;
+    private final Counter scannedCounter;
+    private final Counter closedCounter;
+    private final Counter failureCounter;
+
+    public OverdueAuctionSweeper(AuctionRepository auctionRepository,
+                                 AuctionCloseEngine auctionCloseEngine,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.sweep.page-size:1000}") int pageSize,
+                                 @Value("${auction.sweep.batch-size:100}") int batchSize,
+                                 @Value("${auction.sweep.parallelism:4}") int parallelism) {
+        this.auctionRepository = auctionRepository;
+        this.auctionCloseEngine = auctionCloseEngine;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.workers = Executors.newFixedThreadPool(parallelism);
+        this.sweepTimer = Timer.builder("auction.sweep.duration")
+                .description("밀린 경매 정리 1회 소요 시간")
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("auction.sweep.scanned")
+                .description("정리 대상으로 조회된 경매 수")
+                .register(meterRegistry);
+        this.closedCounter = Counter.builder("auction.sweep.closed")
+                .description("정리 과정에서 종료된 경매 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("auction.sweep.failures")
+                .description("오류로 처리하지 못한 밀린 경매 묶음 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.sweep.in-flight", inFlight, AtomicLong::get)
+                .description("현재 종료 처리 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동이 끝나면 별도 스레드에서 밀린 경매를 정리합니다. 정리가 끝날 때까지 기동이나 다른 스케줄 작업을 막지 않습니다.
+     */
+    @Async("threadPoolTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sweepSafely();
+    }
+
+    @Async("threadPoolTaskExecutor")
+    @Scheduled(initialDelayString = "${auction.sweep.interval-ms:300000}",
+            fixedDelayString = "${auction.sweep.interval-ms:300000}")
+    public void sweepPeriodically() {
+        sweepSafely();
+    }
+
+    /**
+     * 기준 시간 이전에 종료되어야 했던 진행 중인 경매를 모두 종료합니다. 이미 정리 중이면 아무 것도 하지 않습니다.
+     *
+     * @return 종료된 경매 수
+     */
+    public int sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return sweepTimer.record(() -> sweepBefore(LocalDateTime.now()));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void sweepSafely() {
+        try {
+            int closed = sweep();
+            if (closed > 0) {
+                log.info("밀린 경매 정리 완료 - 종료된 경매 수: {}", closed);
+            }
+        } catch (Exception e) {
+            log.error("밀린 경매 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private int sweepBefore(LocalDateTime now) {
+        int total = 0;
+        OverdueAuction cursor = null;
+        List<OverdueAuction> page;
+        do {
+            page = auctionRepository.findOverdueAuctions(now, cursor, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            scannedCounter.increment(page.size());
+            total += closeInParallel(page.stream().map(OverdueAuction::auctionId).toList());
+            cursor = page.get(page.size() - 1);
+        } while (page.size() == pageSize);
+        return total;
+    }
+
+    /**
+     * 페이지를 묶음으로 나누어 병렬로 종료하고 모든 묶음이 끝날 때까지 기다립니다.
+     */
+    private int closeInParallel(List<Long> auctionIds) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < auctionIds.size(); from += batchSize) {
+            List<Long> batch = auctionIds.subList(from, Math.min(from + batchSize, auctionIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> closeBatch(batch), workers));
+        }
+        return futures.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    private int closeBatch(List<Long> auctionIds) {
+        inFlight.addAndGet(auctionIds.size());
+        try {
+            CloseResult result = auctionCloseEngine.close(auctionIds);
+            closedCounter.increment(result.closed());
+            return result.closed();
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("밀린 경매 묶음 종료 중 오류가 발생했습니다. 경매 ID: {}", auctionIds, e);
+            return 0;
+        } finally {
+            inFlight.addAndGet(-auctionIds.size());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_FAILURE;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_NON_WINNER;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_SUCCESS;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_WINNER;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.FAILED;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.ONGOING;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.SUCCESSFUL;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.bid.dto.query.BidderCursor;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.notification.event.NotificationBatchEvent;
+import org.chzz.market.domain.notification.event.NotificationEvent;
+import org.chzz.market.domain.product.entity.Product;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Change;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 종료 시간이 지난 경매를 묶음 단위로 종료 처리합니다.
+ * <p>
+ * 상태 변경과 낙찰자 지정은 묶음 전체에 대해 UPDATE 한 번씩 처리하고 판매자·낙찰자 알림은 {@link NotificationBatchEvent} 하나로
+ * 발행합니다. 입찰 엔티티는 로딩하지 않고 낙찰자는 인덱스 첫 행만, 미낙찰자는 ID만 정해진 크기로 나누어 조회하며, 미낙찰자 알림과 활동 집계
+ * 변경은 조회한 묶음마다 따로 발행해 발송 요청 한 행의 크기가 미낙찰자 수에 따라 커지지 않게 합니다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AuctionCloseService {
+    private static final int NON_WINNER_CHUNK_SIZE = 500;
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 경매들을 종료합니다. 이미 종료되었거나 다른 노드가 처리 중인 경매는 건너뜁니다.
+     *
+     * @return 이번 호출에서 종료한 경매 수
+     */
+    public int closeAuctions(List<Long> auctionIds) {
+        List<Long> claimedIds = auctionRepository.lockProceedingAuctionIds(auctionIds);
+        if (claimedIds.isEmpty()) {
+            return 0;
+        }
+        auctionRepository.endAuctions(claimedIds);
+
+        Map<Long, Long> winnerIds = new HashMap<>();
+        List<NotificationEvent> events = new ArrayList<>();
+        List<Change> countChanges = new ArrayList<>();
+        for (Auction auction : auctionRepository.findAllWithProductByIdIn(claimedIds)) {
+            Long winnerId = bidRepository.findWinnerId(auction.getId()).orElse(null);
+            if (winnerId != null) {
+                winnerIds.put(auction.getId(), winnerId);
+            }
+            addResultEvents(events, countChanges, auction, winnerId);
+        }
+        auctionRepository.assignWinners(winnerIds);
+
+        if (!events.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationBatchEvent(events));
+        }
+        if (!countChanges.isEmpty()) {
+            eventPublisher.publishEvent(new UserActivityCountEvent(countChanges));
+        }
+        eventPublisher.publishEvent(new AuctionFeedChangedEvent(claimedIds));
+        log.info("경매 {}건 종료 처리 완료 (낙찰 {}건)", claimedIds.size(), winnerIds.size());
+        return claimedIds.size();
+    }
+
+    /**
+     * 종료 처리에 실패한 경매들을 {@code retryAt}까지 종료 대상에서 제외해 뒤의 경매 종료를 막지 않도록 합니다.
+     */
+    public void deferClose(List<Long> auctionIds, LocalDateTime retryAt) {
+        auctionRepository.deferClose(auctionIds, retryAt);
+        log.warn("경매 {}건의 종료를 {}까지 미룹니다. 경매 ID: {}", auctionIds.size(), retryAt, auctionIds);
+    }
+
+    /**
+     * 경매 결과 알림 이벤트와 낙찰자의 활동 집계 변경(참여 중 -> 낙찰) 생성. 미낙찰자 몫은 묶음마다 바로 발행합니다.
+     */
+    private void addResultEvents(List<NotificationEvent> events, List<Change> countChanges, Auction auction,
+                                 Long winnerId) {
+        Product product = auction.getProduct();
+        Long productUserId = product.getUser().getId();
+        String productName = product.getName();
+        Image firstImage = findFirstImage(product);
+        if (winnerId == null) { // 입찰이 없는 경우
+            events.add(NotificationEvent.createSimpleNotification(productUserId, AUCTION_FAILURE,
+                    AUCTION_FAILURE.getMessage(productName), firstImage)); // 낙찰 실패 알림 이벤트
+            return;
+        }
+        events.add(NotificationEvent.createAuctionNotification(productUserId, AUCTION_SUCCESS,
+                AUCTION_SUCCESS.getMessage(productName), firstImage, auction.getId())); // 낙찰 성공 알림 이벤트
+        events.add(NotificationEvent.createAuctionNotification(winnerId, AUCTION_WINNER,
+                AUCTION_WINNER.getMessage(productName), firstImage, auction.getId())); // 낙찰자 알림 이벤트
+        countChanges.add(new Change(winnerId, ONGOING, -1));
+        countChanges.add(new Change(winnerId, SUCCESSFUL, 1));
+        publishNonWinnerEvents(auction.getId(), winnerId, AUCTION_NON_WINNER.getMessage(productName), firstImage);
+    }
+
+    /**
+     * 미낙찰자 ID만 입찰 ID 키셋으로 나누어 읽고, 조회한 묶음마다 알림 이벤트와 활동 집계 변경을 발행합니다. 알림은 묶음마다 발송 요청 한 행으로
+     * 저장됩니다.
+     */
+    private void publishNonWinnerEvents(Long auctionId, Long winnerId, String message, Image image) {
+        Long lastBidId = null;
+        List<BidderCursor> chunk;
+        do {
+            chunk = bidRepository.findNonWinningBidders(auctionId, winnerId, lastBidId, NON_WINNER_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<Long> bidderIds = chunk.stream().map(BidderCursor::bidderId).toList();
+            eventPublisher.publishEvent(new NotificationBatchEvent(List.of(NotificationEvent.createSimpleNotification(
+                    bidderIds, AUCTION_NON_WINNER, message, image)))); // 미낙찰자 알림 이벤트
+            List<Change> countChanges = new ArrayList<>(bidderIds.size() * 2);
+            for (Long bidderId : bidderIds) {
+                countChanges.add(new Change(bidderId, ONGOING, -1));
+                countChanges.add(new Change(bidderId, FAILED, 1));
+            }
+            eventPublisher.publishEvent(new UserActivityCountEvent(countChanges));
+            lastBidId = chunk.get(chunk.size() - 1).bidId();
+        } while (chunk.size() == NON_WINNER_CHUNK_SIZE);
+    }
+
+    /**
+     * 대표 이미지가 없는 경매 하나 때문에 묶음 전체가 롤백되지 않도록 예외 대신 null 을 반환합니다.
+     */
+    private Image findFirstImage(Product product) {
+        return product.getImages().stream()
+                .filter(image -> image.getSequence() == 1)
+                .findFirst()
+                .orElse(null);
+    }
+}
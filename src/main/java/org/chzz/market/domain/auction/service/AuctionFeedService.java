@@ -0,0 +1,214 @@
+package org.chzz.market.domain.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.dto.query.FeedAuction;
+import org.chzz.market.domain.auction.dto.response.AuctionResponse;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.product.entity.Product.Category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 홈 화면의 베스트, 마감 임박 경매 목록(전체 및 카테고리별)을 메모리 스냅샷으로 미리 만들어 두고 DB 조회 없이 응답합니다.
+ * <p>
+ * 입찰, 입찰 취소, 경매 시작, 경매 종료 시 {@link AuctionFeedChangedEvent}로 바뀐 경매를 모아 두고, 주기 작업이 그중 스냅샷에 있는 경매가
+ * 있거나 카테고리 후보의 마지막 순위를 넘어서는 경매가 있을 때만 다시 만듭니다. 피드에 들지 못하는 경매의 입찰은 스냅샷을 다시 만들지 않으며,
+ * 이벤트가 여러 번 발생해도 주기마다 한 번만 다시 만듭니다. 다른 노드에서 일어난 변경은 TTL 이 지나면 반영됩니다. 남은 시간은 조회 시점에
+ * 계산합니다.
+ */
+@Slf4j
+@Service
+public class AuctionFeedService {
+    private static final int FEED_SIZE = 5;
+    private static final int BEST_CANDIDATES = 20;
+    private static final int IMMINENT_CANDIDATES = 50;
+    private static final Duration IMMINENT_WINDOW = Duration.ofHours(1);
+    private static final Comparator<FeedAuction> BEST_ORDER = Comparator
+            .comparing(FeedAuction::participantCount, Comparator.reverseOrder())
+            .thenComparing(FeedAuction::auctionId, Comparator.reverseOrder());
+    private static final Comparator<FeedAuction> IMMINENT_ORDER = Comparator
+            .comparing(FeedAuction::endDateTime)
+            .thenComparing(FeedAuction::participantCount, Comparator.reverseOrder())
+            .thenComparing(FeedAuction::auctionId);
+
+    private final AuctionRepository auctionRepository;
+    private final Duration ttl;
+    private final Set<Long> changedAuctionIds = ConcurrentHashMap.newKeySet();
+    private volatile FeedSnapshot snapshot;
+
+    public AuctionFeedService(AuctionRepository auctionRepository,
+                              @Value("${auction.feed.ttl-ms:30000}") long ttlMs) {
+        this.auctionRepository = auctionRepository;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    /**
+     * 활성 입찰 수가 많은 진행 중인 경매
+     *
+     * @param category 카테고리 (null 이면 전체)
+     */
+    public List<AuctionResponse> getBestAuctions(Category category) {
+        LocalDateTime now = LocalDateTime.now();
+        return currentSnapshot().best(category).stream()
+                .filter(feedAuction -> feedAuction.endDateTime().isAfter(now))
+                .limit(FEED_SIZE)
+                .map(feedAuction -> feedAuction.toResponse(now))
+                .toList();
+    }
+
+    /**
+     * 종료까지 1시간 이내인 경매
+     *
+     * @param category 카테고리 (null 이면 전체)
+     */
+    public List<AuctionResponse> getImminentAuctions(Category category) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deadline = now.plus(IMMINENT_WINDOW);
+        return currentSnapshot().imminent(category).stream()
+                .filter(feedAuction -> feedAuction.endDateTime().isAfter(now)
+                        && !feedAuction.endDateTime().isAfter(deadline))
+                .limit(FEED_SIZE)
+                .map(feedAuction -> feedAuction.toResponse(now))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(AuctionFeedChangedEvent event) {
+        changedAuctionIds.addAll(event.auctionIds());
+    }
+
+    @Scheduled(fixedDelayString = "${auction.feed.refresh-interval-ms:1000}")
+    public void refreshIfStale() {
+        FeedSnapshot current = snapshot;
+        try {
+            if (current != null && current.builtAt().plus(ttl).isAfter(LocalDateTime.now()) && !affects(current)) {
+                return;
+            }
+            refresh();
+        } catch (Exception e) {
+            log.error("홈 화면 피드 갱신 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 모아 둔 변경 경매 중 스냅샷에 있거나 새로 들어갈 수 있는 경매가 있는지 확인합니다. 스냅샷 밖의 경매만 바뀐 경우에는 그 경매들만 기본 키로
+     * 조회해 카테고리 후보의 마지막 순위와 비교하므로, 피드 전체를 다시 조회하는 것보다 가볍습니다.
+     */
+    private boolean affects(FeedSnapshot current) {
+        if (changedAuctionIds.isEmpty()) {
+            return false;
+        }
+        List<Long> changed = List.copyOf(changedAuctionIds);
+        changedAuctionIds.removeAll(changed);
+        if (changed.stream().anyMatch(current.auctionIds()::contains)) {
+            return true;
+        }
+        return auctionRepository.findFeedAuctionsByIds(changed).entrySet().stream()
+                .anyMatch(entry -> entry.getValue().stream()
+                        .anyMatch(feedAuction -> current.admits(entry.getKey(), feedAuction)));
+    }
+
+    private FeedSnapshot currentSnapshot() {
+        FeedSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private synchronized void refresh() {
+        // 만드는 도중에 들어온 변경이 다음 주기에 반영되도록 조회 전에 만료 표시를 지웁니다.
+        changedAuctionIds.clear();
+        LocalDateTime now = LocalDateTime.now();
+        // 다음 갱신 전까지 1시간 이내로 들어오는 경매도 보여줄 수 있도록 TTL 만큼 더 조회합니다.
+        LocalDateTime imminentUntil = now.plus(IMMINENT_WINDOW).plus(ttl);
+
+        // 카테고리별 후보를 한 번씩 조회하고 전체 피드는 그 안에서 다시 고릅니다.
+        Map<Category, List<FeedAuction>> bestByCategory =
+                auctionRepository.findBestFeedAuctionsByCategory(BEST_CANDIDATES);
+        Map<Category, List<FeedAuction>> imminentByCategory =
+                auctionRepository.findImminentFeedAuctionsByCategory(now, imminentUntil, IMMINENT_CANDIDATES);
+        snapshot = new FeedSnapshot(
+                top(bestByCategory, BEST_ORDER, BEST_CANDIDATES),
+                top(imminentByCategory, IMMINENT_ORDER, IMMINENT_CANDIDATES),
+                bestByCategory,
+                imminentByCategory,
+                auctionIds(bestByCategory, imminentByCategory),
+                now,
+                imminentUntil);
+        log.debug("홈 화면 피드 갱신 완료");
+    }
+
+    private static List<FeedAuction> top(Map<Category, List<FeedAuction>> byCategory,
+                                         Comparator<FeedAuction> order, int limit) {
+        return byCategory.values().stream()
+                .flatMap(List::stream)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    @SafeVarargs
+    private static Set<Long> auctionIds(Map<Category, List<FeedAuction>>... byCategory) {
+        return Arrays.stream(byCategory)
+                .flatMap(candidates -> candidates.values().stream())
+                .flatMap(List::stream)
+                .map(FeedAuction::auctionId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 카테고리 후보가 다 차지 않았거나 마지막 후보보다 앞서는지 확인합니다.
+     */
+    private static boolean beatsCutoff(List<FeedAuction> candidates, Comparator<FeedAuction> order, int limit,
+                                       FeedAuction feedAuction) {
+        return candidates.size() < limit || order.compare(feedAuction, candidates.get(candidates.size() - 1)) < 0;
+    }
+
+    private record FeedSnapshot(
+            List<FeedAuction> best,
+            List<FeedAuction> imminent,
+            Map<Category, List<FeedAuction>> bestByCategory,
+            Map<Category, List<FeedAuction>> imminentByCategory,
+            Set<Long> auctionIds,
+            LocalDateTime builtAt,
+            LocalDateTime imminentUntil
+    ) {
+        List<FeedAuction> best(Category category) {
+            return category == null ? best : bestByCategory.getOrDefault(category, List.of());
+        }
+
+        List<FeedAuction> imminent(Category category) {
+            return category == null ? imminent : imminentByCategory.getOrDefault(category, List.of());
+        }
+
+        /**
+         * 스냅샷 밖의 경매가 다시 만들면 카테고리 베스트 후보나 마감 임박 후보에 들어가는지 확인합니다.
+         */
+        boolean admits(Category category, FeedAuction feedAuction) {
+            if (beatsCutoff(best(category), BEST_ORDER, BEST_CANDIDATES, feedAuction)) {
+                return true;
+            }
+            LocalDateTime endDateTime = feedAuction.endDateTime();
+            return endDateTime.isAfter(builtAt) && !endDateTime.isAfter(imminentUntil)
+                    && beatsCutoff(imminent(category), IMMINENT_ORDER, IMMINENT_CANDIDATES, feedAuction);
+        }
+    }
+}
@@ -4,18 +4,16 @@ import static org.chzz.market.common.error.GlobalErrorCode.RESOURCE_NOT_FOUND;
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_ALREADY_REGISTERED;
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_NOT_FOUND;
 import static org.chzz.market.domain.auction.error.AuctionErrorCode.NOT_WINNER;
-import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_FAILURE;
-import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_NON_WINNER;
 import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_START;
-import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_SUCCESS;
-import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_WINNER;
 import static org.chzz.market.domain.product.error.ProductErrorCode.FORBIDDEN_PRODUCT_ACCESS;
 import static org.chzz.market.domain.product.error.ProductErrorCode.PRODUCT_NOT_FOUND;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.PRE_REGISTER;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.REGISTERED;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.dto.CursorResponse;
 import org.chzz.market.common.error.GlobalException;
 import org.chzz.market.domain.auction.dto.request.StartAuctionRequest;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
@@ -28,16 +26,16 @@ import org.chzz.market.domain.auction.dto.response.UserEndedAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.WonAuctionResponse;
 import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
 import org.chzz.market.domain.auction.error.AuctionException;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
-import org.chzz.market.domain.bid.entity.Bid;
-import org.chzz.market.domain.bid.service.BidService;
-import org.chzz.market.domain.image.entity.Image;
 import org.chzz.market.domain.notification.event.NotificationEvent;
 import org.chzz.market.domain.product.entity.Product;
 import org.chzz.market.domain.product.entity.Product.Category;
 import org.chzz.market.domain.product.error.ProductException;
 import org.chzz.market.domain.product.repository.ProductRepository;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Change;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,7 +48,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class AuctionService {
 
-    private final BidService bidService;
     private final AuctionRepository auctionRepository;
     private final ProductRepository productRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -63,6 +60,14 @@ public class AuctionService {
         return auctionRepository.findAuctionsByCategory(category, userId, pageable);
     }
 
+    /**
+     * 카테고리에 따라 경매 리스트를 커서 기반으로 조회
+     */
+    public CursorResponse<AuctionResponse> getAuctionListByCategory(Category category, Long userId, String cursor,
+                                                                    Pageable pageable) {
+        return auctionRepository.findAuctionsByCategory(category, userId, cursor, pageable);
+    }
+
     /**
      * 경매 상세 정보를 조회
      * TODO: 서비스 추상화 적용 시 참고 (#9 관련)
@@ -90,6 +95,14 @@ public class AuctionService {
         return auctionRepository.findAuctionsByNickname(nickname, pageable);
     }
 
+    /**
+     * 사용자 닉네임에 따라 경매 리스트 커서 기반 조회
+     */
+    public CursorResponse<UserAuctionResponse> getAuctionListByNickname(String nickname, String cursor,
+                                                                        Pageable pageable) {
+        return auctionRepository.findAuctionsByNickname(nickname, cursor, pageable);
+    }
+
     /**
      * 내가 성공한 경매 조회
      */
@@ -98,24 +111,24 @@ public class AuctionService {
     }
 
     /**
-     * 내가 실패한 경매 조회
+     * 내가 성공한 경매 커서 기반 조회
      */
-    public Page<LostAuctionResponse> getLostAuctionHistory(Long userId, Pageable pageable) {
-        return auctionRepository.findLostAuctionHistoryByUserId(userId, pageable);
+    public CursorResponse<WonAuctionResponse> getWonAuctionHistory(Long userId, String cursor, Pageable pageable) {
+        return auctionRepository.findWonAuctionHistoryByUserId(userId, cursor, pageable);
     }
 
     /**
-     * 베스트 경매 입찰 내역 조회
+     * 내가 실패한 경매 조회
      */
-    public List<AuctionResponse> getBestAuctionList() {
-        return auctionRepository.findBestAuctions();
+    public Page<LostAuctionResponse> getLostAuctionHistory(Long userId, Pageable pageable) {
+        return auctionRepository.findLostAuctionHistoryByUserId(userId, pageable);
     }
 
     /**
-     * 경매 종료까지 1시간 이내인(마감임박) 경매 조회
+     * 내가 실패한 경매 커서 기반 조회
      */
-    public List<AuctionResponse> getImminentAuctionList() {
-        return auctionRepository.findImminentAuctions();
+    public CursorResponse<LostAuctionResponse> getLostAuctionHistory(Long userId, String cursor, Pageable pageable) {
+        return auctionRepository.findLostAuctionHistoryByUserId(userId, cursor, pageable);
     }
 
     /**
@@ -125,6 +138,13 @@ public class AuctionService {
         return auctionRepository.findAuctionsByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자가 등록한 모든 경매 목록 커서 기반 조회
+     */
+    public CursorResponse<UserAuctionResponse> getAuctionListByUserId(Long userId, String cursor, Pageable pageable) {
+        return auctionRepository.findAuctionsByUserId(userId, cursor, pageable);
+    }
+
     /**
      * 사용자가 등록한 진행중인 경매 목록 조회
      */
@@ -132,6 +152,14 @@ public class AuctionService {
         return auctionRepository.findProceedingAuctionByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자가 등록한 진행중인 경매 목록 커서 기반 조회
+     */
+    public CursorResponse<UserAuctionResponse> getProceedingAuctionListByUserId(Long userId, String cursor,
+                                                                                Pageable pageable) {
+        return auctionRepository.findProceedingAuctionByUserId(userId, cursor, pageable);
+    }
+
     /**
      * 사용자가 등록한 종료된 경매 목록 조회
      */
@@ -139,6 +167,14 @@ public class AuctionService {
         return auctionRepository.findEndedAuctionByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자가 등록한 종료된 경매 목록 커서 기반 조회
+     */
+    public CursorResponse<UserEndedAuctionResponse> getEndedAuctionListByUserId(Long userId, String cursor,
+                                                                                Pageable pageable) {
+        return auctionRepository.findEndedAuctionByUserId(userId, cursor, pageable);
+    }
+
     /**
      * 낙찰 정보 조회
      */
@@ -166,6 +202,11 @@ public class AuctionService {
 
         Auction auction = Auction.toEntity(product);
         auction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(AuctionFeedChangedEvent.of(auction.getId()));
+        Long sellerId = product.getUser().getId();
+        eventPublisher.publishEvent(new UserActivityCountEvent(List.of(
+                new Change(sellerId, PRE_REGISTER, -1),
+                new Change(sellerId, REGISTERED, 1))));
 
         // 좋아요 누른 사용자 ID 추출
         List<Long> likedUserIds = product.getLikeUserIds();
@@ -185,17 +226,6 @@ public class AuctionService {
         );
     }
 
-    /**
-     * 경매 종료 처리
-     */
-    @Transactional
-    public void completeAuction(Long auctionId) {
-        log.info("경매 종료 작업 시작 auction ID: {}", auctionId);
-        Auction auction = getAuctionById(auctionId);
-        auction.endAuction();
-        processAuctionResults(auction);
-    }
-
     /**
      * 경매 ID로 경매 정보를 조회
      */
@@ -225,52 +255,4 @@ public class AuctionService {
         log.info("유효성 검사가 끝났습니다. 상품 ID : {}", productId);
         return product;
     }
-
-    /**
-     * 경매 결과 처리
-     */
-    private void processAuctionResults(Auction auction) {
-        Long productUserId = auction.getProduct().getUser().getId();
-        String productName = auction.getProduct().getName();
-        Image firstImage = auction.getProduct().getFirstImage();
-        List<Bid> bids = bidService.findAllBidsByAuction(auction);
-        if (bids.isEmpty()) { // 입찰이 없는 경우
-            eventPublisher.publishEvent(
-                    NotificationEvent.createSimpleNotification(productUserId, AUCTION_FAILURE,
-                            AUCTION_FAILURE.getMessage(productName),
-                            firstImage)); // 낙찰 실패 알림 이벤트
-            return;
-        }
-        eventPublisher.publishEvent(
-                NotificationEvent.createAuctionNotification(productUserId, AUCTION_SUCCESS,
-                        AUCTION_SUCCESS.getMessage(productName),
-                        firstImage, auction.getId())); // 낙찰 성공 알림 이벤트
-        processWinningBid(auction, bids.get(0), productName, firstImage); // 첫 번째 입찰이 낙찰
-        processNonWinningBids(bids, productName, firstImage);
-
-    }
-
-    /**
-     * 낙찰자 처리
-     */
-    private void processWinningBid(Auction auction, Bid winningBid, String productName, Image firstImage) {
-        auction.assignWinner(winningBid.getBidder().getId());
-        eventPublisher.publishEvent(
-                NotificationEvent.createAuctionNotification(winningBid.getBidder().getId(), AUCTION_WINNER,
-                        AUCTION_WINNER.getMessage(productName), firstImage, auction.getId())); // 낙찰자 알림 이벤트
-        log.info("경매 ID {}: 낙찰자 처리 완료", auction.getId());
-    }
-
-    /**
-     * 미낙찰자 처리
-     */
-    private void processNonWinningBids(List<Bid> bids, String productName, Image firstImage) {
-        List<Long> nonWinnerIds = bids.stream().skip(1) // 낙찰자를 제외한 나머지 입찰자들
-                .map(bid -> bid.getBidder().getId()).collect(Collectors.toList());
-
-        if (!nonWinnerIds.isEmpty()) {
-            eventPublisher.publishEvent(NotificationEvent.createSimpleNotification(nonWinnerIds, AUCTION_NON_WINNER,
-                    AUCTION_NON_WINNER.getMessage(productName), firstImage)); // 미낙찰자 알림 이벤트
-        }
-    }
 }
@@ -1,14 +1,17 @@
 package org.chzz.market.domain.auction.service.register;
 
 import static org.chzz.market.domain.auction.type.AuctionStatus.PROCEEDING;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.REGISTERED;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.chzz.market.domain.auction.dto.request.BaseRegisterRequest;
 import org.chzz.market.domain.auction.dto.response.RegisterAuctionResponse;
 import org.chzz.market.domain.auction.dto.response.RegisterResponse;
 import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
 import org.chzz.market.domain.image.entity.Image;
 import org.chzz.market.domain.image.service.ImageService;
@@ -17,34 +20,82 @@ import org.chzz.market.domain.product.repository.ProductRepository;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.error.UserErrorCode;
 import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
 import org.chzz.market.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
-@RequiredArgsConstructor
 public class AuctionRegisterService implements AuctionRegistrationService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final AuctionRepository auctionRepository;
     private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer registerLatency;
+    private final Timer directUploadRegisterLatency;
 
+    public AuctionRegisterService(UserRepository userRepository,
+                                  ProductRepository productRepository,
+                                  AuctionRepository auctionRepository,
+                                  ImageService imageService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.auctionRepository = auctionRepository;
+        this.imageService = imageService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.registerLatency = RegisterLatency.timer(meterRegistry, "register", "server");
+        this.directUploadRegisterLatency = RegisterLatency.timer(meterRegistry, "register", "direct");
+    }
+
+    /**
+     * 이미지를 트랜잭션 밖에서 먼저 올리고, 짧은 트랜잭션에서 상품과 경매를 저장합니다. 저장에 실패하면 올린 이미지를 지웁니다.
+     */
     @Override
-    @Transactional
     public RegisterResponse register(Long userId, BaseRegisterRequest request, List<MultipartFile> images) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
+        return registerLatency.record(() -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
+            List<String> imageUrls = imageService.uploadImages(images);
+            try {
+                return transactionTemplate.execute(status -> save(userId, createProduct(request, user), imageUrls));
+            } catch (RuntimeException e) {
+                imageService.discardUploadedImages(imageUrls);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 클라이언트가 직접 올린 이미지를 확인하고 짧은 트랜잭션에서 상품과 경매를 저장합니다. 저장에 실패해도 같은 키로 다시 요청할 수 있도록 이미지는 지우지
+     * 않습니다.
+     */
+    @Override
+    public RegisterResponse registerWithUploadedImages(Long userId, BaseRegisterRequest request) {
+        return directUploadRegisterLatency.record(() -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
+            List<String> imageUrls = imageService.confirmUploadedImages(userId, request.getImageKeys());
+            return transactionTemplate.execute(status -> save(userId, createProduct(request, user), imageUrls));
+        });
+    }
 
-        Product product = createProduct(request, user);
-        List<String> imageUrls = imageService.uploadImages(images);
+    private RegisterResponse save(Long userId, Product product, List<String> imageUrls) {
         List<Image> saveImages = imageService.saveProductImageEntities(imageUrls);
         product.addImages(saveImages);
         Product savedProduct = productRepository.save(product);
         savedProduct.validateImageSize();
 
-        Auction auction = createAuction(savedProduct);
-        auctionRepository.save(auction);
+        Auction auction = auctionRepository.save(createAuction(savedProduct));
+        eventPublisher.publishEvent(AuctionFeedChangedEvent.of(auction.getId()));
+        eventPublisher.publishEvent(UserActivityCountEvent.of(userId, REGISTERED, 1));
 
         return RegisterAuctionResponse.of(savedProduct.getId(), auction.getId(), auction.getStatus());
     }
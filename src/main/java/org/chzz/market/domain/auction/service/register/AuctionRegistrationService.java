@@ -8,4 +8,9 @@ import java.util.List;
 
 public interface AuctionRegistrationService {
     RegisterResponse register(Long userId, BaseRegisterRequest request, List<MultipartFile> images);
+
+    /**
+     * 클라이언트가 미리 서명된 URL로 직접 올린 이미지({@link BaseRegisterRequest#getImageKeys()})로 등록합니다.
+     */
+    RegisterResponse registerWithUploadedImages(Long userId, BaseRegisterRequest request);
 }
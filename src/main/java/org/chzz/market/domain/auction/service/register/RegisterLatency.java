@@ -0,0 +1,23 @@
+package org.chzz.market.domain.auction.service.register;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 등록 요청을 받은 뒤 이미지 업로드와 저장을 마치기까지 걸린 시간
+ */
+final class RegisterLatency {
+    private RegisterLatency() {
+    }
+
+    /**
+     * @param upload 서버가 이미지를 받아 올리면 server, 클라이언트가 미리 서명된 URL로 직접 올리면 direct
+     */
+    static Timer timer(MeterRegistry meterRegistry, String type, String upload) {
+        return Timer.builder("auction.register.latency")
+                .description("이미지 업로드부터 상품 저장까지 등록 요청을 처리하는 데 걸린 시간")
+                .tag("type", type)
+                .tag("upload", upload)
+                .register(meterRegistry);
+    }
+}
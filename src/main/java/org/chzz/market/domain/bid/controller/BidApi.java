@@ -4,6 +4,7 @@ import static org.chzz.market.domain.auction.error.AuctionErrorCode.Const.AUCTIO
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_ALREADY_CANCELLED;
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_BELOW_MIN_PRICE;
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_BY_OWNER;
+import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_IN_PROGRESS;
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_LIMIT_EXCEEDED;
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_NOT_FOUND;
 import static org.chzz.market.domain.bid.error.BidErrorCode.Const.BID_SAME_AS_PREVIOUS;
@@ -39,6 +40,7 @@ public interface BidApi {
                     @ApiExceptionExplanation(value = BidErrorCode.class, constant = BID_NOT_FOUND, name = "없는 경매 일때"),
                     @ApiExceptionExplanation(value = BidErrorCode.class, constant = BID_NOT_FOUND, name = "없는 경매 일때"),
                     @ApiExceptionExplanation(value = BidErrorCode.class, constant = BID_ALREADY_CANCELLED, name = "취소한 입찰 일때"),
+                    @ApiExceptionExplanation(value = BidErrorCode.class, constant = BID_IN_PROGRESS, name = "같은 경매의 다른 입찰을 처리 중일때"),
             }
     )
     ResponseEntity<Void> createBid(BidCreateRequest bidCreateRequest, Long userId);
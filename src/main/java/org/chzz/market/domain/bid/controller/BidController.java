@@ -8,6 +8,7 @@ import org.chzz.market.common.config.LoginUser;
 import org.chzz.market.domain.auction.type.AuctionStatus;
 import org.chzz.market.domain.bid.dto.BidCreateRequest;
 import org.chzz.market.domain.bid.dto.query.BiddingRecord;
+import org.chzz.market.domain.bid.service.BidPlacementService;
 import org.chzz.market.domain.bid.service.BidService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/bids")
 public class BidController implements BidApi {
     private final BidService bidService;
+    private final BidPlacementService bidPlacementService;
 
     /**
      * 나의 입찰 목록 조회
@@ -53,7 +55,7 @@ public class BidController implements BidApi {
     @PostMapping
     public ResponseEntity<Void> createBid(@Valid @RequestBody BidCreateRequest bidCreateRequest,
                                           @LoginUser Long userId) {
-        bidService.createBid(bidCreateRequest, userId);
+        bidPlacementService.createBid(bidCreateRequest, userId);
         return ResponseEntity.status(CREATED).build();
     }
 
@@ -64,7 +66,7 @@ public class BidController implements BidApi {
     @PatchMapping("/{bidId}/cancel")
     public ResponseEntity<Void> cancelBid(@PathVariable Long bidId,
                                           @LoginUser Long userId) {
-        bidService.cancelBid(bidId, userId);
+        bidPlacementService.cancelBid(bidId, userId);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,14 @@
+package org.chzz.market.domain.bid.dto.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 입찰자 ID를 입찰 ID 키셋으로 나누어 조회하기 위한 프로젝션
+ */
+public record BidderCursor(
+        Long bidId,
+        Long bidderId
+) {
+    @QueryProjection
+    public BidderCursor {}
+}
@@ -1,6 +1,7 @@
 package org.chzz.market.domain.bid.dto.query;
 
 import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import org.chzz.market.domain.auction.dto.BaseAuctionDto;
 @Getter
@@ -10,8 +11,8 @@ public class BiddingRecord extends BaseAuctionDto {
 
     @QueryProjection
     public BiddingRecord(Long auctionId, String productName, Long minPrice, Long bidAmount, Long participantCount, String cdnPath,
-                         Long timeRemaining) {
-        super(productName, cdnPath, timeRemaining, minPrice, participantCount);
+                         LocalDateTime endDateTime) {
+        super(productName, cdnPath, endDateTime, minPrice, participantCount);
         this.auctionId = auctionId;
         this.bidAmount = bidAmount;
     }
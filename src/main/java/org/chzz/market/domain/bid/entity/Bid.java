@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -32,7 +33,10 @@ import org.hibernate.annotations.DynamicUpdate;
  */
 @Entity
 @Getter
-@Table
+@Table(indexes = {
+        @Index(name = "idx_bid_auction_status_amount_updated_at",
+                columnList = "auction_id, status, amount desc, updated_at")
+})
 @Builder
 @AllArgsConstructor
 @DynamicUpdate
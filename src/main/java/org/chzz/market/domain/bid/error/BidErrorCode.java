@@ -1,6 +1,7 @@
 package org.chzz.market.domain.bid.error;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -19,7 +20,8 @@ public enum BidErrorCode implements ErrorCode {
     BID_SAME_AS_PREVIOUS(BAD_REQUEST, "이전 입찰금액과 동일한 금액으로 입찰할 수 없습니다."),
     BID_ALREADY_CANCELLED(BAD_REQUEST, "해당 입찰은 이미 취소되었습니다."),
     BID_BY_OWNER(FORBIDDEN, "경매 등록자는 입찰할 수 없습니다."),
-    BID_NOT_ACCESSIBLE(FORBIDDEN, "해당 입찰에 접근할 수 없습니다.");
+    BID_NOT_ACCESSIBLE(FORBIDDEN, "해당 입찰에 접근할 수 없습니다."),
+    BID_IN_PROGRESS(CONFLICT, "다른 입찰을 처리 중입니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -32,5 +34,6 @@ public enum BidErrorCode implements ErrorCode {
         public static final String BID_ALREADY_CANCELLED = "BID_ALREADY_CANCELLED";
         public static final String BID_BY_OWNER = "BID_BY_OWNER";
         public static final String BID_NOT_ACCESSIBLE = "BID_NOT_ACCESSIBLE";
+        public static final String BID_IN_PROGRESS = "BID_IN_PROGRESS";
     }
 }
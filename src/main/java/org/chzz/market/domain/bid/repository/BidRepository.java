@@ -1,11 +1,19 @@
 package org.chzz.market.domain.bid.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.bid.entity.Bid;
 import org.chzz.market.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BidRepository extends JpaRepository<Bid, Long> , BidRepositoryCustom{
     Optional<Bid> findByAuctionAndBidder(Auction auction, User bidder);
+
+    /**
+     * 취소된 입찰을 포함한 경매의 모든 입찰 조회 (입찰 원장 초기화용)
+     */
+    @EntityGraph(attributePaths = "bidder")
+    List<Bid> findAllByAuction(Auction auction);
 }
@@ -1,8 +1,10 @@
 package org.chzz.market.domain.bid.repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.type.AuctionStatus;
+import org.chzz.market.domain.bid.dto.query.BidderCursor;
 import org.chzz.market.domain.bid.dto.query.BiddingRecord;
 import org.chzz.market.domain.bid.dto.response.BidInfoResponse;
 import org.chzz.market.domain.bid.entity.Bid;
@@ -15,4 +17,18 @@ public interface BidRepositoryCustom {
     List<Bid> findAllBidsByAuction(Auction auction);
 
     Page<BidInfoResponse> findBidsByAuctionId(Long auctionId, Pageable pageable);
+
+    Optional<Long> findAuctionIdByBidId(Long bidId);
+
+    /**
+     * 경매의 낙찰자(금액이 가장 높고 먼저 입찰한 활성 입찰자) ID를 조회합니다.
+     */
+    Optional<Long> findWinnerId(Long auctionId);
+
+    /**
+     * 낙찰자를 제외한 활성 입찰자를 입찰 ID 순으로 최대 limit 건 조회합니다.
+     *
+     * @param lastBidId 이전 조회의 마지막 입찰 ID (처음 조회는 null)
+     */
+    List<BidderCursor> findNonWinningBidders(Long auctionId, Long winnerId, Long lastBidId, int limit);
 }
@@ -12,12 +12,12 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,7 +26,9 @@ import org.chzz.market.common.util.QuerydslOrder;
 import org.chzz.market.common.util.QuerydslOrderProvider;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.type.AuctionStatus;
+import org.chzz.market.domain.bid.dto.query.BidderCursor;
 import org.chzz.market.domain.bid.dto.query.BiddingRecord;
+import org.chzz.market.domain.bid.dto.query.QBidderCursor;
 import org.chzz.market.domain.bid.dto.query.QBiddingRecord;
 import org.chzz.market.domain.bid.dto.response.BidInfoResponse;
 import org.chzz.market.domain.bid.dto.response.QBidInfoResponse;
@@ -53,9 +55,9 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
                         product.name,
                         product.minPrice.longValue(),
                         bid.amount,
-                        getBidCount(),
-                        image.cdnPath,
-                        timeRemaining().longValue()
+                        auction.activeBidCount,
+                        thumbnailPath(),
+                        auction.endDateTime
                 ))
                 .leftJoin(auction.product, product)
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
@@ -64,6 +66,10 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // 남은 시간은 DB 시간 대신 조회 후 한 번 잡은 같은 기준 시각으로 계산
+        LocalDateTime now = LocalDateTime.now();
+        result.forEach(record -> record.calculateTimeRemaining(now));
+
         // 카운트 쿼리 작성
         JPAQuery<Long> countQuery = baseQuery
                 .select(bid.count());
@@ -83,6 +89,46 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 입찰이 속한 경매 ID 조회
+     */
+    @Override
+    public Optional<Long> findAuctionIdByBidId(Long bidId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(bid.auction.id)
+                .from(bid)
+                .where(bid.id.eq(bidId))
+                .fetchOne());
+    }
+
+    /**
+     * idx_bid_auction_status_amount_updated_at 인덱스의 첫 행만 읽습니다.
+     */
+    @Override
+    public Optional<Long> findWinnerId(Long auctionId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(bid.bidder.id)
+                .from(bid)
+                .where(bid.auction.id.eq(auctionId).and(bid.status.eq(ACTIVE)))
+                .orderBy(bid.amount.desc(), bid.updatedAt.asc())
+                .limit(1)
+                .fetchOne());
+    }
+
+    @Override
+    public List<BidderCursor> findNonWinningBidders(Long auctionId, Long winnerId, Long lastBidId, int limit) {
+        return jpaQueryFactory
+                .select(new QBidderCursor(bid.id, bid.bidder.id))
+                .from(bid)
+                .where(bid.auction.id.eq(auctionId),
+                        bid.status.eq(ACTIVE),
+                        bid.bidder.id.ne(winnerId),
+                        bidIdGt(lastBidId))
+                .orderBy(bid.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public Page<BidInfoResponse> findBidsByAuctionId(Long auctionId, Pageable pageable) {
         BooleanExpression isWinner = auction.winnerId.isNotNull().and(auction.winnerId.eq(user.id))
@@ -107,6 +153,10 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
     }
 
+    private BooleanExpression bidIdGt(Long lastBidId) {
+        return lastBidId == null ? null : bid.id.gt(lastBidId);
+    }
+
     /**
      * 상품의 대표 이미지를 조회하기 위한 조건을 반환합니다.
      *
@@ -116,16 +166,13 @@ public class BidRepositoryCustomImpl implements BidRepositoryCustom {
         return image.sequence.eq(1);
     }
 
-    private JPQLQuery<Long> getBidCount() {
-        return JPAExpressions
-                .select(bid.count())
-                .from(bid)
-                .where(bid.auction.id.eq(auction.id).and(bid.status.eq(ACTIVE)));
-    }
-
-    private static NumberExpression<Integer> timeRemaining() {
-        return Expressions.numberTemplate(Integer.class,
-                "GREATEST(0, TIMESTAMPDIFF(SECOND, CURRENT_TIMESTAMP, {0}))", auction.endDateTime); // 음수면 0으로 처리
+    /**
+     * 목록에 보여줄 대표 이미지 경로를 반환합니다.
+     *
+     * @return 썸네일이 만들어졌으면 썸네일 경로, 아니면 원본 이미지 경로
+     */
+    private StringExpression thumbnailPath() {
+        return image.thumbnailPath.coalesce(image.cdnPath);
     }
 
     private BooleanBuilder auctionStatusEqIgnoreNull(AuctionStatus status) {
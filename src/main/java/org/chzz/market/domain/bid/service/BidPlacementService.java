@@ -0,0 +1,89 @@
+package org.chzz.market.domain.bid.service;
+
+import static org.chzz.market.domain.auction.error.AuctionErrorCode.AUCTION_NOT_FOUND;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_NOT_FOUND;
+import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.bid.dto.BidCreateRequest;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.error.BidException;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.bid.service.ledger.BidLedger;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerResult;
+import org.chzz.market.domain.bid.service.sequencer.BidSequencer;
+import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 입찰 요청의 진입점
+ * <p>
+ * 입찰 원장이 활성화되어 있으면 Redis 원장에서 입찰을 검증/반영하고, 아니면 기존처럼 {@link BidService}에서 DB 트랜잭션으로 처리합니다. DB 트랜잭션으로
+ * 입찰을 변경할 때는 {@link BidSequencer}로 경매 단위 직렬화를 보장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidPlacementService {
+    private final BidService bidService;
+    private final BidLedger bidLedger;
+    private final BidLedgerFlusher bidLedgerFlusher;
+    private final BidSequencer bidSequencer;
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 입찰 완료 및 수정
+     */
+    public void createBid(BidCreateRequest bidCreateRequest, Long userId) {
+        if (!bidLedger.isEnabled()) {
+            bidSequencer.execute(bidCreateRequest.getAuctionId(), () -> bidService.createBid(bidCreateRequest, userId));
+            return;
+        }
+        // 원장에는 사용자 정보가 없으므로 DB 경로와 같이 사용자를 먼저 확인합니다.
+        if (!userRepository.existsById(userId)) {
+            throw new UserException(USER_NOT_FOUND);
+        }
+        Long auctionId = bidCreateRequest.getAuctionId();
+        BidLedgerResult result = bidLedger.place(auctionId, userId, bidCreateRequest.getBidAmount());
+        if (result == BidLedgerResult.NOT_LOADED) {
+            hydrate(auctionId);
+            result = bidLedger.place(auctionId, userId, bidCreateRequest.getBidAmount());
+        }
+        result.validate();
+    }
+
+    /**
+     * 입찰 취소
+     * <p>
+     * 원장을 쓰면 사용자의 DB 반영 대기 중인 입찰을 먼저 반영해 아직 원장에만 있는 입찰도 DB에서 찾아 취소할 수 있게 합니다.
+     */
+    public void cancelBid(Long bidId, Long userId) {
+        if (bidLedger.isEnabled() && !bidLedgerFlusher.flushUser(userId)) {
+            log.warn("사용자 {}의 대기 중인 입찰을 반영하지 못한 채 입찰 {}을 취소합니다.", userId, bidId);
+        }
+        Long auctionId = bidRepository.findAuctionIdByBidId(bidId)
+                .orElseThrow(() -> new BidException(BID_NOT_FOUND));
+        Bid bid = bidSequencer.execute(auctionId, () -> bidService.cancelBid(bidId, userId));
+        if (bidLedger.isEnabled()) {
+            bidLedger.cancel(auctionId, bid.getBidder().getId());
+        }
+    }
+
+    /**
+     * 원장이 없는 경매(첫 입찰 또는 만료 후)는 DB 상태로 원장을 초기화합니다.
+     */
+    private void hydrate(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new AuctionException(AUCTION_NOT_FOUND));
+        bidLedger.hydrate(auction, bidRepository.findAllByAuction(auction));
+        log.debug("경매 {}의 입찰 원장을 초기화했습니다.", auctionId);
+    }
+}
@@ -7,12 +7,13 @@ import static org.chzz.market.domain.bid.error.BidErrorCode.BID_BY_OWNER;
 import static org.chzz.market.domain.bid.error.BidErrorCode.BID_NOT_ACCESSIBLE;
 import static org.chzz.market.domain.bid.error.BidErrorCode.BID_NOT_FOUND;
 import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.ONGOING;
 
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
 import org.chzz.market.domain.auction.type.AuctionStatus;
 import org.chzz.market.domain.bid.dto.BidCreateRequest;
@@ -23,7 +24,9 @@ import org.chzz.market.domain.bid.error.BidException;
 import org.chzz.market.domain.bid.repository.BidRepository;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
 import org.chzz.market.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -37,6 +40,7 @@ public class BidService {
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 나의 입찰 목록 조회
@@ -45,13 +49,6 @@ public class BidService {
         return bidRepository.findUsersBidHistory(userId, pageable, status);
     }
 
-    /**
-     * 특정 경매의 모든 입찰 조회
-     */
-    public List<Bid> findAllBidsByAuction(Auction auction) {
-        return bidRepository.findAllBidsByAuction(auction);
-    }
-
     /**
      * 종료된 특정 경매의 입찰 현황 조회
      */
@@ -74,20 +71,41 @@ public class BidService {
         Auction auction = auctionRepository.findById(bidCreateRequest.getAuctionId())
                 .orElseThrow(() -> new AuctionException(AUCTION_NOT_FOUND));
         validateBidConditions(bidCreateRequest, user.getId(), auction);
+        Long bidAmount = bidCreateRequest.getBidAmount();
         bidRepository.findByAuctionAndBidder(auction, user)
                 .ifPresentOrElse(
                         // 이미 입찰을 한 경우
-                        bid -> bid.adjustBidAmount(bidCreateRequest.getBidAmount()),
+                        bid -> adjustBid(auction, bid, bidAmount),
                         // 입찰을 처음 하는 경우
-                        () -> auction.registerBid(bidCreateRequest.toEntity(auction, user)) // 연관관계 설정
+                        () -> {
+                            auction.registerBid(bidCreateRequest.toEntity(auction, user)); // 연관관계 설정
+                            auctionRepository.increaseBidSummary(auction.getId(), 1, bidAmount);
+                            eventPublisher.publishEvent(AuctionFeedChangedEvent.of(auction.getId()));
+                            eventPublisher.publishEvent(UserActivityCountEvent.of(userId, ONGOING, 1));
+                        }
                 );
     }
 
+    /**
+     * 입찰 금액 수정 및 경매 입찰 요약 정보 갱신
+     */
+    private void adjustBid(Auction auction, Bid bid, Long bidAmount) {
+        Long previousAmount = bid.getAmount();
+        bid.adjustBidAmount(bidAmount);
+        if (bidAmount > previousAmount) {
+            auctionRepository.increaseBidSummary(auction.getId(), 0, bidAmount);
+            return;
+        }
+        // 금액을 낮춘 경우 최고 입찰 금액을 다시 계산하기 전에 변경 내용을 반영
+        bidRepository.flush();
+        auctionRepository.decreaseBidSummary(auction.getId(), 0);
+    }
+
     /**
      * 입찰 취소
      */
     @Transactional
-    public void cancelBid(Long bidId, Long userId) {
+    public Bid cancelBid(Long bidId, Long userId) {
         Bid bid = bidRepository.findById(bidId).orElseThrow(() -> new BidException(BID_NOT_FOUND));
         Auction auction = bid.getAuction();
         if (!bid.isOwner(userId)) {
@@ -95,7 +113,12 @@ public class BidService {
         }
         auction.validateAuctionEndTime();
         auction.removeBid(bid);
+        bidRepository.flush();
+        auctionRepository.decreaseBidSummary(auction.getId(), -1);
+        eventPublisher.publishEvent(AuctionFeedChangedEvent.of(auction.getId()));
+        eventPublisher.publishEvent(UserActivityCountEvent.of(userId, ONGOING, -1));
         log.info("입찰이 취소되었습니다. 입찰 ID: {}, 사용자 ID: {}, 경매 ID: {}", bid.getId(), userId, auction.getId());
+        return bid;
     }
 
     /**
@@ -0,0 +1,258 @@
+package org.chzz.market.domain.bid.service.ledger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.RedisScriptUtil;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매별 실시간 입찰 상태를 Redis에 보관하는 입찰 원장
+ * <p>
+ * 입찰 검증(등록자, 종료 시간, 최소 금액, 남은 수정 횟수)과 반영은 Lua 스크립트 한 번으로 원자적으로 처리되고, 변경된 입찰은 dirty 집합에 기록되어
+ * {@link BidLedgerFlusher}가 DB에 일괄 반영합니다.
+ * <p>
+ * 경매 종료나 입찰 취소 직전에 한 경매/사용자의 항목만 반영할 수 있도록 전체 dirty 집합 외에 경매별(사용자 ID), 사용자별(경매 ID) 대기 집합을 함께
+ * 유지합니다. 세 집합은 꺼낼 때 Lua 스크립트에서 함께 지워 서로 어긋나지 않습니다. 스크립트가 항목에서 키 이름을 만들므로 단일 Redis 노드를
+ * 전제로 합니다.
+ */
+@Slf4j
+@Component
+public class BidLedger {
+    public static final int INITIAL_BID_COUNT = 2;
+    private static final String KEY_PREFIX = "bid-ledger:";
+    private static final String DIRTY_KEY = KEY_PREFIX + "dirty";
+    private static final String STATUS_FIELD = "status";
+    private static final Duration RETENTION = Duration.ofHours(1);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final RedisScript<Long> placeScript = RedisScriptUtil.load("redis/bid-ledger-place.lua", Long.class);
+    private final RedisScript<Long> hydrateScript = RedisScriptUtil.load("redis/bid-ledger-hydrate.lua", Long.class);
+    private final RedisScript<Long> cancelScript = RedisScriptUtil.load("redis/bid-ledger-cancel.lua", Long.class);
+    private final RedisScript<List> popDirtyScript = RedisScriptUtil.load("redis/bid-ledger-pop-dirty.lua", List.class);
+    private final RedisScript<List> popAuctionDirtyScript =
+            RedisScriptUtil.load("redis/bid-ledger-pop-dirty-auction.lua", List.class);
+    private final RedisScript<List> popUserDirtyScript =
+            RedisScriptUtil.load("redis/bid-ledger-pop-dirty-user.lua", List.class);
+
+    public BidLedger(StringRedisTemplate redisTemplate,
+                     @Value("${bid.ledger.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입찰을 원장에 반영합니다.
+     */
+    public BidLedgerResult place(Long auctionId, Long userId, Long amount) {
+        Long code = redisTemplate.execute(placeScript,
+                List.of(meta(auctionId), amounts(auctionId), counts(auctionId), ranking(auctionId), times(auctionId),
+                        cancelled(auctionId), DIRTY_KEY, auctionDirty(auctionId), userDirty(userId)),
+                String.valueOf(auctionId), String.valueOf(userId), String.valueOf(amount),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(INITIAL_BID_COUNT));
+        return BidLedgerResult.from(code);
+    }
+
+    /**
+     * DB에 저장된 경매와 입찰 내역으로 원장을 초기화합니다. 이미 초기화된 원장은 덮어쓰지 않습니다.
+     */
+    public void hydrate(Auction auction, List<Bid> bids) {
+        Long auctionId = auction.getId();
+        long ttlSeconds = Math.max(Duration.between(LocalDateTime.now(), auction.getEndDateTime()).getSeconds(), 0)
+                + RETENTION.getSeconds();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(auction.getProduct().getUser().getId()));
+        args.add(String.valueOf(auction.getMinPrice()));
+        args.add(String.valueOf(toMillis(auction.getEndDateTime())));
+        args.add(auction.getStatus().name());
+        args.add(String.valueOf(ttlSeconds));
+        for (Bid bid : bids) {
+            args.add(String.valueOf(bid.getBidder().getId()));
+            args.add(String.valueOf(bid.getAmount()));
+            args.add(String.valueOf(bid.getCount()));
+            args.add(bid.getStatus().name());
+            args.add(String.valueOf(toMillis(Objects.requireNonNullElse(bid.getUpdatedAt(), LocalDateTime.now()))));
+        }
+        redisTemplate.execute(hydrateScript,
+                List.of(meta(auctionId), amounts(auctionId), counts(auctionId), ranking(auctionId), times(auctionId),
+                        cancelled(auctionId)),
+                args.toArray());
+    }
+
+    /**
+     * 입찰 취소를 원장에 반영합니다. 원장이 초기화되지 않은 경매는 무시합니다.
+     */
+    public void cancel(Long auctionId, Long userId) {
+        redisTemplate.execute(cancelScript, List.of(meta(auctionId), ranking(auctionId), cancelled(auctionId)),
+                String.valueOf(userId));
+    }
+
+    /**
+     * 원장을 종료 상태로 바꿔 이후 입찰을 거절합니다.
+     */
+    public void close(Long auctionId) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(meta(auctionId)))) {
+            redisTemplate.opsForHash().put(meta(auctionId), STATUS_FIELD, "ENDED");
+        }
+    }
+
+    /**
+     * DB 반영 대기 중인 입찰 항목을 최대 {@code limit}개 꺼냅니다.
+     */
+    public List<String> popDirty(int limit) {
+        return pop(popDirtyScript, List.of(DIRTY_KEY), String.valueOf(limit));
+    }
+
+    /**
+     * 특정 경매의 DB 반영 대기 중인 입찰 항목을 꺼냅니다. 전체 dirty 집합을 훑지 않고 경매별 대기 집합만 읽습니다.
+     */
+    public List<String> popDirty(Long auctionId) {
+        return pop(popAuctionDirtyScript, List.of(DIRTY_KEY, auctionDirty(auctionId)), String.valueOf(auctionId));
+    }
+
+    /**
+     * 특정 사용자의 DB 반영 대기 중인 입찰 항목을 꺼냅니다. 전체 dirty 집합을 훑지 않고 사용자별 대기 집합만 읽습니다.
+     */
+    public List<String> popDirtyByUser(Long userId) {
+        return pop(popUserDirtyScript, List.of(DIRTY_KEY, userDirty(userId)), String.valueOf(userId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> pop(RedisScript<List> script, List<String> keys, String arg) {
+        List<String> members = redisTemplate.execute(script, keys, arg, KEY_PREFIX);
+        return members == null ? List.of() : members;
+    }
+
+    /**
+     * DB 반영에 실패한 항목을 다시 대기 상태로 되돌립니다.
+     */
+    public void markDirty(Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String member : members) {
+                Long auctionId = auctionIdOf(member);
+                String userId = userIdOf(member);
+                stringConnection.sAdd(DIRTY_KEY, member);
+                stringConnection.sAdd(auctionDirty(auctionId), userId);
+                stringConnection.sAdd(userDirty(Long.valueOf(userId)), String.valueOf(auctionId));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * dirty 항목("auctionId:userId")에 해당하는 현재 원장 값을 한 번의 파이프라인으로 조회합니다. 원장이 만료된 항목은 제외됩니다.
+     */
+    public List<BidLedgerEntry> read(List<String> members) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String member : members) {
+                Long auctionId = auctionIdOf(member);
+                String userId = userIdOf(member);
+                stringConnection.hGet(amounts(auctionId), userId);
+                stringConnection.hGet(counts(auctionId), userId);
+                stringConnection.hGet(times(auctionId), userId);
+            }
+            return null;
+        });
+        List<BidLedgerEntry> entries = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Object amount = results.get(i * 3);
+            Object count = results.get(i * 3 + 1);
+            Object time = results.get(i * 3 + 2);
+            if (amount == null || count == null || time == null) {
+                log.warn("입찰 원장이 만료되어 반영하지 못했습니다. 항목: {}", members.get(i));
+                continue;
+            }
+            String member = members.get(i);
+            entries.add(new BidLedgerEntry(auctionIdOf(member), Long.valueOf(userIdOf(member)),
+                    Long.valueOf(amount.toString()), Integer.parseInt(count.toString()),
+                    toDateTime(Long.parseLong(time.toString()))));
+        }
+        return entries;
+    }
+
+    /**
+     * 경매의 원장을 삭제합니다.
+     */
+    public void delete(Long auctionId) {
+        redisTemplate.delete(Set.of(meta(auctionId), amounts(auctionId), counts(auctionId), ranking(auctionId),
+                times(auctionId), cancelled(auctionId)));
+    }
+
+    public static String member(Long auctionId, Long userId) {
+        return auctionId + ":" + userId;
+    }
+
+    private static Long auctionIdOf(String member) {
+        return Long.valueOf(member.substring(0, member.indexOf(':')));
+    }
+
+    private static String userIdOf(String member) {
+        return member.substring(member.indexOf(':') + 1);
+    }
+
+    private static String meta(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":meta";
+    }
+
+    private static String amounts(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":amounts";
+    }
+
+    private static String counts(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":counts";
+    }
+
+    private static String ranking(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":ranking";
+    }
+
+    private static String times(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":times";
+    }
+
+    private static String cancelled(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":cancelled";
+    }
+
+    // 키 형식은 bid-ledger-pop-dirty*.lua 에서 만드는 키와 같아야 합니다.
+    private static String auctionDirty(Long auctionId) {
+        return KEY_PREFIX + auctionId + ":dirty";
+    }
+
+    private static String userDirty(Long userId) {
+        return KEY_PREFIX + "user:" + userId + ":dirty";
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+}
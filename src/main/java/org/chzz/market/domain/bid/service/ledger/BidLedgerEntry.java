@@ -0,0 +1,15 @@
+package org.chzz.market.domain.bid.service.ledger;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB에 반영되기를 기다리는 입찰 원장의 한 항목
+ */
+public record BidLedgerEntry(
+        Long auctionId,
+        Long userId,
+        Long amount,
+        int count,
+        LocalDateTime updatedAt
+) {
+}
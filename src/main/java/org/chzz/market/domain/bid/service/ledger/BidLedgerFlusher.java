@@ -0,0 +1,216 @@
+package org.chzz.market.domain.bid.service.ledger;
+
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.ONGOING;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Change;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 원장의 변경분을 bid 테이블에 일괄 반영(write-behind)합니다.
+ * <p>
+ * 여러 노드가 동시에 같은 항목을 반영해 신규 입찰이 중복 INSERT 되지 않도록 Redis 락을 잡은 노드만 반영합니다. 주기 반영은 한 번에 최대
+ * max-batches-per-tick 묶음까지만 처리하고 락을 놓으므로, 입찰이 계속 들어와도 경매 종료와 입찰 취소를 위한 반영이 락을 기다리다 포기하지 않습니다.
+ */
+@Slf4j
+@Component
+public class BidLedgerFlusher {
+    private static final String LOCK_KEY = "bid-ledger:flush-lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(10);
+    private static final int BATCH_SIZE = 500;
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private static final String UPDATE_SQL = """
+            UPDATE bid SET amount = ?, count = ?, updated_at = ?
+            WHERE auction_id = ? AND user_id = ? AND status = 'ACTIVE'
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO bid (user_id, auction_id, amount, count, status, created_at, updated_at)
+            SELECT ?, ?, ?, ?, 'ACTIVE', ?, ? FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM bid WHERE auction_id = ? AND user_id = ?)
+            """;
+
+    private final BidLedger bidLedger;
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuctionRepository auctionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchesPerTick;
+
+    public BidLedgerFlusher(BidLedger bidLedger,
+                            StringRedisTemplate redisTemplate,
+                            JdbcTemplate jdbcTemplate,
+                            AuctionRepository auctionRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${bid.ledger.max-batches-per-tick:10}") int maxBatchesPerTick) {
+        this.bidLedger = bidLedger;
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auctionRepository = auctionRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchesPerTick = maxBatchesPerTick;
+    }
+
+    /**
+     * 주기적으로 대기 중인 입찰을 최대 max-batches-per-tick 묶음까지 반영합니다. 남은 입찰은 다음 주기에 반영하고, 다른 노드가 반영 중이면 이번
+     * 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${bid.ledger.flush-interval-ms:500}")
+    public void flush() {
+        if (!bidLedger.isEnabled()) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(token)) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < maxBatchesPerTick; batch++) {
+                List<String> members = bidLedger.popDirty(BATCH_SIZE);
+                if (members.isEmpty()) {
+                    return;
+                }
+                write(members);
+            }
+        } catch (Exception e) {
+            log.error("입찰 원장 반영 중 오류가 발생했습니다.", e);
+        } finally {
+            unlock(token);
+        }
+    }
+
+    /**
+     * 경매 종료 직전에 호출되어 원장을 닫고 해당 경매의 남은 입찰을 모두 반영한 뒤 원장을 삭제합니다.
+     *
+     * @return 남은 입찰을 모두 반영했으면(또는 원장을 쓰지 않으면) true. false 면 DB 입찰이 최신이 아닐 수 있으므로 경매를 종료하지 말고 다음에
+     * 다시 시도해야 합니다. 반영하지 못한 입찰은 다시 대기 상태로 남습니다.
+     */
+    public boolean flushAuction(Long auctionId) {
+        if (!bidLedger.isEnabled()) {
+            return true;
+        }
+        return flushLocked("경매 " + auctionId, () -> {
+            bidLedger.close(auctionId);
+            write(bidLedger.popDirty(auctionId));
+            bidLedger.delete(auctionId);
+        });
+    }
+
+    /**
+     * 사용자의 DB 반영 대기 중인 입찰을 바로 반영합니다. 아직 원장에만 있는 입찰을 취소할 때 DB에서 찾을 수 있도록 호출합니다.
+     *
+     * @return 대기 중인 입찰을 모두 반영했으면(또는 원장을 쓰지 않으면) true
+     */
+    public boolean flushUser(Long userId) {
+        if (!bidLedger.isEnabled()) {
+            return true;
+        }
+        return flushLocked("사용자 " + userId, () -> write(bidLedger.popDirtyByUser(userId)));
+    }
+
+    /**
+     * 락을 기다려 잡은 뒤 반영합니다. 락을 얻지 못했거나 반영에 실패하면 false 를 반환합니다.
+     */
+    private boolean flushLocked(String target, Runnable task) {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!lock(token)) {
+                log.warn("입찰 원장 락을 얻지 못해 {}의 입찰을 반영하지 못했습니다.", target);
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                unlock(token);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("{}의 입찰 원장 반영 중 오류가 발생했습니다.", target, e);
+            return false;
+        }
+    }
+
+    private void write(List<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        try {
+            List<BidLedgerEntry> entries = bidLedger.read(members);
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, entries.stream()
+                    .map(entry -> new Object[]{entry.amount(), entry.count(), Timestamp.valueOf(entry.updatedAt()),
+                            entry.auctionId(), entry.userId()})
+                    .toList());
+            List<Object[]> inserts = new ArrayList<>();
+            List<BidLedgerEntry> insertEntries = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                if (updated[i] == 0) {
+                    BidLedgerEntry entry = entries.get(i);
+                    Timestamp updatedAt = Timestamp.valueOf(entry.updatedAt());
+                    inserts.add(new Object[]{entry.userId(), entry.auctionId(), entry.amount(), entry.count(),
+                            updatedAt, updatedAt, entry.auctionId(), entry.userId()});
+                    insertEntries.add(entry);
+                }
+            }
+            List<Change> countChanges = new ArrayList<>();
+            if (!inserts.isEmpty()) {
+                int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+                for (int i = 0; i < inserted.length; i++) {
+                    // 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 새 입찰로 간주
+                    if (inserted[i] > 0 || inserted[i] == Statement.SUCCESS_NO_INFO) {
+                        countChanges.add(new Change(insertEntries.get(i).userId(), ONGOING, 1));
+                    }
+                }
+            }
+            List<Long> auctionIds = entries.stream().map(BidLedgerEntry::auctionId).distinct().toList();
+            auctionRepository.recalculateBidSummary(auctionIds);
+            eventPublisher.publishEvent(new AuctionFeedChangedEvent(auctionIds));
+            if (!countChanges.isEmpty()) {
+                eventPublisher.publishEvent(new UserActivityCountEvent(countChanges));
+            }
+            log.debug("입찰 원장 반영 완료. 수정: {}건, 신규: {}건", entries.size() - inserts.size(), inserts.size());
+        } catch (Exception e) {
+            bidLedger.markDirty(members);
+            throw e;
+        }
+    }
+
+    private boolean lock(String token) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LOCK_WAIT.toMillis();
+        while (!tryLock(token)) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private boolean tryLock(String token) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL));
+    }
+
+    private void unlock(String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+}
@@ -0,0 +1,69 @@
+package org.chzz.market.domain.bid.service.ledger;
+
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_ALREADY_CANCELLED;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_BELOW_MIN_PRICE;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_BY_OWNER;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_LIMIT_EXCEEDED;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_SAME_AS_PREVIOUS;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.chzz.market.common.error.GlobalErrorCode;
+import org.chzz.market.common.error.GlobalException;
+import org.chzz.market.domain.auction.error.AuctionErrorCode;
+import org.chzz.market.domain.auction.error.AuctionException;
+import org.chzz.market.domain.bid.error.BidException;
+
+/**
+ * 입찰 원장 Lua 스크립트의 반환 코드
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum BidLedgerResult {
+    CREATED(0),
+    UPDATED(1),
+    NOT_LOADED(-1),
+    BY_OWNER(-2),
+    AUCTION_ENDED(-3),
+    BELOW_MIN_PRICE(-4),
+    LIMIT_EXCEEDED(-5),
+    SAME_AS_PREVIOUS(-6),
+    ALREADY_CANCELLED(-7);
+
+    private final long code;
+
+    public static BidLedgerResult from(Long code) {
+        return Arrays.stream(values())
+                .filter(result -> code != null && result.code == code)
+                .findFirst()
+                .orElseThrow(() -> new GlobalException(GlobalErrorCode.INTERNAL_SERVER_ERROR));
+    }
+
+    public boolean isAccepted() {
+        return this == CREATED || this == UPDATED;
+    }
+
+    /**
+     * 원장에서 거절된 입찰을 기존 DB 경로와 동일한 예외로 변환합니다.
+     */
+    public void validate() {
+        if (isAccepted()) {
+            return;
+        }
+        throw toException();
+    }
+
+    private RuntimeException toException() {
+        return switch (this) {
+            case BY_OWNER -> new BidException(BID_BY_OWNER);
+            case AUCTION_ENDED, NOT_LOADED -> new AuctionException(AuctionErrorCode.AUCTION_ENDED);
+            case BELOW_MIN_PRICE -> new BidException(BID_BELOW_MIN_PRICE);
+            case LIMIT_EXCEEDED -> new BidException(BID_LIMIT_EXCEEDED);
+            case SAME_AS_PREVIOUS -> new BidException(BID_SAME_AS_PREVIOUS);
+            case ALREADY_CANCELLED -> new BidException(BID_ALREADY_CANCELLED);
+            default -> new GlobalException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        };
+    }
+}
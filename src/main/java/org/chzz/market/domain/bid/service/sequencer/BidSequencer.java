@@ -0,0 +1,125 @@
+package org.chzz.market.domain.bid.service.sequencer;
+
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_IN_PROGRESS;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.bid.error.BidException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 단위로 입찰 변경을 직렬화합니다.
+ * <p>
+ * 같은 노드 안에서는 경매 ID로 고른 스트라이프 락으로, 노드 간에는 Redis 리스(SET NX PX)로 한 번에 하나의 요청만 입찰을 변경하도록 보장합니다. 서로 다른
+ * 경매는 다른 락을 사용하므로 병렬로 처리됩니다. 트랜잭션 커밋 이후에 락이 풀려야 하므로 트랜잭션 바깥에서 호출해야 합니다.
+ */
+@Slf4j
+@Component
+public class BidSequencer {
+    private static final String LEASE_KEY_PREFIX = "bid-sequencer:";
+    private static final long RETRY_INTERVAL_MILLIS = 20;
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReentrantLock[] stripes;
+    private final Duration leaseTime;
+    private final Duration waitTime;
+    private final boolean distributed;
+
+    public BidSequencer(StringRedisTemplate redisTemplate,
+                        @Value("${bid.sequencer.stripes:256}") int stripes,
+                        @Value("${bid.sequencer.lease-ms:5000}") long leaseMillis,
+                        @Value("${bid.sequencer.wait-ms:3000}") long waitMillis,
+                        @Value("${bid.sequencer.distributed:true}") boolean distributed) {
+        this.redisTemplate = redisTemplate;
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.leaseTime = Duration.ofMillis(leaseMillis);
+        this.waitTime = Duration.ofMillis(waitMillis);
+        this.distributed = distributed;
+    }
+
+    public void execute(Long auctionId, Runnable task) {
+        execute(auctionId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 경매 락을 잡은 상태에서 작업을 실행합니다. 대기 시간 안에 락을 얻지 못하면 {@code BID_IN_PROGRESS} 예외가 발생합니다.
+     */
+    public <T> T execute(Long auctionId, Supplier<T> task) {
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        ReentrantLock lock = stripeOf(auctionId);
+        if (!tryLock(lock, deadline)) {
+            throw new BidException(BID_IN_PROGRESS);
+        }
+        try {
+            if (!distributed) {
+                return task.get();
+            }
+            String token = UUID.randomUUID().toString();
+            if (!acquireLease(auctionId, token, deadline)) {
+                throw new BidException(BID_IN_PROGRESS);
+            }
+            try {
+                return task.get();
+            } finally {
+                releaseLease(auctionId, token);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeOf(Long auctionId) {
+        return stripes[Math.floorMod(auctionId.hashCode(), stripes.length)];
+    }
+
+    private boolean tryLock(ReentrantLock lock, long deadline) {
+        try {
+            return lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean acquireLease(Long auctionId, String token, long deadline) {
+        String key = LEASE_KEY_PREFIX + auctionId;
+        while (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(RETRY_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void releaseLease(Long auctionId, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + auctionId), token);
+        } catch (Exception e) {
+            // 리스는 만료 시간이 지나면 자동으로 해제됩니다.
+            log.warn("경매 {}의 입찰 리스 해제에 실패했습니다.", auctionId, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.chzz.market.domain.image.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.chzz.market.domain.image.dto.ImageUploadUrlRequest;
+import org.chzz.market.domain.image.dto.ImageUploadUrlResponse;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "images", description = "이미지 API")
+public interface ImageApi {
+
+    @Operation(summary = "이미지 업로드 URL 발급",
+            description = "응답의 uploadUrl 로 이미지를 PUT 하고(Content-Type 은 contentType 값), objectKey 를 등록/수정 요청에 담아 보냅니다.")
+    ResponseEntity<List<ImageUploadUrlResponse>> createUploadUrls(Long userId, ImageUploadUrlRequest request);
+}
@@ -0,0 +1,31 @@
+package org.chzz.market.domain.image.controller;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.config.LoginUser;
+import org.chzz.market.domain.image.dto.ImageUploadUrlRequest;
+import org.chzz.market.domain.image.dto.ImageUploadUrlResponse;
+import org.chzz.market.domain.image.service.ImageService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/images")
+public class ImageController implements ImageApi {
+    private final ImageService imageService;
+
+    /**
+     * 이미지 직접 업로드용 미리 서명된 URL 발급
+     */
+    @Override
+    @PostMapping("/upload-urls")
+    public ResponseEntity<List<ImageUploadUrlResponse>> createUploadUrls(@LoginUser Long userId,
+                                                                         @RequestBody @Valid ImageUploadUrlRequest request) {
+        return ResponseEntity.ok(imageService.createUploadUrls(userId, request.images()));
+    }
+}
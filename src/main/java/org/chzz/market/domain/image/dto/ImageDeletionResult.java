@@ -0,0 +1,17 @@
+package org.chzz.market.domain.image.dto;
+
+import java.time.LocalDateTime;
+import org.chzz.market.common.dto.BatchResult;
+
+/**
+ * 이미지 삭제 요청 묶음 하나를 처리한 결과
+ *
+ * @param entryCount      처리한 삭제 요청 수
+ * @param deletedCount    S3에서 지운 객체 수
+ * @param failedCount     S3가 삭제를 거부한 객체 수
+ * @param oldestCreatedAt 가장 오래된 삭제 요청의 생성 시각 (처리한 요청이 없으면 null)
+ */
+public record ImageDeletionResult(int entryCount, int deletedCount, int failedCount, LocalDateTime oldestCreatedAt)
+        implements BatchResult {
+    public static final ImageDeletionResult EMPTY = new ImageDeletionResult(0, 0, 0, null);
+}
@@ -0,0 +1,18 @@
+package org.chzz.market.domain.image.dto;
+
+import org.chzz.market.domain.image.entity.Image;
+
+/**
+ * 파생 이미지 생성 작업
+ *
+ * @param attempts 이번 시도를 포함한 시도 횟수
+ */
+public record ImageDerivativeJob(
+        Long imageId,
+        String cdnPath,
+        int attempts
+) {
+    public static ImageDerivativeJob from(Image image) {
+        return new ImageDerivativeJob(image.getId(), image.getCdnPath(), image.getDerivativeAttempts());
+    }
+}
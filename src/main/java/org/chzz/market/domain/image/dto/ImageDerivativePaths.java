@@ -0,0 +1,11 @@
+package org.chzz.market.domain.image.dto;
+
+/**
+ * 만들어진 파생 이미지의 CDN 경로. 만들지 못한 파생 이미지는 null 입니다.
+ */
+public record ImageDerivativePaths(
+        String thumbnailPath,
+        String webpPath
+) {
+    public static final ImageDerivativePaths NONE = new ImageDerivativePaths(null, null);
+}
@@ -0,0 +1,22 @@
+package org.chzz.market.domain.image.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ImageUploadUrlRequest(
+        @NotEmpty(message = "업로드할 이미지를 선택해주세요")
+        @Size(max = 5, message = "이미지는 최대 5개까지 등록할 수 있습니다.")
+        List<@Valid ImageFile> images
+) {
+    public record ImageFile(
+            @NotBlank
+            String fileName,
+            @Positive
+            long size
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package org.chzz.market.domain.image.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param objectKey   업로드 후 등록 요청에 담아 보낼 키
+ * @param uploadUrl   이미지를 PUT 으로 올릴 미리 서명된 URL
+ * @param contentType 업로드 요청의 Content-Type 헤더로 보내야 하는 값
+ * @param expiresAt   URL 만료 시각
+ */
+public record ImageUploadUrlResponse(
+        String objectKey,
+        String uploadUrl,
+        String contentType,
+        LocalDateTime expiresAt
+) {
+}
@@ -10,8 +10,8 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,13 +19,15 @@ import org.chzz.market.domain.base.entity.BaseTimeEntity;
 import org.chzz.market.domain.product.entity.Product;
 
 @Getter
-@Builder
 @Entity
 @Table(indexes = {
-        @Index(columnList = "product_id, image_id, cdn_path")
+        @Index(columnList = "product_id, image_id, cdn_path"),
+        @Index(name = "idx_image_derivative_due_at", columnList = "derivative_due_at"),
+        @Index(name = "idx_image_cdn_path", columnList = "cdn_path"),
+        @Index(name = "idx_image_thumbnail_path", columnList = "thumbnail_path"),
+        @Index(name = "idx_image_webp_path", columnList = "webp_path")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class Image extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +44,28 @@ public class Image extends BaseTimeEntity {
     @JoinColumn(name = "product_id")
     private Product product;
 
+    @Column
+    private String thumbnailPath;
+
+    @Column
+    private String webpPath;
+
+    @Column(nullable = false)
+    private int derivativeAttempts;
+
+    // 파생 이미지를 만들 차례가 된 시각. 만들었거나 포기하면 null 입니다.
+    @Column
+    private LocalDateTime derivativeDueAt;
+
+    @Builder
+    public Image(Long id, String cdnPath, int sequence, Product product) {
+        this.id = id;
+        this.cdnPath = cdnPath;
+        this.sequence = sequence;
+        this.product = product;
+        this.derivativeDueAt = LocalDateTime.now();
+    }
+
     public void specifyProduct(Product product) {
         this.product = product;
     }
@@ -49,4 +73,21 @@ public class Image extends BaseTimeEntity {
     public void changeSequence(Integer newSequence) {
         this.sequence = newSequence;
     }
+
+    /**
+     * 파생 이미지 생성 작업을 가져갑니다. 작업이 끝나지 않은 채로 {@code leaseUntil}이 지나면 다시 처리 대상이 됩니다.
+     */
+    public void leaseDerivatives(LocalDateTime leaseUntil) {
+        this.derivativeAttempts++;
+        this.derivativeDueAt = leaseUntil;
+    }
+
+    /**
+     * 파생 이미지 경로를 기록하고 작업을 끝냅니다. 만들지 못한 파생 이미지는 null 이며, 목록에서는 원본 이미지를 사용합니다.
+     */
+    public void completeDerivatives(String thumbnailPath, String webpPath) {
+        this.thumbnailPath = thumbnailPath;
+        this.webpPath = webpPath;
+        this.derivativeDueAt = null;
+    }
 }
@@ -0,0 +1,35 @@
+package org.chzz.market.domain.image.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chzz.market.domain.base.entity.BaseTimeEntity;
+
+/**
+ * S3 객체 하나를 지워 달라는 요청. 원본, 썸네일, WebP 이미지는 각각 요청이 됩니다.
+ * <p>
+ * S3 키만 저장하고 실패 횟수는 두지 않습니다. S3가 거부한 키도 요청은 지우며, 남은 객체는 어디에서도 참조되지 않으므로 고아 이미지 정리가 다시 넣습니다.
+ */
+@Getter
+@Entity
+@Table(name = "image_deletion")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageDeletion extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    public ImageDeletion(String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
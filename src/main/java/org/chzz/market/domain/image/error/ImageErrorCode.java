@@ -14,7 +14,9 @@ public enum ImageErrorCode implements ErrorCode {
     MAX_IMAGE_COUNT_EXCEEDED(HttpStatus.BAD_REQUEST, "이미지는 최대 5개까지 등록할 수 있습니다."),
     INVALID_IMAGE_COUNT(HttpStatus.BAD_REQUEST, "이미지 개수가 올바르지 않습니다."),
     NO_IMAGES_PROVIDED(HttpStatus.BAD_REQUEST, "이미지가 제공되지 않았습니다."),
-    NOT_FOUND(HttpStatus.BAD_REQUEST, "이미지가 없습니다.");
+    NOT_FOUND(HttpStatus.BAD_REQUEST, "이미지가 없습니다."),
+    IMAGE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "이미지 크기가 허용된 최대 크기를 넘었습니다."),
+    INVALID_UPLOADED_IMAGE(HttpStatus.BAD_REQUEST, "업로드되지 않았거나 사용할 수 없는 이미지입니다.");
 
 
     private final HttpStatus httpStatus;
@@ -28,5 +30,7 @@ public enum ImageErrorCode implements ErrorCode {
         public static final String INVALID_IMAGE_COUNT = "INVALID_IMAGE_COUNT";
         public static final String NO_IMAGES_PROVIDED = "NO_IMAGES_PROVIDED";
         public static final String NOT_FOUND = "NOT_FOUND";
+        public static final String IMAGE_SIZE_EXCEEDED = "IMAGE_SIZE_EXCEEDED";
+        public static final String INVALID_UPLOADED_IMAGE = "INVALID_UPLOADED_IMAGE";
     }
 }
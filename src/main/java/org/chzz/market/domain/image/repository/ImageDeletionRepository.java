@@ -0,0 +1,7 @@
+package org.chzz.market.domain.image.repository;
+
+import org.chzz.market.domain.image.entity.ImageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long>, ImageDeletionRepositoryCustom {
+}
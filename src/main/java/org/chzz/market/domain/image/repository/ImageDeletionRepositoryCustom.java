@@ -0,0 +1,19 @@
+package org.chzz.market.domain.image.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.chzz.market.domain.image.entity.ImageDeletion;
+
+public interface ImageDeletionRepositoryCustom {
+    /**
+     * 오래된 순으로 삭제 요청에 행 잠금을 걸고 가져옵니다. 다른 노드가 잠근 행은 건너뜁니다(SKIP LOCKED).
+     *
+     * @param limit 최대 개수
+     */
+    List<ImageDeletion> lockOldest(int limit);
+
+    /**
+     * 삭제 요청들을 하나의 JDBC 배치로 저장합니다.
+     */
+    void insertAll(Collection<String> objectKeys);
+}
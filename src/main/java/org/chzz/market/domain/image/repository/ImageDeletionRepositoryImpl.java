@@ -0,0 +1,46 @@
+package org.chzz.market.domain.image.repository;
+
+import static org.chzz.market.common.util.QuerydslUtil.skipLocked;
+import static org.chzz.market.domain.image.entity.QImageDeletion.imageDeletion;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.image.entity.ImageDeletion;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 삭제 요청은 상품 삭제나 고아 이미지 정리에서 수백 건씩 들어오므로 JDBC 배치로 한 번에 넣습니다. 처리한 요청은 바로 지워 테이블이 작게 유지되므로 기본
+ * 키 순서로 잠가 가져갑니다.
+ */
+@RequiredArgsConstructor
+public class ImageDeletionRepositoryImpl implements ImageDeletionRepositoryCustom {
+    private static final String INSERT_SQL =
+            "INSERT INTO image_deletion (object_key, created_at, updated_at) VALUES (?, ?, ?)";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ImageDeletion> lockOldest(int limit) {
+        return skipLocked(jpaQueryFactory
+                .selectFrom(imageDeletion)
+                .orderBy(imageDeletion.id.asc())
+                .limit(limit))
+                .fetch();
+    }
+
+    @Override
+    public void insertAll(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, objectKeys.stream()
+                .map(objectKey -> new Object[]{objectKey, now, now})
+                .toList());
+    }
+}
@@ -1,7 +1,9 @@
 package org.chzz.market.domain.image.repository;
 
+import java.util.Collection;
 import org.chzz.market.domain.image.entity.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ImageRepository extends JpaRepository<Image, Long> {
+public interface ImageRepository extends JpaRepository<Image, Long>, ImageRepositoryCustom {
+    boolean existsByCdnPathIn(Collection<String> cdnPaths);
 }
@@ -0,0 +1,19 @@
+package org.chzz.market.domain.image.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.chzz.market.domain.image.entity.Image;
+
+public interface ImageRepositoryCustom {
+    /**
+     * 파생 이미지를 만들 차례가 된 이미지를 오래된 순으로 잠급니다. 다른 노드가 잠근 행은 건너뜁니다.
+     */
+    List<Image> lockDueForDerivatives(LocalDateTime now, int limit);
+
+    /**
+     * 주어진 CDN 경로 중 상품 이미지(원본, 썸네일, WebP)나 프로필 이미지로 쓰이고 있는 경로를 조회합니다.
+     */
+    Set<String> findReferencedPaths(Collection<String> cdnPaths);
+}
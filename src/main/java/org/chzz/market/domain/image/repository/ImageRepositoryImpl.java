@@ -0,0 +1,48 @@
+package org.chzz.market.domain.image.repository;
+
+import static org.chzz.market.common.util.QuerydslUtil.skipLocked;
+import static org.chzz.market.domain.image.entity.QImage.image;
+import static org.chzz.market.domain.user.entity.QUser.user;
+
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.image.entity.Image;
+
+@RequiredArgsConstructor
+public class ImageRepositoryImpl implements ImageRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Image> lockDueForDerivatives(LocalDateTime now, int limit) {
+        return skipLocked(jpaQueryFactory
+                .selectFrom(image)
+                .where(image.derivativeDueAt.loe(now))
+                .orderBy(image.derivativeDueAt.asc())
+                .limit(limit))
+                .fetch();
+    }
+
+    @Override
+    public Set<String> findReferencedPaths(Collection<String> cdnPaths) {
+        Set<String> referenced = new HashSet<>();
+        if (cdnPaths.isEmpty()) {
+            return referenced;
+        }
+        // 경로 컬럼마다 인덱스를 타도록 OR 로 묶지 않고 나누어 조회합니다.
+        for (StringPath path : List.of(image.cdnPath, image.thumbnailPath, image.webpPath)) {
+            referenced.addAll(jpaQueryFactory.select(path).from(image).where(path.in(cdnPaths)).fetch());
+        }
+        referenced.addAll(jpaQueryFactory
+                .select(user.profileImageUrl)
+                .from(user)
+                .where(user.profileImageUrl.in(cdnPaths))
+                .fetch());
+        return referenced;
+    }
+}
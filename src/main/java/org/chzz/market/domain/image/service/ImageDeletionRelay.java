@@ -0,0 +1,67 @@
+package org.chzz.market.domain.image.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.BatchRelayUtil;
+import org.chzz.market.domain.image.dto.ImageDeletionResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쌓인 S3 이미지 삭제 요청을 DeleteObjects 호출 단위로 지웁니다.
+ * <p>
+ * 이미지 삭제는 사용자가 기다리는 작업이 아니므로 알림보다 긴 주기로 돌며, 주기 사이에 쌓인 요청을 S3가 한 번에 받는 최대 개수인
+ * {@value ImageDeletionService#MAX_KEYS_PER_REQUEST}개씩 묶어 S3 요청 수를 줄입니다. 묶음 실패는 S3 장애나 권한 오류처럼 호출 전체의 문제이므로
+ * 한 건씩 다시 나누지 않고, 요청을 그대로 남겨 다음 주기에 다시 시도합니다. 일부 키만 거부된 경우는 {@code image.deletion.rejected}로 셉니다.
+ */
+@Slf4j
+@Component
+public class ImageDeletionRelay {
+    private final ImageDeletionService imageDeletionService;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+    private final Timer lagTimer;
+    private final Counter deletedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failureCounter;
+
+    public ImageDeletionRelay(ImageDeletionService imageDeletionService,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.deletion.batch-size:1000}") int batchSize,
+                              @Value("${image.deletion.max-batches-per-tick:10}") int maxBatchesPerTick) {
+        this.imageDeletionService = imageDeletionService;
+        this.batchSize = Math.min(batchSize, ImageDeletionService.MAX_KEYS_PER_REQUEST);
+        this.maxBatchesPerTick = maxBatchesPerTick;
+        this.lagTimer = Timer.builder("image.deletion.lag")
+                .description("삭제 요청이 저장된 뒤 S3에서 지워지기까지 걸린 시간 (묶음의 가장 오래된 요청 기준)")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("image.deletion.deleted")
+                .description("S3에서 지운 이미지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.deletion.rejected")
+                .description("S3가 삭제를 거부한 이미지 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("image.deletion.failures")
+                .description("이미지 삭제 요청 묶음 처리 실패 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${image.deletion.poll-ms:5000}")
+    public void tick() {
+        BatchRelayUtil.drain(batchSize, maxBatchesPerTick, imageDeletionService::purge, this::record, e -> {
+            failureCounter.increment();
+            log.error("이미지 삭제 요청 처리 중 오류가 발생했습니다. 요청은 남아 있어 다음 주기에 다시 시도합니다.", e);
+        });
+    }
+
+    private void record(ImageDeletionResult result) {
+        deletedCounter.increment(result.deletedCount());
+        rejectedCounter.increment(result.failedCount());
+        BatchRelayUtil.recordLag(lagTimer, result);
+        log.info("이미지 삭제 요청 {}건 처리 (삭제 {}건, 실패 {}건)",
+                result.entryCount(), result.deletedCount(), result.failedCount());
+    }
+}
@@ -0,0 +1,95 @@
+package org.chzz.market.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.dto.ImageDeletionResult;
+import org.chzz.market.domain.image.entity.ImageDeletion;
+import org.chzz.market.domain.image.repository.ImageDeletionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * S3 이미지 삭제 요청을 저장하고, 모인 요청을 DeleteObjects 한 번으로 지웁니다.
+ * <p>
+ * 상품 삭제, 이미지 교체, 등록 실패 정리, 고아 이미지 정리가 모두 이 대기열을 거칩니다. 상품 삭제처럼 업무 변경과 함께 저장되는 요청은 롤백되면 사라지므로
+ * 아직 쓰이는 이미지를 지우지 않고, 요청 스레드는 S3 응답을 기다리지 않습니다. 같은 키가 여러 번 들어와도 한 번만 지우고, 이미 없는 키를 지워도 S3는
+ * 성공으로 답하므로 같은 요청을 다시 처리해도 안전합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDeletionService {
+    // S3 DeleteObjects 요청 한 번에 담을 수 있는 최대 키 수
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final AmazonS3 amazonS3Client;
+
+    @Value("${cloud.aws.cloudfront.domain}")
+    private String cloudfrontDomain;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    /**
+     * CDN 경로의 이미지를 삭제 대기열에 넣습니다. 호출한 트랜잭션에 참여하므로 업무 변경과 함께 커밋되거나 롤백됩니다.
+     * <p>
+     * 이 서비스 버킷의 이미지가 아닌 경로(소셜 로그인 프로필 이미지 등)는 무시합니다.
+     */
+    @Transactional
+    public void enqueue(Collection<String> cdnPaths) {
+        String cdnPrefix = cloudfrontDomain + "/";
+        enqueueKeys(cdnPaths.stream()
+                .filter(Objects::nonNull)
+                .filter(cdnPath -> cdnPath.startsWith(cdnPrefix))
+                .map(cdnPath -> cdnPath.substring(cdnPrefix.length()))
+                .toList());
+    }
+
+    /**
+     * S3 객체 키를 삭제 대기열에 넣습니다.
+     */
+    @Transactional
+    public void enqueueKeys(Collection<String> objectKeys) {
+        imageDeletionRepository.insertAll(objectKeys.stream().distinct().toList());
+    }
+
+    /**
+     * 오래된 삭제 요청을 최대 limit 개(최대 {@value #MAX_KEYS_PER_REQUEST}개) 가져와 S3에서 한 번에 지우고 요청을 삭제합니다.
+     * <p>
+     * S3 호출 자체가 실패하면 트랜잭션이 롤백되어 다음 주기에 다시 시도합니다. 일부 키만 거부된 경우에는 로그를 남기고 요청을 함께 지우며, 남은 객체는 아무
+     * 곳에서도 참조하지 않으므로 {@link ImageOrphanSweeper}가 다시 삭제 대기열에 넣습니다.
+     */
+    @Transactional
+    public ImageDeletionResult purge(int limit) {
+        List<ImageDeletion> entries = imageDeletionRepository.lockOldest(Math.min(limit, MAX_KEYS_PER_REQUEST));
+        if (entries.isEmpty()) {
+            return ImageDeletionResult.EMPTY;
+        }
+        List<KeyVersion> keys = entries.stream()
+                .map(ImageDeletion::getObjectKey)
+                .distinct()
+                .map(KeyVersion::new)
+                .toList();
+        int failedCount = 0;
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            failedCount = e.getErrors().size();
+            e.getErrors().forEach(error ->
+                    log.warn("S3 이미지 삭제 실패, Key: {}, Code: {}, Message: {}",
+                            error.getKey(), error.getCode(), error.getMessage()));
+        }
+        imageDeletionRepository.deleteAllByIdInBatch(entries.stream().map(ImageDeletion::getId).toList());
+        return new ImageDeletionResult(entries.size(), keys.size() - failedCount, failedCount,
+                entries.get(0).getCreatedAt());
+    }
+}
@@ -0,0 +1,133 @@
+package org.chzz.market.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.dto.ImageDerivativeJob;
+import org.chzz.market.domain.image.dto.ImageDerivativePaths;
+import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+/**
+ * 업로드된 이미지로 목록용 썸네일과 WebP 파생 이미지를 만듭니다.
+ * <p>
+ * image 테이블이 작업 대기열입니다. {@link #claim(int)}은 차례가 된 이미지를 SKIP LOCKED 로 가져가며 일정 시간 동안 다른 노드가 가져가지 못하게
+ * 하고, 그 안에 {@link #complete(Long, ImageDerivativePaths)}가 호출되지 않으면(실패, 노드 종료) 다시 처리 대상이 됩니다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+    static final String THUMBNAIL_PREFIX = "thumbnails/";
+    static final String WEBP_PREFIX = "webp/";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageRepository imageRepository;
+    private final AmazonS3 amazonS3Client;
+    private final ImageResizer imageResizer;
+    private final Duration lease;
+    private final int thumbnailSize;
+    private final int webpMaxSize;
+    private final Timer resizeTimer;
+
+    @Value("${cloud.aws.cloudfront.domain}")
+    private String cloudfrontDomain;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public ImageDerivativeService(ImageRepository imageRepository,
+                                  AmazonS3 amazonS3Client,
+                                  ImageResizer imageResizer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${image.derivative.lease-seconds:300}") long leaseSeconds,
+                                  @Value("${image.derivative.thumbnail-size:320}") int thumbnailSize,
+                                  @Value("${image.derivative.webp-max-size:1280}") int webpMaxSize) {
+        this.imageRepository = imageRepository;
+        this.amazonS3Client = amazonS3Client;
+        this.imageResizer = imageResizer;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.thumbnailSize = thumbnailSize;
+        this.webpMaxSize = webpMaxSize;
+        this.resizeTimer = Timer.builder("image.derivative.resize")
+                .description("이미지 한 장을 디코딩해 썸네일과 WebP 이미지로 줄이고 인코딩하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 차례가 된 작업을 최대 {@code limit}개 가져갑니다.
+     */
+    @Transactional
+    public List<ImageDerivativeJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Image> images = imageRepository.lockDueForDerivatives(now, limit);
+        images.forEach(image -> image.leaseDerivatives(now.plus(lease)));
+        return images.stream().map(ImageDerivativeJob::from).toList();
+    }
+
+    /**
+     * 파생 이미지 경로를 기록하고 작업을 끝냅니다. 그 사이 이미지가 삭제되었으면 아무 것도 하지 않습니다.
+     */
+    @Transactional
+    public void complete(Long imageId, ImageDerivativePaths paths) {
+        imageRepository.findById(imageId)
+                .ifPresent(image -> image.completeDerivatives(paths.thumbnailPath(), paths.webpPath()));
+    }
+
+    /**
+     * 원본을 내려받아 파생 이미지를 만들고 S3에 올립니다. 이 서비스 버킷의 이미지가 아니거나 읽을 수 없는 이미지면 만들지 않습니다.
+     */
+    public ImageDerivativePaths generate(ImageDerivativeJob job) throws IOException {
+        String cdnPrefix = cloudfrontDomain + "/";
+        if (!job.cdnPath().startsWith(cdnPrefix)) {
+            return ImageDerivativePaths.NONE;
+        }
+        String key = job.cdnPath().substring(cdnPrefix.length());
+        BufferedImage source;
+        try (S3Object object = amazonS3Client.getObject(bucket, key);
+             InputStream inputStream = object.getObjectContent()) {
+            source = imageResizer.read(inputStream, Math.max(thumbnailSize, webpMaxSize));
+        }
+        if (source == null) {
+            log.info("파생 이미지를 만들 수 없는 이미지입니다. Key: {}", key);
+            return ImageDerivativePaths.NONE;
+        }
+
+        long startedAt = System.nanoTime();
+        byte[] thumbnail = imageResizer.toJpeg(imageResizer.thumbnail(source, thumbnailSize));
+        byte[] webp = imageResizer.supportsWebp() ? imageResizer.toWebp(imageResizer.fit(source, webpMaxSize)) : null;
+        resizeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        String baseName = StringUtils.stripFilenameExtension(key);
+        String thumbnailKey = THUMBNAIL_PREFIX + baseName + ".jpg";
+        upload(thumbnailKey, thumbnail, "image/jpeg");
+        if (webp == null) {
+            return new ImageDerivativePaths(cdnPrefix + thumbnailKey, null);
+        }
+        String webpKey = WEBP_PREFIX + baseName + ".webp";
+        upload(webpKey, webp, "image/webp");
+        return new ImageDerivativePaths(cdnPrefix + thumbnailKey, cdnPrefix + webpKey);
+    }
+
+    private void upload(String key, byte[] content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(CACHE_CONTROL);
+        amazonS3Client.putObject(bucket, key, new ByteArrayInputStream(content), metadata);
+    }
+}
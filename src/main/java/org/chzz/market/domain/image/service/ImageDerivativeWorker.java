@@ -0,0 +1,99 @@
+package org.chzz.market.domain.image.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.dto.ImageDerivativeJob;
+import org.chzz.market.domain.image.dto.ImageDerivativePaths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파생 이미지 생성 작업을 주기적으로 가져와 정해진 수의 작업 스레드에서 처리합니다.
+ * <p>
+ * 이미지 변환은 CPU를 많이 쓰므로 작업 스레드 수로 동시 처리량을 제한하고, 스레드가 처리할 수 있는 만큼만 작업을 가져갑니다. 처리하지 못한 작업은 DB에
+ * 남아 있다가 다음 주기나 다른 노드에서 처리되고, 정해진 횟수만큼 실패한 작업은 포기하며 목록에서는 원본 이미지를 사용합니다.
+ */
+@Slf4j
+@Component
+public class ImageDerivativeWorker {
+    private final ImageDerivativeService imageDerivativeService;
+    private final ThreadPoolExecutor workers;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failureCounter;
+
+    public ImageDerivativeWorker(ImageDerivativeService imageDerivativeService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${image.derivative.workers:2}") int workerCount,
+                                 @Value("${image.derivative.max-attempts:3}") int maxAttempts) {
+        this.imageDerivativeService = imageDerivativeService;
+        this.capacity = workerCount * 2;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(capacity));
+        this.maxAttempts = maxAttempts;
+        this.generatedCounter = resultCounter(meterRegistry, "generated");
+        this.skippedCounter = resultCounter(meterRegistry, "skipped");
+        this.failureCounter = resultCounter(meterRegistry, "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${image.derivative.poll-ms:1000}")
+    public void tick() {
+        int available = capacity - workers.getQueue().size() - workers.getActiveCount();
+        if (available <= 0) {
+            return;
+        }
+        List<ImageDerivativeJob> jobs;
+        try {
+            jobs = imageDerivativeService.claim(available);
+        } catch (Exception e) {
+            log.error("파생 이미지 생성 작업을 가져오지 못했습니다.", e);
+            return;
+        }
+        jobs.forEach(job -> workers.execute(() -> process(job)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    void process(ImageDerivativeJob job) {
+        try {
+            ImageDerivativePaths paths = imageDerivativeService.generate(job);
+            imageDerivativeService.complete(job.imageId(), paths);
+            (paths.thumbnailPath() == null ? skippedCounter : generatedCounter).increment();
+        } catch (Exception e) {
+            failureCounter.increment();
+            if (job.attempts() < maxAttempts) {
+                log.warn("파생 이미지 생성 실패, 다시 시도합니다. ImageId: {} ({}회)", job.imageId(), job.attempts(), e);
+                return;
+            }
+            log.error("파생 이미지 생성을 포기합니다. ImageId: {} ({}회)", job.imageId(), job.attempts(), e);
+            giveUp(job);
+        }
+    }
+
+    private void giveUp(ImageDerivativeJob job) {
+        try {
+            imageDerivativeService.complete(job.imageId(), ImageDerivativePaths.NONE);
+        } catch (Exception e) {
+            log.error("파생 이미지 생성 작업을 끝내지 못했습니다. ImageId: {}", job.imageId(), e);
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.derivative.processed")
+                .description("처리한 파생 이미지 생성 작업 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,209 @@
+package org.chzz.market.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 버킷에 남아 있지만 어디에서도 쓰이지 않는 이미지를 찾아 삭제 대기열에 넣습니다.
+ * <p>
+ * 이 서비스가 쓰는 위치만 훑습니다. 서버가 올린 이미지가 있는 버킷 최상위, 클라이언트가 직접 올린 이미지가 있는 {@code {userId}/}, 파생 이미지가 있는
+ * {@code thumbnails/}와 {@code webp/} 아래만 보고, 다른 접두사의 객체는 건드리지 않습니다. 페이지마다 상품 이미지(원본, 썸네일, WebP)와 프로필
+ * 이미지 경로를 한 번에 조회하고, 조회된 URL 경로에서 뽑은 S3 키와 비교해 참조되지 않는 키만 골라냅니다. 올린 뒤 아직 등록되지 않았거나 파생 이미지
+ * 경로를 기록하기 전인 객체를 지우지 않도록 유예 시간보다 오래된 객체만 대상으로 합니다.
+ * <p>
+ * 기본값은 보고 모드로, 고아로 판단한 객체를 지표와 로그로만 남깁니다. 결과를 확인한 뒤 {@code image.orphan-sweep.delete-enabled}를 켜야 삭제
+ * 대기열에 넣습니다. 한 주기에 한 노드만 정리하도록 Redis 키로 주기를 선점합니다.
+ */
+@Slf4j
+@Component
+public class ImageOrphanSweeper {
+    private static final String LEASE_KEY = "image:orphan-sweep:lease";
+    private static final String DELIMITER = "/";
+    private static final Pattern USER_PREFIX = Pattern.compile("\\d+/");
+    private static final List<String> DERIVATIVE_PREFIXES =
+            List.of(ImageDerivativeService.THUMBNAIL_PREFIX, ImageDerivativeService.WEBP_PREFIX);
+    private static final int REPORT_SAMPLE_SIZE = 10;
+
+    private final AmazonS3 amazonS3Client;
+    private final ImageRepository imageRepository;
+    private final ImageDeletionService imageDeletionService;
+    private final StringRedisTemplate redisTemplate;
+    private final int pageSize;
+    private final Duration gracePeriod;
+    private final Duration interval;
+    private final boolean deleteEnabled;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Timer sweepTimer;
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter enqueuedCounter;
+
+    @Value("${cloud.aws.cloudfront.domain}")
+    private String cloudfrontDomain;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public ImageOrphanSweeper(AmazonS3 amazonS3Client,
+                              ImageRepository imageRepository,
+                              ImageDeletionService imageDeletionService,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.orphan-sweep.page-size:1000}") int pageSize,
+                              @Value("${image.orphan-sweep.grace-hours:24}") long graceHours,
+                              @Value("${image.orphan-sweep.interval-ms:21600000}") long intervalMs,
+                              @Value("${image.orphan-sweep.delete-enabled:false}") boolean deleteEnabled) {
+        this.amazonS3Client = amazonS3Client;
+        this.imageRepository = imageRepository;
+        this.imageDeletionService = imageDeletionService;
+        this.redisTemplate = redisTemplate;
+        this.pageSize = Math.min(pageSize, ImageDeletionService.MAX_KEYS_PER_REQUEST);
+        this.gracePeriod = Duration.ofHours(graceHours);
+        this.interval = Duration.ofMillis(intervalMs);
+        this.deleteEnabled = deleteEnabled;
+        this.sweepTimer = Timer.builder("image.orphan-sweep.duration")
+                .description("고아 이미지 정리 1회 소요 시간")
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("image.orphan-sweep.scanned")
+                .description("고아 이미지 정리에서 조회한 S3 객체 수")
+                .register(meterRegistry);
+        this.orphanCounter = Counter.builder("image.orphan-sweep.orphans")
+                .description("참조되지 않는 것으로 판단한 S3 객체 수")
+                .register(meterRegistry);
+        this.enqueuedCounter = Counter.builder("image.orphan-sweep.enqueued")
+                .description("참조되지 않아 삭제 대기열에 넣은 S3 객체 수. 보고 모드에서는 늘지 않습니다.")
+                .register(meterRegistry);
+    }
+
+    @Async("threadPoolTaskExecutor")
+    @Scheduled(initialDelayString = "${image.orphan-sweep.interval-ms:21600000}",
+            fixedDelayString = "${image.orphan-sweep.interval-ms:21600000}")
+    public void sweepPeriodically() {
+        try {
+            if (!tryLease()) {
+                return;
+            }
+            int orphans = sweep();
+            log.info("고아 이미지 정리 완료 - 참조되지 않는 객체 수: {}, 삭제 대기열 등록: {}", orphans, deleteEnabled);
+        } catch (Exception e) {
+            log.error("고아 이미지 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 유예 시간보다 오래되었고 참조되지 않는 객체를 찾아 보고하고, 삭제가 켜져 있으면 삭제 대기열에 넣습니다. 이미 정리 중이면 아무 것도 하지
+     * 않습니다.
+     *
+     * @return 참조되지 않는 객체 수
+     */
+    public int sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return sweepTimer.record(() -> sweepBefore(new Date(System.currentTimeMillis() - gracePeriod.toMillis())));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int sweepBefore(Date cutoff) {
+        // 최상위는 하위 폴더로 내려가지 않고 훑어 서버가 올린 이미지와 사용자별 접두사만 얻습니다.
+        List<String> rootPrefixes = new ArrayList<>();
+        int total = scan(new ListObjectsV2Request().withDelimiter(DELIMITER), cutoff, rootPrefixes);
+        List<String> prefixes = new ArrayList<>(DERIVATIVE_PREFIXES);
+        rootPrefixes.stream()
+                .filter(prefix -> USER_PREFIX.matcher(prefix).matches())
+                .forEach(prefixes::add);
+        for (String prefix : prefixes) {
+            total += scan(new ListObjectsV2Request().withPrefix(prefix), cutoff, new ArrayList<>());
+        }
+        return total;
+    }
+
+    private int scan(ListObjectsV2Request request, Date cutoff, List<String> commonPrefixes) {
+        request.withBucketName(bucket).withMaxKeys(pageSize);
+        int total = 0;
+        ListObjectsV2Result page;
+        do {
+            page = amazonS3Client.listObjectsV2(request);
+            scannedCounter.increment(page.getObjectSummaries().size());
+            commonPrefixes.addAll(page.getCommonPrefixes());
+            total += handleOrphans(page.getObjectSummaries().stream()
+                    .filter(summary -> summary.getLastModified().before(cutoff))
+                    .map(S3ObjectSummary::getKey)
+                    .toList());
+            request.setContinuationToken(page.getNextContinuationToken());
+        } while (page.isTruncated());
+        return total;
+    }
+
+    private int handleOrphans(List<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return 0;
+        }
+        String cdnPrefix = cloudfrontDomain + "/";
+        List<String> cdnPaths = objectKeys.stream().map(key -> cdnPrefix + key).toList();
+        Set<String> referencedKeys = imageRepository.findReferencedPaths(cdnPaths).stream()
+                .map(this::objectKey)
+                .collect(Collectors.toSet());
+        List<String> orphans = objectKeys.stream()
+                .filter(key -> !referencedKeys.contains(key))
+                .toList();
+        orphanCounter.increment(orphans.size());
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        if (deleteEnabled) {
+            imageDeletionService.enqueueKeys(orphans);
+            enqueuedCounter.increment(orphans.size());
+        } else {
+            log.info("참조되지 않는 객체 {}개를 찾았습니다(보고 모드). 예: {}", orphans.size(),
+                    orphans.subList(0, Math.min(REPORT_SAMPLE_SIZE, orphans.size())));
+        }
+        return orphans.size();
+    }
+
+    /**
+     * CDN URL 경로에서 CloudFront 도메인의 경로를 뺀 부분을 S3 키로 봅니다. 키를 뽑지 못하면 참조 중인 객체를 고아로 볼 수 있으므로 정리를
+     * 멈춥니다.
+     */
+    private String objectKey(String cdnUrl) {
+        try {
+            String basePath = new URL(cloudfrontDomain).getPath();
+            String path = new URL(cdnUrl).getPath();
+            return path.startsWith(basePath + "/") ? path.substring(basePath.length() + 1) : null;
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("이미지 경로에서 S3 키를 찾을 수 없습니다: " + cdnUrl, e);
+        }
+    }
+
+    /**
+     * 주기 동안 유지되는 키를 먼저 만든 노드만 정리합니다. 키를 지우지 않으므로 정리가 일찍 끝나도 다음 주기까지 다른 노드가 다시 훑지 않습니다.
+     */
+    private boolean tryLease() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, bucket, interval));
+    }
+}
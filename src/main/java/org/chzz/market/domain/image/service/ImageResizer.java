@@ -0,0 +1,251 @@
+package org.chzz.market.domain.image.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+/**
+ * 파생 이미지를 만들기 위해 이미지를 읽고, 줄이고, 인코딩합니다.
+ * <p>
+ * 휴대폰 사진은 픽셀을 센서 방향 그대로 두고 EXIF Orientation 태그로 회전을 알려 주므로, 읽을 때 태그대로 돌려 두어야 썸네일이 눕거나 엉뚱한
+ * 곳이 잘리지 않습니다. WebP 인코딩은 JDK에 없어 webp-imageio 플러그인이 등록하는 인코더를 쓰며, 플러그인의 네이티브 라이브러리를 불러올 수
+ * 없는 환경에서는 WebP 를 만들지 않습니다.
+ */
+@Component
+public class ImageResizer {
+    // 이보다 큰 이미지는 디코딩에 너무 많은 메모리가 필요하므로 읽지 않습니다.
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final float QUALITY = 0.8f;
+    private static final String WEBP = "webp";
+    private static final String JPEG_METADATA = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1 = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private volatile Boolean webpSupported;
+
+    /**
+     * 긴 변이 {@code minLongestSide} 아래로 내려가지 않는 만큼 건너뛰며 읽어 디코딩에 드는 메모리와 시간을 줄입니다. EXIF Orientation 이 있으면
+     * 그 방향으로 돌린 이미지를 반환합니다.
+     *
+     * @return 읽을 수 없는 형식이거나 너무 큰 이미지면 null
+     */
+    public BufferedImage read(InputStream inputStream, int minLongestSide) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / minLongestSide);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return orient(image, orientation(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 {@code size} x {@code size} 썸네일을 만듭니다.
+     */
+    public BufferedImage thumbnail(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+        return draw(source.getSubimage(x, y, side, side), size, size);
+    }
+
+    /**
+     * 비율을 유지하며 긴 변이 {@code maxSide} 이하가 되도록 줄입니다. 이미 작으면 크기를 유지합니다.
+     */
+    public BufferedImage fit(BufferedImage source, int maxSide) {
+        double scale = Math.min(1.0, (double) maxSide / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        return draw(source, width, height);
+    }
+
+    public byte[] toJpeg(BufferedImage image) throws IOException {
+        return encode(image, "jpeg");
+    }
+
+    /**
+     * WebP 인코더가 등록되어 있고 실제로 인코딩할 수 있는지 처음 한 번만 확인합니다.
+     */
+    public boolean supportsWebp() {
+        Boolean supported = webpSupported;
+        if (supported == null) {
+            supported = probeWebp();
+            webpSupported = supported;
+        }
+        return supported;
+    }
+
+    public byte[] toWebp(BufferedImage image) throws IOException {
+        return encode(image, WEBP);
+    }
+
+    private static boolean probeWebp() {
+        if (!ImageIO.getImageWritersByFormatName(WEBP).hasNext()) {
+            return false;
+        }
+        try {
+            encode(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), WEBP);
+            return true;
+        } catch (IOException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * JPEG 의 EXIF(APP1) 세그먼트에서 Orientation 값을 읽습니다. 없거나 읽을 수 없으면 회전하지 않는 1을 반환합니다.
+     */
+    private static int orientation(ImageReader reader) {
+        IIOMetadata metadata;
+        try {
+            metadata = reader.getImageMetadata(0);
+        } catch (IOException e) {
+            return 1;
+        }
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA)) {
+            return 1;
+        }
+        Node markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA))
+                .getElementsByTagName("markerSequence").item(0);
+        for (Node marker = markers == null ? null : markers.getFirstChild(); marker != null;
+             marker = marker.getNextSibling()) {
+            if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                    && String.valueOf(APP1).equals(node.getAttribute("MarkerTag"))
+                    && node.getUserObject() instanceof byte[] exif) {
+                return exifOrientation(exif);
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" 뒤의 TIFF 헤더에서 첫 IFD 를 따라가 Orientation 태그를 찾습니다.
+    private static int exifOrientation(byte[] exif) {
+        if (exif.length < 14 || !"Exif".equals(new String(exif, 0, 4, StandardCharsets.US_ASCII))) {
+            return 1;
+        }
+        try {
+            ByteBuffer tiff = ByteBuffer.wrap(exif, 6, exif.length - 6).slice();
+            tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff.getInt(4);
+            int entries = tiff.getShort(ifd) & 0xFFFF;
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                    int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                    return orientation >= 1 && orientation <= 8 ? orientation : 1;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시하고 원래 방향으로 둡니다.
+        }
+        return 1;
+    }
+
+    /**
+     * EXIF Orientation(1~8) 대로 뒤집거나 돌려 똑바로 선 이미지를 만듭니다.
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swapped = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapped ? h : w, swapped ? w : h,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 투명 배경은 흰색으로 채워 알파 채널이 없는 RGB 이미지로 그립니다.
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더가 없습니다: " + format);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
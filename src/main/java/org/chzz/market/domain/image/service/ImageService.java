@@ -1,38 +1,72 @@
 package org.chzz.market.domain.image.service;
 
-import static org.chzz.market.domain.image.error.ImageErrorCode.IMAGE_DELETE_FAILED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.IMAGE_SIZE_EXCEEDED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.IMAGE_UPLOAD_FAILED;
 import static org.chzz.market.domain.image.error.ImageErrorCode.INVALID_IMAGE_EXTENSION;
+import static org.chzz.market.domain.image.error.ImageErrorCode.INVALID_UPLOADED_IMAGE;
+import static org.chzz.market.domain.image.error.ImageErrorCode.MAX_IMAGE_COUNT_EXCEEDED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.NO_IMAGES_PROVIDED;
 
-import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
-import java.net.MalformedURLException;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import jakarta.annotation.PreDestroy;
 import java.net.URL;
-import java.util.Arrays;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.dto.ImageUploadUrlRequest.ImageFile;
+import org.chzz.market.domain.image.dto.ImageUploadUrlResponse;
 import org.chzz.market.domain.image.entity.Image;
 import org.chzz.market.domain.image.error.exception.ImageException;
 import org.chzz.market.domain.image.repository.ImageRepository;
 import org.chzz.market.domain.product.entity.Product;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ImageService {
+    private static final int MAX_IMAGE_COUNT = 5;
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp");
+
     private final ImageUploader imageUploader;
     private final ImageRepository imageRepository;
     private final AmazonS3 amazonS3Client;
+    private final ImageDeletionService imageDeletionService;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final long uploadTimeoutMs;
+    private final long maxImageSize;
+    private final Duration uploadUrlTtl;
 
     @Value("${cloud.aws.cloudfront.domain}")
     private String cloudfrontDomain;
@@ -40,21 +74,156 @@ public class ImageService {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public ImageService(ImageUploader imageUploader,
+                        ImageRepository imageRepository,
+                        AmazonS3 amazonS3Client,
+                        ImageDeletionService imageDeletionService,
+                        @Value("${image.upload.workers:10}") int uploadWorkers,
+                        @Value("${image.upload.timeout-ms:10000}") long uploadTimeoutMs,
+                        @Value("${image.upload.max-size-bytes:20971520}") long maxImageSize,
+                        @Value("${image.upload.url-ttl-seconds:600}") long uploadUrlTtlSeconds) {
+        this.imageUploader = imageUploader;
+        this.imageRepository = imageRepository;
+        this.amazonS3Client = amazonS3Client;
+        this.imageDeletionService = imageDeletionService;
+        // 대기열이 가득 차면 요청 스레드가 S3 전송에 묶이지 않도록 직접 올리지 않고 업로드 실패로 응답합니다.
+        this.uploadExecutor = new ThreadPoolExecutor(uploadWorkers, uploadWorkers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(uploadWorkers * MAX_IMAGE_COUNT), new ThreadPoolExecutor.AbortPolicy());
+        this.uploadTimeoutMs = uploadTimeoutMs;
+        this.maxImageSize = maxImageSize;
+        this.uploadUrlTtl = Duration.ofSeconds(uploadUrlTtlSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     /**
-     * 여러 이미지 파일 업로드 및 CDN 경로 리스트 반환
+     * 여러 이미지 파일을 병렬로 업로드하고 CDN 경로 리스트를 요청 순서대로 반환합니다.
+     * <p>
+     * DB 커넥션을 잡지 않도록 트랜잭션 밖에서 호출합니다. 업로드마다 제한 시간이 있고, 하나라도 실패하면 이미 올라간 이미지를 지운 뒤 예외를 던지므로
+     * 전부 올라가거나 하나도 남지 않습니다. 업로드 대기열이 가득 차 있어도 같은 방식으로 실패합니다.
      */
-    public List<String> uploadImages(List<MultipartFile> images) {//TODO 2024 10 07 23:18:22 : 이미지 벌크 업로드 방법 강구
-        List<String> uploadedUrls = images.stream()
-                .map(this::uploadImage)
-                .toList();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> uploadImages(List<MultipartFile> images) {
+        validateImageCount(images);
+        List<CompletableFuture<String>> uploads = new ArrayList<>(images.size());
+        try {
+            for (MultipartFile image : images) {
+                uploads.add(CompletableFuture.supplyAsync(() -> uploadImage(image), uploadExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            discardUploads(uploads);
+            log.warn("이미지 업로드 대기열이 가득 차 업로드를 거절합니다.");
+            throw new ImageException(IMAGE_UPLOAD_FAILED);
+        }
+        try {
+            // 원본 future 에 시간 제한을 걸면 늦게 끝난 업로드의 결과를 잃으므로 복사본에 겁니다.
+            CompletableFuture.allOf(uploads.stream()
+                            .map(upload -> upload.copy().orTimeout(uploadTimeoutMs, TimeUnit.MILLISECONDS))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            discardUploads(uploads);
+            if (e.getCause() instanceof ImageException imageException) {
+                throw imageException;
+            }
+            log.error("이미지 업로드 실패", e.getCause());
+            throw new ImageException(IMAGE_UPLOAD_FAILED);
+        }
+        List<String> uploadedUrls = uploads.stream().map(CompletableFuture::join).toList();
         log.info("업로드 된 이미지 리스트: {}", uploadedUrls);
         return uploadedUrls;
     }
 
+    /**
+     * 클라이언트가 S3에 직접 올릴 미리 서명된 PUT URL을 발급합니다.
+     * <p>
+     * 키는 사용자 ID로 시작해 다른 사용자의 이미지를 등록에 쓸 수 없고, Content-Type 과 Content-Length 가 서명에 포함되어 다른 형식이나 크기로는
+     * 올릴 수 없습니다.
+     */
+    public List<ImageUploadUrlResponse> createUploadUrls(Long userId, List<ImageFile> images) {
+        validateImageCount(images);
+        Date expiration = new Date(System.currentTimeMillis() + uploadUrlTtl.toMillis());
+        return images.stream()
+                .map(image -> createUploadUrl(userId, image, expiration))
+                .toList();
+    }
+
+    /**
+     * 클라이언트가 직접 올린 이미지가 S3에 있는지 HEAD 요청으로 병렬 확인하고 CDN 경로 리스트를 요청 순서대로 반환합니다.
+     * <p>
+     * 다른 사용자의 키, 이미 다른 상품에 쓰인 키, 올라가지 않았거나 최대 크기를 넘는 이미지는 사용할 수 없습니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> confirmUploadedImages(Long userId, List<String> objectKeys) {
+        validateImageCount(objectKeys);
+        String ownerPrefix = userId + "/";
+        if (objectKeys.stream().distinct().count() != objectKeys.size()
+                || objectKeys.stream().anyMatch(key -> key == null || !key.startsWith(ownerPrefix))) {
+            throw new ImageException(INVALID_UPLOADED_IMAGE);
+        }
+        List<CompletableFuture<String>> checks;
+        try {
+            checks = objectKeys.stream()
+                    .map(key -> CompletableFuture.supplyAsync(() -> verifyUploadedImage(key), uploadExecutor)
+                            .orTimeout(uploadTimeoutMs, TimeUnit.MILLISECONDS))
+                    .toList();
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 업로드 대기열이 가득 차 업로드된 이미지 확인을 거절합니다.");
+            throw new ImageException(IMAGE_UPLOAD_FAILED);
+        }
+        List<String> cdnPaths;
+        try {
+            cdnPaths = checks.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ImageException imageException) {
+                throw imageException;
+            }
+            log.error("업로드된 이미지 확인 실패", e.getCause());
+            throw new ImageException(IMAGE_UPLOAD_FAILED);
+        }
+        if (imageRepository.existsByCdnPathIn(cdnPaths)) {
+            throw new ImageException(INVALID_UPLOADED_IMAGE);
+        }
+        return cdnPaths;
+    }
+
+    /**
+     * 상품 수정 요청의 이미지 키(순서 → S3 키)를 확인하고 순서 → CDN 경로로 반환합니다. 키가 없으면 S3에 요청하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<Integer, String> confirmUploadedImages(Long userId, Map<Integer, String> imageKeys) {
+        if (imageKeys.isEmpty()) {
+            return Map.of();
+        }
+        List<Integer> sequences = List.copyOf(imageKeys.keySet());
+        List<String> cdnPaths = confirmUploadedImages(userId, sequences.stream().map(imageKeys::get).toList());
+        return IntStream.range(0, sequences.size())
+                .boxed()
+                .collect(Collectors.toMap(sequences::get, cdnPaths::get));
+    }
+
+    /**
+     * 상품 수정 시 트랜잭션 전에 확인해 둔 CDN 경로(순서 → CDN 경로)로 이미지 Entity를 저장
+     */
+    @Transactional
+    public List<Image> saveUploadedImages(Product product, Map<Integer, String> cdnPaths) {
+        List<Image> images = cdnPaths.entrySet().stream()
+                .map(entry -> Image.builder()
+                        .sequence(entry.getKey())
+                        .cdnPath(entry.getValue())
+                        .product(product)
+                        .build())
+                .toList();
+        imageRepository.saveAll(images);
+        return images;
+    }
+
     /**
      * 단일 이미지 파일 업로드 및 CDN 전체경로 리스트 반환
      */
-    //@Transactional(propagation = Propagation.NOT_SUPPORTED)// 써야하려나? 아니면 이벤트기반?
     public String uploadImage(MultipartFile image) {
         String uniqueFileName = createUniqueFileName(Objects.requireNonNull(image.getOriginalFilename()));
         String s3Key = imageUploader.uploadImage(image, uniqueFileName);
@@ -75,26 +244,6 @@ public class ImageService {
         return images;
     }
 
-    /**
-     * 상품 수정 시 새로운 이미지 생성 및 저장
-     */
-    @Transactional
-    public List<Image> uploadSequentialImages(Product product, Map<String, MultipartFile> newImages) {
-        List<Image> images = newImages.entrySet().stream()
-                .map(entry -> {
-                    int sequence = Integer.parseInt(entry.getKey());
-                    MultipartFile multipartFile = entry.getValue();
-                    String cdnPath = uploadImage(multipartFile);
-                    return Image.builder()
-                            .sequence(sequence)
-                            .cdnPath(cdnPath)
-                            .product(product)
-                            .build();
-                }).toList();
-        imageRepository.saveAll(images);
-        return images;
-    }
-
     /**
      * 기존 이미지의 시퀀스를 업데이트하는 메서드
      */
@@ -110,25 +259,79 @@ public class ImageService {
     }
 
     /**
-     * 업로드된 이미지 삭제
+     * 업로드된 이미지를 삭제 대기열에 넣습니다. 호출한 트랜잭션이 커밋된 뒤 S3에서 묶음으로 지워집니다.
      */
+    @Transactional
     public void deleteUploadImages(List<String> fullImageUrls) {
-        fullImageUrls.forEach(this::deleteImage);
+        imageDeletionService.enqueue(fullImageUrls);
+    }
+
+    /**
+     * 상품 이미지와 파생 이미지(썸네일, WebP)를 삭제 대기열에 넣습니다.
+     */
+    @Transactional
+    public void deleteImages(List<Image> images) {
+        imageDeletionService.enqueue(images.stream()
+                .flatMap(image -> Stream.of(image.getCdnPath(), image.getThumbnailPath(), image.getWebpPath()))
+                .filter(Objects::nonNull)
+                .toList());
     }
 
     /**
-     * 단일 이미지 삭제
+     * 등록에 실패해 쓰이지 않게 된 이미지를 지웁니다. 보상 처리이므로 삭제에 실패해도 예외를 던지지 않습니다.
      */
-    private void deleteImage(String cdnPath) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discardUploadedImages(List<String> fullImageUrls) {
+        try {
+            imageDeletionService.enqueue(fullImageUrls);
+        } catch (Exception e) {
+            log.warn("사용되지 않는 이미지 삭제 요청 실패: {}", fullImageUrls, e);
+        }
+    }
+
+    /**
+     * 업로드에 실패했을 때 나머지 업로드를 정리합니다. 끝난 업로드는 바로 지우고, 제한 시간이 지나 아직 진행 중인 업로드는 끝나는 대로 지웁니다.
+     */
+    private void discardUploads(List<CompletableFuture<String>> uploads) {
+        uploads.forEach(upload -> upload.thenAccept(cdnPath -> discardUploadedImages(List.of(cdnPath))));
+    }
+
+    private ImageUploadUrlResponse createUploadUrl(Long userId, ImageFile image, Date expiration) {
+        if (image.size() > maxImageSize) {
+            throw new ImageException(IMAGE_SIZE_EXCEEDED);
+        }
+        String objectKey = userId + "/" + createUniqueFileName(image.fileName());
+        String contentType = CONTENT_TYPES.get(StringUtils.getFilenameExtension(objectKey));
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, objectKey, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(image.size()));
+        URL uploadUrl = amazonS3Client.generatePresignedUrl(request);
+        return new ImageUploadUrlResponse(objectKey, uploadUrl.toString(), contentType,
+                LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+    }
+
+    private String verifyUploadedImage(String objectKey) {
         try {
-            URL url = new URL(cdnPath);
-            String path = url.getPath();
-            String key = path.substring(1);
-
-            log.info("S3에서 객체 삭제 시도, Key : {}", key);
-            amazonS3Client.deleteObject(bucket, key);
-        } catch (AmazonServiceException | MalformedURLException e) {
-            throw new ImageException(IMAGE_DELETE_FAILED);
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, objectKey);
+            if (metadata.getContentLength() > maxImageSize) {
+                throw new ImageException(IMAGE_SIZE_EXCEEDED);
+            }
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new ImageException(INVALID_UPLOADED_IMAGE);
+            }
+            throw e;
+        }
+        return cloudfrontDomain + "/" + objectKey;
+    }
+
+    private void validateImageCount(List<?> images) {
+        if (images == null || images.isEmpty()) {
+            throw new ImageException(NO_IMAGES_PROVIDED);
+        }
+        if (images.size() > MAX_IMAGE_COUNT) {
+            throw new ImageException(MAX_IMAGE_COUNT_EXCEEDED);
         }
     }
 
@@ -143,15 +346,14 @@ public class ImageService {
             throw new ImageException(INVALID_IMAGE_EXTENSION);
         }
 
-        return uuid + "." + extension;
+        return uuid + "." + extension.toLowerCase();
     }
 
     /**
      * 파일 확장자 검증
      */
     private boolean isValidFileExtension(String extension) {
-        List<String> allowedExtensions = Arrays.asList("jpg", "jpeg", "png", "webp");
-        return allowedExtensions.contains(extension.toLowerCase());
+        return CONTENT_TYPES.containsKey(extension.toLowerCase());
     }
 }
 
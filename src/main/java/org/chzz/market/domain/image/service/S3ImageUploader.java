@@ -2,32 +2,56 @@ package org.chzz.market.domain.image.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.chzz.market.domain.image.error.ImageErrorCode;
 import org.chzz.market.domain.image.error.exception.ImageException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 이미지를 한 번의 요청으로 S3에 올립니다. 크기가 기준 이상인 이미지는 {@link S3MultipartImageUploader}로 나눠 올립니다.
+ * <p>
+ * 요청마다 SDK 실행 제한 시간을 걸어, 제한 시간이 지나면 기다리는 쪽만 포기하는 것이 아니라 S3 요청 자체를 끊고 작업 스레드를 돌려받습니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@Primary
 public class S3ImageUploader implements ImageUploader {
     private final AmazonS3 amazonS3Client;
+    private final S3MultipartImageUploader multipartImageUploader;
+    private final long multipartThreshold;
+    private final int requestTimeoutMs;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public S3ImageUploader(AmazonS3 amazonS3Client,
+                           S3MultipartImageUploader multipartImageUploader,
+                           @Value("${image.upload.multipart.threshold-bytes:10485760}") long multipartThreshold,
+                           @Value("${image.upload.timeout-ms:10000}") int requestTimeoutMs) {
+        this.amazonS3Client = amazonS3Client;
+        this.multipartImageUploader = multipartImageUploader;
+        this.multipartThreshold = multipartThreshold;
+        this.requestTimeoutMs = requestTimeoutMs;
+    }
+
     @Override
     public String uploadImage(MultipartFile image, String fileName) {
+        if (image.getSize() >= multipartThreshold) {
+            return multipartImageUploader.uploadImage(image, fileName);
+        }
         try {
             ObjectMetadata metadata = new ObjectMetadata();
             metadata.setContentLength(image.getSize());
             metadata.setContentType(image.getContentType());
 
-            amazonS3Client.putObject(bucket, fileName, image.getInputStream(), metadata);
+            PutObjectRequest request = new PutObjectRequest(bucket, fileName, image.getInputStream(), metadata);
+            request.setSdkClientExecutionTimeout(requestTimeoutMs);
+            amazonS3Client.putObject(request);
 
             return fileName; // CDN 경로 생성 (전체 URL 아닌 경로만)
         } catch (IOException e) {
@@ -0,0 +1,161 @@
+package org.chzz.market.domain.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.image.error.ImageErrorCode;
+import org.chzz.market.domain.image.error.exception.ImageException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 큰 이미지를 S3 멀티파트 업로드로 나눠 올립니다.
+ * <p>
+ * 업로드된 파일을 임시 파일로 옮긴 뒤, 각 조각은 그 파일의 오프셋과 크기만 지정해 작업 스레드에서 병렬로 올리고 다 올라가면 업로드를 완료합니다.
+ * SDK 가 파일에서 바로 읽어 보내므로 조각을 힙에 복사하지 않고, 업로드마다 동시에 올리는 조각 수만 제한합니다. 조각 하나라도 실패하면 남은 조각을
+ * 올리지 않고 멀티파트 업로드를 취소해 S3에 조각이 남지 않게 합니다.
+ * <p>
+ * 조각 요청마다 SDK 실행 제한 시간을 걸어 멈춘 조각 전송이 작업 스레드를 계속 잡고 있지 않게 합니다.
+ * <p>
+ * 최대 이미지 크기(기본 20MB)에서도 병렬로 올릴 조각이 생기도록 조각 크기는 S3 최소값인 5MB, 멀티파트 기준은 조각 두 개인 10MB를 기본으로 합니다.
+ */
+@Slf4j
+@Service
+public class S3MultipartImageUploader implements ImageUploader {
+    // S3 는 마지막 조각을 제외하고 5MB 보다 작은 조각을 받지 않습니다.
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3Client;
+    private final int partSize;
+    private final int partsInFlight;
+    private final int requestTimeoutMs;
+    private final ExecutorService partUploaders;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3MultipartImageUploader(AmazonS3 amazonS3Client,
+                                    @Value("${image.upload.multipart.part-size-bytes:5242880}") int partSize,
+                                    @Value("${image.upload.multipart.parts-in-flight:4}") int partsInFlight,
+                                    @Value("${image.upload.multipart.workers:8}") int workers,
+                                    @Value("${image.upload.timeout-ms:10000}") int requestTimeoutMs) {
+        this.amazonS3Client = amazonS3Client;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.partsInFlight = partsInFlight;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.partUploaders = Executors.newFixedThreadPool(workers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploaders.shutdown();
+    }
+
+    @Override
+    public String uploadImage(MultipartFile image, String fileName) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(image.getContentType());
+        String uploadId = amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, fileName, metadata)).getUploadId();
+        File spooled = null;
+        try {
+            spooled = spool(image);
+            List<PartETag> partETags = uploadParts(spooled, fileName, uploadId);
+            amazonS3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, fileName, uploadId, partETags));
+            return fileName;
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 실패, 업로드를 취소합니다. Key: {}", fileName, e);
+            abort(fileName, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ImageException(ImageErrorCode.IMAGE_UPLOAD_FAILED);
+        } finally {
+            delete(spooled);
+        }
+    }
+
+    /**
+     * 업로드된 파일을 임시 파일로 옮깁니다. 서블릿 컨테이너가 디스크에 둔 파일이면 복사하지 않고 이름만 바꿉니다.
+     */
+    private static File spool(MultipartFile image) throws IOException {
+        File spooled = Files.createTempFile("image-upload-", null).toFile();
+        try {
+            image.transferTo(spooled);
+            return spooled;
+        } catch (IOException e) {
+            delete(spooled);
+            throw e;
+        }
+    }
+
+    private static void delete(File file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패. Path: {}", file, e);
+        }
+    }
+
+    /**
+     * 파일을 조각 크기로 나눠 올립니다. 동시에 올리는 조각이 제한에 이르면 하나가 끝날 때까지 다음 조각을 올리지 않습니다.
+     *
+     * @return 조각 번호 순서의 ETag 목록
+     */
+    private List<PartETag> uploadParts(File file, String fileName, String uploadId) throws InterruptedException {
+        long size = file.length();
+        int partCount = (int) Math.max(1, (size + partSize - 1) / partSize);
+        Semaphore permits = new Semaphore(partsInFlight);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            permits.acquire();
+            if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                break;
+            }
+            long offset = (long) (partNumber - 1) * partSize;
+            UploadPartRequest request = new UploadPartRequest()
+                    .withBucketName(bucket)
+                    .withKey(fileName)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNumber)
+                    .withFile(file)
+                    .withFileOffset(offset)
+                    .withPartSize(Math.min(partSize, size - offset));
+            request.setSdkClientExecutionTimeout(requestTimeoutMs);
+            parts.add(CompletableFuture
+                    .supplyAsync(() -> amazonS3Client.uploadPart(request).getPartETag(), partUploaders)
+                    .whenComplete((partETag, e) -> permits.release()));
+        }
+        // 실패한 조각이 있어도 진행 중인 조각이 모두 끝난 뒤에 취소해야 취소 후 올라간 조각이 남지 않습니다.
+        CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+        return parts.stream().map(CompletableFuture::join).toList();
+    }
+
+    private void abort(String fileName, String uploadId) {
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileName, uploadId));
+        } catch (Exception e) {
+            log.warn("멀티파트 업로드 취소 실패. Key: {}, UploadId: {}", fileName, uploadId, e);
+        }
+    }
+}
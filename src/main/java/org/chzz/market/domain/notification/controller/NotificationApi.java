@@ -3,24 +3,45 @@ package org.chzz.market.domain.notification.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
+import org.chzz.market.common.dto.CursorResponse;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
+import org.chzz.market.domain.notification.dto.response.NotificationUnreadCountResponse;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Tag(name = "notifications", description = "알림 API")
 public interface NotificationApi {
     @Operation(summary = "알림 목록 조회")
     public ResponseEntity<Page<NotificationResponse>> getNotifications(Long userId, @ParameterObject Pageable pageable);
 
-    @Operation(summary = "SSE 알림 구독")
-    public SseEmitter subscribe(Long userId, HttpServletResponse response);
+    @Operation(summary = "알림 목록 커서 기반 조회", description = "전체 개수 없이 다음 페이지 커서를 반환합니다.")
+    public ResponseEntity<CursorResponse<NotificationResponse>> getNotificationsByCursor(Long userId, String cursor,
+                                                                                        @ParameterObject Pageable pageable);
+
+    @Operation(summary = "읽지 않은 알림 수 조회")
+    public ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(Long userId);
+
+    @Operation(summary = "SSE 알림 구독", description = "재연결 시 Last-Event-ID 헤더를 보내면 그 이후의 알림을 다시 보냅니다.")
+    public SseEmitter subscribe(Long userId, String lastEventId, HttpServletResponse response);
+
+    @Operation(summary = "SSE 알림 구독 (Flux)", description = "subscribe 와 같은 이벤트를 보내며, 사용자별 버퍼를 거쳐 비동기로 씁니다.")
+    public Flux<ServerSentEvent<String>> subscribeStream(Long userId, String lastEventId,
+                                                         HttpServletResponse response);
 
     @Operation(summary = "알림 읽음")
     public ResponseEntity<Void> readNotification(Long userId, Long notificationId);
 
     @Operation(summary = "알림 삭제")
     public ResponseEntity<Void> deleteNotification(Long userId, Long notificationId);
+
+    @Operation(summary = "알림 모두 읽음")
+    public ResponseEntity<Void> readAllNotifications(Long userId);
+
+    @Operation(summary = "알림 모두 삭제")
+    public ResponseEntity<Void> deleteAllNotifications(Long userId);
 }
@@ -6,25 +6,34 @@ import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.chzz.market.common.config.LoginUser;
+import org.chzz.market.common.dto.CursorResponse;
 import org.chzz.market.common.error.GlobalException;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
+import org.chzz.market.domain.notification.dto.response.NotificationUnreadCountResponse;
 import org.chzz.market.domain.notification.service.NotificationService;
+import org.chzz.market.domain.notification.service.NotificationUnreadCountService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/notifications")
 public class NotificationController implements NotificationApi {
     private final NotificationService notificationService;
+    private final NotificationUnreadCountService notificationUnreadCountService;
 
     @Override
     @GetMapping
@@ -32,14 +41,45 @@ public class NotificationController implements NotificationApi {
         return ResponseEntity.ok(notificationService.getNotifications(userId, pageable));
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<NotificationResponse>> getNotificationsByCursor(
+            @LoginUser Long userId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(notificationService.getNotifications(userId, cursor, pageable));
+    }
+
+    @Override
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponse> getUnreadCount(@LoginUser Long userId) {
+        return ResponseEntity.ok(new NotificationUnreadCountResponse(
+                notificationUnreadCountService.getUnreadCount(userId)));
+    }
+
     @Override
     @GetMapping(value = "/subscribe", produces = TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@LoginUser Long userId, HttpServletResponse response) {
+    public SseEmitter subscribe(@LoginUser Long userId,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                HttpServletResponse response) {
         if (userId == null) {
             throw new GlobalException(AUTHENTICATION_REQUIRED);
         }
         response.setHeader("X-Accel-Buffering", "no");
-        return notificationService.subscribe(userId);
+        return notificationService.subscribe(userId, lastEventId);
+    }
+
+    @Override
+    @GetMapping(value = "/subscribe/stream", produces = TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> subscribeStream(@LoginUser Long userId,
+                                                         @RequestHeader(value = "Last-Event-ID", required = false)
+                                                         String lastEventId,
+                                                         HttpServletResponse response) {
+        if (userId == null) {
+            throw new GlobalException(AUTHENTICATION_REQUIRED);
+        }
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationService.subscribeStream(userId, lastEventId);
     }
 
     @Override
@@ -55,4 +95,18 @@ public class NotificationController implements NotificationApi {
         notificationService.deleteNotification(userId, notificationId);
         return ResponseEntity.ok().build();
     }
+
+    @Override
+    @PostMapping("/read")
+    public ResponseEntity<Void> readAllNotifications(@LoginUser Long userId) {
+        notificationService.readAllNotifications(userId);
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    @DeleteMapping
+    public ResponseEntity<Void> deleteAllNotifications(@LoginUser Long userId) {
+        notificationService.deleteAllNotifications(userId);
+        return ResponseEntity.ok().build();
+    }
 }
@@ -0,0 +1,24 @@
+package org.chzz.market.domain.notification.dto;
+
+import org.chzz.market.domain.notification.entity.NotificationType;
+
+/**
+ * JDBC 일괄 저장을 위한 알림 한 건의 컬럼 값
+ */
+public record NotificationDraft(
+        Long userId,
+        NotificationType type,
+        String message,
+        Long imageId,
+        Long auctionId
+) {
+    public static NotificationDraft of(Long userId, NotificationOutboxMessage message) {
+        return new NotificationDraft(
+                userId,
+                message.type(),
+                message.message(),
+                message.imageId(),
+                message.auctionId()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package org.chzz.market.domain.notification.dto;
+
+import static org.chzz.market.domain.notification.event.NotificationEvent.FIELD_AUCTION_ID;
+
+import java.util.List;
+import java.util.Map;
+import org.chzz.market.domain.notification.entity.NotificationType;
+import org.chzz.market.domain.notification.event.NotificationEvent;
+
+/**
+ * 발송 요청(outbox)에 JSON 으로 저장하는 알림 이벤트. 엔티티 대신 ID만 담습니다.
+ */
+public record NotificationOutboxMessage(
+        List<Long> userIds,
+        NotificationType type,
+        String message,
+        Long imageId,
+        Long auctionId
+) {
+    public static NotificationOutboxMessage of(NotificationEvent notificationEvent) {
+        return new NotificationOutboxMessage(
+                notificationEvent.userIds(),
+                notificationEvent.type(),
+                notificationEvent.message(),
+                notificationEvent.image() == null ? null : notificationEvent.image().getId(),
+                notificationEvent.getAuctionId()
+        );
+    }
+
+    /**
+     * 실시간 알림에 함께 보내는 동적 필드
+     */
+    public Map<String, Object> toAdditionalFields() {
+        return auctionId == null ? Map.of() : Map.of(FIELD_AUCTION_ID, auctionId);
+    }
+}
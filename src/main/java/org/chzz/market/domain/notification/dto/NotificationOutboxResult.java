@@ -0,0 +1,17 @@
+package org.chzz.market.domain.notification.dto;
+
+import java.time.LocalDateTime;
+import org.chzz.market.common.dto.BatchResult;
+
+/**
+ * 발송 요청 묶음 하나를 처리한 결과
+ *
+ * @param entryCount        처리한 발송 요청 수
+ * @param notificationCount 저장한 알림 수
+ * @param oldestCreatedAt   가장 오래된 발송 요청의 생성 시각 (처리한 요청이 없으면 null)
+ * @param deadLetterCount   형식이 잘못되어 격리한 발송 요청 수 (entryCount 에 포함)
+ */
+public record NotificationOutboxResult(int entryCount, int notificationCount, LocalDateTime oldestCreatedAt,
+                                       int deadLetterCount) implements BatchResult {
+    public static final NotificationOutboxResult EMPTY = new NotificationOutboxResult(0, 0, null, 0);
+}
@@ -0,0 +1,25 @@
+package org.chzz.market.domain.notification.dto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 한 번에 발행하는 알림 메시지 묶음. 짧은 시간 동안 모인 알림을 노드마다 한 번에 보냅니다.
+ */
+public record NotificationRealBatch(List<NotificationRealMessage> messages) {
+    public static NotificationRealBatch of(NotificationRealMessage message) {
+        return new NotificationRealBatch(List.of(message));
+    }
+
+    /**
+     * 주어진 사용자들의 알림만 남긴 묶음. 해당 사용자가 없는 메시지는 뺍니다.
+     */
+    public NotificationRealBatch forUsers(Collection<Long> userIds) {
+        return new NotificationRealBatch(messages.stream()
+                .filter(message -> userIds.stream().anyMatch(message.notificationIds()::containsKey))
+                .map(message -> message.forUsers(userIds.stream()
+                        .filter(message.notificationIds()::containsKey)
+                        .toList()))
+                .toList());
+    }
+}
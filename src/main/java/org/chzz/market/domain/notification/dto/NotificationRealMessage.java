@@ -1,22 +1,56 @@
 package org.chzz.market.domain.notification.dto;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import org.chzz.market.domain.notification.entity.NotificationType;
-import org.chzz.market.domain.notification.event.NotificationEvent;
 
 public record NotificationRealMessage(
         Map<Long, Long> notificationIds,
         String message,
         NotificationType type,
-        Map<String, Object> additionalFields
+        Map<String, Object> additionalFields,
+        Map<Long, String> eventIds
 ) {
     public static NotificationRealMessage of(Map<Long, Long> userNotificationMap,
-                                             NotificationEvent notificationEvent) {
+                                             NotificationOutboxMessage outboxMessage) {
         return new NotificationRealMessage(
                 userNotificationMap,
-                notificationEvent.message(),
-                notificationEvent.type(),
-                notificationEvent.additionalFields()
+                outboxMessage.message(),
+                outboxMessage.type(),
+                outboxMessage.toAdditionalFields(),
+                Map.of()
         );
     }
+
+    /**
+     * 사용자별 SSE 이벤트 ID(재전송 로그 항목 ID)를 채운 메시지
+     */
+    public NotificationRealMessage withEventIds(Map<Long, String> eventIds) {
+        return new NotificationRealMessage(notificationIds, message, type, additionalFields, eventIds);
+    }
+
+    /**
+     * 사용자의 SSE 이벤트 ID. 재전송 로그에 기록하지 못했으면 null
+     */
+    public String eventIdOf(Long userId) {
+        return eventIds == null ? null : eventIds.get(userId);
+    }
+
+    /**
+     * 주어진 사용자들의 알림 ID만 남긴 메시지
+     */
+    public NotificationRealMessage forUsers(Collection<Long> userIds) {
+        Map<Long, Long> filteredNotificationIds = new HashMap<>();
+        Map<Long, String> filteredEventIds = new HashMap<>();
+        userIds.forEach(userId -> {
+            filteredNotificationIds.put(userId, notificationIds.get(userId));
+            String eventId = eventIdOf(userId);
+            if (eventId != null) {
+                filteredEventIds.put(userId, eventId);
+            }
+        });
+        return new NotificationRealMessage(filteredNotificationIds, message, type, additionalFields,
+                filteredEventIds);
+    }
 }
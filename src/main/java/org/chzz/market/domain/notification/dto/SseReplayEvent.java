@@ -0,0 +1,10 @@
+package org.chzz.market.domain.notification.dto;
+
+/**
+ * 재전송 로그에 보관된 SSE 이벤트
+ *
+ * @param eventId SSE 이벤트 ID (Redis Stream 항목 ID)
+ * @param data    SSE 이벤트 데이터 (직렬화된 {@link org.chzz.market.domain.notification.dto.response.NotificationSseResponse})
+ */
+public record SseReplayEvent(String eventId, String data) {
+}
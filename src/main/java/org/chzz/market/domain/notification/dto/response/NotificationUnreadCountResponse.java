@@ -0,0 +1,4 @@
+package org.chzz.market.domain.notification.dto.response;
+
+public record NotificationUnreadCountResponse(long unreadCount) {
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -25,7 +26,9 @@ import org.chzz.market.domain.user.entity.User;
 
 @Getter
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "idx_notification_user_id_is_deleted_created_at", columnList = "user_id, is_deleted, created_at")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type", discriminatorType = DiscriminatorType.STRING)
 @AllArgsConstructor
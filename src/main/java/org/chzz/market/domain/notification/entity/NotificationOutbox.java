@@ -0,0 +1,77 @@
+package org.chzz.market.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.chzz.market.domain.base.entity.BaseTimeEntity;
+
+/**
+ * 업무 트랜잭션과 함께 저장되는 알림 발송 요청. 알림 이벤트 묶음을 JSON 으로 담고, 알림을 저장한 뒤 삭제됩니다.
+ * <p>
+ * 한 건씩 다시 처리해도 실패하는 요청은 실패 횟수를 쌓다가 격리(dead letter)되어 처리 대상에서 빠집니다. 격리된 요청은 payload 와 마지막 오류를 그대로
+ * 보관합니다.
+ */
+@Getter
+@Entity
+@Table(name = "notification_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime deadLetteredAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public NotificationOutbox(String payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * 처리 실패를 기록하고, maxAttempts 번째 실패면 격리합니다.
+     *
+     * @return 격리되었으면 true
+     */
+    public boolean recordFailure(String error, int maxAttempts) {
+        attempts++;
+        lastError = truncate(error);
+        if (attempts >= maxAttempts) {
+            deadLetteredAt = LocalDateTime.now();
+        }
+        return isDeadLettered();
+    }
+
+    /**
+     * 다시 처리해도 성공할 수 없는 요청을 바로 격리합니다.
+     */
+    public void deadLetter(String error) {
+        lastError = truncate(error);
+        deadLetteredAt = LocalDateTime.now();
+    }
+
+    public boolean isDeadLettered() {
+        return deadLetteredAt != null;
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
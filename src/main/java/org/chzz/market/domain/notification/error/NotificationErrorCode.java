@@ -17,7 +17,8 @@ public enum NotificationErrorCode implements ErrorCode {
     DELETED_NOTIFICATION(BAD_REQUEST, "삭제된 알림입니다."),
     UNAUTHORIZED_ACCESS(FORBIDDEN, "알림에 접근할 권한이 없습니다."),
     NOTIFICATION_NOT_FOUND(NOT_FOUND, "알림을 찾을 수 없습니다."),
-    REDIS_MESSAGE_SEND_FAILURE(INTERNAL_SERVER_ERROR, "Redis 메시지 발신에 실패했습니다.");
+    REDIS_MESSAGE_SEND_FAILURE(INTERNAL_SERVER_ERROR, "Redis 메시지 발신에 실패했습니다."),
+    OUTBOX_WRITE_FAILURE(INTERNAL_SERVER_ERROR, "알림 발송 요청을 저장하지 못했습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -28,5 +29,6 @@ public enum NotificationErrorCode implements ErrorCode {
         public static final String UNAUTHORIZED_ACCESS = "UNAUTHORIZED_ACCESS";
         public static final String NOTIFICATION_NOT_FOUND = "NOTIFICATION_NOT_FOUND";
         public static final String REDIS_MESSAGE_SEND_FAILURE = "REDIS_MESSAGE_SEND_FAILURE";
+        public static final String OUTBOX_WRITE_FAILURE = "OUTBOX_WRITE_FAILURE";
     }
 }
@@ -0,0 +1,9 @@
+package org.chzz.market.domain.notification.event;
+
+import java.util.List;
+
+/**
+ * 여러 알림 이벤트를 한 번에 처리하기 위한 묶음 이벤트 (경매 일괄 종료 등)
+ */
+public record NotificationBatchEvent(List<NotificationEvent> events) {
+}
@@ -1,65 +1,54 @@
 package org.chzz.market.domain.notification.event;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.dto.NotificationRealBatch;
 import org.chzz.market.domain.notification.dto.NotificationRealMessage;
-import org.chzz.market.domain.notification.entity.Notification;
-import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.service.NotificationOutboxService;
+import org.chzz.market.domain.notification.service.NotificationService;
+import org.chzz.market.domain.notification.service.NotificationUnreadCountService;
 import org.chzz.market.domain.notification.service.RedisPublisher;
-import org.chzz.market.domain.user.entity.User;
-import org.chzz.market.domain.user.repository.UserRepository;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 @RequiredArgsConstructor
 @Component
-@Transactional
 @Slf4j
 public class NotificationEventListener {
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationService notificationService;
+    private final NotificationUnreadCountService notificationUnreadCountService;
     private final RedisPublisher redisPublisher;
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
 
-    @Async("threadPoolTaskExecutor")
-    @TransactionalEventListener // default 인 phase = TransactionPhase.AFTER_COMMIT 사용
+    /**
+     * 알림 이벤트를 발행한 트랜잭션이 커밋되기 직전에 발송 요청으로 저장합니다. 트랜잭션 밖에서 발행되면 바로 저장합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void sendNotification(final NotificationEvent notificationEvent) {
         log.info("알림 이벤트 수신 - notificationEvent = {}", notificationEvent);
+        notificationOutboxService.append(List.of(notificationEvent));
+    }
 
-        // 1. 알림 메시지 저장
-        Map<Long, User> userMap = userRepository.findAllById(notificationEvent.userIds())
-                .stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
-        List<Notification> notifications = createNotifications(notificationEvent, userMap);
-        notificationRepository.saveAll(notifications);
-
-        // 2. 사용자 ID와 알림 ID를 매핑하는 맵 생성과 메시지 발행
-        Map<Long, Long> userNotificationMap = notifications.stream()
-                .collect(Collectors.toMap(n -> n.getUser().getId(), Notification::getId));
-
-        // 3. Redis에 메시지 발행
-        redisPublisher.publish(NotificationRealMessage.of(userNotificationMap, notificationEvent));
+    /**
+     * 묶음 알림 이벤트를 발송 요청 한 건으로 저장합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void sendNotifications(final NotificationBatchEvent batchEvent) {
+        log.info("묶음 알림 이벤트 수신 - 이벤트 수 = {}", batchEvent.events().size());
+        notificationOutboxService.append(batchEvent.events());
     }
 
     /**
-     * 알림 객체 목록을 생성합니다.
-     *
-     * @param notificationEvent 알림 이벤트 데이터
-     * @param userMap           사용자 ID와 사용자 객체의 매핑
-     * @return 생성된 알림 객체 목록
+     * 발송 요청으로 저장된 알림을 커밋 후 읽지 않은 알림 수에 반영하고, 재전송 로그에 기록한 뒤 한 번에 발행합니다.
      */
-    private List<Notification> createNotifications(NotificationEvent notificationEvent,
-                                                   Map<Long, User> userMap) {
-        return notificationEvent.userIds().stream()
-                .map(userMap::get)
-                .filter(Objects::nonNull)
-                .map(user -> notificationEvent.toEntity(user))
+    @TransactionalEventListener
+    public void publishStoredNotifications(final NotificationStoredEvent storedEvent) {
+        notificationUnreadCountService.increment(storedEvent.unreadDeltas());
+        List<NotificationRealMessage> messages = storedEvent.messages().stream()
+                .map(notificationService::recordForReplay)
                 .toList();
+        redisPublisher.publish(new NotificationRealBatch(messages));
     }
 }
@@ -0,0 +1,14 @@
+package org.chzz.market.domain.notification.event;
+
+import java.util.List;
+import java.util.Map;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+
+/**
+ * 발송 요청으로 알림을 저장했음을 알리는 이벤트. 커밋 후 실시간 전송과 읽지 않은 알림 수 반영에 사용합니다.
+ *
+ * @param messages     이벤트별 실시간 알림 메시지
+ * @param unreadDeltas 사용자별로 새로 저장된 알림 수
+ */
+public record NotificationStoredEvent(List<NotificationRealMessage> messages, Map<Long, Long> unreadDeltas) {
+}
@@ -0,0 +1,14 @@
+package org.chzz.market.domain.notification.event;
+
+/**
+ * 사용자의 읽지 않은 알림 수 변경을 알리는 이벤트. 일괄 처리처럼 변화량을 알 수 없으면 집계를 다시 만듭니다.
+ */
+public record NotificationUnreadCountEvent(Long userId, long delta, boolean reset) {
+    public static NotificationUnreadCountEvent of(Long userId, long delta) {
+        return new NotificationUnreadCountEvent(userId, delta, false);
+    }
+
+    public static NotificationUnreadCountEvent reset(Long userId) {
+        return new NotificationUnreadCountEvent(userId, 0, true);
+    }
+}
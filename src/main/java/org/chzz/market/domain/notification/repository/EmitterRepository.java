@@ -3,38 +3,45 @@ package org.chzz.market.domain.notification.repository;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.chzz.market.domain.notification.service.SseConnection;
 
 public interface EmitterRepository {
     /**
-     * 주어진 사용자 ID에 해당하는 SSE 이미터 목록을 찾습니다.
+     * 주어진 사용자 ID에 해당하는 SSE 연결 목록을 찾습니다.
      *
      * @param userId 사용자 ID
-     * @return 사용자의 SSE 이미터 목록이 포함된 Optional 객체. 이미터가 없는 경우 비어있는 Optional을 반환합니다.
+     * @return 사용자의 SSE 연결 목록이 포함된 Optional 객체. 연결이 없는 경우 비어있는 Optional을 반환합니다.
      */
-    Optional<List<SseEmitter>> findByUserId(Long userId);
+    Optional<List<SseConnection>> findByUserId(Long userId);
 
     /**
-     * 모든 사용자에 대한 SSE 이미터를 반환합니다.
+     * 모든 사용자에 대한 SSE 연결을 반환합니다.
      *
-     * @return 사용자 ID를 키로 하고, 해당 사용자와 연결된 SSE 이미터 목록을 값으로 하는 맵입니다.
+     * @return 사용자 ID를 키로 하고, 해당 사용자의 SSE 연결 목록을 값으로 하는 맵입니다.
      */
-    Map<Long, List<SseEmitter>> findAllEmitters();
+    Map<Long, List<SseConnection>> findAllEmitters();
 
     /**
-     * 주어진 사용자 ID에 SSE 이미터를 저장합니다.
+     * 이 노드에 저장된 SSE 연결 수를 반환합니다.
+     *
+     * @return 모든 사용자의 SSE 연결 수
+     */
+    int countEmitters();
+
+    /**
+     * 주어진 사용자 ID에 SSE 연결을 저장합니다.
      *
      * @param userId  사용자 ID
-     * @param emitter 저장할 SSE 이미터
+     * @param emitter 저장할 SSE 연결
      */
-    void save(Long userId, SseEmitter emitter);
+    void save(Long userId, SseConnection emitter);
 
     /**
-     * 주어진 사용자 ID에 연결된 SSE 이미터를 삭제합니다.
+     * 주어진 사용자 ID의 SSE 연결을 삭제합니다.
      *
      * @param userId  사용자 ID
-     * @param emitter 삭제할 SSE 이미터
+     * @param emitter 삭제할 SSE 연결
      */
-    void deleteEmitter(Long userId, SseEmitter emitter);
+    void deleteEmitter(Long userId, SseConnection emitter);
 
 }
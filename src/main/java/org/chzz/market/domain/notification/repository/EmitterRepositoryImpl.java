@@ -1,47 +1,85 @@
 package org.chzz.market.domain.notification.repository;
 
+import jakarta.annotation.PreDestroy;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.service.SseConnection;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Repository
 @Slf4j
+@RequiredArgsConstructor
 public class EmitterRepositoryImpl implements EmitterRepository {
-    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseConnection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger emitterCount = new AtomicInteger();
+    private final SsePresenceRepository ssePresenceRepository;
 
     @Override
-    public Optional<List<SseEmitter>> findByUserId(Long userId) {
+    public Optional<List<SseConnection>> findByUserId(Long userId) {
         return Optional.ofNullable(emitters.get(userId));
     }
 
     @Override
-    public Map<Long, List<SseEmitter>> findAllEmitters() {
+    public Map<Long, List<SseConnection>> findAllEmitters() {
         return Collections.unmodifiableMap(emitters);
     }
 
     @Override
-    public void save(Long userId, SseEmitter emitter) {
-        emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+    public int countEmitters() {
+        return emitterCount.get();
+    }
+
+    /**
+     * 사용자의 이 노드 첫 연결이면 연결 위치를 기록합니다.
+     */
+    @Override
+    public void save(Long userId, SseConnection emitter) {
+        AtomicBoolean firstConnection = new AtomicBoolean(false);
+        emitters.compute(userId, (k, userEmitters) -> {
+            List<SseConnection> list = userEmitters == null ? new CopyOnWriteArrayList<>() : userEmitters;
+            firstConnection.set(list.isEmpty());
+            list.add(emitter);
+            return list;
+        });
+        emitterCount.incrementAndGet();
+        if (firstConnection.get()) {
+            ssePresenceRepository.register(userId);
+        }
         log.info("[SSE] 연결 저장 UserId: {}", userId);
     }
 
+    /**
+     * 사용자의 이 노드 마지막 연결이 끊어지면 연결 위치를 삭제합니다.
+     */
     @Override
-    public void deleteEmitter(Long userId, SseEmitter emitter) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters != null) {
-            userEmitters.remove(emitter);
-            log.info("[SSE] 연결 삭제 UserId: {}", userId);
-
-            if (userEmitters.isEmpty()) {
-                emitters.remove(userId);
+    public void deleteEmitter(Long userId, SseConnection emitter) {
+        AtomicBoolean lastConnection = new AtomicBoolean(false);
+        emitters.computeIfPresent(userId, (k, userEmitters) -> {
+            if (userEmitters.remove(emitter)) {
+                emitterCount.decrementAndGet();
             }
+            lastConnection.set(userEmitters.isEmpty());
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+        if (lastConnection.get()) {
+            ssePresenceRepository.unregister(userId);
         }
+        log.info("[SSE] 연결 삭제 UserId: {}", userId);
     }
 
+    /**
+     * 노드가 내려갈 때 이 노드의 연결 위치를 모두 지워 다른 노드가 더 이상 메시지를 보내지 않도록 합니다.
+     */
+    @PreDestroy
+    public void clearPresence() {
+        ssePresenceRepository.unregisterAll(emitters.keySet());
+    }
 }
@@ -0,0 +1,8 @@
+package org.chzz.market.domain.notification.repository;
+
+import org.chzz.market.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>,
+        NotificationOutboxRepositoryCustom {
+}
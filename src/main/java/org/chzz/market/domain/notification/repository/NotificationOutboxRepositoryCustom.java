@@ -0,0 +1,23 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.util.List;
+import org.chzz.market.domain.notification.entity.NotificationOutbox;
+
+public interface NotificationOutboxRepositoryCustom {
+    /**
+     * 오래된 순으로 격리되지 않은 발송 요청에 행 잠금을 걸고 가져옵니다. 다른 노드가 잠근 행은 건너뜁니다(SKIP LOCKED).
+     *
+     * @param limit 최대 개수
+     */
+    List<NotificationOutbox> lockOldest(int limit);
+
+    /**
+     * 격리되지 않은 발송 요청 하나에 행 잠금을 걸고 가져옵니다. 다른 노드가 잠갔거나 이미 처리되었으면 빈 목록입니다.
+     */
+    List<NotificationOutbox> lockById(Long id);
+
+    /**
+     * 오래된 순으로 격리되지 않은 발송 요청 ID를 잠금 없이 조회합니다. 묶음 처리가 실패했을 때 한 건씩 다시 처리할 대상을 고릅니다.
+     */
+    List<Long> findOldestIds(int limit);
+}
@@ -0,0 +1,44 @@
+package org.chzz.market.domain.notification.repository;
+
+import static org.chzz.market.common.util.QuerydslUtil.skipLocked;
+import static org.chzz.market.domain.notification.entity.QNotificationOutbox.notificationOutbox;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.notification.entity.NotificationOutbox;
+
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryImpl implements NotificationOutboxRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<NotificationOutbox> lockOldest(int limit) {
+        return skipLocked(jpaQueryFactory
+                .selectFrom(notificationOutbox)
+                .where(notificationOutbox.deadLetteredAt.isNull())
+                .orderBy(notificationOutbox.id.asc())
+                .limit(limit))
+                .fetch();
+    }
+
+    @Override
+    public List<NotificationOutbox> lockById(Long id) {
+        return skipLocked(jpaQueryFactory
+                .selectFrom(notificationOutbox)
+                .where(notificationOutbox.id.eq(id),
+                        notificationOutbox.deadLetteredAt.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findOldestIds(int limit) {
+        return jpaQueryFactory
+                .select(notificationOutbox.id)
+                .from(notificationOutbox)
+                .where(notificationOutbox.deadLetteredAt.isNull())
+                .orderBy(notificationOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,9 +1,53 @@
 package org.chzz.market.domain.notification.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.domain.notification.dto.NotificationDraft;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface NotificationRepositoryCustom {
     Page<NotificationResponse> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 알림을 최신순으로 커서 기반 조회합니다. (user_id, is_deleted, created_at) 인덱스를 따라 읽으므로 전체 개수를 세지 않고 앞 페이지를
+     * 건너뛰지 않습니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     */
+    CursorResponse<NotificationResponse> findByUserId(Long userId, String cursor, Pageable pageable);
+
+    /**
+     * 삭제되지 않은 읽지 않은 알림 수
+     */
+    long countUnreadByUserId(Long userId);
+
+    /**
+     * 사용자별 삭제되지 않은 읽지 않은 알림 수를 한 번에 셉니다. 읽지 않은 알림이 없는 사용자는 결과에 없습니다.
+     */
+    Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds);
+
+    /**
+     * 사용자의 읽지 않은 알림을 UPDATE 한 번으로 모두 읽음 처리합니다.
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    long readAllByUserId(Long userId);
+
+    /**
+     * 사용자의 알림을 UPDATE 한 번으로 모두 삭제 처리합니다.
+     *
+     * @return 삭제 처리된 알림 수
+     */
+    long deleteAllByUserId(Long userId);
+
+    /**
+     * 알림들을 하나의 JDBC 배치로 저장합니다.
+     *
+     * @return 저장된 알림 ID (입력 순서와 같음)
+     */
+    List<Long> insertAll(List<NotificationDraft> drafts);
 }
@@ -1,24 +1,50 @@
 package org.chzz.market.domain.notification.repository;
 
 import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 import static org.chzz.market.domain.image.entity.QImage.image;
 import static org.chzz.market.domain.notification.entity.QNotification.notification;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.common.util.KeysetCursor;
+import org.chzz.market.domain.notification.dto.NotificationDraft;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
 import org.chzz.market.domain.notification.dto.response.QNotificationResponse;
 import org.chzz.market.domain.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+    private static final String CURSOR_ORDER = "newest";
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (user_id, image_id, auction_id, type, message, is_read, is_deleted, created_at,
+                                      updated_at)
+            VALUES (?, ?, ?, ?, ?, false, false, ?, ?)
+            """;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Page<NotificationResponse> findByUserId(Long userId, Pageable pageable) {
@@ -31,7 +57,7 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
                         notification.message,
                         notification.type,
                         notification.isRead,
-                        image.cdnPath,
+                        image.thumbnailPath.coalesce(image.cdnPath),
                         getAuctionIdPath(),
                         notification.createdAt
                 ))
@@ -49,6 +75,139 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
 
     }
 
+    @Override
+    public CursorResponse<NotificationResponse> findByUserId(Long userId, String cursor, Pageable pageable) {
+        KeysetCursor<LocalDateTime> keysetCursor = KeysetCursor.decode(cursor, CURSOR_ORDER, LocalDateTime::parse);
+        int size = pageable.getPageSize();
+
+        List<NotificationResponse> rows = jpaQueryFactory
+                .select(new QNotificationResponse(
+                        notification.id,
+                        notification.message,
+                        notification.type,
+                        notification.isRead,
+                        image.thumbnailPath.coalesce(image.cdnPath),
+                        getAuctionIdPath(),
+                        notification.createdAt
+                ))
+                .from(notification)
+                .leftJoin(notification.image, image)
+                .where(notification.user.id.eq(userId),
+                        notification.isDeleted.eq(FALSE),
+                        before(keysetCursor))
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(size + 1L)
+                .fetch();
+        if (rows.size() <= size) {
+            return CursorResponse.of(rows, size, null);
+        }
+
+        List<NotificationResponse> items = rows.subList(0, size);
+        NotificationResponse last = items.get(size - 1);
+        String nextCursor = new KeysetCursor<>(CURSOR_ORDER, last.getCreatedAt().toString(),
+                last.getNotificationId()).encode();
+        return CursorResponse.of(List.copyOf(items), size, nextCursor);
+    }
+
+    @Override
+    public long countUnreadByUserId(Long userId) {
+        Long count = jpaQueryFactory
+                .select(notification.count())
+                .from(notification)
+                .where(notification.user.id.eq(userId),
+                        notification.isRead.eq(FALSE),
+                        notification.isDeleted.eq(FALSE))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaQueryFactory
+                .select(notification.user.id, notification.count())
+                .from(notification)
+                .where(notification.user.id.in(userIds),
+                        notification.isRead.eq(FALSE),
+                        notification.isDeleted.eq(FALSE))
+                .groupBy(notification.user.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(notification.user.id),
+                        row -> row.get(notification.count())));
+    }
+
+    @Override
+    @Transactional
+    public long readAllByUserId(Long userId) {
+        return jpaQueryFactory.update(notification)
+                .set(notification.isRead, TRUE)
+                .set(notification.updatedAt, LocalDateTime.now())
+                .where(notification.user.id.eq(userId),
+                        notification.isRead.eq(FALSE),
+                        notification.isDeleted.eq(FALSE))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public long deleteAllByUserId(Long userId) {
+        return jpaQueryFactory.update(notification)
+                .set(notification.isDeleted, TRUE)
+                .set(notification.updatedAt, LocalDateTime.now())
+                .where(notification.user.id.eq(userId),
+                        notification.isDeleted.eq(FALSE))
+                .execute();
+    }
+
+    /**
+     * IDENTITY 전략이라 JPA 로는 배치 저장이 되지 않으므로 JDBC 배치로 저장하고 생성된 키를 읽습니다.
+     */
+    @Override
+    public List<Long> insertAll(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                for (NotificationDraft draft : drafts) {
+                    statement.setLong(1, draft.userId());
+                    statement.setObject(2, draft.imageId(), Types.BIGINT);
+                    statement.setObject(3, draft.auctionId(), Types.BIGINT);
+                    statement.setString(4, draft.type().name());
+                    statement.setString(5, draft.message());
+                    statement.setTimestamp(6, now);
+                    statement.setTimestamp(7, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> ids = new ArrayList<>(drafts.size());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        ids.add(generatedKeys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 최신순 정렬에서 커서보다 뒤(더 오래된) 알림. 생성 시각이 같으면 ID로 구분합니다.
+     */
+    private BooleanExpression before(KeysetCursor<LocalDateTime> cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime createdAt = cursor.key();
+        return notification.createdAt.lt(createdAt)
+                .or(notification.createdAt.eq(createdAt).and(notification.id.lt(cursor.id())));
+    }
+
     private PathBuilder<Long> getAuctionIdPath() {
         return new PathBuilder<>(Notification.class, "notification").get("auctionId",
                 Long.class); // auctionId는 Notification 부모클래스에는 없는 필드이므로 PathBuilder를 사용하여 직접 생성
@@ -0,0 +1,112 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.util.RedisScriptUtil;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 배지에 보여줄 사용자별 읽지 않은 알림 수를 Redis 문자열(notification:unread:{userId})로 보관합니다.
+ * <p>
+ * 알림이 저장될 때 늘리고 읽거나 삭제할 때 줄이며, 키가 없는 사용자는 건드리지 않아 다음 조회에서 DB 로 센 값으로 채워집니다. 모두 읽음/모두 삭제는 개수를
+ * 맞추지 않고 키를 지웁니다. 어긋난 값은 주기적인 대사가 {@link #invalidateIfUnchanged(Long, long)}로 지우고, 대사에서 빠진 키도 1시간 뒤 만료됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountRepository {
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final RedisScript<Long> INCREMENT_SCRIPT =
+            RedisScriptUtil.load("redis/notification-unread-count-increment.lua", Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScriptUtil.load("redis/notification-unread-count-invalidate.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<Long> findByUserId(Long userId) {
+        String count = redisTemplate.opsForValue().get(key(userId));
+        return Optional.ofNullable(count).map(Long::valueOf);
+    }
+
+    public void save(Long userId, long count) {
+        redisTemplate.opsForValue().set(key(userId), String.valueOf(count), TTL);
+    }
+
+    /**
+     * 사용자별 증감을 한 번의 파이프라인으로 반영합니다.
+     */
+    public void increment(Map<Long, Long> deltas) {
+        RedisScriptUtil.executePipelined(redisTemplate, INCREMENT_SCRIPT, 1, deltas.entrySet().stream()
+                .map(entry -> new String[]{key(entry.getKey()), String.valueOf(entry.getValue())})
+                .toList());
+    }
+
+    /**
+     * 집계를 지워 다음 조회에서 DB 기준으로 다시 만들게 합니다.
+     */
+    public void delete(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    /**
+     * 집계가 있는 사용자 ID를 SCAN 으로 훑어 묶음마다 넘깁니다. 키 수만큼 Redis 를 막지 않습니다.
+     *
+     * @param batchSize 한 묶음의 최대 사용자 수
+     */
+    public void forEachCachedUserIds(int batchSize, Consumer<List<Long>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+        List<Long> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(Long.valueOf(cursor.next().substring(KEY_PREFIX.length())));
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+    }
+
+    /**
+     * 사용자별 집계를 한 번에 읽습니다. 그 사이 만료된 사용자는 결과에 없습니다.
+     */
+    public Map<Long, Long> findByUserIds(List<Long> userIds) {
+        List<String> counts = redisTemplate.opsForValue().multiGet(userIds.stream()
+                .map(NotificationUnreadCountRepository::key)
+                .toList());
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (counts != null && counts.get(i) != null) {
+                result.put(userIds.get(i), Long.valueOf(counts.get(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 집계가 아직 expected 이면 지웁니다. 읽은 뒤에 증감되었으면 지우지 않습니다.
+     *
+     * @return 지웠으면 true
+     */
+    public boolean invalidateIfUnchanged(Long userId, long expected) {
+        Long deleted = redisTemplate.execute(INVALIDATE_SCRIPT, List.of(key(userId)), String.valueOf(expected));
+        return deleted != null && deleted > 0;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
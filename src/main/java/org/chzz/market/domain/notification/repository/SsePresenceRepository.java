@@ -0,0 +1,149 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자의 SSE 연결이 어느 노드에 있는지 Redis에 기록합니다.
+ * <p>
+ * 사용자별 정렬 집합(sse:presence:{userId})에 노드 ID를 마지막 확인 시각과 함께 저장합니다. 노드가 비정상 종료되어 지우지 못한 항목은 하트비트로
+ * 갱신되지 않으므로 {@link #PRESENCE_TTL}이 지나면 조회에서 제외됩니다. 알림은 노드별 채널(notification:{nodeId}) 또는 노드별 스트림으로 보냅니다.
+ */
+@Slf4j
+@Repository
+public class SsePresenceRepository {
+    public static final Duration PRESENCE_TTL = Duration.ofMinutes(3);
+    private static final String KEY_PREFIX = "sse:presence:";
+    private static final String CHANNEL_PREFIX = "notification:";
+
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final String nodeId;
+    private final boolean nodeIdConfigured;
+
+    /**
+     * @param nodeId 이 노드의 ID. 비어 있으면 시작할 때마다 새로 만들므로 재시작 전의 노드별 채널이나 스트림을 이어받지 못합니다.
+     */
+    public SsePresenceRepository(StringRedisTemplate redisTemplate,
+                                 @Value("${sse.node-id:}") String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.nodeIdConfigured = !nodeId.isBlank();
+        this.nodeId = nodeIdConfigured ? nodeId : UUID.randomUUID().toString();
+    }
+
+    /**
+     * 노드 ID가 설정으로 고정되어 재시작해도 같은지 여부
+     */
+    public boolean isNodeIdConfigured() {
+        return nodeIdConfigured;
+    }
+
+    public static String channel(String nodeId) {
+        return CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 이 노드가 구독하는 채널
+     */
+    public String nodeChannel() {
+        return channel(nodeId);
+    }
+
+    /**
+     * 사용자가 이 노드에 연결되었음을 기록합니다.
+     */
+    public void register(Long userId) {
+        refresh(List.of(userId));
+    }
+
+    /**
+     * 이 노드에 연결된 사용자들의 확인 시각을 갱신합니다. 등록에 실패했던 사용자도 이때 다시 기록됩니다.
+     */
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        double now = System.currentTimeMillis();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    stringConnection.zAdd(key(userId), now, nodeId);
+                    stringConnection.expire(key(userId), PRESENCE_TTL.getSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[SSE] 연결 위치 기록 실패 - 사용자 수: {}", userIds.size(), e);
+        }
+    }
+
+    /**
+     * 사용자의 이 노드 연결이 모두 끊어졌음을 기록합니다.
+     */
+    public void unregister(Long userId) {
+        unregisterAll(List.of(userId));
+    }
+
+    public void unregisterAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                userIds.forEach(userId -> stringConnection.zRem(key(userId), nodeId));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[SSE] 연결 위치 삭제 실패 - 사용자 수: {}", userIds.size(), e);
+        }
+    }
+
+    /**
+     * 사용자들이 연결된 노드를 한 번의 파이프라인으로 조회해 노드별로 묶습니다. 연결된 노드가 없는 사용자는 제외됩니다.
+     *
+     * @return 노드 ID를 키로, 그 노드에 연결된 사용자 ID 목록을 값으로 하는 맵
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, List<Long>> findRecipientsByNode(Collection<Long> userIds) {
+        Map<String, List<Long>> recipientsByNode = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return recipientsByNode;
+        }
+        List<Long> orderedUserIds = List.copyOf(userIds);
+        double minScore = System.currentTimeMillis() - PRESENCE_TTL.toMillis();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            orderedUserIds.forEach(userId -> stringConnection.zRangeByScore(key(userId), minScore, Double.MAX_VALUE));
+            return null;
+        });
+        for (int i = 0; i < orderedUserIds.size(); i++) {
+            Set<String> nodeIds = (Set<String>) results.get(i);
+            if (nodeIds == null) {
+                continue;
+            }
+            for (String node : nodeIds) {
+                recipientsByNode.computeIfAbsent(node, k -> new ArrayList<>()).add(orderedUserIds.get(i));
+            }
+        }
+        return recipientsByNode;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
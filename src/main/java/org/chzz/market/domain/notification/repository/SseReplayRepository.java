@@ -0,0 +1,103 @@
+package org.chzz.market.domain.notification.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.util.RedisScriptUtil;
+import org.chzz.market.domain.notification.dto.SseReplayEvent;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재연결한 SSE 클라이언트에게 놓친 알림을 다시 보내기 위한 사용자별 재전송 로그
+ * <p>
+ * 사용자마다 최근 {@link #MAX_LENGTH}개 정도의 알림을 Redis Stream(sse:replay:{userId})에 보관하고, Stream 항목 ID를 SSE 이벤트 ID로
+ * 사용합니다. 클라이언트가 Last-Event-ID 로 마지막으로 받은 ID를 보내면 그 이후 항목만 다시 보냅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SseReplayRepository {
+    public static final int MAX_LENGTH = 100;
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final String KEY_PREFIX = "sse:replay:";
+    private static final String DATA_FIELD = "data";
+    private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+    // 이전 형식의 이벤트 ID (userId_epochMillis)
+    private static final Pattern LEGACY_ID = Pattern.compile("\\d+_(\\d+)");
+    private static final RedisScript<String> APPEND_SCRIPT =
+            RedisScriptUtil.load("redis/sse-replay-append.lua", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 사용자별 SSE 데이터를 한 번의 파이프라인으로 재전송 로그에 추가합니다.
+     *
+     * @param dataByUser 사용자 ID를 키로, SSE 이벤트 데이터를 값으로 하는 맵
+     * @return 사용자 ID를 키로, 발급된 이벤트 ID를 값으로 하는 맵
+     */
+    public Map<Long, String> append(Map<Long, String> dataByUser) {
+        Map<Long, String> eventIds = new HashMap<>();
+        if (dataByUser.isEmpty()) {
+            return eventIds;
+        }
+        List<Long> userIds = List.copyOf(dataByUser.keySet());
+        List<Object> results = RedisScriptUtil.executePipelined(redisTemplate, APPEND_SCRIPT, 1, userIds.stream()
+                .map(userId -> new String[]{key(userId), dataByUser.get(userId), String.valueOf(MAX_LENGTH),
+                        String.valueOf(TTL.getSeconds())})
+                .toList());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object eventId = results.get(i);
+            if (eventId != null) {
+                eventIds.put(userIds.get(i), eventId.toString());
+            }
+        }
+        return eventIds;
+    }
+
+    /**
+     * 마지막으로 받은 이벤트 이후의 항목을 오래된 순으로 조회합니다. 알 수 없는 형식의 ID면 빈 목록을 반환합니다.
+     */
+    public List<SseReplayEvent> findAfter(Long userId, String lastEventId) {
+        String streamId = toStreamId(lastEventId);
+        if (streamId == null) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(key(userId),
+                Range.of(Bound.exclusive(streamId), Bound.unbounded()), Limit.limit().count(MAX_LENGTH));
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .filter(record -> record.getValue().get(DATA_FIELD) != null)
+                .map(record -> new SseReplayEvent(record.getId().getValue(),
+                        record.getValue().get(DATA_FIELD).toString()))
+                .toList();
+    }
+
+    private static String toStreamId(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        if (STREAM_ID.matcher(lastEventId).matches()) {
+            return lastEventId;
+        }
+        Matcher legacy = LEGACY_ID.matcher(lastEventId);
+        if (legacy.matches()) {
+            return legacy.group(1) + "-" + Long.MAX_VALUE; // 해당 밀리초에 보낸 이벤트 이후부터
+        }
+        return null;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,162 @@
+package org.chzz.market.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.dto.response.NotificationSseResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드에 도착한 알림을 정해진 수의 작업 스레드로 SSE 전송합니다.
+ * <p>
+ * 사용자별 알림 묶음을 사용자 ID로 고른 파티션에 넣어 같은 사용자의 알림은 항상 같은 스레드에서 도착 순서대로 보냅니다. 파티션마다 큐 크기가
+ * 정해져 있어 알림이 몰려도 스레드와 메모리가 늘어나지 않고, 큐가 가득 차면 {@link OverflowPolicy}에 따라 오래된 알림을 버리거나 같은
+ * 사용자의 대기 중인 묶음에 합칩니다. 버려진 알림은 DB에 저장되어 있으므로 알림 목록과 재연결 시 재전송으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+    private final NotificationService notificationService;
+    private final OverflowPolicy overflowPolicy;
+    private final LinkedBlockingDeque<Dispatch>[] partitions;
+    private final ExecutorService workers;
+    private final Timer latencyTimer;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+
+    @SuppressWarnings("unchecked")
+    public NotificationDispatcher(NotificationService notificationService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notification.dispatch.workers:4}") int workerCount,
+                                  @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.dispatch.overflow-policy:DROP_OLDEST}")
+                                  OverflowPolicy overflowPolicy) {
+        this.notificationService = notificationService;
+        this.overflowPolicy = overflowPolicy;
+        this.partitions = new LinkedBlockingDeque[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            partitions[i] = new LinkedBlockingDeque<>(queueCapacity);
+        }
+        this.workers = Executors.newFixedThreadPool(workerCount);
+        this.latencyTimer = Timer.builder("notification.dispatch.latency")
+                .description("알림이 큐에 들어온 뒤 SSE로 전송되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.dispatch.dropped")
+                .description("큐가 가득 차 버린 알림 수")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("notification.dispatch.coalesced")
+                .description("큐가 가득 차 같은 사용자의 대기 중인 묶음에 합친 알림 묶음 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatch.queue.depth", this,
+                        dispatcher -> Arrays.stream(dispatcher.partitions).mapToInt(LinkedBlockingDeque::size).sum())
+                .description("전송을 기다리는 알림 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (LinkedBlockingDeque<Dispatch> partition : partitions) {
+            workers.execute(() -> drain(partition));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 사용자의 파티션 큐에 알림을 넣습니다. 큐가 가득 차 있으면 설정된 정책에 따라 기존 알림 하나를 버리거나 같은 사용자의 묶음에 합칩니다.
+     */
+    public void dispatch(Long userId, String eventId, List<NotificationSseResponse> sseResponses) {
+        LinkedBlockingDeque<Dispatch> partition = partitions[Math.floorMod(userId.hashCode(), partitions.length)];
+        Dispatch dispatch = new Dispatch(userId, eventId, sseResponses, System.nanoTime());
+        while (!partition.offerLast(dispatch)) {
+            Dispatch queued = overflowPolicy == OverflowPolicy.COALESCE ? lastOf(partition, userId) : null;
+            if (queued != null) {
+                // 작업 스레드가 그 사이에 꺼내 갔으면 자리가 났으므로 그대로 다시 넣어 봅니다.
+                if (partition.removeLastOccurrence(queued)) {
+                    dispatch = queued.merge(dispatch);
+                    coalescedCounter.increment();
+                }
+                continue;
+            }
+            Dispatch dropped = partition.pollFirst();
+            if (dropped != null) {
+                droppedCounter.increment();
+                log.warn("[SSE] 전송 대기열이 가득 차 알림을 버립니다 UserId: {}", dropped.userId());
+            }
+        }
+    }
+
+    /**
+     * 같은 사용자의 가장 최근 대기 묶음. 사용자의 마지막 묶음이라 꺼내서 합친 묶음을 뒤에 넣어도 그 사용자의 전송 순서는 그대로입니다.
+     */
+    private Dispatch lastOf(LinkedBlockingDeque<Dispatch> partition, Long userId) {
+        Iterator<Dispatch> iterator = partition.descendingIterator();
+        while (iterator.hasNext()) {
+            Dispatch queued = iterator.next();
+            if (queued.userId().equals(userId)) {
+                return queued;
+            }
+        }
+        return null;
+    }
+
+    private void drain(LinkedBlockingDeque<Dispatch> partition) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Dispatch dispatch = partition.takeFirst();
+                notificationService.sendRealTimeNotifications(dispatch.userId(), dispatch.eventId(),
+                        dispatch.sseResponses());
+                latencyTimer.record(System.nanoTime() - dispatch.enqueuedAt(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("[SSE] 알림 전송 중 오류 발생", e);
+            }
+        }
+    }
+
+    /**
+     * 큐가 가득 찼을 때 버릴 알림
+     */
+    public enum OverflowPolicy {
+        /**
+         * 파티션에서 가장 오래된 알림
+         */
+        DROP_OLDEST,
+        /**
+         * 버리지 않고 같은 사용자의 가장 최근 대기 묶음에 합칩니다. 그 사용자의 대기 묶음이 없을 때만 파티션에서 가장 오래된 알림을 버립니다.
+         */
+        COALESCE
+    }
+
+    private record Dispatch(Long userId, String eventId, List<NotificationSseResponse> sseResponses,
+                            long enqueuedAt) {
+        /**
+         * 뒤에 온 알림을 이어 붙입니다. 이벤트 ID 는 재연결 시 이어 받을 위치가 되도록 뒤에 온 것을 쓰고, 대기 시간은 먼저 들어온 묶음 기준으로
+         * 재도록 들어온 시각은 그대로 둡니다.
+         */
+        Dispatch merge(Dispatch next) {
+            List<NotificationSseResponse> merged = new ArrayList<>(sseResponses.size() + next.sseResponses().size());
+            merged.addAll(sseResponses);
+            merged.addAll(next.sseResponses());
+            return new Dispatch(userId, next.eventId(), merged, enqueuedAt);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.chzz.market.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.BatchRelayUtil;
+import org.chzz.market.domain.notification.dto.NotificationOutboxResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 짧은 주기로 알림 발송 요청(outbox)을 묶음 단위로 처리합니다.
+ * <p>
+ * 모든 노드에서 실행되지만 {@link NotificationOutboxService}가 SKIP LOCKED 로 요청을 선점하므로 같은 요청이 두 번 처리되지 않습니다. 주기 사이에
+ * 쌓인 요청을 한 번에 저장하고 발행하므로 알림이 몰릴 때 Redis 발행과 SSE 전송이 묶음 단위로 줄어듭니다.
+ * <p>
+ * 묶음이 실패하면 같은 요청들을 한 건씩 다시 처리해 나머지 요청은 전달하고, 실패한 요청은 실패 횟수를 기록합니다. max-attempts 번 실패한 요청은 격리되어
+ * 이후 묶음을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    private final NotificationOutboxService notificationOutboxService;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+    private final int maxAttempts;
+    private final Timer lagTimer;
+    private final Counter relayedCounter;
+    private final Counter notificationCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    public NotificationOutboxRelay(NotificationOutboxService notificationOutboxService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                   @Value("${notification.outbox.max-batches-per-tick:20}") int maxBatchesPerTick,
+                                   @Value("${notification.outbox.max-attempts:5}") int maxAttempts) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerTick = maxBatchesPerTick;
+        this.maxAttempts = maxAttempts;
+        this.lagTimer = Timer.builder("notification.outbox.lag")
+                .description("발송 요청이 저장된 뒤 알림으로 처리되기까지 걸린 시간 (묶음의 가장 오래된 요청 기준)")
+                .register(meterRegistry);
+        this.relayedCounter = Counter.builder("notification.outbox.relayed")
+                .description("처리된 알림 발송 요청 수")
+                .register(meterRegistry);
+        this.notificationCounter = Counter.builder("notification.outbox.notifications")
+                .description("발송 요청으로 저장된 알림 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("notification.outbox.failures")
+                .description("알림 발송 요청 묶음 처리 실패 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("notification.outbox.dead-lettered")
+                .description("처리할 수 없어 격리한 알림 발송 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-ms:200}")
+    public void tick() {
+        BatchRelayUtil.drain(batchSize, maxBatchesPerTick, notificationOutboxService::relay, this::record, e -> {
+            failureCounter.increment();
+            log.error("알림 발송 요청 묶음 처리 중 오류가 발생해 한 건씩 다시 처리합니다.", e);
+            relayOneByOne();
+        });
+    }
+
+    /**
+     * 묶음에 들어갔을 요청들을 각자의 트랜잭션으로 처리합니다. 다른 노드가 잡고 있는 요청은 건너뜁니다.
+     */
+    private void relayOneByOne() {
+        List<Long> outboxIds;
+        try {
+            outboxIds = notificationOutboxService.findOldestIds(batchSize);
+        } catch (Exception e) {
+            log.error("다시 처리할 알림 발송 요청을 조회하지 못했습니다.", e);
+            return;
+        }
+        for (Long outboxId : outboxIds) {
+            try {
+                record(notificationOutboxService.relayOne(outboxId));
+            } catch (Exception e) {
+                recordFailure(outboxId, e);
+            }
+        }
+    }
+
+    private void recordFailure(Long outboxId, Exception cause) {
+        try {
+            if (notificationOutboxService.recordFailure(outboxId, cause, maxAttempts)) {
+                deadLetterCounter.increment();
+                log.error("알림 발송 요청을 {}번 처리하지 못해 격리합니다. ID: {}", maxAttempts, outboxId, cause);
+            } else {
+                log.warn("알림 발송 요청 처리 실패, 다음 주기에 다시 시도합니다. ID: {}", outboxId, cause);
+            }
+        } catch (Exception e) {
+            log.error("알림 발송 요청 실패를 기록하지 못했습니다. ID: {}", outboxId, e);
+        }
+    }
+
+    private void record(NotificationOutboxResult result) {
+        if (result.entryCount() == 0) {
+            return;
+        }
+        relayedCounter.increment(result.entryCount());
+        deadLetterCounter.increment(result.deadLetterCount());
+        notificationCounter.increment(result.notificationCount());
+        BatchRelayUtil.recordLag(lagTimer, result);
+        log.info("알림 발송 요청 {}건 처리 (알림 {}건)", result.entryCount(), result.notificationCount());
+    }
+}
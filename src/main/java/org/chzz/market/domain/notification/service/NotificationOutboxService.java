@@ -0,0 +1,189 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.chzz.market.domain.notification.error.NotificationErrorCode.OUTBOX_WRITE_FAILURE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.dto.NotificationDraft;
+import org.chzz.market.domain.notification.dto.NotificationOutboxMessage;
+import org.chzz.market.domain.notification.dto.NotificationOutboxResult;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.entity.NotificationOutbox;
+import org.chzz.market.domain.notification.error.NotificationException;
+import org.chzz.market.domain.notification.event.NotificationEvent;
+import org.chzz.market.domain.notification.event.NotificationStoredEvent;
+import org.chzz.market.domain.notification.repository.NotificationOutboxRepository;
+import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 발송 요청(outbox)을 저장하고, 모인 요청을 알림으로 바꿔 저장합니다.
+ * <p>
+ * 알림 이벤트는 업무 트랜잭션 안에서 발송 요청 한 행으로 저장되므로 커밋된 변경의 알림은 노드가 죽거나 스레드 풀이 가득 차도 사라지지 않습니다. 발송 요청은
+ * 여러 노드가 SKIP LOCKED 로 나누어 가져가고, 묶음마다 알림을 JDBC 배치로 저장한 뒤 요청을 지웁니다. 실시간 전송은 커밋 후
+ * {@link NotificationStoredEvent}로 묶음당 한 번 발행합니다. 형식이 잘못된 요청과 한 건씩 처리해도 계속 실패하는 요청은 지우지 않고 격리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final TypeReference<List<NotificationOutboxMessage>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림 이벤트들을 발송 요청 한 행으로 저장합니다. 호출한 트랜잭션에 참여하므로 업무 변경과 함께 커밋되거나 롤백됩니다.
+     */
+    @Transactional
+    public void append(List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            List<NotificationOutboxMessage> messages = events.stream().map(NotificationOutboxMessage::of).toList();
+            notificationOutboxRepository.save(new NotificationOutbox(objectMapper.writeValueAsString(messages)));
+        } catch (JsonProcessingException e) {
+            log.error("알림 발송 요청 직렬화 실패: {}", events, e);
+            throw new NotificationException(OUTBOX_WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * 오래된 발송 요청을 최대 limit 개 가져와 알림을 저장하고 요청을 삭제합니다. 하나라도 저장에 실패하면 묶음 전체가 롤백됩니다.
+     */
+    @Transactional
+    public NotificationOutboxResult relay(int limit) {
+        return relay(notificationOutboxRepository.lockOldest(limit));
+    }
+
+    /**
+     * 발송 요청 하나만 처리합니다. 묶음 처리가 실패했을 때 실패한 요청만 골라내기 위해 씁니다.
+     */
+    @Transactional
+    public NotificationOutboxResult relayOne(Long outboxId) {
+        return relay(notificationOutboxRepository.lockById(outboxId));
+    }
+
+    /**
+     * 한 건 처리에도 실패한 요청의 실패 횟수를 늘리고, maxAttempts 번 실패했으면 격리합니다.
+     *
+     * @return 격리되었으면 true
+     */
+    @Transactional
+    public boolean recordFailure(Long outboxId, Exception cause, int maxAttempts) {
+        return notificationOutboxRepository.findById(outboxId)
+                .map(entry -> entry.recordFailure(cause.toString(), maxAttempts))
+                .orElse(false);
+    }
+
+    /**
+     * 묶음 처리가 실패했을 때 한 건씩 다시 처리할 요청 ID
+     */
+    public List<Long> findOldestIds(int limit) {
+        return notificationOutboxRepository.findOldestIds(limit);
+    }
+
+    private NotificationOutboxResult relay(List<NotificationOutbox> lockedEntries) {
+        if (lockedEntries.isEmpty()) {
+            return NotificationOutboxResult.EMPTY;
+        }
+
+        // 1. 발송 요청을 알림 이벤트로 풀고, 존재하는 사용자에게 보낼 알림만 한 번에 저장
+        List<NotificationOutbox> entries = new ArrayList<>();
+        List<NotificationOutboxMessage> messages = parse(lockedEntries, entries);
+        Set<Long> existingUserIds = findExistingUserIds(messages);
+        List<NotificationDraft> drafts = new ArrayList<>();
+        List<Integer> messageIndexes = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            for (Long userId : messages.get(i).userIds()) {
+                if (existingUserIds.contains(userId)) {
+                    drafts.add(NotificationDraft.of(userId, messages.get(i)));
+                    messageIndexes.add(i);
+                }
+            }
+        }
+        List<Long> notificationIds = insertAll(drafts);
+        if (!entries.isEmpty()) {
+            notificationOutboxRepository.deleteAllByIdInBatch(entries.stream().map(NotificationOutbox::getId).toList());
+        }
+
+        // 2. 이벤트별 사용자 ID와 알림 ID 매핑을 만들어 커밋 후 한 번에 발행
+        List<Map<Long, Long>> userNotificationMaps = new ArrayList<>();
+        messages.forEach(message -> userNotificationMaps.add(new LinkedHashMap<>()));
+        Map<Long, Long> unreadDeltas = new HashMap<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            Long userId = drafts.get(i).userId();
+            userNotificationMaps.get(messageIndexes.get(i)).put(userId, notificationIds.get(i));
+            unreadDeltas.merge(userId, 1L, Long::sum);
+        }
+        List<NotificationRealMessage> realMessages = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (!userNotificationMaps.get(i).isEmpty()) {
+                realMessages.add(NotificationRealMessage.of(userNotificationMaps.get(i), messages.get(i)));
+            }
+        }
+        if (!realMessages.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationStoredEvent(realMessages, unreadDeltas));
+        }
+        int deadLetterCount = lockedEntries.size() - entries.size();
+        return new NotificationOutboxResult(lockedEntries.size(), drafts.size(), lockedEntries.get(0).getCreatedAt(),
+                deadLetterCount);
+    }
+
+    /**
+     * 형식이 잘못된 발송 요청은 다시 처리해도 실패하므로 지우지 않고 바로 격리합니다. 읽을 수 있는 요청만 parsed 에 담습니다.
+     */
+    private List<NotificationOutboxMessage> parse(List<NotificationOutbox> entries, List<NotificationOutbox> parsed) {
+        List<NotificationOutboxMessage> messages = new ArrayList<>();
+        for (NotificationOutbox entry : entries) {
+            try {
+                messages.addAll(objectMapper.readValue(entry.getPayload(), PAYLOAD_TYPE));
+                parsed.add(entry);
+            } catch (JsonProcessingException e) {
+                log.error("형식이 잘못된 알림 발송 요청을 격리합니다. ID: {}", entry.getId(), e);
+                entry.deadLetter(e.getOriginalMessage());
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 경매 일괄 종료처럼 알림이 아주 많으면 정해진 크기로 나누어 배치 저장합니다.
+     */
+    private List<Long> insertAll(List<NotificationDraft> drafts) {
+        List<Long> notificationIds = new ArrayList<>(drafts.size());
+        for (int from = 0; from < drafts.size(); from += INSERT_CHUNK_SIZE) {
+            notificationIds.addAll(notificationRepository.insertAll(
+                    drafts.subList(from, Math.min(from + INSERT_CHUNK_SIZE, drafts.size()))));
+        }
+        return notificationIds;
+    }
+
+    private Set<Long> findExistingUserIds(List<NotificationOutboxMessage> messages) {
+        Set<Long> userIds = new HashSet<>();
+        messages.forEach(message -> userIds.addAll(message.userIds()));
+        Set<Long> existingUserIds = new HashSet<>();
+        userRepository.findAllById(userIds).stream().map(User::getId).forEach(existingUserIds::add);
+        return existingUserIds;
+    }
+}
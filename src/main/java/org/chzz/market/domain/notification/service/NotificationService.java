@@ -1,71 +1,153 @@
 package org.chzz.market.domain.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.dto.SseReplayEvent;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
 import org.chzz.market.domain.notification.dto.response.NotificationSseResponse;
 import org.chzz.market.domain.notification.entity.Notification;
 import org.chzz.market.domain.notification.error.NotificationErrorCode;
 import org.chzz.market.domain.notification.error.NotificationException;
+import org.chzz.market.domain.notification.event.NotificationUnreadCountEvent;
 import org.chzz.market.domain.notification.repository.EmitterRepositoryImpl;
 import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.SseReplayRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class NotificationService {
+    private static final int REACTIVE_BUFFER_SIZE = 256;
+
     private final NotificationRepository notificationRepository;
     private final EmitterRepositoryImpl emitterRepository;
+    private final SseHeartbeatScheduler sseHeartbeatScheduler;
+    private final SseReplayRepository sseReplayRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID로 SSE 연결을 생성하고 구독을 처리합니다.
+     * <p>
+     * 재연결이면(Last-Event-ID 가 있으면) 마지막으로 받은 이벤트 이후의 알림을 재전송 로그에서 다시 보냅니다. 연결을 먼저 등록한 뒤 재전송하므로 그
+     * 사이에 도착한 알림은 중복될 수 있지만 빠지지 않습니다. 클라이언트는 이벤트 ID로 중복을 거를 수 있습니다.
      *
-     * @param userId 구독할 사용자 ID
+     * @param userId      구독할 사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (최초 연결이면 null)
      * @return SseEmitter 객체
      */
-    public SseEmitter subscribe(Long userId) {
-        SseEmitter emitter = new SseEmitter(25 * 60 * 60 * 1000L); // 25시간으로 설정
-        emitterRepository.save(userId, emitter);
-        setupEmitterCallbacks(userId, emitter);
-        sendInitialConnectionEvent(userId, emitter);
-        return emitter;
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        ServletSseConnection connection = ServletSseConnection.forCurrentRequest(25 * 60 * 60 * 1000L); // 25시간으로 설정
+        connection.emitter().onTimeout(() -> log.info("[SSE] 시간 초과 UserId: {}", userId));
+        connect(userId, connection, lastEventId);
+        return connection.emitter();
     }
 
     /**
-     * 실시간으로 SSE를 통해 사용자에게 알림을 전송합니다.
+     * {@link #subscribe(Long, String)}와 같지만 서블릿 응답에 직접 쓰지 않고 사용자별 버퍼에 넣은 이벤트를 Flux 로 내보냅니다. 알림을 보내는 스레드가
+     * 느린 클라이언트의 소켓 쓰기를 기다리지 않습니다.
+     *
+     * @param userId      구독할 사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (최초 연결이면 null)
+     * @return 알림 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<String>> subscribeStream(Long userId, String lastEventId) {
+        ReactiveSseConnection connection = new ReactiveSseConnection(REACTIVE_BUFFER_SIZE);
+        connect(userId, connection, lastEventId);
+        return connection.asFlux();
+    }
+
+    /**
+     * 수신자별 SSE 데이터를 재전송 로그에 기록하고 발급된 이벤트 ID를 메시지에 채웁니다. 기록에 실패해도 실시간 전송은 계속합니다.
+     */
+    public NotificationRealMessage recordForReplay(NotificationRealMessage notificationRealMessage) {
+        try {
+            Map<Long, String> dataByUser = new HashMap<>();
+            for (Map.Entry<Long, Long> entry : notificationRealMessage.notificationIds().entrySet()) {
+                NotificationSseResponse sseResponse = NotificationSseResponse.of(notificationRealMessage,
+                        entry.getValue());
+                dataByUser.put(entry.getKey(), objectMapper.writeValueAsString(sseResponse));
+            }
+            return notificationRealMessage.withEventIds(sseReplayRepository.append(dataByUser));
+        } catch (Exception e) {
+            log.warn("[SSE] 재전송 로그 기록 실패: {}", notificationRealMessage, e);
+            return notificationRealMessage;
+        }
+    }
+
+    /**
+     * 실시간으로 SSE를 통해 사용자에게 알림을 전송합니다. 사용자가 여러 기기로 연결되어 있어도 JSON 직렬화와 이벤트 생성은 한 번만 하고 같은 프레임을
+     * 모든 연결에 씁니다.
      *
-     * @param sseResponse 전송할 알림 메시지 객체
      * @param userId      사용자 ID
+     * @param eventId     SSE 이벤트 ID (재전송 로그에 기록하지 못했으면 null)
+     * @param sseResponse 전송할 알림 메시지 객체
+     * @return 이 노드에 연결이 없거나 하나 이상의 연결에 썼으면 true, 연결이 있지만 어디에도 쓰지 못했으면 false
      */
-    public void sendRealTimeNotification(Long userId, NotificationSseResponse sseResponse) {
-        Optional<List<SseEmitter>> findEmitter = emitterRepository.findByUserId(userId);
-        findEmitter.ifPresent(emitters -> {
-            emitters.forEach(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .id(userId + "_" + Instant.now().toEpochMilli())
-                            .name("notification")
-                            .data(objectMapper.writeValueAsString(sseResponse)));
-                    log.info("[SSE] 알림 전송 성공 UserId: {} {}", userId, sseResponse);
-                } catch (IOException e) {
-                    // 내부에서 추가로 IOException이 발생하므로, 프레임워크의 예외 처리 핸들러에 처리
-                    log.info("[SSE] 연결 정리 UserId: {}", userId);
-                }
-            });
-        });
+    public boolean sendRealTimeNotification(Long userId, String eventId, NotificationSseResponse sseResponse) {
+        return sendFrame(userId, eventId, "notification", sseResponse);
+    }
+
+    /**
+     * 짧은 시간 동안 모인 사용자의 알림들을 SSE 이벤트 하나로 전송합니다. 한 건이면 notification 이벤트, 여러 건이면 알림 배열을 담은
+     * notifications 이벤트로 보냅니다.
+     *
+     * @param userId       사용자 ID
+     * @param eventId      마지막 알림의 SSE 이벤트 ID (재전송 로그에 기록하지 못했으면 null)
+     * @param sseResponses 전송할 알림 메시지 목록 (발생 순서)
+     * @return {@link #sendRealTimeNotification(Long, String, NotificationSseResponse)}와 같습니다.
+     */
+    public boolean sendRealTimeNotifications(Long userId, String eventId, List<NotificationSseResponse> sseResponses) {
+        if (sseResponses.size() == 1) {
+            return sendRealTimeNotification(userId, eventId, sseResponses.get(0));
+        }
+        return sendFrame(userId, eventId, "notifications", sseResponses);
+    }
+
+    private boolean sendFrame(Long userId, String eventId, String eventName, Object payload) {
+        Optional<List<SseConnection>> findConnections = emitterRepository.findByUserId(userId);
+        if (findConnections.isEmpty() || findConnections.get().isEmpty()) {
+            return true;
+        }
+        SseFrame frame;
+        try {
+            frame = SseFrame.of(eventId != null ? eventId : userId + "_" + Instant.now().toEpochMilli(), eventName,
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.error("[SSE] 알림 직렬화 실패 UserId: {} {}", userId, payload, e);
+            return false;
+        }
+        boolean sent = false;
+        for (SseConnection connection : findConnections.get()) {
+            try {
+                connection.send(frame);
+                sent = true;
+                log.info("[SSE] 알림 전송 성공 UserId: {} {}", userId, payload);
+            } catch (IOException e) {
+                // 내부에서 추가로 IOException이 발생하므로, 프레임워크의 예외 처리 핸들러에 처리
+                log.info("[SSE] 연결 정리 UserId: {}", userId);
+            }
+        }
+        return sent;
     }
 
     /**
@@ -75,64 +157,93 @@ public class NotificationService {
         return notificationRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * 사용자의 알림 커서 기반 조회
+     */
+    public CursorResponse<NotificationResponse> getNotifications(Long userId, String cursor, Pageable pageable) {
+        return notificationRepository.findByUserId(userId, cursor, pageable);
+    }
+
     @Transactional
     public void readNotification(Long userId, Long notificationId) {
         Notification notification = findNotificationByUserAndId(userId, notificationId);
+        boolean wasUnread = !notification.isRead();
         notification.read();
+        if (wasUnread) {
+            eventPublisher.publishEvent(NotificationUnreadCountEvent.of(userId, -1));
+        }
     }
 
     @Transactional
     public void deleteNotification(Long userId, Long notificationId) {
         Notification notification = findNotificationByUserAndId(userId, notificationId);
+        boolean wasUnread = !notification.isRead() && !notification.isDeleted();
         notification.delete();
+        if (wasUnread) {
+            eventPublisher.publishEvent(NotificationUnreadCountEvent.of(userId, -1));
+        }
     }
 
     /**
-     * 모든 emitters에 하트비트 메시지를 주기적으로 전송하여 연결 상태를 확인
+     * 사용자의 읽지 않은 알림을 모두 읽음 처리합니다.
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    public void sendHeartbeats() {
-        emitterRepository.findAllEmitters().forEach((userId, emitters) -> {
-            emitters.forEach(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                } catch (IOException e) {
-                    // 내부에서 추가로 IOException이 발생하므로, 프레임워크의 예외 처리 핸들러에 처리
-                    log.info("[SSE] 연결 정리 UserId: {}", userId);
-                }
-            });
-        });
+    @Transactional
+    public void readAllNotifications(Long userId) {
+        if (notificationRepository.readAllByUserId(userId) > 0) {
+            eventPublisher.publishEvent(NotificationUnreadCountEvent.reset(userId));
+        }
     }
 
     /**
-     * SseEmitter의 콜백을 설정합니다.
-     *
-     * @param userId  사용자 ID
-     * @param emitter 설정할 SseEmitter
+     * 사용자의 알림을 모두 삭제 처리합니다.
      */
-    private void setupEmitterCallbacks(Long userId, SseEmitter emitter) {
-        emitter.onCompletion(() -> {
-            emitterRepository.deleteEmitter(userId, emitter);
+    @Transactional
+    public void deleteAllNotifications(Long userId) {
+        if (notificationRepository.deleteAllByUserId(userId) > 0) {
+            eventPublisher.publishEvent(NotificationUnreadCountEvent.reset(userId));
+        }
+    }
+
+    private void connect(Long userId, SseConnection connection, String lastEventId) {
+        emitterRepository.save(userId, connection);
+        sseHeartbeatScheduler.register(userId);
+        connection.onCompletion(() -> {
+            emitterRepository.deleteEmitter(userId, connection);
             log.info("[SSE] 연결 종료 UserId: {}", userId);
         });
-        emitter.onTimeout(() -> {
-            log.info("[SSE] 시간 초과 UserId: {}", userId);
-        });
+        sendInitialConnectionEvent(userId, connection);
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replayMissedEvents(userId, lastEventId, connection);
+        }
+    }
+
+    /**
+     * 재전송 로그에서 마지막으로 받은 이벤트 이후의 알림을 보냅니다.
+     */
+    private void replayMissedEvents(Long userId, String lastEventId, SseConnection connection) {
+        try {
+            List<SseReplayEvent> missedEvents = sseReplayRepository.findAfter(userId, lastEventId);
+            for (SseReplayEvent missedEvent : missedEvents) {
+                connection.send(SseFrame.of(missedEvent.eventId(), "notification", missedEvent.data()));
+            }
+            log.info("[SSE] 놓친 알림 재전송 UserId: {} 건수: {}", userId, missedEvents.size());
+        } catch (IOException e) {
+            log.info("[SSE] 연결 정리 UserId: {}", userId);
+        } catch (Exception e) {
+            log.warn("[SSE] 놓친 알림 재전송 실패 UserId: {}", userId, e);
+        }
     }
 
     /**
      * 초기 연결 시 더미 이벤트를 전송하여 503 에러를 방지합니다.
      *
-     * @param userId  사용자 ID
-     * @param emitter 이벤트를 전송할 SseEmitter
+     * @param userId     사용자 ID
+     * @param connection 이벤트를 전송할 연결
      */
-    private void sendInitialConnectionEvent(Long userId, SseEmitter emitter) {
+    private void sendInitialConnectionEvent(Long userId, SseConnection connection) {
         try {
             log.info("[SSE] 연결 성공 UserId: {}", userId);
-            emitter.send(SseEmitter.event()
-                    .id(userId + "_" + Instant.now().toEpochMilli())
-                    .name("init")
-                    .data("Connection Established"));
+            connection.send(SseFrame.of(userId + "_" + Instant.now().toEpochMilli(), "init", "Connection Established"));
         } catch (Exception e) {
             log.info("[SSE] 연결 실패 UserId: {}", userId);
         }
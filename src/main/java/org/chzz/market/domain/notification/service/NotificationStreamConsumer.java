@@ -0,0 +1,227 @@
+package org.chzz.market.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드의 알림 스트림을 소비자 그룹으로 읽어 SSE로 전달합니다.
+ * <p>
+ * 전용 스레드 하나가 XREADGROUP 으로 정해진 개수씩 읽고, 묶음을 모두 전달한 뒤 처리한 항목을 한 번에 확인 응답(XACK)합니다. 이전 묶음을 다 처리해야
+ * 다음 묶음을 읽으므로 처리 속도보다 빨리 쌓이는 메시지는 메모리가 아니라 스트림에 남습니다. 전달 도중 노드가 죽어 확인 응답되지 않은 항목은 일정 시간이 지나면
+ * 다시 가져와(XCLAIM) 처리하므로 최소 한 번 전달됩니다. 같은 알림이 두 번 전달될 수 있으며 클라이언트는 이벤트 ID로 거를 수 있습니다.
+ * <p>
+ * 스트림과 소비자 이름이 노드 ID로 정해지므로 재시작한 노드가 이전에 확인 응답하지 못한 항목을 다시 가져가려면 {@code sse.node-id}가 재시작해도
+ * 같아야 합니다. 설정하지 않으면 시작하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "stream")
+public class NotificationStreamConsumer {
+    private static final String GROUP = "sse-delivery";
+    private static final int MAX_DELIVERY_COUNT = 5;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisSubscriber redisSubscriber;
+    private final String key;
+    private final Consumer consumer;
+    private final int batchSize;
+    private final Duration blockTimeout;
+    private final Duration claimMinIdle;
+    private final ExecutorService poller = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Timer lagTimer;
+    private final Counter failureCounter;
+
+    public NotificationStreamConsumer(StringRedisTemplate redisTemplate,
+                                      RedisSubscriber redisSubscriber,
+                                      SsePresenceRepository ssePresenceRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${notification.stream.batch-size:100}") int batchSize,
+                                      @Value("${notification.stream.block-ms:2000}") long blockMs,
+                                      @Value("${notification.stream.claim-min-idle-ms:30000}") long claimMinIdleMs) {
+        if (!ssePresenceRepository.isNodeIdConfigured()) {
+            throw new IllegalStateException("notification.transport=stream 에서는 재시작해도 바뀌지 않는 sse.node-id 를 설정해야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.redisSubscriber = redisSubscriber;
+        this.key = StreamNotificationTransport.key(ssePresenceRepository.getNodeId());
+        this.consumer = Consumer.from(GROUP, ssePresenceRepository.getNodeId());
+        this.batchSize = batchSize;
+        this.blockTimeout = Duration.ofMillis(blockMs);
+        this.claimMinIdle = Duration.ofMillis(claimMinIdleMs);
+        this.lagTimer = Timer.builder("notification.stream.lag")
+                .description("알림이 스트림에 추가된 뒤 이 노드가 읽기까지 걸린 시간")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("notification.stream.failures")
+                .description("전달에 실패해 확인 응답하지 않은 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.stream.pending", pendingCount, AtomicLong::get)
+                .description("읽었지만 아직 확인 응답하지 않은 알림 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        createGroupIfAbsent();
+        poller.execute(this::pollLoop);
+        log.info("[SSE] 알림 스트림 소비 시작 - 스트림: {}, 소비자: {}", key, consumer.getName());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        poller.shutdownNow();
+    }
+
+    /**
+     * 읽은 뒤 오래 확인 응답되지 않은 항목을 다시 가져와 처리합니다. 여러 번 실패한 항목은 확인 응답하고 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.reclaim-interval-ms:10000}")
+    public void reclaimStalled() {
+        if (!running.get()) {
+            return;
+        }
+        try {
+            StreamOperations<String, Object, Object> streamOperations = redisTemplate.opsForStream();
+            PendingMessagesSummary summary = streamOperations.pending(key, GROUP);
+            pendingCount.set(summary == null ? 0 : summary.getTotalPendingMessages());
+            if (pendingCount.get() == 0) {
+                return;
+            }
+            PendingMessages pendingMessages = streamOperations.pending(key, GROUP, Range.unbounded(), batchSize);
+            List<RecordId> stalledIds = new ArrayList<>();
+            List<RecordId> deadIds = new ArrayList<>();
+            for (PendingMessage pendingMessage : pendingMessages) {
+                if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) < 0) {
+                    continue;
+                }
+                if (pendingMessage.getTotalDeliveryCount() >= MAX_DELIVERY_COUNT) {
+                    deadIds.add(pendingMessage.getId());
+                } else {
+                    stalledIds.add(pendingMessage.getId());
+                }
+            }
+            if (!deadIds.isEmpty()) {
+                log.error("[SSE] {}회 이상 전달에 실패한 알림을 버립니다: {}", MAX_DELIVERY_COUNT, deadIds);
+                streamOperations.acknowledge(key, GROUP, deadIds.toArray(RecordId[]::new));
+            }
+            if (!stalledIds.isEmpty()) {
+                handle(streamOperations.claim(key, GROUP, consumer.getName(), claimMinIdle,
+                        stalledIds.toArray(RecordId[]::new)));
+            }
+        } catch (Exception e) {
+            log.warn("[SSE] 확인 응답되지 않은 알림 재처리 실패 - 스트림: {}", key, e);
+        }
+    }
+
+    /**
+     * 읽은 항목들을 전달하고 처리가 끝난 항목을 한 번에 확인 응답합니다. 형식이 잘못된 메시지는 다시 처리해도 실패하므로 확인 응답합니다.
+     *
+     * @return 확인 응답한 항목 수
+     */
+    int handle(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        List<RecordId> processedIds = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Long addedAt = record.getId().getTimestamp();
+            if (addedAt != null) {
+                lagTimer.record(Math.max(0, now - addedAt), TimeUnit.MILLISECONDS);
+            }
+            Object payload = record.getValue().get(StreamNotificationTransport.PAYLOAD_FIELD);
+            try {
+                if (payload != null) {
+                    redisSubscriber.deliver(payload.toString());
+                }
+                processedIds.add(record.getId());
+            } catch (JsonProcessingException e) {
+                log.error("[SSE] 형식이 잘못된 알림 메시지를 건너뜁니다: {}", payload, e);
+                processedIds.add(record.getId());
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.warn("[SSE] 알림 전달 실패, 재처리 대기 - 항목 ID: {}", record.getId(), e);
+            }
+        }
+        if (!processedIds.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(key, GROUP, processedIds.toArray(RecordId[]::new));
+        }
+        return processedIds.size();
+    }
+
+    private void pollLoop() {
+        while (running.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                handle(redisTemplate.opsForStream().read(consumer,
+                        StreamReadOptions.empty().count(batchSize).block(blockTimeout),
+                        StreamOffset.create(key, ReadOffset.lastConsumed())));
+            } catch (Exception e) {
+                if (!running.get()) {
+                    return;
+                }
+                log.warn("[SSE] 알림 스트림 읽기 실패 - 스트림: {}", key, e);
+                createGroupIfAbsent(); // 스트림이 TTL 로 만료되면 소비자 그룹도 함께 사라집니다.
+                try {
+                    Thread.sleep(RETRY_BACKOFF.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void createGroupIfAbsent() {
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection, rawKey));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류가 발생합니다.
+            log.debug("[SSE] 소비자 그룹 생성 생략 - 스트림: {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String createGroup(RedisConnection connection, byte[] rawKey) {
+        return connection.streamCommands().xGroupCreate(rawKey, GROUP, ReadOffset.from("0"), true);
+    }
+}
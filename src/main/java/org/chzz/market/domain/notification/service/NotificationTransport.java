@@ -0,0 +1,15 @@
+package org.chzz.market.domain.notification.service;
+
+/**
+ * 알림 메시지를 수신자가 연결된 노드로 전달하는 방식
+ * <p>
+ * notification.transport 설정으로 선택합니다. pubsub(기본값)은 {@link PubSubNotificationTransport}, stream 은
+ * {@link StreamNotificationTransport}를 사용합니다.
+ */
+public interface NotificationTransport {
+    /**
+     * @param nodeId  수신자들이 SSE로 연결된 노드 ID
+     * @param message 해당 노드 수신자 몫만 남겨 직렬화한 {@link org.chzz.market.domain.notification.dto.NotificationRealBatch}
+     */
+    void send(String nodeId, String message);
+}
@@ -0,0 +1,111 @@
+package org.chzz.market.domain.notification.service;
+
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.CachedCountUtil;
+import org.chzz.market.domain.notification.event.NotificationUnreadCountEvent;
+import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.NotificationUnreadCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 배지에 보여주는 읽지 않은 알림 수를 제공합니다.
+ * <p>
+ * 알림 저장, 읽음, 삭제 시 Redis 집계를 증감하고, 조회는 키 하나만 읽습니다. 집계가 없으면 (user_id, is_deleted, created_at) 인덱스로 세어 다시
+ * 만듭니다. 키가 만들어지는 사이에 반영된 증감은 빠지거나 겹칠 수 있으므로, 주기적으로 캐시된 사용자들의 값을 DB 와 비교해 어긋난 키를 지웁니다.
+ */
+@Slf4j
+@Service
+public class NotificationUnreadCountService {
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final NotificationRepository notificationRepository;
+    private final int reconcileBatchSize;
+
+    public NotificationUnreadCountService(NotificationUnreadCountRepository notificationUnreadCountRepository,
+                                          NotificationRepository notificationRepository,
+                                          @Value("${notification.unread.reconcile-batch-size:500}")
+                                          int reconcileBatchSize) {
+        this.notificationUnreadCountRepository = notificationUnreadCountRepository;
+        this.notificationRepository = notificationRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public long getUnreadCount(Long userId) {
+        return CachedCountUtil.getOrCount("읽지 않은 알림 수", userId,
+                () -> notificationUnreadCountRepository.findByUserId(userId),
+                () -> notificationRepository.countUnreadByUserId(userId),
+                count -> notificationUnreadCountRepository.save(userId, count));
+    }
+
+    /**
+     * 새로 저장된 알림 수만큼 사용자별 집계를 늘립니다.
+     */
+    public void increment(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            notificationUnreadCountRepository.increment(deltas);
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 반영 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountChanged(NotificationUnreadCountEvent event) {
+        if (!event.reset()) {
+            increment(Map.of(event.userId(), event.delta()));
+            return;
+        }
+        try {
+            notificationUnreadCountRepository.delete(event.userId());
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 초기화 중 오류가 발생했습니다. 사용자 ID: {}", event.userId(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${notification.unread.reconcile-interval-ms:600000}",
+            fixedDelayString = "${notification.unread.reconcile-interval-ms:600000}")
+    public void reconcilePeriodically() {
+        try {
+            int invalidated = reconcile();
+            if (invalidated > 0) {
+                log.info("읽지 않은 알림 수 대사 완료 - DB 와 달라 지운 집계 수: {}", invalidated);
+            }
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 대사 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시된 사용자들의 집계를 묶음마다 사용자별 그룹 쿼리 한 번으로 DB 와 비교하고, 다른 값은 지워 다음 조회에서 다시 세게 합니다. 비교하는 사이에 증감된
+     * 집계는 새 알림이 반영된 값이므로 지우지 않습니다. 지우기만 하므로 여러 노드에서 동시에 실행해도 결과가 같습니다.
+     *
+     * @return 지운 집계 수
+     */
+    public int reconcile() {
+        int[] invalidated = {0};
+        notificationUnreadCountRepository.forEachCachedUserIds(reconcileBatchSize, userIds -> {
+            invalidated[0] += reconcileBatch(userIds);
+        });
+        return invalidated[0];
+    }
+
+    private int reconcileBatch(List<Long> userIds) {
+        Map<Long, Long> cached = notificationUnreadCountRepository.findByUserIds(userIds);
+        Map<Long, Long> actual = notificationRepository.countUnreadByUserIds(cached.keySet());
+        int invalidated = 0;
+        for (Map.Entry<Long, Long> entry : cached.entrySet()) {
+            long count = actual.getOrDefault(entry.getKey(), 0L);
+            if (count != entry.getValue()
+                    && notificationUnreadCountRepository.invalidateIfUnchanged(entry.getKey(), entry.getValue())) {
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+}
@@ -0,0 +1,22 @@
+package org.chzz.market.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 Pub/Sub 채널로 알림을 보냅니다. 받는 노드가 그 순간 구독 중이 아니면 메시지는 사라집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.transport", havingValue = "pubsub", matchIfMissing = true)
+public class PubSubNotificationTransport implements NotificationTransport {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public void send(String nodeId, String message) {
+        redisTemplate.convertAndSend(SsePresenceRepository.channel(nodeId), message);
+    }
+}
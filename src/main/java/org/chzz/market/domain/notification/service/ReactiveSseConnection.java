@@ -0,0 +1,104 @@
+package org.chzz.market.domain.notification.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+import reactor.util.concurrent.Queues;
+
+/**
+ * 서블릿 응답에 직접 쓰지 않고 사용자별 {@link Sinks.Many}에 이벤트를 넣는 연결
+ * <p>
+ * 실제 쓰기는 {@link #asFlux()}를 구독한 쪽이 비동기로 합니다. 보내는 스레드는 버퍼에 넣기만 하므로 느린 클라이언트 때문에 막히지 않고, 버퍼가 가득
+ * 차면 {@link IOException}을 던져 다른 끊어진 연결과 같이 정리되게 합니다. 버퍼는 작은 조각을 이어 붙이는 큐라 대부분의 시간을 비어 있는 유휴
+ * 연결은 최대 개수만큼 미리 잡아 두지 않습니다.
+ * <p>
+ * 스트림은 Spring MVC 의 ReactiveTypeHandler 가 서블릿 비동기 요청으로 내보내므로 연결마다 서블릿 비동기 컨텍스트와 응답 버퍼는 서블릿 연결과
+ * 똑같이 남습니다. 두 방식의 연결당 메모리는 SseConnectionMemoryTest 로 비교합니다.
+ */
+public class ReactiveSseConnection implements SseConnection {
+    private static final Duration MAX_CONNECTION_TIME = Duration.ofHours(25);
+    private static final int QUEUE_CHUNK_SIZE = 8;
+
+    private final Sinks.Many<ServerSentEvent<String>> sink;
+    private final int bufferSize;
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+    private volatile Runnable completionCallback = () -> {
+    };
+
+    /**
+     * @param bufferSize 클라이언트가 가져가지 않은 이벤트를 쌓아 둘 최대 개수
+     */
+    public ReactiveSseConnection(int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ServerSentEvent<String>>unbounded(QUEUE_CHUNK_SIZE).get());
+    }
+
+    /**
+     * 컨트롤러가 반환할 이벤트 스트림. 클라이언트가 끊거나 완료되면 등록된 완료 콜백을 실행합니다.
+     */
+    public Flux<ServerSentEvent<String>> asFlux() {
+        return sink.asFlux()
+                .doOnNext(event -> buffered.decrementAndGet())
+                .take(MAX_CONNECTION_TIME)
+                .doFinally(signal -> finish());
+    }
+
+    /**
+     * 이벤트를 버퍼에 넣습니다.
+     *
+     * @throws IOException 스트림이 끝났거나 버퍼가 가득 찬 경우
+     */
+    @Override
+    public void send(SseFrame frame) throws IOException {
+        send(frame.event());
+    }
+
+    synchronized void send(ServerSentEvent<String> event) throws IOException {
+        if (buffered.incrementAndGet() > bufferSize) {
+            buffered.decrementAndGet();
+            throw new IOException("SSE 버퍼가 가득 찼습니다.");
+        }
+        EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure()) {
+            buffered.decrementAndGet();
+            throw new IOException("SSE 스트림에 이벤트를 넣을 수 없습니다: " + result);
+        }
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+        this.completionCallback = callback;
+    }
+
+    @Override
+    public boolean blocksOnSend() {
+        return false;
+    }
+
+    public synchronized void complete() {
+        sink.tryEmitComplete();
+        finish();
+    }
+
+    /**
+     * 잠금 없이 스트림을 끝냅니다. 하트비트 정리처럼 다른 스레드가 연결에 보내는 중일 수 있을 때 사용합니다.
+     */
+    @Override
+    public void abort() {
+        sink.tryEmitComplete();
+        finish();
+    }
+
+    private void finish() {
+        if (finished.compareAndSet(false, true)) {
+            completionCallback.run();
+        }
+    }
+}
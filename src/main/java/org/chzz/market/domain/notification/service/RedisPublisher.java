@@ -4,39 +4,71 @@ import static org.chzz.market.domain.notification.error.NotificationErrorCode.RE
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.dto.NotificationRealBatch;
 import org.chzz.market.domain.notification.error.NotificationException;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RedisPublisher {
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic topic;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MS = 1000;
+
+    private final NotificationTransport notificationTransport;
+    private final SsePresenceRepository ssePresenceRepository;
     private final ObjectMapper objectMapper;
+    private final RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(MAX_ATTEMPTS)
+            .fixedBackoff(BACKOFF_MS)
+            .build();
 
-    @Retryable(exclude = {JsonProcessingException.class})
-    public void publish(NotificationRealMessage notificationRealMessage) {
+    /**
+     * 묶음의 수신자들이 SSE로 연결된 노드를 찾아 노드별로 해당 노드의 수신자 몫만 보냅니다. 어느 노드에도 연결되지 않은 수신자는 보내지 않습니다.
+     * <p>
+     * 전송은 노드마다 따로 재시도합니다. 한 노드로의 전송이 실패해도 이미 보낸 노드에 다시 보내지 않고, 재시도를 모두 실패한 노드는 기록만 남기고 나머지
+     * 노드로 계속 보냅니다.
+     */
+    public void publish(NotificationRealBatch notificationRealBatch) {
+        Map<String, List<Long>> recipientsByNode;
         try {
-            String message = objectMapper.writeValueAsString(notificationRealMessage);
-            redisTemplate.convertAndSend(topic.getTopic(), message);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize NotificationRealMessage to JSON. NotificationRealMessage: {}. Error: {}",
-                    notificationRealMessage, e.getMessage(), e);
-            throw new NotificationException(REDIS_MESSAGE_SEND_FAILURE); // 객체 자체의 문제임으로 예외를 던져 롤백 처리
+            Set<Long> userIds = new HashSet<>();
+            notificationRealBatch.messages().forEach(message -> userIds.addAll(message.notificationIds().keySet()));
+            recipientsByNode = retryTemplate.execute(context -> ssePresenceRepository.findRecipientsByNode(userIds));
+        } catch (Exception e) {
+            log.error("Failed to find SSE nodes after retries. Notification Batch: {}. Error: {}",
+                    notificationRealBatch, e.getMessage(), e);
+            return;
+        }
+        for (Map.Entry<String, List<Long>> entry : recipientsByNode.entrySet()) {
+            String message = serialize(notificationRealBatch.forUsers(entry.getValue()));
+            try {
+                retryTemplate.execute(context -> {
+                    notificationTransport.send(entry.getKey(), message);
+                    return null;
+                });
+            } catch (Exception e) {
+                log.error("Failed to send message to Redis after retries. Node: {}, Users: {}. Error: {}",
+                        entry.getKey(), entry.getValue(), e.getMessage(), e);
+            }
         }
     }
 
-    @Recover
-    public void recover(Exception e, NotificationRealMessage notificationRealMessage) {
-        log.error("Failed to send message to Redis after retries. Notification Message: {}. Error: {}",
-                notificationRealMessage, e.getMessage(), e);
+    private String serialize(NotificationRealBatch notificationRealBatch) {
+        try {
+            return objectMapper.writeValueAsString(notificationRealBatch);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize NotificationRealBatch to JSON. NotificationRealBatch: {}. Error: {}",
+                    notificationRealBatch, e.getMessage(), e);
+            throw new NotificationException(REDIS_MESSAGE_SEND_FAILURE); // 객체 자체의 문제임으로 예외를 던져 롤백 처리
+        }
     }
 }
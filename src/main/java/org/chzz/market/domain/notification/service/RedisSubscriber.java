@@ -1,10 +1,14 @@
 package org.chzz.market.domain.notification.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.dto.NotificationRealBatch;
 import org.chzz.market.domain.notification.dto.NotificationRealMessage;
 import org.chzz.market.domain.notification.dto.response.NotificationSseResponse;
 import org.springframework.stereotype.Service;
@@ -17,29 +21,75 @@ import org.springframework.transaction.annotation.Transactional;
 public class RedisSubscriber {
 
     private final NotificationService notificationService;
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final NotificationDispatcher notificationDispatcher;
     private final ObjectMapper objectMapper;
 
     /**
-     * Redis에서 발행된 메시지를 수신하고 사용자에게 알림을 보냅니다.
+     * Redis에서 발행된 메시지를 수신하고 수신자별 알림 묶음을 {@link NotificationDispatcher}에 넘깁니다.
      *
      * @param message 수신한 메시지
      */
     public void onMessage(String message) {
-        executor.execute(() -> {
-            try {
-                NotificationRealMessage notificationRealMessage = objectMapper.readValue(message,
-                        NotificationRealMessage.class);
-                log.info("Redis 메세지 수신: {}", notificationRealMessage);
-                notificationRealMessage.notificationIds().forEach((userId, notificationId) -> {
-                    NotificationSseResponse sseResponse = NotificationSseResponse.of(notificationRealMessage,
-                            notificationId);
-                    notificationService.sendRealTimeNotification(userId, sseResponse);
-                });
-            } catch (Exception e) {
-                log.error("Redis pub/sub Message 처리 중 오류 발생: {} - 메시지: {}", e.getMessage(), message, e);
+        try {
+            groupByUser(message).forEach((userId, notifications) -> notificationDispatcher.dispatch(userId,
+                    notifications.lastEventId(), notifications.sseResponses()));
+        } catch (Exception e) {
+            log.error("Redis pub/sub Message 처리 중 오류 발생: {} - 메시지: {}", e.getMessage(), message, e);
+        }
+    }
+
+    /**
+     * 메시지를 이 노드에 SSE로 연결된 수신자들에게 호출한 스레드에서 바로 보냅니다. 전송이 끝난 뒤 확인 응답해야 하는 스트림 소비에서 사용합니다.
+     * 연결이 있는데 어디에도 쓰지 못한 수신자가 있으면 확인 응답하지 않고 다시 처리되도록 예외를 던집니다.
+     *
+     * @param message 직렬화된 {@link NotificationRealBatch}
+     * @throws JsonProcessingException 메시지 형식이 잘못된 경우
+     * @throws IllegalStateException   전송하지 못한 수신자가 있는 경우
+     */
+    public void deliver(String message) throws JsonProcessingException {
+        List<Long> failedUserIds = new ArrayList<>();
+        groupByUser(message).forEach((userId, notifications) -> {
+            if (!notificationService.sendRealTimeNotifications(userId, notifications.lastEventId(),
+                    notifications.sseResponses())) {
+                failedUserIds.add(userId);
             }
         });
+        if (!failedUserIds.isEmpty()) {
+            throw new IllegalStateException("SSE 로 알림을 전송하지 못한 수신자: " + failedUserIds);
+        }
     }
 
+    /**
+     * 묶음 안의 알림을 사용자별로 발생 순서대로 모읍니다.
+     */
+    private Map<Long, UserNotifications> groupByUser(String message) throws JsonProcessingException {
+        NotificationRealBatch notificationRealBatch = objectMapper.readValue(message, NotificationRealBatch.class);
+        log.info("Redis 메세지 수신: {}", notificationRealBatch);
+        Map<Long, UserNotifications> notificationsByUser = new LinkedHashMap<>();
+        for (NotificationRealMessage notificationRealMessage : notificationRealBatch.messages()) {
+            notificationRealMessage.notificationIds().forEach((userId, notificationId) ->
+                    notificationsByUser.computeIfAbsent(userId, id -> new UserNotifications())
+                            .add(notificationRealMessage.eventIdOf(userId),
+                                    NotificationSseResponse.of(notificationRealMessage, notificationId)));
+        }
+        return notificationsByUser;
+    }
+
+    private static final class UserNotifications {
+        private final List<NotificationSseResponse> sseResponses = new ArrayList<>();
+        private String lastEventId;
+
+        void add(String eventId, NotificationSseResponse sseResponse) {
+            sseResponses.add(sseResponse);
+            lastEventId = eventId;
+        }
+
+        List<NotificationSseResponse> sseResponses() {
+            return sseResponses;
+        }
+
+        String lastEventId() {
+            return lastEventId;
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package org.chzz.market.domain.notification.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 컨트롤러가 반환한 {@link SseEmitter}로 서블릿 응답에 직접 쓰는 연결
+ * <p>
+ * {@link SseEmitter#complete()}는 전송과 같은 이미터 잠금을 잡으므로, 느린 소켓에 쓰느라 멈춘 전송이 있으면 함께 멈춥니다. {@link #abort()}는
+ * 이미터를 거치지 않고 연결한 요청의 비동기 처리를 끝내 응답을 닫으므로 하트비트 정리에서 기다리지 않고 연결을 끊을 수 있습니다.
+ */
+public class ServletSseConnection implements SseConnection {
+    private final SseEmitter emitter;
+    private final HttpServletRequest request;
+
+    public ServletSseConnection(SseEmitter emitter, HttpServletRequest request) {
+        this.emitter = emitter;
+        this.request = request;
+    }
+
+    /**
+     * 현재 요청 스레드의 서블릿 요청으로 만듭니다. 요청 밖에서 만들면 {@link #abort()}는 아무 것도 하지 않습니다.
+     */
+    public static ServletSseConnection forCurrentRequest(Long timeout) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        HttpServletRequest request = attributes instanceof ServletRequestAttributes servletAttributes
+                ? servletAttributes.getRequest() : null;
+        return new ServletSseConnection(new SseEmitter(timeout), request);
+    }
+
+    /**
+     * 컨트롤러가 반환할 이미터
+     */
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    @Override
+    public void send(SseFrame frame) throws IOException {
+        emitter.send(frame.servletFrame());
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+        emitter.onCompletion(callback);
+    }
+
+    @Override
+    public boolean blocksOnSend() {
+        return true;
+    }
+
+    /**
+     * 이미터 잠금 없이 비동기 요청을 끝내 응답을 닫습니다. 이미 끝난 요청이면 무시합니다.
+     */
+    @Override
+    public void abort() {
+        if (request == null) {
+            return;
+        }
+        try {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().complete();
+            }
+        } catch (IllegalStateException e) {
+            // 그 사이에 요청이 끝났으면 닫을 응답이 없습니다.
+        }
+    }
+}
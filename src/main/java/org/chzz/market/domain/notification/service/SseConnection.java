@@ -0,0 +1,33 @@
+package org.chzz.market.domain.notification.service;
+
+import java.io.IOException;
+
+/**
+ * 사용자 한 명의 SSE 연결
+ * <p>
+ * 서블릿 응답에 직접 쓰는 {@link ServletSseConnection}과 사용자별 버퍼를 거쳐 Flux 로 내보내는 {@link ReactiveSseConnection}이 구현하며,
+ * {@link org.chzz.market.domain.notification.repository.EmitterRepository}, 알림 전송, 하트비트는 이 인터페이스로만 연결을 다룹니다.
+ */
+public interface SseConnection {
+    /**
+     * 이벤트를 보냅니다.
+     *
+     * @throws IOException 연결이 끊어졌거나 버퍼가 가득 찬 경우
+     */
+    void send(SseFrame frame) throws IOException;
+
+    /**
+     * 연결이 끝나면 실행할 콜백을 등록합니다.
+     */
+    void onCompletion(Runnable callback);
+
+    /**
+     * 보내는 스레드가 소켓 쓰기를 기다리면 true. 하트비트는 이런 연결에만 작업 스레드와 쓰기 제한 시간을 씁니다.
+     */
+    boolean blocksOnSend();
+
+    /**
+     * 전송 중인 스레드를 기다리지 않고 연결을 끊습니다. 이미 끝난 연결이면 무시합니다.
+     */
+    void abort();
+}
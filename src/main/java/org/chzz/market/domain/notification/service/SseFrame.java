@@ -0,0 +1,76 @@
+package org.chzz.market.domain.notification.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+/**
+ * 한 번 만들어 여러 연결에 그대로 쓰는 SSE 이벤트
+ * <p>
+ * 필드만 들고 있다가 연결이 처음 요청한 형태만 만들어 둡니다. 서블릿 연결에는 프레임 전체를 한 번만 UTF-8 바이트로 인코딩해 두고
+ * {@link org.springframework.http.converter.ByteArrayHttpMessageConverter}가 그대로 쓰게 하므로, 연결 수만큼 문자열을 다시 인코딩하지
+ * 않습니다. {@link ReactiveSseConnection}에는 {@link ServerSentEvent}를 한 번 만들어 함께 씁니다.
+ * <p>
+ * 여러 전송 스레드가 동시에 처음 요청하면 같은 값을 두 번 만들 수 있지만 결과가 같으므로 잠그지 않습니다.
+ */
+public final class SseFrame {
+    private final String id;
+    private final String name;
+    private final String data;
+    private final String comment;
+    private volatile Set<DataWithMediaType> servletFrame;
+    private volatile ServerSentEvent<String> event;
+
+    private SseFrame(String id, String name, String data, String comment) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.comment = comment;
+    }
+
+    static SseFrame of(String id, String name, String data) {
+        return new SseFrame(id, name, data, null);
+    }
+
+    static SseFrame comment(String comment) {
+        return new SseFrame(null, null, null, comment);
+    }
+
+    Set<DataWithMediaType> servletFrame() {
+        Set<DataWithMediaType> frame = servletFrame;
+        if (frame == null) {
+            frame = Set.of(new DataWithMediaType(encode(), MediaType.TEXT_PLAIN));
+            servletFrame = frame;
+        }
+        return frame;
+    }
+
+    ServerSentEvent<String> event() {
+        ServerSentEvent<String> sse = event;
+        if (sse == null) {
+            sse = comment != null
+                    ? ServerSentEvent.<String>builder().comment(comment).build()
+                    : ServerSentEvent.<String>builder().id(id).event(name).data(data).build();
+            event = sse;
+        }
+        return sse;
+    }
+
+    /**
+     * {@link org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder}와 같은 형식으로 씁니다. 여러 줄
+     * 데이터는 줄마다 {@code data:}를 붙입니다.
+     */
+    private byte[] encode() {
+        StringBuilder frame = new StringBuilder();
+        if (comment != null) {
+            frame.append(':').append(comment).append('\n');
+        } else {
+            frame.append("id:").append(id).append('\n');
+            frame.append("event:").append(name).append('\n');
+            frame.append("data:").append(data.replace("\n", "\ndata:")).append('\n');
+        }
+        return frame.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+package org.chzz.market.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.repository.EmitterRepository;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 연결에 하트비트를 보내고 이 노드에 연결된 사용자들의 연결 위치를 갱신합니다.
+ * <p>
+ * 사용자 ID 해시로 정해진 타이밍 휠의 칸에 사용자를 두고, 틱마다 한 칸의 사용자에게만 보냅니다. 휠이 한 바퀴 도는 동안 모든 연결이 한 번씩 하트비트를
+ * 받습니다. 연결이 모두 끊어진 사용자는 해당 칸을 지날 때 휠에서 빠집니다.
+ * <p>
+ * 버퍼에 넣기만 하는 연결({@link SseConnection#blocksOnSend()}가 false)은 틱 스레드에서 바로 보냅니다. 소켓 쓰기를 기다리는 연결은 작업
+ * 스레드에서 보내고, 연결마다 하나의 하트비트만 진행합니다. 쓰기를 시작한 지 제한 시간이 지나도 끝나지 않은 연결은 다음 틱에 저장소에서 지우고
+ * {@link SseConnection#abort()}로 응답을 닫습니다. 멈춘 전송이 잡고 있는 이미터 잠금을 기다리지 않으므로 틱 스레드가 막히지 않고, 응답이 닫히면 멈춘 작업 스레드도 풀려납니다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+    // 모든 연결에 같은 내용으로 보내므로 한 번만 만들어 재사용합니다.
+    private static final SseFrame HEARTBEAT_FRAME = SseFrame.comment("heartbeat");
+
+    private final EmitterRepository emitterRepository;
+    private final SsePresenceRepository ssePresenceRepository;
+    private final Set<Long>[] wheel;
+    private final long writeTimeoutMs;
+    private final ThreadPoolExecutor senders;
+    private final AtomicLong tick = new AtomicLong();
+    private final Map<SseConnection, PendingHeartbeat> pending = new ConcurrentHashMap<>();
+    private final Counter timeoutEvictions;
+    private final Counter errorEvictions;
+    private final Counter skippedCounter;
+
+    @SuppressWarnings("unchecked")
+    public SseHeartbeatScheduler(EmitterRepository emitterRepository,
+                                 SsePresenceRepository ssePresenceRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${sse.heartbeat.wheel-size:60}") int wheelSize,
+                                 @Value("${sse.heartbeat.write-timeout-ms:5000}") long writeTimeoutMs,
+                                 @Value("${sse.heartbeat.workers:8}") int workers,
+                                 @Value("${sse.heartbeat.queue-capacity:10000}") int queueCapacity) {
+        this.emitterRepository = emitterRepository;
+        this.ssePresenceRepository = ssePresenceRepository;
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.senders = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity));
+        this.timeoutEvictions = evictionCounter(meterRegistry, "timeout");
+        this.errorEvictions = evictionCounter(meterRegistry, "error");
+        this.skippedCounter = Counter.builder("sse.heartbeat.skipped")
+                .description("전송 대기열이 가득 차 이번 바퀴에 건너뛴 하트비트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.active", emitterRepository, EmitterRepository::countEmitters)
+                .description("이 노드의 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자를 하트비트 대상에 추가합니다. 이미 있으면 아무 것도 하지 않습니다.
+     */
+    public void register(Long userId) {
+        slotOf(userId).add(userId);
+    }
+
+    /**
+     * 휠을 한 칸 진행하고 그 칸의 사용자들에게 하트비트를 보냅니다. 기본 설정으로는 1초마다 1/60 씩, 1분에 한 바퀴 돕니다.
+     */
+    @Scheduled(fixedRateString = "${sse.heartbeat.tick-ms:1000}")
+    public void tick() {
+        evictStalledWrites();
+        Set<Long> slot = wheel[(int) (tick.getAndIncrement() % wheel.length)];
+        List<Long> connectedUserIds = new ArrayList<>();
+        for (Long userId : slot) {
+            List<SseConnection> connections = emitterRepository.findByUserId(userId).orElse(List.of());
+            if (connections.isEmpty()) {
+                slot.remove(userId);
+                // 제거하는 사이에 다시 연결되었으면 되돌립니다.
+                if (emitterRepository.findByUserId(userId).isPresent()) {
+                    slot.add(userId);
+                }
+                continue;
+            }
+            connectedUserIds.add(userId);
+            connections.forEach(connection -> sendHeartbeat(userId, connection));
+        }
+        if (!connectedUserIds.isEmpty()) {
+            ssePresenceRepository.refresh(connectedUserIds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void sendHeartbeat(Long userId, SseConnection connection) {
+        if (!connection.blocksOnSend()) {
+            write(userId, connection);
+            return;
+        }
+        PendingHeartbeat heartbeat = new PendingHeartbeat(userId);
+        // 이전 하트비트를 아직 쓰는 중이면 보내지 않습니다. 너무 오래 걸리면 evictStalledWrites 가 정리합니다.
+        if (pending.putIfAbsent(connection, heartbeat) != null) {
+            return;
+        }
+        try {
+            senders.execute(() -> {
+                heartbeat.startedAt = System.currentTimeMillis();
+                try {
+                    write(userId, connection);
+                } finally {
+                    pending.remove(connection, heartbeat);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(connection, heartbeat);
+            skippedCounter.increment();
+        }
+    }
+
+    private void write(Long userId, SseConnection connection) {
+        try {
+            connection.send(HEARTBEAT_FRAME);
+        } catch (Exception e) {
+            errorEvictions.increment();
+            evict(userId, connection, "전송 실패");
+        }
+    }
+
+    /**
+     * 쓰기를 시작한 지 제한 시간이 지난 하트비트의 연결을 정리합니다. 대기열에서 기다린 시간은 포함하지 않습니다.
+     */
+    private void evictStalledWrites() {
+        long deadline = System.currentTimeMillis() - writeTimeoutMs;
+        pending.forEach((connection, heartbeat) -> {
+            long startedAt = heartbeat.startedAt;
+            if (startedAt > 0 && startedAt < deadline && pending.remove(connection, heartbeat)) {
+                timeoutEvictions.increment();
+                evict(heartbeat.userId, connection, "시간 초과");
+            }
+        });
+    }
+
+    /**
+     * 하트비트를 보내지 못한 연결을 저장소에서 지워 더 이상 알림을 보내지 않고, 전송 중인 스레드를 기다리지 않고 응답을 닫습니다.
+     */
+    private void evict(Long userId, SseConnection connection, String reason) {
+        emitterRepository.deleteEmitter(userId, connection);
+        log.info("[SSE] 하트비트 실패로 연결 정리 UserId: {} ({})", userId, reason);
+        connection.abort();
+    }
+
+    private Set<Long> slotOf(Long userId) {
+        return wheel[Math.floorMod(userId.hashCode(), wheel.length)];
+    }
+
+    private static final class PendingHeartbeat {
+        private final Long userId;
+        private volatile long startedAt; // 작업 스레드가 쓰기를 시작한 시각. 대기 중이면 0
+
+        private PendingHeartbeat(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("sse.heartbeat.evicted")
+                .description("하트비트를 보내지 못해 정리한 SSE 연결 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package org.chzz.market.domain.notification.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.chzz.market.common.util.RedisScriptUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 Redis Stream(notification:stream:{nodeId})에 알림을 추가합니다.
+ * <p>
+ * 받는 노드가 재시작 중이어도 메시지가 남아 있다가 {@link NotificationStreamConsumer}가 읽고 확인 응답합니다. 스트림은 최대 길이로 잘라 메모리를
+ * 제한하고, 더 이상 추가되지 않는(내려간 노드의) 스트림은 TTL 이 지나면 사라집니다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.transport", havingValue = "stream")
+public class StreamNotificationTransport implements NotificationTransport {
+    public static final String PAYLOAD_FIELD = "payload";
+    private static final String KEY_PREFIX = "notification:stream:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final RedisScript<String> APPEND_SCRIPT =
+            RedisScriptUtil.load("redis/notification-stream-append.lua", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long maxLength;
+
+    public StreamNotificationTransport(StringRedisTemplate redisTemplate,
+                                       @Value("${notification.stream.max-length:10000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+    }
+
+    public static String key(String nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+
+    @Override
+    public void send(String nodeId, String message) {
+        redisTemplate.execute(APPEND_SCRIPT, List.of(key(nodeId)), message, String.valueOf(maxLength),
+                String.valueOf(TTL.getSeconds()));
+    }
+}
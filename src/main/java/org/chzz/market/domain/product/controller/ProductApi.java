@@ -51,6 +51,11 @@ public interface ProductApi {
     ResponseEntity<UpdateProductResponse> updateProduct(Long userId, Long productId, UpdateProductRequest request,
                                                         Map<String, MultipartFile> images);
 
+    @Operation(summary = "사전 경매 수정 (직접 업로드한 이미지)",
+            description = "새 이미지는 미리 서명된 URL로 올린 뒤 imageKeys 에 순서와 키를 담아 보냅니다.")
+    ResponseEntity<UpdateProductResponse> updateProductWithUploadedImages(Long userId, Long productId,
+                                                                          UpdateProductRequest request);
+
     @Operation(summary = "사전 경매 삭제")
     ResponseEntity<DeleteProductResponse> deleteProduct(Long productId, Long userId);
 
@@ -28,6 +28,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -123,6 +124,19 @@ public class ProductController implements ProductApi {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * 사전 등록 상품 수정 (미리 서명된 URL로 직접 업로드한 이미지)
+     */
+    @Override
+    @PatchMapping(value = "/{productId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UpdateProductResponse> updateProductWithUploadedImages(
+            @LoginUser Long userId,
+            @PathVariable Long productId,
+            @RequestBody @Valid UpdateProductRequest request) {
+        UpdateProductResponse response = productService.updateProduct(userId, productId, request, null);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     /**
      * 사전 등록 상품 삭제
      */
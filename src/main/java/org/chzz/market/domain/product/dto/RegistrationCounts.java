@@ -0,0 +1,14 @@
+package org.chzz.market.domain.product.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+/**
+ * 사용자가 등록한 상품 수 (사전 등록 상품, 경매 등록 상품)
+ */
+public record RegistrationCounts(
+        long preRegisterCount,
+        long registeredAuctionCount
+) {
+    @QueryProjection
+    public RegistrationCounts {}
+}
@@ -31,4 +31,8 @@ public class UpdateProductRequest {
 
     @Builder.Default
     private Map<Long,Integer> imageSequence = new HashMap<>();
+
+    // key: 이미지 순서(1~5), value: 미리 서명된 URL로 직접 올린 이미지의 키
+    @Builder.Default
+    private Map<Integer, String> imageKeys = new HashMap<>();
 }
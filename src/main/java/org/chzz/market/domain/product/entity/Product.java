@@ -38,7 +38,8 @@ import org.hibernate.annotations.DynamicUpdate;
 @Entity
 @Builder
 @Table(indexes = {
-        @Index(name = "idx_product_id_name", columnList = "product_id, name")
+        @Index(name = "idx_product_id_name", columnList = "product_id, name"),
+        @Index(name = "idx_product_category_product_id", columnList = "category, product_id")
 })
 @DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
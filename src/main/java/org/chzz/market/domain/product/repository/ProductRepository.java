@@ -15,12 +15,4 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
             "LEFT JOIN Auction a ON a.product = p " +
             "WHERE p.id = :id AND a.id IS NULL")
     Optional<Product> findPreOrder(@Param("id") Long id);
-
-    /*
-     * 사용자가 등록한 사전 등록 상품 수 조회
-     */
-    @Query("SELECT COUNT(p) FROM Product p " +
-            "LEFT JOIN Auction a ON p.id = a.product.id " +
-            "WHERE p.user.id = :userId AND a IS NULL")
-    long countPreRegisteredProductsByUserId(@Param("userId") Long userId);
 }
@@ -5,6 +5,7 @@ import static org.chzz.market.domain.product.entity.Product.Category;
 import java.util.Optional;
 import org.chzz.market.domain.product.dto.ProductDetailsResponse;
 import org.chzz.market.domain.product.dto.ProductResponse;
+import org.chzz.market.domain.product.dto.RegistrationCounts;
 import org.chzz.market.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -56,4 +57,11 @@ public interface ProductRepositoryCustom {
      * @return
      */
     Optional<Product> findProductByIdWithImage(Long productId);
+
+    /**
+     * 사용자가 등록한 사전 등록 상품 수와 경매 등록 상품 수를 한 번에 조회합니다.
+     * @param userId 사용자 ID
+     * @return       등록 상품 수
+     */
+    RegistrationCounts getRegistrationCounts(Long userId);
 }
@@ -12,6 +12,9 @@ import static org.chzz.market.domain.user.entity.QUser.user;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -29,6 +32,8 @@ import org.chzz.market.domain.product.dto.ProductDetailsResponse;
 import org.chzz.market.domain.product.dto.ProductResponse;
 import org.chzz.market.domain.product.dto.QProductDetailsResponse;
 import org.chzz.market.domain.product.dto.QProductResponse;
+import org.chzz.market.domain.product.dto.QRegistrationCounts;
+import org.chzz.market.domain.product.dto.RegistrationCounts;
 import org.chzz.market.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -57,13 +62,13 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .select(new QProductResponse(
                         product.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice,
                         product.likes.size().longValue(),
                         isProductLikedByUser(userId)
                 ))
                 .leftJoin(image).on(image.product.eq(product).and(isRepresentativeImage()))
-                .groupBy(product.id, product.name, image.cdnPath, product.minPrice)
+                .groupBy(product.id, product.name, image.cdnPath, image.thumbnailPath, product.minPrice)
                 .orderBy(querydslOrderProvider.getOrderSpecifiers(pageable))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -144,7 +149,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .select(new QProductResponse(
                         product.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice,
                         product.likes.size().longValue(),
                         like.isNotNull()
@@ -181,7 +186,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .select(new QProductResponse(
                         product.id,
                         product.name,
-                        image.cdnPath,
+                        thumbnailPath(),
                         product.minPrice,
                         product.likes.size().longValue()
                 ))
@@ -227,6 +232,15 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
         return image.sequence.eq(1);
     }
 
+    /**
+     * 목록에 보여줄 대표 이미지 경로를 반환합니다.
+     *
+     * @return 썸네일이 만들어졌으면 썸네일 경로, 아니면 원본 이미지 경로
+     */
+    private StringExpression thumbnailPath() {
+        return image.thumbnailPath.coalesce(image.cdnPath);
+    }
+
     /**
      * 사용자가 특정 상품을 좋아요(Like)했는지 여부를 확인합니다.
      *
@@ -241,6 +255,29 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
                 .exists();
     }
 
+    /**
+     * 사용자의 상품을 경매와 한 번만 조인해 경매 존재 여부별 개수를 조건부 합계로 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사전 등록 상품 수와 경매 등록 상품 수
+     */
+    @Override
+    public RegistrationCounts getRegistrationCounts(Long userId) {
+        return jpaQueryFactory
+                .select(new QRegistrationCounts(
+                        countIf(auction.id.isNull()),
+                        countIf(auction.id.isNotNull())
+                ))
+                .from(product)
+                .leftJoin(auction).on(auction.product.id.eq(product.id))
+                .where(product.user.id.eq(userId))
+                .fetchOne();
+    }
+
+    private static NumberExpression<Long> countIf(BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum().coalesce(0L);
+    }
+
     private BooleanBuilder likeUserIdEq(Long userId) {
         return nullSafeBuilder(() -> like.user.id.eq(userId));
     }
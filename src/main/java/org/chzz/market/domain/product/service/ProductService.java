@@ -7,10 +7,12 @@ import static org.chzz.market.domain.product.error.ProductErrorCode.ALREADY_IN_A
 import static org.chzz.market.domain.product.error.ProductErrorCode.FORBIDDEN_PRODUCT_ACCESS;
 import static org.chzz.market.domain.product.error.ProductErrorCode.PRODUCT_ALREADY_AUCTIONED;
 import static org.chzz.market.domain.product.error.ProductErrorCode.PRODUCT_NOT_FOUND;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.PRE_REGISTER;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,6 +32,7 @@ import org.chzz.market.domain.product.entity.Product;
 import org.chzz.market.domain.product.entity.Product.Category;
 import org.chzz.market.domain.product.error.ProductException;
 import org.chzz.market.domain.product.repository.ProductRepository;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.data.domain.Page;
@@ -37,7 +40,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -49,6 +54,7 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final AuctionRepository auctionRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사전 등록 상품 목록 조회
@@ -96,11 +102,29 @@ public class ProductService {
     }
 
     /**
-     * 사전 등록 상품 수정
+     * 사전 등록 상품 수정. 클라이언트가 직접 올린 이미지는 DB 커넥션을 잡기 전에 S3에서 확인하고, 새 이미지 파일은 병렬로 올린 뒤 짧은
+     * 트랜잭션에서 상품을 수정합니다. 트랜잭션이 실패하면 새로 올린 이미지는 지웁니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UpdateProductResponse updateProduct(Long userId, Long productId, UpdateProductRequest request,
                                                Map<String, MultipartFile> newImages) {
+        Map<Integer, String> uploadedImagePaths = imageService.confirmUploadedImages(userId,
+                Optional.ofNullable(request.getImageKeys()).orElse(Collections.emptyMap()));
+        Map<Integer, String> newImagePaths = uploadNewImages(removeRequestKey(newImages));
+        try {
+            return transactionTemplate.execute(
+                    status -> update(userId, productId, request, newImagePaths, uploadedImagePaths));
+        } catch (RuntimeException e) {
+            if (!newImagePaths.isEmpty()) {
+                imageService.discardUploadedImages(List.copyOf(newImagePaths.values()));
+            }
+            throw e;
+        }
+    }
+
+    private UpdateProductResponse update(Long userId, Long productId, UpdateProductRequest request,
+                                         Map<Integer, String> newImagePaths,
+                                         Map<Integer, String> uploadedImagePaths) {
         // 상품 유효성 검사
         Product existingProduct = productRepository.findProductByIdWithImage(productId)
                 .orElseThrow(() -> new ProductException(PRODUCT_NOT_FOUND));
@@ -118,7 +142,7 @@ public class ProductService {
         existingProduct.update(request);
 
         // 이미지 저장
-        updateProductImages(existingProduct, request, newImages);
+        updateProductImages(existingProduct, request, newImagePaths, uploadedImagePaths);
 
         log.info("상품 ID {}번에 대한 사전 등록 정보를 업데이트를 완료했습니다.", productId);
         return UpdateProductResponse.from(existingProduct);
@@ -155,6 +179,7 @@ public class ProductService {
 
         deleteProductImages(product);
         productRepository.delete(product);
+        eventPublisher.publishEvent(UserActivityCountEvent.of(userId, PRE_REGISTER, -1));
 
         // 좋아요 누른 사용자 ID 추출
         List<Long> likedUserIds = product.getLikes().stream()
@@ -178,20 +203,25 @@ public class ProductService {
      */
     private void updateProductImages(Product product,
                                      UpdateProductRequest request,
-                                     Map<String, MultipartFile> images) {
-        Map<String, MultipartFile> newImages = removeRequestKey(images);
+                                     Map<Integer, String> newImagePaths,
+                                     Map<Integer, String> uploadedImagePaths) {
         Map<Long, Integer> imageSequence = Optional.ofNullable(request.getImageSequence())
                 .orElse(Collections.emptyMap());
 
         // 요청에 대한 총 이미지 수 검증
-        validateTotalImageCount(imageSequence.size() + newImages.size());
+        validateTotalImageCount(imageSequence.size() + newImagePaths.size() + uploadedImagePaths.size());
 
         // 기존 이미지 처리 (업데이트할 이미지와 삭제할 이미지 구분)
         processExistingImages(product, imageSequence);
 
         // 새 이미지가 있는 경우
-        if (!newImages.isEmpty()) {
-            uploadAndAddNewImages(product, newImages);
+        if (!newImagePaths.isEmpty()) {
+            addNewImages(product, newImagePaths);
+        }
+
+        // 클라이언트가 직접 올린 이미지가 있는 경우
+        if (!uploadedImagePaths.isEmpty()) {
+            product.addImages(imageService.saveUploadedImages(product, uploadedImagePaths));
         }
         product.validateImageSize();
     }
@@ -200,11 +230,7 @@ public class ProductService {
      * 상품 이미지 삭제
      */
     private void deleteProductImages(Product product) {
-        List<String> imageUrls = product.getImages().stream()
-                .map(Image::getCdnPath)
-                .toList();
-
-        imageService.deleteUploadImages(imageUrls);
+        imageService.deleteImages(product.getImages());
         log.info("상품 ID {}번에 해당하는 상품의 이미지를 모두 삭제하였습니다.", product.getId());
     }
 
@@ -244,15 +270,31 @@ public class ProductService {
             }
         });
         product.removeImages(imagesToRemove); // 삭제할 이미지 처리
+        imageService.deleteImages(imagesToRemove); // 삭제할 이미지는 S3에서도 삭제
         imageService.updateImageSequences(imagesToUpdate, imageSequence); // 시퀀스 업데이트할 이미지 처리
     }
 
     /**
-     * 상품 수정 시 새로운 이미지 업로드
+     * 상품 수정 시 새로운 이미지 파일(순서 → 파일)을 트랜잭션 전에 병렬로 업로드하고 순서 → CDN 경로로 반환
+     */
+    private Map<Integer, String> uploadNewImages(Map<String, MultipartFile> newImages) {
+        if (newImages.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Map.Entry<String, MultipartFile>> entries = List.copyOf(newImages.entrySet());
+        List<String> cdnPaths = imageService.uploadImages(entries.stream().map(Map.Entry::getValue).toList());
+        Map<Integer, String> newImagePaths = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            newImagePaths.put(Integer.parseInt(entries.get(i).getKey()), cdnPaths.get(i));
+        }
+        return newImagePaths;
+    }
+
+    /**
+     * 상품 수정 시 트랜잭션 전에 올린 새로운 이미지 저장
      */
-    private void uploadAndAddNewImages(Product product, Map<String, MultipartFile> newImages) {
-        List<Image> newImageEntities = imageService.uploadSequentialImages(product, newImages);
-        product.addImages(newImageEntities);
+    private void addNewImages(Product product, Map<Integer, String> newImagePaths) {
+        product.addImages(imageService.saveUploadedImages(product, newImagePaths));
         log.info("상품 ID {}번의 새 이미지를 성공적으로 저장하였습니다.", product.getId());
     }
 }
@@ -0,0 +1,30 @@
+package org.chzz.market.domain.user.dto;
+
+import org.chzz.market.domain.product.dto.RegistrationCounts;
+import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
+
+/**
+ * 프로필 화면에 보여주는 사용자 활동 집계
+ */
+public record UserActivityCounts(
+        long ongoingAuctionCount,
+        long successfulAuctionCount,
+        long failedAuctionCount,
+        long preRegisterCount,
+        long registeredAuctionCount
+) {
+    public static UserActivityCounts of(ParticipationCountsResponse participationCounts,
+                                        RegistrationCounts registrationCounts) {
+        return new UserActivityCounts(
+                participationCounts.ongoingAuctionCount(),
+                participationCounts.successfulAuctionCount(),
+                participationCounts.failedAuctionCount(),
+                registrationCounts.preRegisterCount(),
+                registrationCounts.registeredAuctionCount()
+        );
+    }
+
+    public ParticipationCountsResponse participationCounts() {
+        return new ParticipationCountsResponse(ongoingAuctionCount, successfulAuctionCount, failedAuctionCount);
+    }
+}
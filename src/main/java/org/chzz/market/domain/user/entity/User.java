@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -36,7 +37,7 @@ import org.hibernate.annotations.DynamicUpdate;
 @Getter
 @Entity
 @Builder
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_profile_image_url", columnList = "profile_image_url"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicUpdate
 @AllArgsConstructor
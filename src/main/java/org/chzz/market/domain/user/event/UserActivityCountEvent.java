@@ -0,0 +1,23 @@
+package org.chzz.market.domain.user.event;
+
+import java.util.List;
+
+/**
+ * 사용자 활동 집계(참여 중, 낙찰, 미낙찰, 사전 등록, 경매 등록 수)의 증감을 알리는 이벤트
+ */
+public record UserActivityCountEvent(List<Change> changes) {
+    public static UserActivityCountEvent of(Long userId, Field field, long delta) {
+        return new UserActivityCountEvent(List.of(new Change(userId, field, delta)));
+    }
+
+    public record Change(Long userId, Field field, long delta) {
+    }
+
+    public enum Field {
+        ONGOING,
+        SUCCESSFUL,
+        FAILED,
+        PRE_REGISTER,
+        REGISTERED
+    }
+}
@@ -0,0 +1,101 @@
+package org.chzz.market.domain.user.repository;
+
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.FAILED;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.ONGOING;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.PRE_REGISTER;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.REGISTERED;
+import static org.chzz.market.domain.user.event.UserActivityCountEvent.Field.SUCCESSFUL;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.chzz.market.common.util.RedisScriptUtil;
+import org.chzz.market.domain.user.dto.UserActivityCounts;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Change;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Field;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자별 활동 집계를 Redis 해시(user-activity:{userId})에 보관합니다.
+ * <p>
+ * 증감은 집계가 이미 있는 사용자에게만 반영되고, 집계가 없으면 다음 조회에서 DB로 다시 만듭니다. 다시 만드는 동안 들어온 증감이 빠지거나 겹칠 수 있으므로
+ * TTL 을 두어 주기적으로 DB 기준으로 맞춥니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityCountRepository {
+    private static final String KEY_PREFIX = "user-activity:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final RedisScript<Long> INCREMENT_SCRIPT =
+            RedisScriptUtil.load("redis/user-activity-count-increment.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<UserActivityCounts> findByUserId(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(userId));
+        if (entries.size() < Field.values().length) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserActivityCounts(
+                valueOf(entries, ONGOING),
+                valueOf(entries, SUCCESSFUL),
+                valueOf(entries, FAILED),
+                valueOf(entries, PRE_REGISTER),
+                valueOf(entries, REGISTERED)));
+    }
+
+    public void save(Long userId, UserActivityCounts counts) {
+        Map<String, String> fields = Map.of(
+                ONGOING.name(), String.valueOf(counts.ongoingAuctionCount()),
+                SUCCESSFUL.name(), String.valueOf(counts.successfulAuctionCount()),
+                FAILED.name(), String.valueOf(counts.failedAuctionCount()),
+                PRE_REGISTER.name(), String.valueOf(counts.preRegisterCount()),
+                REGISTERED.name(), String.valueOf(counts.registeredAuctionCount()));
+        String key = key(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(key, fields);
+            stringConnection.expire(key, TTL.getSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * 사용자별로 증감을 합쳐 한 번의 파이프라인으로 반영합니다.
+     */
+    public void increment(List<Change> changes) {
+        Map<Long, Map<Field, Long>> deltas = new LinkedHashMap<>();
+        for (Change change : changes) {
+            deltas.computeIfAbsent(change.userId(), userId -> new EnumMap<>(Field.class))
+                    .merge(change.field(), change.delta(), Long::sum);
+        }
+        List<String[]> calls = new ArrayList<>();
+        deltas.forEach((userId, fieldDeltas) -> {
+            List<String> keysAndArgs = new ArrayList<>();
+            keysAndArgs.add(key(userId));
+            fieldDeltas.forEach((field, delta) -> {
+                keysAndArgs.add(field.name());
+                keysAndArgs.add(String.valueOf(delta));
+            });
+            calls.add(keysAndArgs.toArray(String[]::new));
+        });
+        RedisScriptUtil.executePipelined(redisTemplate, INCREMENT_SCRIPT, 1, calls);
+    }
+
+    private static long valueOf(Map<Object, Object> entries, Field field) {
+        return Long.parseLong(entries.get(field.name()).toString());
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
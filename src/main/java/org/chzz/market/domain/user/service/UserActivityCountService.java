@@ -0,0 +1,48 @@
+package org.chzz.market.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.common.util.CachedCountUtil;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.product.repository.ProductRepository;
+import org.chzz.market.domain.user.dto.UserActivityCounts;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.repository.UserActivityCountRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 화면의 사용자 활동 집계를 제공합니다.
+ * <p>
+ * 입찰, 입찰 취소, 경매 종료, 상품 등록 시 {@link UserActivityCountEvent}로 Redis 집계를 증감하고, 조회는 키 하나만 읽습니다. 집계가 없으면 조건부
+ * 합계 쿼리로 다시 만듭니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityCountService {
+    private final UserActivityCountRepository userActivityCountRepository;
+    private final AuctionRepository auctionRepository;
+    private final ProductRepository productRepository;
+
+    public UserActivityCounts getCounts(Long userId) {
+        return CachedCountUtil.getOrCount("사용자 활동 집계", userId,
+                () -> userActivityCountRepository.findByUserId(userId),
+                () -> UserActivityCounts.of(
+                        auctionRepository.getParticipationCounts(userId),
+                        productRepository.getRegistrationCounts(userId)),
+                counts -> userActivityCountRepository.save(userId, counts));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountChanged(UserActivityCountEvent event) {
+        if (event.changes().isEmpty()) {
+            return;
+        }
+        try {
+            userActivityCountRepository.increment(event.changes());
+        } catch (Exception e) {
+            log.error("사용자 활동 집계 반영 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -3,15 +3,14 @@ package org.chzz.market.domain.user.service;
 import static org.chzz.market.domain.user.error.UserErrorCode.NICKNAME_DUPLICATION;
 import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.chzz.market.domain.auction.repository.AuctionRepository;
 import org.chzz.market.domain.image.service.ImageService;
-import org.chzz.market.domain.product.repository.ProductRepository;
 import org.chzz.market.domain.user.dto.request.UpdateUserProfileRequest;
 import org.chzz.market.domain.user.dto.request.UserCreateRequest;
 import org.chzz.market.domain.user.dto.response.NicknameAvailabilityResponse;
-import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
+import org.chzz.market.domain.user.dto.UserActivityCounts;
 import org.chzz.market.domain.user.dto.response.UserProfileResponse;
 import org.chzz.market.domain.user.entity.User;
 import org.chzz.market.domain.user.error.exception.UserException;
@@ -27,8 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserService {
     private final ImageService imageService;
     private final UserRepository userRepository;
-    private final AuctionRepository auctionRepository;
-    private final ProductRepository productRepository;
+    private final UserActivityCountService userActivityCountService;
 
     /**
      * 사용자 프로필 조회 (유저 ID 기반)
@@ -91,6 +89,11 @@ public class UserService {
         String profileImageUrl = handleProfileImage(file, request.getUseDefaultImage(),
                 existingUser.getProfileImageUrl());
         log.info("profileImageUrl = {}", profileImageUrl);
+        // 바뀐 기존 프로필 이미지는 S3에서 삭제
+        String currentImageUrl = existingUser.getProfileImageUrl();
+        if (currentImageUrl != null && !currentImageUrl.equals(profileImageUrl)) {
+            imageService.deleteUploadImages(List.of(currentImageUrl));
+        }
         // 프로필 정보 업데이트
         existingUser.updateProfile(request, profileImageUrl);
     }
@@ -99,12 +102,9 @@ public class UserService {
      * 내 프로필 조회
      */
     private UserProfileResponse getUserProfileInternal(User user, boolean includeProviderType) {
-        long preRegisterCount = productRepository.countPreRegisteredProductsByUserId(user.getId());
-        long registeredAuctionCount = auctionRepository.countByProductUserId(user.getId());
-
-        ParticipationCountsResponse counts = auctionRepository.getParticipationCounts(user.getId());
-
-        return UserProfileResponse.of(user, counts, preRegisterCount, registeredAuctionCount, includeProviderType);
+        UserActivityCounts counts = userActivityCountService.getCounts(user.getId());
+        return UserProfileResponse.of(user, counts.participationCounts(), counts.preRegisterCount(),
+                counts.registeredAuctionCount(), includeProviderType);
     }
 
     /**
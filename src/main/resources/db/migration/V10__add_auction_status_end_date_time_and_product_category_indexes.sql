@@ -0,0 +1,14 @@
+-- 파일명: V10__add_auction_status_end_date_time_and_product_category_indexes.sql
+-- 파일 설명: 경매 목록 조회(진행 중 + 종료 시간 범위, 카테고리별)를 위한 auction, product 테이블 복합 인덱스 추가
+-- 작성일: 2024-10-30
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- status 동등 조건 + end_date_time 범위 조건(마감 임박, 종료 대상 조회)을 한 번의 인덱스 범위 탐색으로 처리
+CREATE INDEX `idx_auction_status_end_date_time` ON `auction` (`status`, `end_date_time`);
+
+-- 종료 시간 단일 인덱스는 위 복합 인덱스로 대체
+DROP INDEX `idx_auction_end_date_time` ON `auction`;
+
+-- 카테고리 조건으로 product 를 먼저 읽고 product_id 로 auction 과 조인
+CREATE INDEX `idx_product_category_product_id` ON `product` (`category`, `product_id`);
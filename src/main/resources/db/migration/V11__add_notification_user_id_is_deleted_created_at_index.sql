@@ -0,0 +1,11 @@
+-- 파일명: V11__add_notification_user_id_is_deleted_created_at_index.sql
+-- 파일 설명: 사용자별 알림 목록(커서 기반)과 읽지 않은 알림 수 조회를 위한 notification 테이블 복합 인덱스 추가
+-- 작성일: 2024-11-04
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- user_id, is_deleted 동등 조건 + created_at(, notification_id) 역순 정렬을 인덱스 순서대로 읽음
+CREATE INDEX `idx_notification_user_id_is_deleted_created_at` ON `notification` (`user_id`, `is_deleted`, `created_at`);
+
+-- user_id 단일 인덱스(외래 키)는 위 복합 인덱스로 대체
+DROP INDEX `FKnk4ftb5am9ubmkv1661h15ds9` ON `notification`;
@@ -0,0 +1,14 @@
+-- 파일명: V12__add_notification_outbox_table.sql
+-- 파일 설명: 알림 이벤트를 업무 트랜잭션과 함께 저장하는 notification_outbox 테이블 추가
+-- 작성일: 2024-11-05
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- 처리된 행은 바로 삭제하므로 기본 키 순서로만 읽습니다.
+CREATE TABLE notification_outbox (
+    outbox_id BIGINT NOT NULL AUTO_INCREMENT,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (outbox_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,17 @@
+-- 파일명: V13__add_image_derivative_columns.sql
+-- 파일 설명: 썸네일/WebP 파생 이미지 경로와 파생 이미지 생성 작업 대기열로 쓰는 image 테이블 컬럼 추가
+-- 작성일: 2024-11-06
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- derivative_due_at 이 있는 행이 처리할 작업이며, 처리가 끝나면 NULL 로 비웁니다.
+ALTER TABLE `image`
+    ADD COLUMN `thumbnail_path`      varchar(255) DEFAULT NULL,
+    ADD COLUMN `webp_path`           varchar(255) DEFAULT NULL,
+    ADD COLUMN `derivative_attempts` int          NOT NULL DEFAULT 0,
+    ADD COLUMN `derivative_due_at`   datetime(6)  DEFAULT NULL;
+
+-- 기존 이미지도 파생 이미지를 만들도록 대기열에 넣습니다.
+UPDATE `image` SET `derivative_due_at` = NOW(6);
+
+CREATE INDEX `idx_image_derivative_due_at` ON `image` (`derivative_due_at`);
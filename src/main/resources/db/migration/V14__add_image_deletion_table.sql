@@ -0,0 +1,20 @@
+-- 파일명: V14__add_image_deletion_table.sql
+-- 파일 설명: S3 이미지 삭제 대기열로 쓰는 image_deletion 테이블과 이미지 경로 조회용 인덱스 추가
+-- 작성일: 2024-11-07
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- 삭제한 행은 바로 지우므로 기본 키 순서로만 읽습니다.
+CREATE TABLE image_deletion (
+    deletion_id BIGINT NOT NULL AUTO_INCREMENT,
+    object_key VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (deletion_id)
+) ENGINE=InnoDB;
+
+-- 고아 이미지 정리가 S3 키 묶음이 참조되고 있는지 경로로 조회합니다.
+CREATE INDEX `idx_image_cdn_path` ON `image` (`cdn_path`);
+CREATE INDEX `idx_image_thumbnail_path` ON `image` (`thumbnail_path`);
+CREATE INDEX `idx_image_webp_path` ON `image` (`webp_path`);
+CREATE INDEX `idx_users_profile_image_url` ON `users` (`profile_image_url`);
@@ -0,0 +1,9 @@
+-- 파일명: V15__add_auction_close_retry_at.sql
+-- 파일 설명: 종료 처리에 실패한 경매를 다시 시도할 시각(close_retry_at) 컬럼 추가
+-- 작성일: 2024-11-08
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- 값이 있으면 그 시각까지 종료 대상 조회에서 제외됩니다. 대부분 NULL 이므로 인덱스는 추가하지 않습니다.
+ALTER TABLE `auction`
+    ADD COLUMN `close_retry_at` datetime(6) DEFAULT NULL;
@@ -0,0 +1,12 @@
+-- 파일명: V16__add_notification_outbox_dead_letter.sql
+-- 파일 설명: 처리에 계속 실패하는 알림 발송 요청을 보관하는 실패 횟수(attempts), 격리 시각(dead_lettered_at), 마지막 오류(last_error) 컬럼 추가
+-- 작성일: 2024-11-09
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- dead_lettered_at 이 있는 행은 처리 대상에서 빠지고, 원인을 확인한 뒤 NULL 로 되돌리면 다시 처리됩니다.
+-- 격리되는 행은 드물어 기본 키 순서로 읽으며 건너뛰므로 인덱스는 추가하지 않습니다.
+ALTER TABLE `notification_outbox`
+    ADD COLUMN `attempts` int NOT NULL DEFAULT 0,
+    ADD COLUMN `dead_lettered_at` datetime(6) DEFAULT NULL,
+    ADD COLUMN `last_error` varchar(1000) DEFAULT NULL;
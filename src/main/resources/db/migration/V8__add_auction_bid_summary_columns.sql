@@ -0,0 +1,21 @@
+-- 파일명: V8__add_auction_bid_summary_columns.sql
+-- 파일 설명: auction 테이블에 활성 입찰 수(active_bid_count)와 최고 입찰 금액(highest_bid_amount) 컬럼 추가 및 기존 데이터 반영
+-- 작성일: 2024-10-28
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+ALTER TABLE `auction`
+    ADD COLUMN `active_bid_count`   BIGINT NOT NULL DEFAULT 0 AFTER `winner_id`,
+    ADD COLUMN `highest_bid_amount` BIGINT NOT NULL DEFAULT 0 AFTER `active_bid_count`;
+
+-- 기존 입찰 데이터로 컬럼 값 채우기
+UPDATE `auction` a
+    JOIN (SELECT `auction_id`, COUNT(*) AS `bid_count`, MAX(`amount`) AS `max_amount`
+          FROM `bid`
+          WHERE `status` = 'ACTIVE'
+          GROUP BY `auction_id`) b ON a.`auction_id` = b.`auction_id`
+SET a.`active_bid_count`   = b.`bid_count`,
+    a.`highest_bid_amount` = b.`max_amount`;
+
+-- 인기순 정렬(진행 중 경매의 활성 입찰 수 내림차순)을 인덱스로 처리
+CREATE INDEX `idx_auction_status_active_bid_count` ON `auction` (`status`, `active_bid_count`);
@@ -0,0 +1,8 @@
+-- 파일명: V9__add_bid_winner_index.sql
+-- 파일 설명: 경매 종료 시 낙찰자 조회(금액 내림차순, 먼저 입찰한 순 첫 행)를 위한 bid 테이블 인덱스 추가
+-- 작성일: 2024-10-29
+-- 참고: 이 파일은 Flyway 명명 규칙 "V<버전번호>__<설명>.sql"을 따릅니다.
+--      적용된 후에는 절대 수정할 수 없으므로, 수정이 필요한 경우에는 새로운 마이그레이션 파일을 작성해 주세요.
+
+-- amount 는 내림차순, updated_at 은 오름차순으로 정의해 ORDER BY amount DESC, updated_at ASC LIMIT 1 을 정렬 없이 처리
+CREATE INDEX `idx_bid_auction_status_amount_updated_at` ON `bid` (`auction_id`, `status`, `amount` DESC, `updated_at`);
@@ -0,0 +1,13 @@
+-- 입찰 취소를 입찰 원장에 반영합니다.
+-- KEYS: meta, ranking, cancelled
+-- ARGV: userId
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('ZREM', KEYS[2], ARGV[1])
+redis.call('SADD', KEYS[3], ARGV[1])
+local ttl = redis.call('TTL', KEYS[1])
+if ttl > 0 then
+    redis.call('EXPIRE', KEYS[3], ttl)
+end
+return 1
@@ -0,0 +1,24 @@
+-- DB의 경매/입찰 상태로 입찰 원장을 초기화합니다. 이미 초기화된 경우 아무것도 하지 않습니다.
+-- KEYS: meta, amounts, counts, ranking, times, cancelled
+-- ARGV: ownerId, minPrice, endAtMillis, status, ttlSeconds, (userId, amount, count, status, updatedAtMillis)...
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'ownerId', ARGV[1], 'minPrice', ARGV[2], 'endAt', ARGV[3], 'status', ARGV[4])
+for i = 6, #ARGV, 5 do
+    local userId = ARGV[i]
+    redis.call('HSET', KEYS[2], userId, ARGV[i + 1])
+    redis.call('HSET', KEYS[3], userId, ARGV[i + 2])
+    redis.call('HSET', KEYS[5], userId, ARGV[i + 4])
+    if ARGV[i + 3] == 'ACTIVE' then
+        redis.call('ZADD', KEYS[4], ARGV[i + 1], userId)
+    else
+        redis.call('SADD', KEYS[6], userId)
+    end
+end
+
+for i = 1, #KEYS do
+    redis.call('EXPIRE', KEYS[i], ARGV[5])
+end
+return 1
@@ -0,0 +1,51 @@
+-- 입찰 원장에 입찰을 원자적으로 반영합니다.
+-- KEYS: meta, amounts, counts, ranking, times, cancelled, dirty, auctionDirty, userDirty
+-- ARGV: auctionId, userId, amount, nowMillis, initialCount
+-- 반환값: 0 신규 입찰, 1 입찰 수정, 음수는 BidLedgerResult 참고
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local meta = redis.call('HMGET', KEYS[1], 'ownerId', 'minPrice', 'endAt', 'status')
+if meta[1] == ARGV[2] then
+    return -2
+end
+if meta[4] ~= 'PROCEEDING' or tonumber(ARGV[4]) > tonumber(meta[3]) then
+    return -3
+end
+if tonumber(ARGV[3]) < tonumber(meta[2]) then
+    return -4
+end
+if redis.call('SISMEMBER', KEYS[6], ARGV[2]) == 1 then
+    return -7
+end
+
+local result = 0
+local previous = redis.call('HGET', KEYS[2], ARGV[2])
+if previous then
+    if tonumber(redis.call('HGET', KEYS[3], ARGV[2])) <= 0 then
+        return -5
+    end
+    if tonumber(previous) == tonumber(ARGV[3]) then
+        return -6
+    end
+    redis.call('HINCRBY', KEYS[3], ARGV[2], -1)
+    result = 1
+else
+    redis.call('HSET', KEYS[3], ARGV[2], ARGV[5])
+end
+
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+redis.call('HSET', KEYS[5], ARGV[2], ARGV[4])
+redis.call('ZADD', KEYS[4], ARGV[3], ARGV[2])
+redis.call('SADD', KEYS[7], ARGV[1] .. ':' .. ARGV[2])
+redis.call('SADD', KEYS[8], ARGV[2])
+redis.call('SADD', KEYS[9], ARGV[1])
+
+local ttl = redis.call('TTL', KEYS[1])
+if ttl > 0 then
+    for i = 2, 5 do
+        redis.call('EXPIRE', KEYS[i], ttl)
+    end
+end
+return result
@@ -0,0 +1,13 @@
+-- 경매 하나의 DB 반영 대기 항목을 모두 꺼내고, 전체/사용자별 대기 집합에서도 지웁니다.
+-- KEYS: dirty, auctionDirty
+-- ARGV: auctionId, keyPrefix
+-- 반환값: 꺼낸 항목("auctionId:userId") 목록
+local userIds = redis.call('SMEMBERS', KEYS[2])
+redis.call('DEL', KEYS[2])
+local members = {}
+for i, userId in ipairs(userIds) do
+    members[i] = ARGV[1] .. ':' .. userId
+    redis.call('SREM', KEYS[1], members[i])
+    redis.call('SREM', ARGV[2] .. 'user:' .. userId .. ':dirty', ARGV[1])
+end
+return members
@@ -0,0 +1,13 @@
+-- 사용자 한 명의 DB 반영 대기 항목을 모두 꺼내고, 전체/경매별 대기 집합에서도 지웁니다.
+-- KEYS: dirty, userDirty
+-- ARGV: userId, keyPrefix
+-- 반환값: 꺼낸 항목("auctionId:userId") 목록
+local auctionIds = redis.call('SMEMBERS', KEYS[2])
+redis.call('DEL', KEYS[2])
+local members = {}
+for i, auctionId in ipairs(auctionIds) do
+    members[i] = auctionId .. ':' .. ARGV[1]
+    redis.call('SREM', KEYS[1], members[i])
+    redis.call('SREM', ARGV[2] .. auctionId .. ':dirty', ARGV[1])
+end
+return members
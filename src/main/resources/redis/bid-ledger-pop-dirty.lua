@@ -0,0 +1,13 @@
+-- DB 반영 대기 중인 입찰 항목을 최대 limit 개 꺼내고, 경매별/사용자별 대기 집합에서도 지웁니다.
+-- KEYS: dirty
+-- ARGV: limit, keyPrefix
+-- 반환값: 꺼낸 항목("auctionId:userId") 목록
+local members = redis.call('SPOP', KEYS[1], ARGV[1])
+for _, member in ipairs(members) do
+    local separator = string.find(member, ':', 1, true)
+    local auctionId = string.sub(member, 1, separator - 1)
+    local userId = string.sub(member, separator + 1)
+    redis.call('SREM', ARGV[2] .. auctionId .. ':dirty', userId)
+    redis.call('SREM', ARGV[2] .. 'user:' .. userId .. ':dirty', auctionId)
+end
+return members
@@ -0,0 +1,6 @@
+-- 노드별 알림 스트림에 메시지를 추가하고 오래된 항목을 잘라냅니다.
+-- KEYS: stream
+-- ARGV: payload, maxLength, ttlSeconds
+local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], '*', 'payload', ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return id
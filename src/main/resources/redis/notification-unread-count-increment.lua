@@ -0,0 +1,12 @@
+-- 사용자별 읽지 않은 알림 수를 증감합니다. 집계가 없으면(만료, 미생성) 건드리지 않고 다음 조회 시 DB에서 다시 만듭니다.
+-- KEYS: count
+-- ARGV: delta
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+if count < 0 then
+    -- 음수가 되지 않도록 0으로 되돌립니다. (TTL 유지)
+    return redis.call('INCRBY', KEYS[1], -count)
+end
+return count
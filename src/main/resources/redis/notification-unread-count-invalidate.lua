@@ -0,0 +1,7 @@
+-- 읽지 않은 알림 수가 대사할 때 읽은 값 그대로이면 지웁니다. 그 사이에 증감되었으면 새 알림이 반영된 값이므로 남겨 둡니다.
+-- KEYS: count
+-- ARGV: 대사할 때 읽은 값
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
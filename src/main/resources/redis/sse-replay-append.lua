@@ -0,0 +1,6 @@
+-- 사용자의 SSE 재전송 로그(Stream)에 이벤트를 추가하고 오래된 항목을 잘라냅니다.
+-- KEYS: stream
+-- ARGV: data, maxLength, ttlSeconds
+local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[2], '*', 'data', ARGV[1])
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return id
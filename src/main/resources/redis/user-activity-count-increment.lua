@@ -0,0 +1,10 @@
+-- 사용자 활동 집계를 증감합니다. 집계가 없으면(만료, 미생성) 건드리지 않고 다음 조회 시 DB에서 다시 만듭니다.
+-- KEYS: counts
+-- ARGV: field1, delta1, field2, delta2, ...
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+for i = 1, #ARGV, 2 do
+    redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+return 1
@@ -0,0 +1,36 @@
+package org.chzz.market.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 만든 SQL 을 모아 두는 테스트용 StatementInspector. 실행 계획 테스트에서 Querydsl 로 만든 실제 쿼리를 검사할 때 사용합니다.
+ * <p>
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}에 이 클래스를 지정합니다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    /**
+     * 마지막으로 실행된 SQL 중 {@code fragment}를 포함하는 문장
+     */
+    public static String lastContaining(String fragment) {
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).toLowerCase().contains(fragment.toLowerCase())) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("실행된 SQL 이 없습니다: " + fragment);
+    }
+}
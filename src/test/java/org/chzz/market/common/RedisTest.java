@@ -0,0 +1,22 @@
+package org.chzz.market.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 테스트 프로필의 Redis 에 연결해 Lua 스크립트와 Redis 명령을 실제로 실행하는 테스트
+ */
+@DataRedisTest
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Profile("test")
+public @interface RedisTest {
+}
@@ -1,6 +1,7 @@
 package org.chzz.market.domain.auction.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.chzz.market.domain.auction.type.AuctionStatus.ENDED;
 import static org.chzz.market.domain.auction.type.AuctionStatus.PROCEEDING;
 import static org.chzz.market.domain.payment.entity.Status.DONE;
@@ -14,9 +15,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.chzz.market.common.CapturingStatementInspector;
 import org.chzz.market.common.DatabaseTest;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.common.error.GlobalErrorCode;
+import org.chzz.market.common.error.GlobalException;
+import org.chzz.market.common.util.KeysetCursor;
 import org.chzz.market.domain.address.entity.Address;
-import org.chzz.market.domain.auction.dto.BaseAuctionDto;
+import org.chzz.market.domain.auction.dto.query.FeedAuction;
 import org.chzz.market.domain.auction.dto.response.AuctionDetailsResponse;
 import org.chzz.market.domain.auction.dto.response.AuctionResponse;
 import org.chzz.market.domain.auction.dto.response.LostAuctionResponse;
@@ -53,9 +59,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
 @DatabaseTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.chzz.market.common.CapturingStatementInspector")
 class AuctionRepositoryCustomImplTest {
 
     @Autowired
@@ -183,6 +193,9 @@ class AuctionRepositoryCustomImplTest {
         auction9.removeBid(bid15);
         bidRepository.saveAll(List.of(bid1, bid2, bid3, bid4, bid5, bid6, bid7, bid8, bid10, bid11, bid12, bid13,
                 bid14, bid15));
+        auctionRepository.recalculateBidSummary(
+                List.of(auction1.getId(), auction2.getId(), auction3.getId(), auction4.getId(), auction5.getId(),
+                        auction6.getId(), auction7.getId(), auction8.getId(), auction9.getId(), auction10.getId()));
 
         Address address = Address.builder()
                 .roadAddress("서울시 강남구")
@@ -243,6 +256,64 @@ class AuctionRepositoryCustomImplTest {
         assertThat(result.getContent().get(1).getImageUrl()).isEqualTo("path/to/image1_1.jpg");
     }
 
+    @Test
+    @DisplayName("특정 카테고리 경매를 커서 기반으로 높은 가격순 조회")
+    public void testFindAuctionsByCategoryWithCursor() throws Exception {
+        //given
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("expensive"));
+
+        //when
+        CursorResponse<AuctionResponse> first = auctionRepository.findAuctionsByCategory(
+                Category.FASHION_AND_CLOTHING, 1L, null, pageable);
+        CursorResponse<AuctionResponse> second = auctionRepository.findAuctionsByCategory(
+                Category.FASHION_AND_CLOTHING, 1L, first.getNextCursor(), pageable);
+
+        //then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getItems()).extracting(AuctionResponse::getProductName).containsExactly("제품3");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getItems()).extracting(AuctionResponse::getProductName).containsExactly("제품1");
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 발급된 커서로 조회하면 예외가 발생한다")
+    public void testFindAuctionsByCategoryWithMismatchedCursor() throws Exception {
+        //given
+        CursorResponse<AuctionResponse> first = auctionRepository.findAuctionsByCategory(
+                Category.FASHION_AND_CLOTHING, 1L, null, PageRequest.of(0, 1, Sort.by("expensive")));
+
+        //when & then
+        assertThatThrownBy(() -> auctionRepository.findAuctionsByCategory(Category.FASHION_AND_CLOTHING, 1L,
+                first.getNextCursor(), PageRequest.of(0, 1, Sort.by("cheap"))))
+                .isInstanceOf(GlobalException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 변조된 커서로 조회하면 잘못된 커서 예외가 발생한다")
+    public void testFindAuctionsByCategoryWithTamperedCursor() throws Exception {
+        //given
+        String cursor = new KeysetCursor<>("newest", "not-a-date", 1L).encode();
+
+        //when & then
+        assertThatThrownBy(() -> auctionRepository.findAuctionsByCategory(Category.FASHION_AND_CLOTHING, 1L,
+                cursor, PageRequest.of(0, 1, Sort.by("newest"))))
+                .isInstanceOf(GlobalException.class)
+                .extracting("errorCode")
+                .isEqualTo(GlobalErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬로 커서 조회하면 예외가 발생한다")
+    public void testFindAuctionsByCategoryWithUnsupportedSort() throws Exception {
+        //when & then
+        assertThatThrownBy(() -> auctionRepository.findAuctionsByCategory(Category.FASHION_AND_CLOTHING, 1L,
+                null, PageRequest.of(0, 1, Sort.by("unknown"))))
+                .isInstanceOf(GlobalException.class)
+                .extracting("errorCode")
+                .isEqualTo(GlobalErrorCode.UNSUPPORTED_SORT_TYPE);
+    }
+
     @Test
     @DisplayName("경매가 없는 경우 조회")
     public void testFindAuctionsByCategoryNoAuctions() throws Exception {
@@ -493,29 +564,71 @@ class AuctionRepositoryCustomImplTest {
     }
 
     @Test
-    @DisplayName("베스트 경매 조회")
-    void testFindBestAuctions() {
-        // given
-        List<AuctionResponse> bestAuctions = auctionRepository.findBestAuctions();
+    @DisplayName("특정 유저의 경매 목록을 커서 기반으로 최신순 조회")
+    public void testFindMyAuctionsWithCursor() throws Exception {
+        //given
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("newest"));
+
+        //when
+        CursorResponse<UserAuctionResponse> first = auctionRepository.findAuctionsByNickname(
+                user1.getNickname(), null, pageable);
+        CursorResponse<UserAuctionResponse> second = auctionRepository.findAuctionsByNickname(
+                user1.getNickname(), first.getNextCursor(), pageable);
+
+        //then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getItems()).hasSize(1);
+        assertThat(first.getItems().get(0).getCreatedAt()).isAfter(second.getItems().get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("변경된 경매 중 진행 중인 경매만 피드 후보 형태로 카테고리별로 조회")
+    void testFindFeedAuctionsByIds() {
+        // when
+        Map<Category, List<FeedAuction>> feedAuctions = auctionRepository.findFeedAuctionsByIds(
+                List.of(auction3.getId(), auction4.getId()));
+
+        // then - 같은 카테고리의 종료된 경매(auction4)는 제외
+        assertThat(feedAuctions).containsOnlyKeys(Category.FASHION_AND_CLOTHING);
+        assertThat(feedAuctions.get(Category.FASHION_AND_CLOTHING))
+                .extracting(FeedAuction::auctionId).containsExactly(auction3.getId());
+        assertThat(auctionRepository.findFeedAuctionsByIds(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("홈 피드 베스트 후보를 카테고리별 활성 입찰 수 순으로 한 번에 조회")
+    void testFindBestFeedAuctionsByCategory() {
         // when
+        Map<Category, List<FeedAuction>> bestAuctions = auctionRepository.findBestFeedAuctionsByCategory(1);
 
         // then
-        assertThat(bestAuctions).isSortedAccordingTo(
-                Comparator.comparingLong(AuctionResponse::getParticipantCount).reversed());
+        assertThat(bestAuctions.get(Category.FASHION_AND_CLOTHING))
+                .extracting(FeedAuction::auctionId).containsExactly(auction3.getId());
+        assertThat(bestAuctions.get(Category.FASHION_AND_CLOTHING).get(0).imageUrl())
+                .isEqualTo("path/to/image3.jpg");
+        assertThat(bestAuctions.get(Category.BOOKS_AND_MEDIA))
+                .extracting(FeedAuction::auctionId).containsExactly(auction2.getId());
+        assertThat(bestAuctions).doesNotContainKey(Category.HOME_APPLIANCES);
+        assertThat(bestAuctions.values()).allMatch(feedAuctions -> feedAuctions.size() == 1);
     }
 
     @Test
-    @DisplayName("마감 임박 경매 조회")
-    void testImminentAuctions() {
+    @DisplayName("홈 피드 마감 임박 후보를 종료 시간 범위로 카테고리별 한 번에 조회")
+    void testFindImminentFeedAuctionsByCategory() {
         // given
-        List<AuctionResponse> imminentAuctions = auctionRepository.findImminentAuctions();
-        // then
-        assertThat(imminentAuctions).isNotEmpty();
-        assertThat(imminentAuctions.size()).isEqualTo(3);
-        assertThat(imminentAuctions).allMatch(auctionResponse -> auctionResponse.getTimeRemaining() <= 3600);
-        assertThat(imminentAuctions).isSortedAccordingTo(
-                Comparator.comparing(BaseAuctionDto::getTimeRemaining));
+        LocalDateTime now = LocalDateTime.now();
 
+        // when
+        Map<Category, List<FeedAuction>> imminentAuctions = auctionRepository.findImminentFeedAuctionsByCategory(
+                now, now.plusHours(1).plusMinutes(1), 10);
+
+        // then
+        assertThat(imminentAuctions.values().stream().flatMap(List::stream))
+                .extracting(FeedAuction::auctionId)
+                .containsExactlyInAnyOrder(auction5.getId(), auction6.getId(), auction7.getId());
+        assertThat(imminentAuctions.get(Category.SPORTS_AND_LEISURE))
+                .extracting(FeedAuction::auctionId).containsExactly(auction7.getId());
     }
 
     @Test
@@ -806,4 +919,56 @@ class AuctionRepositoryCustomImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Nested
+    @DisplayName("목록 조회 실행 계획 테스트")
+    class QueryPlanTest {
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @BeforeEach
+        void setUp() {
+            CapturingStatementInspector.clear();
+        }
+
+        @Test
+        @DisplayName("종료 대상 조회는 (status, end_date_time) 인덱스를 사용한다")
+        void findDueAuctionIds_UsesStatusEndDateTimeIndex() {
+            auctionRepository.findDueAuctionIds(LocalDateTime.now(), 10);
+
+            String plan = explain(CapturingStatementInspector.lastContaining("from auction"));
+
+            assertThat(plan).containsIgnoringCase("idx_auction_status_end_date_time");
+        }
+
+        @Test
+        @DisplayName("홈 피드 마감 임박 후보 조회는 (status, end_date_time) 인덱스를 사용한다")
+        void imminentFeed_UsesStatusEndDateTimeIndex() {
+            String plan = explain(AuctionRepositoryCustomImpl.IMMINENT_FEED_SQL);
+
+            assertThat(plan).containsIgnoringCase("idx_auction_status_end_date_time");
+        }
+
+        @Test
+        @DisplayName("카테고리 목록 조회는 (category, product_id) 인덱스를 사용한다")
+        void findAuctionsByCategory_UsesCategoryIndex() {
+            auctionRepository.findAuctionsByCategory(Category.ELECTRONICS, null, null,
+                    PageRequest.of(0, 10, Sort.by("newest")));
+
+            String plan = explain(CapturingStatementInspector.lastContaining("from auction"));
+
+            assertThat(plan).containsIgnoringCase("idx_product_category_product_id");
+        }
+
+        /**
+         * 실행 계획은 값과 관계없이 만들어지므로 바인딩 파라미터는 모두 NULL 로 채웁니다.
+         */
+        private String explain(String sql) {
+            return jdbcTemplate.query("EXPLAIN " + sql, preparedStatement -> {
+                int count = preparedStatement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= count; i++) {
+                    preparedStatement.setObject(i, null);
+                }
+            }, resultSet -> resultSet.next() ? resultSet.getString(1) : "");
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package org.chzz.market.domain.auction.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.service.AuctionCloseService;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionCloseEngineTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionCloseService auctionCloseService;
+
+    @Mock
+    private BidLedgerFlusher bidLedgerFlusher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionCloseEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new AuctionCloseEngine(auctionRepository, auctionCloseService, bidLedgerFlusher, meterRegistry,
+                10, 5, 60_000);
+    }
+
+    @Test
+    @DisplayName("묶음 종료가 실패하면 하나씩 종료하고 실패한 경매만 미룬다")
+    void tick_ClosesOneByOneAndDefersFailedAuction() {
+        when(auctionRepository.findDueAuctionIds(any(), eq(10))).thenReturn(List.of(1L, 2L, 3L));
+        when(bidLedgerFlusher.flushAuction(anyLong())).thenReturn(true);
+        when(auctionCloseService.closeAuctions(List.of(1L, 2L, 3L))).thenThrow(new IllegalStateException("batch"));
+        when(auctionCloseService.closeAuctions(List.of(1L))).thenReturn(1);
+        when(auctionCloseService.closeAuctions(List.of(2L))).thenThrow(new IllegalStateException("broken"));
+        when(auctionCloseService.closeAuctions(List.of(3L))).thenReturn(1);
+
+        engine.tick();
+
+        verify(auctionCloseService).deferClose(eq(List.of(2L)), any());
+        assertThat(meterRegistry.get("auction.close.closed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auction.close.deferred").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.close.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원장 반영에 실패한 경매는 종료하지 않고 미룬다")
+    void tick_DefersAuctionsNotFlushed() {
+        when(auctionRepository.findDueAuctionIds(any(), eq(10))).thenReturn(List.of(1L, 2L));
+        when(bidLedgerFlusher.flushAuction(1L)).thenReturn(true);
+        when(bidLedgerFlusher.flushAuction(2L)).thenReturn(false);
+        when(auctionCloseService.closeAuctions(List.of(1L))).thenReturn(1);
+
+        engine.tick();
+
+        verify(auctionCloseService).deferClose(eq(List.of(2L)), any());
+        assertThat(meterRegistry.get("auction.close.closed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음 종료가 성공하면 미루는 경매가 없다")
+    void tick_ClosesBatch() {
+        when(auctionRepository.findDueAuctionIds(any(), eq(10))).thenReturn(List.of(1L, 2L));
+        when(bidLedgerFlusher.flushAuction(anyLong())).thenReturn(true);
+        when(auctionCloseService.closeAuctions(List.of(1L, 2L))).thenReturn(2);
+
+        engine.tick();
+
+        verify(auctionCloseService, never()).deferClose(any(), any());
+        assertThat(meterRegistry.get("auction.close.closed").counter().count()).isEqualTo(2);
+    }
+}
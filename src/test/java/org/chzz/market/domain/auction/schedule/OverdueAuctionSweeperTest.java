@@ -0,0 +1,132 @@
+package org.chzz.market.domain.auction.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.chzz.market.domain.auction.dto.query.OverdueAuction;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.service.AuctionCloseService;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueAuctionSweeperTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionCloseService auctionCloseService;
+
+    @Mock
+    private BidLedgerFlusher bidLedgerFlusher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OverdueAuctionSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AuctionCloseEngine auctionCloseEngine = new AuctionCloseEngine(auctionRepository, auctionCloseService,
+                bidLedgerFlusher, meterRegistry, 200, 50, 600_000);
+        sweeper = new OverdueAuctionSweeper(auctionRepository, auctionCloseEngine, meterRegistry, 2, 1, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweeper.shutdown();
+    }
+
+    @Test
+    @DisplayName("마지막 경매를 커서로 다음 페이지를 조회하며 밀린 경매를 모두 종료한다")
+    void sweep_PagesWithKeysetCursor() {
+        LocalDateTime endDateTime = LocalDateTime.now().minusDays(1);
+        OverdueAuction first = new OverdueAuction(1L, endDateTime);
+        OverdueAuction second = new OverdueAuction(2L, endDateTime);
+        OverdueAuction third = new OverdueAuction(3L, endDateTime.plusMinutes(1));
+        when(auctionRepository.findOverdueAuctions(any(), isNull(), eq(2))).thenReturn(List.of(first, second));
+        when(auctionRepository.findOverdueAuctions(any(), eq(second), eq(2))).thenReturn(List.of(third));
+        when(bidLedgerFlusher.flushAuction(anyLong())).thenReturn(true);
+        when(auctionCloseService.closeAuctions(any())).thenReturn(1);
+
+        int closed = sweeper.sweep();
+
+        assertThat(closed).isEqualTo(3);
+        verify(auctionCloseService).closeAuctions(List.of(1L));
+        verify(auctionCloseService).closeAuctions(List.of(2L));
+        verify(auctionCloseService).closeAuctions(List.of(3L));
+        verify(bidLedgerFlusher).flushAuction(3L);
+        assertThat(meterRegistry.get("auction.sweep.scanned").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("auction.sweep.closed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("묶음 하나가 실패해도 나머지 묶음은 종료하고, 실패한 경매는 미룬다")
+    void sweep_ContinuesWhenBatchFails() {
+        LocalDateTime endDateTime = LocalDateTime.now().minusDays(1);
+        when(auctionRepository.findOverdueAuctions(any(), isNull(), eq(2))).thenReturn(
+                List.of(new OverdueAuction(1L, endDateTime), new OverdueAuction(2L, endDateTime)));
+        when(auctionRepository.findOverdueAuctions(any(), eq(new OverdueAuction(2L, endDateTime)), eq(2)))
+                .thenReturn(List.of());
+        when(bidLedgerFlusher.flushAuction(anyLong())).thenReturn(true);
+        when(auctionCloseService.closeAuctions(List.of(1L))).thenThrow(new IllegalStateException());
+        when(auctionCloseService.closeAuctions(List.of(2L))).thenReturn(1);
+
+        int closed = sweeper.sweep();
+
+        assertThat(closed).isEqualTo(1);
+        verify(auctionCloseService).deferClose(eq(List.of(1L)), any());
+        assertThat(meterRegistry.get("auction.close.deferred").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음 종료가 실패하면 하나씩 다시 종료해 실패한 경매만 미룬다")
+    void sweep_RetriesFailedBatchOneByOne() {
+        sweeper.shutdown();
+        sweeper = new OverdueAuctionSweeper(auctionRepository, new AuctionCloseEngine(auctionRepository,
+                auctionCloseService, bidLedgerFlusher, meterRegistry, 200, 50, 600_000), meterRegistry, 2, 2, 1);
+        LocalDateTime endDateTime = LocalDateTime.now().minusDays(1);
+        when(auctionRepository.findOverdueAuctions(any(), isNull(), eq(2))).thenReturn(
+                List.of(new OverdueAuction(1L, endDateTime), new OverdueAuction(2L, endDateTime)));
+        when(auctionRepository.findOverdueAuctions(any(), eq(new OverdueAuction(2L, endDateTime)), eq(2)))
+                .thenReturn(List.of());
+        when(bidLedgerFlusher.flushAuction(anyLong())).thenReturn(true);
+        when(auctionCloseService.closeAuctions(List.of(1L, 2L))).thenThrow(new IllegalStateException());
+        when(auctionCloseService.closeAuctions(List.of(1L))).thenThrow(new IllegalStateException());
+        when(auctionCloseService.closeAuctions(List.of(2L))).thenReturn(1);
+
+        int closed = sweeper.sweep();
+
+        assertThat(closed).isEqualTo(1);
+        verify(auctionCloseService).deferClose(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("입찰 원장을 반영하지 못한 경매는 종료하지 않고 미룬다")
+    void sweep_SkipsAuctionsNotFlushed() {
+        LocalDateTime endDateTime = LocalDateTime.now().minusDays(1);
+        when(auctionRepository.findOverdueAuctions(any(), isNull(), eq(2))).thenReturn(
+                List.of(new OverdueAuction(1L, endDateTime)));
+        when(bidLedgerFlusher.flushAuction(1L)).thenReturn(false);
+
+        int closed = sweeper.sweep();
+
+        assertThat(closed).isZero();
+        verify(auctionCloseService, never()).closeAuctions(any());
+        verify(auctionCloseService).deferClose(eq(List.of(1L)), any());
+    }
+}
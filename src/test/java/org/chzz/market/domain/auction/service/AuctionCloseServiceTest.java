@@ -0,0 +1,146 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_FAILURE;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_NON_WINNER;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_SUCCESS;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_WINNER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.type.AuctionStatus;
+import org.chzz.market.domain.bid.dto.query.BidderCursor;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.notification.event.NotificationBatchEvent;
+import org.chzz.market.domain.notification.event.NotificationEvent;
+import org.chzz.market.domain.product.entity.Product;
+import org.chzz.market.domain.product.entity.Product.Category;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Change;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Field;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionCloseServiceTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AuctionCloseService auctionCloseService;
+
+    @Test
+    @DisplayName("선점한 경매들을 한 번에 종료하고 결과 알림은 묶어서, 미낙찰자 알림은 따로 발행한다")
+    void closeAuctions_PublishesBatchEvent() {
+        User seller = User.builder().id(1L).providerId("1").nickname("판매자").email("a@naver.com").build();
+        Auction soldAuction = createAuction(10L, seller, "제품1");
+        Auction unsoldAuction = createAuction(11L, seller, "제품2");
+        List<Long> auctionIds = List.of(10L, 11L);
+        when(auctionRepository.lockProceedingAuctionIds(auctionIds)).thenReturn(auctionIds);
+        when(bidRepository.findWinnerId(10L)).thenReturn(Optional.of(3L));
+        when(bidRepository.findWinnerId(11L)).thenReturn(Optional.empty());
+        when(bidRepository.findNonWinningBidders(10L, 3L, null, 500)).thenReturn(
+                List.of(new BidderCursor(20L, 2L), new BidderCursor(21L, 4L)));
+        when(auctionRepository.findAllWithProductByIdIn(auctionIds)).thenReturn(List.of(soldAuction, unsoldAuction));
+
+        int closed = auctionCloseService.closeAuctions(auctionIds);
+
+        assertThat(closed).isEqualTo(2);
+        verify(auctionRepository).endAuctions(auctionIds);
+        verify(auctionRepository).assignWinners(Map.of(10L, 3L));
+        verify(eventPublisher).publishEvent(new AuctionFeedChangedEvent(auctionIds));
+        List<NotificationBatchEvent> batches = capturePublished(NotificationBatchEvent.class);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0).events()).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(AUCTION_NON_WINNER);
+            assertThat(event.userIds()).containsExactly(2L, 4L);
+        });
+        List<NotificationEvent> results = batches.get(1).events();
+        assertThat(results).extracting(NotificationEvent::type)
+                .containsExactly(AUCTION_SUCCESS, AUCTION_WINNER, AUCTION_FAILURE);
+        assertThat(results.get(1).userIds()).containsExactly(3L);
+        assertThat(capturePublished(UserActivityCountEvent.class).stream().flatMap(event -> event.changes().stream()))
+                .containsExactlyInAnyOrder(
+                        new Change(3L, Field.ONGOING, -1), new Change(3L, Field.SUCCESSFUL, 1),
+                        new Change(2L, Field.ONGOING, -1), new Change(2L, Field.FAILED, 1),
+                        new Change(4L, Field.ONGOING, -1), new Change(4L, Field.FAILED, 1));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 처리 중인 경매는 건너뛴다")
+    void closeAuctions_SkipsLockedAuctions() {
+        when(auctionRepository.lockProceedingAuctionIds(List.of(10L))).thenReturn(List.of());
+
+        int closed = auctionCloseService.closeAuctions(List.of(10L));
+
+        assertThat(closed).isZero();
+        verify(auctionRepository, never()).endAuctions(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("미낙찰자가 많으면 정해진 크기로 나누어 묶음마다 알림을 발행한다")
+    void closeAuctions_ChunksNonWinners() {
+        User seller = User.builder().id(1L).providerId("1").nickname("판매자").email("a@naver.com").build();
+        List<Long> auctionIds = List.of(10L);
+        List<BidderCursor> firstChunk = LongStream.rangeClosed(1, 500)
+                .mapToObj(i -> new BidderCursor(i, 100 + i))
+                .toList();
+        when(auctionRepository.lockProceedingAuctionIds(auctionIds)).thenReturn(auctionIds);
+        when(auctionRepository.findAllWithProductByIdIn(auctionIds)).thenReturn(
+                List.of(createAuction(10L, seller, "제품1")));
+        when(bidRepository.findWinnerId(10L)).thenReturn(Optional.of(3L));
+        when(bidRepository.findNonWinningBidders(10L, 3L, null, 500)).thenReturn(firstChunk);
+        when(bidRepository.findNonWinningBidders(10L, 3L, 500L, 500)).thenReturn(List.of(new BidderCursor(501L, 9L)));
+
+        auctionCloseService.closeAuctions(auctionIds);
+
+        List<NotificationEvent> nonWinnerEvents = capturePublished(NotificationBatchEvent.class).stream()
+                .map(NotificationBatchEvent::events)
+                .filter(events -> events.get(0).type() == AUCTION_NON_WINNER)
+                .map(events -> events.get(0))
+                .toList();
+        assertThat(nonWinnerEvents).hasSize(2);
+        assertThat(nonWinnerEvents.get(0).userIds()).hasSize(500);
+        assertThat(nonWinnerEvents.get(1).userIds()).containsExactly(9L);
+    }
+
+    private <T> List<T> capturePublished(Class<T> eventType) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues().stream()
+                .filter(eventType::isInstance)
+                .map(eventType::cast)
+                .toList();
+    }
+
+    private Auction createAuction(Long id, User seller, String name) {
+        Product product = Product.builder().user(seller).name(name).category(Category.OTHER).minPrice(1000).build();
+        return Auction.builder().id(id).product(product).status(AuctionStatus.ENDED)
+                .endDateTime(LocalDateTime.now().minusMinutes(1)).build();
+    }
+}
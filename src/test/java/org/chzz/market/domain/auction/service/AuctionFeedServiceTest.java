@@ -0,0 +1,145 @@
+package org.chzz.market.domain.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.chzz.market.domain.auction.dto.query.FeedAuction;
+import org.chzz.market.domain.auction.dto.response.AuctionResponse;
+import org.chzz.market.domain.auction.event.AuctionFeedChangedEvent;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.product.entity.Product.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionFeedServiceTest {
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    private AuctionFeedService auctionFeedService;
+
+    @BeforeEach
+    void setUp() {
+        auctionFeedService = new AuctionFeedService(auctionRepository, 30000);
+        lenient().when(auctionRepository.findBestFeedAuctionsByCategory(anyInt())).thenReturn(Map.of());
+        lenient().when(auctionRepository.findImminentFeedAuctionsByCategory(any(), any(), anyInt()))
+                .thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만든 뒤에는 DB 조회 없이 응답하고 남은 시간은 조회 시점에 계산한다")
+    void getImminentAuctions_ServesFromSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        FeedAuction soon = new FeedAuction(1L, "제품1", "image1.jpg", 1000L, 3L, now.plusMinutes(10));
+        FeedAuction later = new FeedAuction(2L, "제품2", "image2.jpg", 2000L, 1L, now.plusMinutes(90));
+        FeedAuction ended = new FeedAuction(3L, "제품3", "image3.jpg", 3000L, 5L, now.minusSeconds(1));
+        when(auctionRepository.findImminentFeedAuctionsByCategory(any(), any(), anyInt()))
+                .thenReturn(Map.of(Category.ELECTRONICS, List.of(soon, later), Category.OTHER, List.of(ended)));
+
+        List<AuctionResponse> first = auctionFeedService.getImminentAuctions(null);
+        clearInvocations(auctionRepository);
+        List<AuctionResponse> second = auctionFeedService.getImminentAuctions(null);
+
+        assertThat(first).extracting(AuctionResponse::getAuctionId).containsExactly(1L);
+        assertThat(first.get(0).getTimeRemaining()).isBetween(590L, 600L);
+        assertThat(second).extracting(AuctionResponse::getAuctionId).containsExactly(1L);
+        verify(auctionRepository, never()).findImminentFeedAuctionsByCategory(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전체 피드는 카테고리별 후보를 합쳐 다시 정렬하고, 후보가 없는 카테고리는 빈 목록이다")
+    void getBestAuctions_MergesCategoryCandidates() {
+        LocalDateTime endDateTime = LocalDateTime.now().plusDays(1);
+        FeedAuction electronics = new FeedAuction(1L, "제품1", "image1.jpg", 1000L, 2L, endDateTime);
+        FeedAuction books = new FeedAuction(2L, "제품2", "image2.jpg", 2000L, 5L, endDateTime);
+        FeedAuction other = new FeedAuction(3L, "제품3", "image3.jpg", 3000L, 2L, endDateTime);
+        when(auctionRepository.findBestFeedAuctionsByCategory(anyInt())).thenReturn(Map.of(
+                Category.ELECTRONICS, List.of(electronics),
+                Category.BOOKS_AND_MEDIA, List.of(books),
+                Category.OTHER, List.of(other)));
+
+        assertThat(auctionFeedService.getBestAuctions(null))
+                .extracting(AuctionResponse::getAuctionId).containsExactly(2L, 3L, 1L);
+        assertThat(auctionFeedService.getBestAuctions(Category.ELECTRONICS))
+                .extracting(AuctionResponse::getAuctionId).containsExactly(1L);
+        assertThat(auctionFeedService.getBestAuctions(Category.FURNITURE_AND_INTERIOR)).isEmpty();
+        verify(auctionRepository, times(1)).findBestFeedAuctionsByCategory(anyInt());
+    }
+
+    @Test
+    @DisplayName("후보가 다 차지 않은 카테고리의 경매가 바뀌면 다음 주기에 스냅샷을 다시 만든다")
+    void refreshIfStale_RebuildsAfterFeedChanged() {
+        FeedAuction changed = new FeedAuction(1L, "제품1", "image1.jpg", 1000L, 1L, LocalDateTime.now().plusDays(1));
+        when(auctionRepository.findFeedAuctionsByIds(List.of(1L)))
+                .thenReturn(Map.of(Category.ELECTRONICS, List.of(changed)));
+        auctionFeedService.refreshIfStale();
+        clearInvocations(auctionRepository);
+
+        auctionFeedService.refreshIfStale();
+        verify(auctionRepository, never()).findBestFeedAuctionsByCategory(anyInt());
+
+        auctionFeedService.onFeedChanged(AuctionFeedChangedEvent.of(1L));
+        auctionFeedService.refreshIfStale();
+        verify(auctionRepository).findBestFeedAuctionsByCategory(eq(20));
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 경매가 바뀌면 따로 조회하지 않고 스냅샷을 다시 만든다")
+    void refreshIfStale_RebuildsWhenChangedAuctionIsInSnapshot() {
+        List<FeedAuction> candidates = bestCandidates(Category.ELECTRONICS, 5L);
+        when(auctionRepository.findBestFeedAuctionsByCategory(anyInt()))
+                .thenReturn(Map.of(Category.ELECTRONICS, candidates));
+        auctionFeedService.refreshIfStale();
+        clearInvocations(auctionRepository);
+
+        auctionFeedService.onFeedChanged(AuctionFeedChangedEvent.of(candidates.get(19).auctionId()));
+        auctionFeedService.refreshIfStale();
+
+        verify(auctionRepository, never()).findFeedAuctionsByIds(any());
+        verify(auctionRepository).findBestFeedAuctionsByCategory(eq(20));
+    }
+
+    @Test
+    @DisplayName("스냅샷 밖의 경매가 카테고리 후보의 마지막 순위를 넘지 못하면 스냅샷을 다시 만들지 않는다")
+    void refreshIfStale_SkipsWhenChangedAuctionCannotEnterFeed() {
+        when(auctionRepository.findBestFeedAuctionsByCategory(anyInt()))
+                .thenReturn(Map.of(Category.ELECTRONICS, bestCandidates(Category.ELECTRONICS, 5L)));
+        FeedAuction changed = new FeedAuction(100L, "제품", "image.jpg", 1000L, 4L, LocalDateTime.now().plusDays(1));
+        when(auctionRepository.findFeedAuctionsByIds(any()))
+                .thenReturn(Map.of(Category.ELECTRONICS, List.of(changed)));
+        auctionFeedService.refreshIfStale();
+        clearInvocations(auctionRepository);
+
+        // 101L 은 종료되어 조회되지 않는 경매
+        auctionFeedService.onFeedChanged(new AuctionFeedChangedEvent(List.of(100L, 101L)));
+        auctionFeedService.refreshIfStale();
+        auctionFeedService.refreshIfStale();
+
+        verify(auctionRepository).findFeedAuctionsByIds(any());
+        verify(auctionRepository, never()).findBestFeedAuctionsByCategory(anyInt());
+    }
+
+    private static List<FeedAuction> bestCandidates(Category category, long participantCount) {
+        LocalDateTime endDateTime = LocalDateTime.now().plusDays(1);
+        return LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> new FeedAuction(id, category.name() + id, "image.jpg", 1000L, participantCount,
+                        endDateTime))
+                .toList();
+    }
+}
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Comparator;
@@ -62,7 +63,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -70,6 +73,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,6 +91,15 @@ class AuctionServiceTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry;
+
     @InjectMocks
     private AuctionService auctionService;
     @InjectMocks
@@ -153,6 +167,7 @@ class AuctionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(user));
             when(imageService.uploadImages(anyList())).thenReturn(List.of("image1.jpg", "image2.jpg"));
+            runInTransaction();
 
             List<MultipartFile> images = createMockMultipartFiles();
 
@@ -217,6 +232,7 @@ class AuctionServiceTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(user));
             when(imageService.uploadImages(anyList())).thenReturn(List.of("image1.jpg", "image2.jpg"));
+            runInTransaction();
 
             List<MultipartFile> images = createMockMultipartFiles();
 
@@ -270,6 +286,24 @@ class AuctionServiceTest {
             verify(imageService, never()).uploadImages(anyList());
 
         }
+
+        @Test
+        @DisplayName("3. 저장에 실패하면 업로드한 이미지를 삭제")
+        void registerAuction_SaveFailed_DiscardsUploadedImages() {
+            // given
+            List<String> imageUrls = List.of("image1.jpg", "image2.jpg");
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+            when(imageService.uploadImages(anyList())).thenReturn(imageUrls);
+            runInTransaction();
+            when(productRepository.save(any(Product.class))).thenThrow(new IllegalStateException("DB 오류"));
+
+            // when & then
+            assertThrows(IllegalStateException.class,
+                    () -> auctionRegisterService.register(1L, registerAuctionRequest, createMockMultipartFiles()));
+            verify(imageService).discardUploadedImages(imageUrls);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+            assertEquals(1, meterRegistry.get("auction.register.latency").tag("type", "register").timer().count());
+        }
     }
 
     @Nested
@@ -357,7 +391,8 @@ class AuctionServiceTest {
             Long existingAuctionId = 1L;
             Long userId = 1L;
             AuctionDetailsResponse auctionDetails = new AuctionDetailsResponse(1L, "닉네임2", "null", "제품1", null, 1000,
-                    ELECTRONICS, 123L, PROCEEDING, false, 0L, false, null, 0L, 0, false, false, false, null);
+                    ELECTRONICS, LocalDateTime.now().plusSeconds(123),
+                    PROCEEDING, false, 0L, false, null, 0L, 0, false, false, false, null);
 
             // when
             when(auctionRepository.findAuctionDetailsById(anyLong(), anyLong())).thenReturn(
@@ -394,7 +429,8 @@ class AuctionServiceTest {
             Long userId = 1L;
             AuctionDetailsResponse auctionDetails = new AuctionDetailsResponse(
                     1L, "닉네임1", "profile.jpg", "제품1", "설명", 1000,
-                    ELECTRONICS, 100L, PROCEEDING, false, 5L, true, 10L, 1000L, 3, false, true, true, true);
+                    ELECTRONICS, LocalDateTime.now().plusSeconds(100),
+                    PROCEEDING, false, 5L, true, 10L, 1000L, 3, false, true, true, true);
 
             // 판매자이거나 낙찰자인 경우
             when(auctionRepository.findAuctionDetailsById(anyLong(), anyLong())).thenReturn(Optional.of(auctionDetails));
@@ -415,7 +451,8 @@ class AuctionServiceTest {
             Long userId = 1L;
             AuctionDetailsResponse auctionDetails = new AuctionDetailsResponse(
                     1L, "닉네임1", "profile.jpg", "제품1", "설명", 1000,
-                    ELECTRONICS, 100L, PROCEEDING, true, 5L, false, null, 0L, 3, false, false, true, false);
+                    ELECTRONICS, LocalDateTime.now().plusSeconds(100),
+                    PROCEEDING, true, 5L, false, null, 0L, 3, false, false, true, false);
 
             // 판매자이거나 낙찰자인 경우
             when(auctionRepository.findAuctionDetailsById(anyLong(), anyLong())).thenReturn(Optional.of(auctionDetails));
@@ -436,7 +473,8 @@ class AuctionServiceTest {
             Long userId = 2L; // 판매자나 낙찰자가 아닌 사용자
             AuctionDetailsResponse auctionDetails = new AuctionDetailsResponse(
                     1L, "닉네임1", "profile.jpg", "제품1", "설명", 1000,
-                    ELECTRONICS, 100L, PROCEEDING, false, 5L, false, null, 0L, 3, false, false, false, true);
+                    ELECTRONICS, LocalDateTime.now().plusSeconds(100),
+                    PROCEEDING, false, 5L, false, null, 0L, 3, false, false, false, true);
 
             // 판매자나 낙찰자가 아닌 경우
             when(auctionRepository.findAuctionDetailsById(anyLong(), anyLong())).thenReturn(Optional.of(auctionDetails));
@@ -457,7 +495,8 @@ class AuctionServiceTest {
             Long userId = null; // 비회원
             AuctionDetailsResponse auctionDetails = new AuctionDetailsResponse(
                     1L, "닉네임1", "profile.jpg", "제품1", "설명", 1000,
-                    ELECTRONICS, 100L, PROCEEDING, false, 5L, false, null, 0L, 3, false, false, false, true);
+                    ELECTRONICS, LocalDateTime.now().plusSeconds(100),
+                    PROCEEDING, false, 5L, false, null, 0L, 3, false, false, false, true);
 
             // 판매자나 낙찰자가 아닌 경우
             when(auctionRepository.findAuctionDetailsById(auctionId, userId)).thenReturn(Optional.of(auctionDetails));
@@ -847,4 +886,9 @@ class AuctionServiceTest {
                 new Image(2L, "existingImage2.jpg", 2, product)
         );
     }
+
+    private void runInTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 }
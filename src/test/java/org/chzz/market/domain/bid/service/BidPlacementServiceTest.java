@@ -0,0 +1,131 @@
+package org.chzz.market.domain.bid.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_LIMIT_EXCEEDED;
+import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.type.AuctionStatus;
+import org.chzz.market.domain.bid.dto.BidCreateRequest;
+import org.chzz.market.domain.bid.error.BidException;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.bid.service.ledger.BidLedger;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerFlusher;
+import org.chzz.market.domain.bid.service.ledger.BidLedgerResult;
+import org.chzz.market.domain.bid.service.sequencer.BidSequencer;
+import org.chzz.market.domain.product.entity.Product;
+import org.chzz.market.domain.product.entity.Product.Category;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BidPlacementServiceTest {
+    private static final String ERROR_CODE = "errorCode";
+
+    @Mock
+    private BidService bidService;
+
+    @Mock
+    private BidLedger bidLedger;
+
+    @Mock
+    private BidLedgerFlusher bidLedgerFlusher;
+
+    @Mock
+    private BidSequencer bidSequencer;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private BidPlacementService bidPlacementService;
+
+    private BidCreateRequest bidCreateRequest;
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).providerId("1234").nickname("닉네임1").email("asd@naver.com").build();
+        Product product = Product.builder().user(user).name("제품1").category(Category.FASHION_AND_CLOTHING)
+                .minPrice(1000).build();
+        auction = Auction.builder().id(1L).product(product).status(AuctionStatus.PROCEEDING)
+                .endDateTime(LocalDateTime.now().plusDays(1)).build();
+        bidCreateRequest = BidCreateRequest.builder().auctionId(1L).bidAmount(2000L).build();
+    }
+
+    @Test
+    @DisplayName("입찰 원장이 비활성화된 경우 경매 단위로 직렬화하여 기존 DB 경로로 입찰한다")
+    public void ledgerDisabled_DelegatesToBidServiceThroughSequencer() {
+        when(bidLedger.isEnabled()).thenReturn(false);
+
+        bidPlacementService.createBid(bidCreateRequest, 2L);
+
+        verify(bidSequencer).execute(eq(1L), any(Runnable.class));
+        verify(bidLedger, never()).place(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("원장이 초기화되지 않은 경매는 DB 상태로 초기화한 뒤 다시 입찰한다")
+    public void ledgerNotLoaded_HydratesAndRetries() {
+        when(bidLedger.isEnabled()).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(bidLedger.place(1L, 2L, 2000L)).thenReturn(BidLedgerResult.NOT_LOADED, BidLedgerResult.CREATED);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(auction));
+        when(bidRepository.findAllByAuction(auction)).thenReturn(List.of());
+
+        assertDoesNotThrow(() -> bidPlacementService.createBid(bidCreateRequest, 2L));
+
+        verify(bidLedger).hydrate(auction, List.of());
+        verify(bidService, never()).createBid(any(), any());
+    }
+
+    @Test
+    @DisplayName("원장에서 거절된 입찰은 DB 경로와 동일한 예외를 던진다")
+    public void ledgerRejected_ThrowsSameException() {
+        when(bidLedger.isEnabled()).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(bidLedger.place(1L, 2L, 2000L)).thenReturn(BidLedgerResult.LIMIT_EXCEEDED);
+
+        assertThatThrownBy(() -> bidPlacementService.createBid(bidCreateRequest, 2L))
+                .isInstanceOf(BidException.class)
+                .extracting(ERROR_CODE)
+                .isEqualTo(BID_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("원장 경로에서도 존재하지 않는 사용자의 입찰은 거절한다")
+    public void ledgerEnabled_UserNotFound() {
+        when(bidLedger.isEnabled()).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> bidPlacementService.createBid(bidCreateRequest, 2L))
+                .isInstanceOf(UserException.class)
+                .extracting(ERROR_CODE)
+                .isEqualTo(USER_NOT_FOUND);
+        verify(bidLedger, never()).place(any(), any(), any());
+    }
+}
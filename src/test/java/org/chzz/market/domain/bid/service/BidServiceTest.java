@@ -11,6 +11,7 @@ import static org.chzz.market.domain.bid.error.BidErrorCode.BID_LIMIT_EXCEEDED;
 import static org.chzz.market.domain.bid.error.BidErrorCode.BID_NOT_ACCESSIBLE;
 import static org.chzz.market.domain.bid.error.BidErrorCode.BID_SAME_AS_PREVIOUS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -51,6 +53,9 @@ class BidServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BidService bidService;
 
@@ -90,6 +95,7 @@ class BidServiceTest {
         //when & then
         assertDoesNotThrow(() -> bidService.createBid(bidCreateRequest, 2L));
         assertThat(auction.getBids().size()).isEqualTo(1);
+        verify(auctionRepository).increaseBidSummary(1L, 1, 1000L);
     }
 
     @Test
@@ -109,6 +115,7 @@ class BidServiceTest {
         assertThat(bid.getId()).isEqualTo(1L);
         assertThat(bid.getAmount()).isEqualTo(2000L);
         assertThat(bid.getCount()).isEqualTo(1L);
+        verify(auctionRepository).increaseBidSummary(1L, 0, 2000L);
     }
 
     @Test
@@ -220,6 +227,7 @@ class BidServiceTest {
         //then
         assertThat(bid.getStatus()).isEqualTo(CANCELLED);
         assertThat(auction.getBids().size()).isEqualTo(0);
+        verify(auctionRepository).decreaseBidSummary(1L, -1);
     }
 
     @Test
@@ -0,0 +1,200 @@
+package org.chzz.market.domain.bid.service.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.user.error.UserErrorCode.USER_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.chzz.market.common.RedisTest;
+import org.chzz.market.domain.auction.entity.Auction;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.auction.type.AuctionStatus;
+import org.chzz.market.domain.bid.dto.BidCreateRequest;
+import org.chzz.market.domain.bid.entity.Bid;
+import org.chzz.market.domain.bid.repository.BidRepository;
+import org.chzz.market.domain.bid.service.BidPlacementService;
+import org.chzz.market.domain.bid.service.BidService;
+import org.chzz.market.domain.bid.service.sequencer.BidSequencer;
+import org.chzz.market.domain.product.entity.Product;
+import org.chzz.market.domain.product.entity.Product.Category;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.error.exception.UserException;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Redis 원장과 Lua 스크립트를 실제로 실행하고 DB 쓰기만 대신해 원장 반영과 입찰 취소를 확인합니다.
+ */
+@RedisTest
+@Import({BidLedger.class, BidLedgerFlusher.class})
+@TestPropertySource(properties = "bid.ledger.enabled=true")
+class BidLedgerFlusherTest {
+    @Autowired
+    private BidLedger bidLedger;
+
+    @Autowired
+    private BidLedgerFlusher bidLedgerFlusher;
+
+    @MockBean
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuctionRepository auctionRepository;
+
+    private final BidService bidService = mock(BidService.class);
+    private final BidSequencer bidSequencer = mock(BidSequencer.class);
+    private final BidRepository bidRepository = mock(BidRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private BidPlacementService bidPlacementService;
+
+    private Long auctionId;
+    private User bidder;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        bidPlacementService = new BidPlacementService(bidService, bidLedger, bidLedgerFlusher, bidSequencer,
+                auctionRepository, bidRepository, userRepository);
+        // 테스트 Redis 를 함께 쓰므로 다른 테스트와 겹치지 않는 ID를 사용합니다.
+        auctionId = ThreadLocalRandom.current().nextLong(1_000_000_000L, 2_000_000_000L);
+        bidder = User.builder().id(auctionId + 1).nickname("입찰자").build();
+        owner = User.builder().id(auctionId + 2).nickname("판매자").build();
+        bidLedger.hydrate(auction(auctionId), List.of());
+        when(userRepository.existsById(bidder.getId())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidLedger.popDirty(auctionId);
+        bidLedger.delete(auctionId);
+    }
+
+    @Test
+    @DisplayName("아직 원장에만 있는 입찰도 사용자의 대기 입찰을 먼저 반영해 취소한다")
+    void cancelBid_BidOnlyInLedger() {
+        bidPlacementService.createBid(request(2000L), bidder.getId());
+        AtomicBoolean inserted = stubBidTableWrites();
+        when(bidRepository.findAuctionIdByBidId(10L))
+                .thenAnswer(invocation -> inserted.get() ? Optional.of(auctionId) : Optional.empty());
+        Bid bid = Bid.builder().id(10L).bidder(bidder).amount(2000L).build();
+        when(bidSequencer.execute(eq(auctionId), any(Supplier.class))).thenReturn(bid);
+
+        bidPlacementService.cancelBid(10L, bidder.getId());
+
+        assertThat(inserted).isTrue();
+        assertThat(bidLedger.popDirty(auctionId)).isEmpty();
+        assertThat(bidLedger.place(auctionId, bidder.getId(), 3000L)).isEqualTo(BidLedgerResult.ALREADY_CANCELLED);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 입찰은 원장에 반영하지 않는다")
+    void createBid_UserNotFound() {
+        Long unknownUserId = auctionId + 3;
+
+        assertThatThrownBy(() -> bidPlacementService.createBid(request(2000L), unknownUserId))
+                .isInstanceOf(UserException.class)
+                .extracting("errorCode")
+                .isEqualTo(USER_NOT_FOUND);
+        assertThat(bidLedger.popDirtyByUser(unknownUserId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입찰을 DB에 반영하지 못하면 종료할 수 없다고 알리고 입찰을 대기 상태로 남긴다")
+    void flushAuction_WriteFailed() {
+        bidPlacementService.createBid(request(2000L), bidder.getId());
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        boolean flushed = bidLedgerFlusher.flushAuction(auctionId);
+
+        assertThat(flushed).isFalse();
+        assertThat(bidLedger.popDirty(auctionId)).containsExactly(BidLedger.member(auctionId, bidder.getId()));
+    }
+
+    @Test
+    @DisplayName("입찰을 모두 DB에 반영하면 종료할 수 있다고 알리고 원장을 삭제한다")
+    void flushAuction_Success() {
+        bidPlacementService.createBid(request(2000L), bidder.getId());
+        AtomicBoolean inserted = stubBidTableWrites();
+
+        boolean flushed = bidLedgerFlusher.flushAuction(auctionId);
+
+        assertThat(flushed).isTrue();
+        assertThat(inserted).isTrue();
+        assertThat(bidLedger.place(auctionId, bidder.getId(), 3000L)).isEqualTo(BidLedgerResult.NOT_LOADED);
+    }
+
+    @Test
+    @DisplayName("경매별 반영은 해당 경매의 항목만 꺼내고 사용자별 대기 집합에서도 지운다")
+    void popDirty_OnlyTargetAuction() {
+        Long otherAuctionId = auctionId + 10;
+        bidLedger.hydrate(auction(otherAuctionId), List.of());
+        bidLedger.place(auctionId, bidder.getId(), 2000L);
+        bidLedger.place(otherAuctionId, bidder.getId(), 2000L);
+
+        assertThat(bidLedger.popDirty(auctionId)).containsExactly(BidLedger.member(auctionId, bidder.getId()));
+        assertThat(bidLedger.popDirtyByUser(bidder.getId()))
+                .containsExactly(BidLedger.member(otherAuctionId, bidder.getId()));
+        assertThat(bidLedger.popDirty(otherAuctionId)).isEmpty();
+        bidLedger.delete(otherAuctionId);
+    }
+
+    @Test
+    @DisplayName("주기 반영으로 꺼낸 항목은 경매별, 사용자별 대기 집합에서도 지워진다")
+    void flush_ClearsTargetedDirtySets() {
+        bidPlacementService.createBid(request(2000L), bidder.getId());
+        stubBidTableWrites();
+
+        bidLedgerFlusher.flush();
+
+        assertThat(bidLedger.popDirty(auctionId)).isEmpty();
+        assertThat(bidLedger.popDirtyByUser(bidder.getId())).isEmpty();
+    }
+
+    /**
+     * 기존 입찰 행이 없어 UPDATE 는 0건, INSERT 는 1건씩 반영된 것으로 응답합니다.
+     */
+    private AtomicBoolean stubBidTableWrites() {
+        AtomicBoolean inserted = new AtomicBoolean(false);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE"), anyList()))
+                .thenAnswer(invocation -> new int[invocation.<List<?>>getArgument(1).size()]);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT"), anyList())).thenAnswer(invocation -> {
+            inserted.set(true);
+            int[] rows = new int[invocation.<List<?>>getArgument(1).size()];
+            Arrays.fill(rows, 1);
+            return rows;
+        });
+        return inserted;
+    }
+
+    private Auction auction(Long id) {
+        Product product = Product.builder().user(owner).name("제품").category(Category.ELECTRONICS)
+                .minPrice(1000).build();
+        return Auction.builder().id(id).product(product).status(AuctionStatus.PROCEEDING)
+                .endDateTime(LocalDateTime.now().plusHours(1)).build();
+    }
+
+    private BidCreateRequest request(Long amount) {
+        return BidCreateRequest.builder().auctionId(auctionId).bidAmount(amount).build();
+    }
+}
@@ -0,0 +1,70 @@
+package org.chzz.market.domain.bid.service.sequencer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.chzz.market.domain.bid.error.BidErrorCode.BID_IN_PROGRESS;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.chzz.market.domain.bid.error.BidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BidSequencerTest {
+    private static final String ERROR_CODE = "errorCode";
+
+    @Test
+    @DisplayName("같은 경매의 입찰 변경은 동시에 실행되지 않는다")
+    void sameAuction_IsSerialized() throws Exception {
+        BidSequencer sequencer = new BidSequencer(null, 16, 5000, 5000, false);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int tasks = 50;
+        CountDownLatch done = new CountDownLatch(tasks);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < tasks; i++) {
+            executor.submit(() -> {
+                sequencer.execute(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    running.decrementAndGet();
+                });
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 락을 얻지 못하면 예외가 발생한다")
+    void lockTimeout_ThrowsException() throws Exception {
+        BidSequencer sequencer = new BidSequencer(null, 16, 5000, 50, false);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> sequencer.execute(1L, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        locked.await();
+
+        assertThatThrownBy(() -> sequencer.execute(1L, () -> {
+        }))
+                .isInstanceOf(BidException.class)
+                .extracting(ERROR_CODE)
+                .isEqualTo(BID_IN_PROGRESS);
+
+        release.countDown();
+        holder.join();
+    }
+}
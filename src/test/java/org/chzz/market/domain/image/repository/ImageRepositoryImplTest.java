@@ -0,0 +1,59 @@
+package org.chzz.market.domain.image.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.chzz.market.common.DatabaseTest;
+import org.chzz.market.domain.image.entity.Image;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@DatabaseTest
+@Transactional
+class ImageRepositoryImplTest {
+    @Autowired
+    ImageRepository imageRepository;
+
+    @Test
+    @DisplayName("새 이미지와 임대가 끝난 작업만 임대가 먼저 끝난 순으로 가져간다")
+    void lockDueForDerivatives_SkipsLeasedAndCompleted() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Image fresh = image("fresh.jpg");
+        Image leaseExpired = image("lease-expired.jpg");
+        leaseExpired.leaseDerivatives(now.minusMinutes(1));
+        Image leased = image("leased.jpg");
+        leased.leaseDerivatives(now.plusMinutes(5));
+        Image completed = image("completed.jpg");
+        completed.completeDerivatives("thumbnails/completed.jpg", null);
+        imageRepository.saveAll(List.of(fresh, leaseExpired, leased, completed));
+
+        // when
+        List<Image> due = imageRepository.lockDueForDerivatives(now.plusSeconds(1), 1000);
+
+        // then
+        assertThat(due).contains(fresh, leaseExpired).doesNotContain(leased, completed);
+        assertThat(due.indexOf(leaseExpired)).isLessThan(due.indexOf(fresh));
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지나면 다시 가져갈 수 있다")
+    void lockDueForDerivatives_ReturnsAfterLeaseExpires() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Image leased = image("leased.jpg");
+        leased.leaseDerivatives(now.plusMinutes(5));
+        imageRepository.save(leased);
+
+        // when & then
+        assertThat(imageRepository.lockDueForDerivatives(now, 1000)).doesNotContain(leased);
+        assertThat(imageRepository.lockDueForDerivatives(now.plusMinutes(5), 1000)).contains(leased);
+    }
+
+    private static Image image(String fileName) {
+        return Image.builder().cdnPath("https://cdn.example.com/1/" + fileName).sequence(1).build();
+    }
+}
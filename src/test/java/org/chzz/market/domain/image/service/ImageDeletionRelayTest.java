@@ -0,0 +1,67 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.SdkClientException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.chzz.market.domain.image.dto.ImageDeletionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionRelayTest {
+    @Mock
+    private ImageDeletionService imageDeletionService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageDeletionRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ImageDeletionRelay(imageDeletionService, meterRegistry, 2, 3);
+    }
+
+    @Test
+    @DisplayName("묶음이 가득 차 있는 동안 이어서 지우고, 덜 찬 묶음에서 멈춘다")
+    void tick_DrainsUntilPartialBatch() {
+        when(imageDeletionService.purge(2))
+                .thenReturn(new ImageDeletionResult(2, 2, 0, LocalDateTime.now()))
+                .thenReturn(new ImageDeletionResult(1, 0, 1, LocalDateTime.now()));
+
+        relay.tick();
+
+        verify(imageDeletionService, times(2)).purge(2);
+        assertThat(meterRegistry.get("image.deletion.deleted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("image.deletion.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.deletion.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 주기에 최대 묶음 수까지만 처리한다")
+    void tick_StopsAtMaxBatches() {
+        when(imageDeletionService.purge(2)).thenReturn(new ImageDeletionResult(2, 2, 0, LocalDateTime.now()));
+
+        relay.tick();
+
+        verify(imageDeletionService, times(3)).purge(2);
+    }
+
+    @Test
+    @DisplayName("S3 호출이 실패하면 실패를 세고 이번 주기를 끝낸다")
+    void tick_StopsOnFailure() {
+        when(imageDeletionService.purge(2)).thenThrow(new SdkClientException("S3 연결 실패"));
+
+        relay.tick();
+
+        verify(imageDeletionService, times(1)).purge(2);
+        assertThat(meterRegistry.get("image.deletion.failures").counter().count()).isEqualTo(1);
+    }
+}
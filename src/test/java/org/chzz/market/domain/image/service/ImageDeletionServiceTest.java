@@ -0,0 +1,115 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.chzz.market.domain.image.dto.ImageDeletionResult;
+import org.chzz.market.domain.image.entity.ImageDeletion;
+import org.chzz.market.domain.image.repository.ImageDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionServiceTest {
+    private static final String CDN = "https://cdn.example.com";
+
+    @Mock
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Mock
+    private AmazonS3 amazonS3Client;
+
+    @InjectMocks
+    private ImageDeletionService imageDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageDeletionService, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(imageDeletionService, "bucket", "bucket");
+    }
+
+    @Test
+    @DisplayName("이 서비스 버킷의 CDN 경로만 키로 바꿔 삭제 대기열에 넣는다")
+    void enqueue_OnlyOwnCdnPaths() {
+        imageDeletionService.enqueue(List.of(CDN + "/a.jpg", CDN + "/thumbnails/a.jpg", CDN + "/a.jpg",
+                "https://k.kakaocdn.net/profile.jpg"));
+
+        verify(imageDeletionRepository).insertAll(List.of("a.jpg", "thumbnails/a.jpg"));
+    }
+
+    @Test
+    @DisplayName("모인 삭제 요청을 S3 다중 객체 삭제 요청 한 번으로 지우고 요청을 삭제한다")
+    void purge_DeletesInOneRequest() {
+        when(imageDeletionRepository.lockOldest(1000)).thenReturn(deletions("a.jpg", "b.jpg", "a.jpg"));
+
+        ImageDeletionResult result = imageDeletionService.purge(5000);
+
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3Client).deleteObjects(captor.capture());
+        assertThat(captor.getValue().getBucketName()).isEqualTo("bucket");
+        assertThat(captor.getValue().getKeys()).extracting(KeyVersion::getKey).containsExactly("a.jpg", "b.jpg");
+        verify(imageDeletionRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertThat(result.entryCount()).isEqualTo(3);
+        assertThat(result.deletedCount()).isEqualTo(2);
+        assertThat(result.failedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 키만 거부되면 실패 수를 기록하고 요청은 모두 삭제한다")
+    void purge_PartialFailure() {
+        when(imageDeletionRepository.lockOldest(1000)).thenReturn(deletions("a.jpg", "b.jpg"));
+        DeleteError error = new DeleteError();
+        error.setKey("b.jpg");
+        error.setCode("AccessDenied");
+        when(amazonS3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new MultiObjectDeleteException(List.of(error), List.of()));
+
+        ImageDeletionResult result = imageDeletionService.purge(1000);
+
+        verify(imageDeletionRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertThat(result.deletedCount()).isEqualTo(1);
+        assertThat(result.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("S3 호출이 실패하면 요청을 남겨 다음 주기에 다시 시도한다")
+    void purge_RequestFailed_KeepsEntries() {
+        when(imageDeletionRepository.lockOldest(1000)).thenReturn(deletions("a.jpg"));
+        when(amazonS3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new SdkClientException("timeout"));
+
+        assertThatThrownBy(() -> imageDeletionService.purge(1000)).isInstanceOf(SdkClientException.class);
+
+        verify(imageDeletionRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    private static List<ImageDeletion> deletions(String... objectKeys) {
+        return LongStream.range(0, objectKeys.length)
+                .mapToObj(i -> {
+                    ImageDeletion deletion = new ImageDeletion(objectKeys[(int) i]);
+                    ReflectionTestUtils.setField(deletion, "id", i + 1);
+                    return deletion;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,120 @@
+package org.chzz.market.domain.image.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import org.chzz.market.domain.image.dto.ImageDerivativeJob;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 파생 이미지 생성(디코딩, 썸네일·WebP 변환, 인코딩) 처리량을 작업 스레드 수별로 재는 벤치마크. 오래 걸리고 장비에 따라 값이 달라지므로
+ * {@code IMAGE_BENCHMARK=true}일 때만 실행합니다.
+ * <pre>
+ * IMAGE_BENCHMARK=true ./gradlew test --tests '*ImageDerivativeBenchmarkTest'
+ * </pre>
+ * S3는 메모리에 둔 원본을 돌려주는 목으로 대신하므로 네트워크 시간은 포함되지 않습니다. 같은 시드로 만든 4000x3000 JPEG 원본을 쓰므로 같은 장비에서는
+ * 결과를 비교할 수 있고, {@code image.derivative.workers}를 정할 때 스레드 수에 따라 처리량이 더 늘지 않는 지점을 찾는 데 씁니다.
+ */
+@EnabledIfEnvironmentVariable(named = "IMAGE_BENCHMARK", matches = "true")
+class ImageDerivativeBenchmarkTest {
+    private static final String CDN = "https://cdn.example.com";
+    private static final int WARMUP_IMAGES = 10;
+    private static final int IMAGES = 100;
+    private static final int[] WORKER_COUNTS = {1, 2, 4};
+
+    @Test
+    @DisplayName("작업 스레드 수별 파생 이미지 생성 처리량과 지연 시간을 잰다")
+    void measureThroughputByWorkerCount() throws Exception {
+        byte[] original = photo(4000, 3000, 42);
+        ImageDerivativeService service = service(original);
+
+        run(service, 1, WARMUP_IMAGES);
+        for (int workers : WORKER_COUNTS) {
+            long startedAt = System.nanoTime();
+            List<Long> latencies = run(service, workers, IMAGES);
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            System.out.printf("[파생 이미지] 스레드 %d개: %.1f장/초, p50 %dms, p95 %dms (원본 %dKB)%n",
+                    workers, IMAGES / seconds, percentile(latencies, 50), percentile(latencies, 95),
+                    original.length / 1024);
+        }
+    }
+
+    private static List<Long> run(ImageDerivativeService service, int workers, int images) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Long>> results = new ArrayList<>(images);
+            for (int i = 0; i < images; i++) {
+                ImageDerivativeJob job = new ImageDerivativeJob((long) i, CDN + "/1/" + i + ".jpg", 1);
+                results.add(executor.submit(() -> {
+                    long startedAt = System.nanoTime();
+                    service.generate(job);
+                    return (System.nanoTime() - startedAt) / 1_000_000;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>(images);
+            for (Future<Long> result : results) {
+                latencies.add(result.get());
+            }
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ImageDerivativeService service(byte[] original) {
+        AmazonS3 amazonS3Client = mock(AmazonS3.class);
+        when(amazonS3Client.getObject(anyString(), anyString())).thenAnswer(invocation -> {
+            S3Object object = new S3Object();
+            object.setObjectContent(new ByteArrayInputStream(original));
+            return object;
+        });
+        ImageDerivativeService service = new ImageDerivativeService(mock(ImageRepository.class), amazonS3Client,
+                new ImageResizer(), new SimpleMeterRegistry(), 300, 320, 1280);
+        ReflectionTestUtils.setField(service, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(service, "bucket", "bucket");
+        return service;
+    }
+
+    // 단색 이미지는 인코딩이 비현실적으로 빠르므로 그라데이션에 잡음을 섞어 사진과 비슷한 원본을 만듭니다.
+    private static byte[] photo(int width, int height, long seed) throws IOException {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = (x * 255 / width + random.nextInt(32)) & 0xFF;
+                int g = (y * 255 / height + random.nextInt(32)) & 0xFF;
+                int b = ((x + y) * 255 / (width + height) + random.nextInt(32)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100));
+    }
+}
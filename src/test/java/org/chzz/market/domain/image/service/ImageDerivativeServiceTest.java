@@ -0,0 +1,148 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.chzz.market.domain.image.dto.ImageDerivativeJob;
+import org.chzz.market.domain.image.dto.ImageDerivativePaths;
+import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceTest {
+    private static final String CDN = "https://cdn.example.com";
+    private static final long LEASE_SECONDS = 300;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private AmazonS3 amazonS3Client;
+
+    private final ImageResizer imageResizer = new ImageResizer();
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        imageDerivativeService = new ImageDerivativeService(imageRepository, amazonS3Client, imageResizer,
+                new SimpleMeterRegistry(), LEASE_SECONDS, 320, 1280);
+        ReflectionTestUtils.setField(imageDerivativeService, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(imageDerivativeService, "bucket", "bucket");
+    }
+
+    @Test
+    @DisplayName("가져간 작업은 임대 시간만큼 미뤄 두고 시도 횟수를 하나 올린다")
+    void claim_LeasesAndCountsAttempt() {
+        Image image = Image.builder().id(1L).cdnPath(CDN + "/1/a.jpg").build();
+        image.leaseDerivatives(LocalDateTime.now().minusSeconds(1)); // 이전 시도의 임대가 끝난 작업
+        when(imageRepository.lockDueForDerivatives(any(), eq(10))).thenReturn(List.of(image));
+
+        LocalDateTime before = LocalDateTime.now();
+        List<ImageDerivativeJob> jobs = imageDerivativeService.claim(10);
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(jobs).containsExactly(new ImageDerivativeJob(1L, CDN + "/1/a.jpg", 2));
+        assertThat(image.getDerivativeAttempts()).isEqualTo(2);
+        assertThat(image.getDerivativeDueAt())
+                .isBetween(before.plusSeconds(LEASE_SECONDS), after.plusSeconds(LEASE_SECONDS));
+    }
+
+    @Test
+    @DisplayName("파생 이미지 경로를 기록하고 작업을 끝낸다")
+    void complete_RecordsPaths() {
+        Image image = Image.builder().id(1L).cdnPath(CDN + "/1/a.jpg").build();
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+
+        imageDerivativeService.complete(1L, new ImageDerivativePaths(CDN + "/thumbnails/1/a.jpg", null));
+
+        assertThat(image.getThumbnailPath()).isEqualTo(CDN + "/thumbnails/1/a.jpg");
+        assertThat(image.getWebpPath()).isNull();
+        assertThat(image.getDerivativeDueAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("처리하는 사이 이미지가 삭제되었으면 아무 것도 하지 않는다")
+    void complete_ImageDeleted() {
+        when(imageRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatCode(() -> imageDerivativeService.complete(1L, ImageDerivativePaths.NONE))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("원본을 내려받아 썸네일을 만들어 올리고 CDN 경로를 반환한다")
+    void generate_UploadsThumbnail() throws IOException {
+        when(amazonS3Client.getObject("bucket", "1/a.png")).thenReturn(s3Object(png(1600, 1200)));
+
+        ImageDerivativePaths paths = imageDerivativeService.generate(new ImageDerivativeJob(1L, CDN + "/1/a.png", 1));
+
+        assertThat(paths.thumbnailPath()).isEqualTo(CDN + "/thumbnails/1/a.jpg");
+        verify(amazonS3Client).putObject(eq("bucket"), eq("thumbnails/1/a.jpg"), any(InputStream.class),
+                any(ObjectMetadata.class));
+        if (imageResizer.supportsWebp()) {
+            assertThat(paths.webpPath()).isEqualTo(CDN + "/webp/1/a.webp");
+        } else {
+            assertThat(paths.webpPath()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("이 서비스 버킷의 이미지가 아니면 내려받지 않는다")
+    void generate_OtherOrigin() throws IOException {
+        ImageDerivativePaths paths = imageDerivativeService.generate(
+                new ImageDerivativeJob(1L, "https://other.example.com/a.jpg", 1));
+
+        assertThat(paths).isEqualTo(ImageDerivativePaths.NONE);
+        verify(amazonS3Client, never()).getObject(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 이미지는 파생 이미지를 만들지 않는다")
+    void generate_NotImage() throws IOException {
+        when(amazonS3Client.getObject("bucket", "1/a.jpg")).thenReturn(s3Object("not an image".getBytes()));
+
+        ImageDerivativePaths paths = imageDerivativeService.generate(new ImageDerivativeJob(1L, CDN + "/1/a.jpg", 1));
+
+        assertThat(paths).isEqualTo(ImageDerivativePaths.NONE);
+        verify(amazonS3Client, never()).putObject(anyString(), anyString(), any(InputStream.class),
+                any(ObjectMetadata.class));
+    }
+
+    private static S3Object s3Object(byte[] content) {
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(content));
+        return object;
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,123 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import org.chzz.market.domain.image.dto.ImageDerivativeJob;
+import org.chzz.market.domain.image.dto.ImageDerivativePaths;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeWorkerTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final ImageDerivativePaths PATHS =
+            new ImageDerivativePaths("https://cdn.example.com/thumbnails/1/a.jpg", null);
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageDerivativeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ImageDerivativeWorker(imageDerivativeService, meterRegistry, 1, MAX_ATTEMPTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("만든 파생 이미지 경로를 기록하고 작업을 끝낸다")
+    void process_Completes() throws IOException {
+        ImageDerivativeJob job = job(1);
+        when(imageDerivativeService.generate(job)).thenReturn(PATHS);
+
+        worker.process(job);
+
+        verify(imageDerivativeService).complete(1L, PATHS);
+        assertThat(processed("generated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전에 실패하면 작업을 끝내지 않아 임대가 끝난 뒤 다시 처리된다")
+    void process_LeavesFailedJobForRetry() throws IOException {
+        ImageDerivativeJob job = job(MAX_ATTEMPTS - 1);
+        when(imageDerivativeService.generate(job)).thenThrow(new IOException("S3 연결 실패"));
+
+        worker.process(job);
+
+        verify(imageDerivativeService, never()).complete(anyLong(), any());
+        assertThat(processed("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 파생 이미지 없이 작업을 끝낸다")
+    void process_GivesUpAfterMaxAttempts() throws IOException {
+        ImageDerivativeJob job = job(MAX_ATTEMPTS);
+        when(imageDerivativeService.generate(job)).thenThrow(new IOException("S3 연결 실패"));
+
+        worker.process(job);
+
+        verify(imageDerivativeService).complete(1L, ImageDerivativePaths.NONE);
+        assertThat(processed("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("포기한 작업을 끝내지 못해도 예외를 던지지 않는다")
+    void process_GiveUpFailureIsSwallowed() throws IOException {
+        ImageDerivativeJob job = job(MAX_ATTEMPTS);
+        when(imageDerivativeService.generate(job)).thenThrow(new IOException("S3 연결 실패"));
+        doThrow(new QueryTimeoutException("DB 지연")).when(imageDerivativeService)
+                .complete(1L, ImageDerivativePaths.NONE);
+
+        assertThatCode(() -> worker.process(job)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("작업 스레드가 처리할 수 있는 만큼만 가져가 처리한다")
+    void tick_ClaimsUpToCapacity() throws IOException {
+        ImageDerivativeJob job = job(1);
+        when(imageDerivativeService.claim(2)).thenReturn(List.of(job));
+        when(imageDerivativeService.generate(job)).thenReturn(PATHS);
+
+        worker.tick();
+
+        verify(imageDerivativeService, timeout(1000)).complete(1L, PATHS);
+    }
+
+    @Test
+    @DisplayName("작업을 가져오지 못해도 예외를 던지지 않는다")
+    void tick_ClaimFailureIsSwallowed() {
+        when(imageDerivativeService.claim(2)).thenThrow(new QueryTimeoutException("DB 지연"));
+
+        assertThatCode(() -> worker.tick()).doesNotThrowAnyException();
+    }
+
+    private static ImageDerivativeJob job(int attempts) {
+        return new ImageDerivativeJob(1L, "https://cdn.example.com/1/a.jpg", attempts);
+    }
+
+    private double processed(String result) {
+        return meterRegistry.get("image.derivative.processed").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,138 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageOrphanSweeperTest {
+    private static final String CDN = "https://cdn.example.com";
+    private static final Date OLD = new Date(System.currentTimeMillis() - Duration.ofDays(2).toMillis());
+
+    private final AmazonS3 amazonS3Client = mock(AmazonS3.class);
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+    private final ImageDeletionService imageDeletionService = mock(ImageDeletionService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ImageOrphanSweeper sweeper(boolean deleteEnabled) {
+        ImageOrphanSweeper sweeper = new ImageOrphanSweeper(amazonS3Client, imageRepository, imageDeletionService,
+                mock(StringRedisTemplate.class), meterRegistry, 1000, 24, 60000, deleteEnabled);
+        ReflectionTestUtils.setField(sweeper, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(sweeper, "bucket", "bucket");
+        return sweeper;
+    }
+
+    @Test
+    @DisplayName("페이지마다 참조되지 않고 유예 시간이 지난 객체만 삭제 대기열에 넣는다")
+    void sweep_EnqueuesUnreferencedOldObjects() {
+        listing(Map.of(
+                "", List.of(page(null, false, List.of(), object("server.jpg", OLD))),
+                "thumbnails/", List.of(
+                        page("next", true, List.of(), object("thumbnails/used.jpg", OLD),
+                                object("thumbnails/orphan.jpg", OLD)),
+                        page(null, false, List.of(), object("thumbnails/new.jpg", new Date())))));
+        when(imageRepository.findReferencedPaths(List.of(CDN + "/server.jpg"))).thenReturn(Set.of());
+        when(imageRepository.findReferencedPaths(List.of(CDN + "/thumbnails/used.jpg", CDN + "/thumbnails/orphan.jpg")))
+                .thenReturn(Set.of(CDN + "/thumbnails/used.jpg"));
+
+        int orphans = sweeper(true).sweep();
+
+        assertThat(orphans).isEqualTo(2);
+        verify(imageDeletionService).enqueueKeys(List.of("server.jpg"));
+        verify(imageDeletionService).enqueueKeys(List.of("thumbnails/orphan.jpg"));
+        assertThat(meterRegistry.get("image.orphan-sweep.enqueued").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최상위와 사용자별, 파생 이미지 접두사만 훑고 다른 접두사는 건드리지 않는다")
+    void sweep_ScansOnlyOwnPrefixes() {
+        listing(Map.of(
+                "", List.of(page(null, false, List.of("1/", "backups/", "thumbnails/")))));
+
+        sweeper(true).sweep();
+
+        ArgumentCaptor<ListObjectsV2Request> requests = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(amazonS3Client, times(4)).listObjectsV2(requests.capture());
+        assertThat(requests.getAllValues()).extracting(ListObjectsV2Request::getPrefix)
+                .containsExactly(null, "thumbnails/", "webp/", "1/");
+        assertThat(requests.getAllValues().get(0).getDelimiter()).isEqualTo("/");
+    }
+
+    @Test
+    @DisplayName("참조 여부는 조회된 URL 경로에서 CDN 도메인 경로를 뺀 S3 키로 비교한다")
+    void sweep_MatchesByUrlPath() {
+        String cdnWithPath = CDN + "/images";
+        listing(Map.of("", List.of(page(null, false, List.of(), object("a.jpg", OLD), object("b.jpg", OLD)))));
+        when(imageRepository.findReferencedPaths(List.of(cdnWithPath + "/a.jpg", cdnWithPath + "/b.jpg")))
+                .thenReturn(Set.of(cdnWithPath + "/a.jpg"));
+        ImageOrphanSweeper sweeper = sweeper(true);
+        ReflectionTestUtils.setField(sweeper, "cloudfrontDomain", cdnWithPath);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+        verify(imageDeletionService).enqueueKeys(List.of("b.jpg"));
+    }
+
+    @Test
+    @DisplayName("보고 모드에서는 고아 객체를 세기만 하고 삭제 대기열에 넣지 않는다")
+    void sweep_ReportOnly() {
+        listing(Map.of("", List.of(page(null, false, List.of(), object("server.jpg", OLD)))));
+        when(imageRepository.findReferencedPaths(List.of(CDN + "/server.jpg"))).thenReturn(Set.of());
+
+        int orphans = sweeper(false).sweep();
+
+        assertThat(orphans).isEqualTo(1);
+        verify(imageDeletionService, never()).enqueueKeys(anyList());
+        assertThat(meterRegistry.get("image.orphan-sweep.orphans").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.orphan-sweep.enqueued").counter().count()).isZero();
+    }
+
+    // 접두사("" 는 최상위)별 페이지를 차례로 돌려주고, 등록하지 않은 접두사는 빈 페이지를 돌려줍니다.
+    private void listing(Map<String, List<ListObjectsV2Result>> pagesByPrefix) {
+        Map<String, Integer> served = new HashMap<>();
+        when(amazonS3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(invocation -> {
+            ListObjectsV2Request request = invocation.getArgument(0);
+            String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+            List<ListObjectsV2Result> pages = pagesByPrefix.getOrDefault(prefix, List.of(page(null, false, List.of())));
+            return pages.get(served.merge(prefix, 1, Integer::sum) - 1);
+        });
+    }
+
+    private static ListObjectsV2Result page(String nextToken, boolean truncated, List<String> commonPrefixes,
+                                            S3ObjectSummary... objects) {
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.getObjectSummaries().addAll(List.of(objects));
+        result.getCommonPrefixes().addAll(commonPrefixes);
+        result.setNextContinuationToken(nextToken);
+        result.setTruncated(truncated);
+        return result;
+    }
+
+    private static S3ObjectSummary object(String key, Date lastModified) {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setKey(key);
+        summary.setLastModified(lastModified);
+        return summary;
+    }
+}
@@ -0,0 +1,110 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImageResizerTest {
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    @Test
+    @DisplayName("가운데를 정사각형으로 잘라 고정 크기 썸네일을 만든다")
+    void thumbnail_CropsToSquare() {
+        BufferedImage thumbnail = imageResizer.thumbnail(new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB), 320);
+
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("비율을 유지하며 긴 변을 줄이고, 이미 작은 이미지는 키우지 않는다")
+    void fit_KeepsAspectRatio() {
+        BufferedImage large = imageResizer.fit(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 1280);
+        BufferedImage small = imageResizer.fit(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), 1280);
+
+        assertThat(large.getWidth()).isEqualTo(1280);
+        assertThat(large.getHeight()).isEqualTo(960);
+        assertThat(small.getWidth()).isEqualTo(400);
+        assertThat(small.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 필요한 크기 이상으로만 건너뛰며 읽는다")
+    void read_Subsamples() throws IOException {
+        BufferedImage read = imageResizer.read(png(4000, 2000), 1280);
+
+        assertThat(read.getWidth()).isEqualTo(1334);
+        assertThat(read.getHeight()).isEqualTo(667);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 대로 돌려 읽는다")
+    void read_AppliesExifOrientation() throws IOException {
+        BufferedImage read = imageResizer.read(jpegWithOrientation(400, 200, 6), 1280);
+
+        assertThat(read.getWidth()).isEqualTo(200);
+        assertThat(read.getHeight()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("반시계 방향 회전(8)은 왼쪽 위 픽셀을 왼쪽 아래로 옮긴다")
+    void orient_RotatesCounterClockwise() {
+        BufferedImage source = new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+
+        BufferedImage oriented = ImageResizer.orient(source, 8);
+
+        assertThat(oriented.getWidth()).isEqualTo(1);
+        assertThat(oriented.getHeight()).isEqualTo(2);
+        assertThat(oriented.getRGB(0, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 null 을 반환한다")
+    void read_NotImage() throws IOException {
+        assertThat(imageResizer.read(new ByteArrayInputStream("not an image".getBytes()), 1280)).isNull();
+    }
+
+    @Test
+    @DisplayName("JPEG 로 인코딩한다")
+    void toJpeg() throws IOException {
+        byte[] jpeg = imageResizer.toJpeg(new BufferedImage(320, 320, BufferedImage.TYPE_INT_RGB));
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertThat(decoded.getWidth()).isEqualTo(320);
+    }
+
+    // ImageIO 가 쓴 JPEG 의 JFIF(APP0) 세그먼트 뒤에 Orientation 태그 하나만 있는 EXIF(APP1) 세그먼트를 넣습니다.
+    private static ByteArrayInputStream jpegWithOrientation(int width, int height, int orientation)
+            throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        byte[] bytes = jpeg.toByteArray();
+        int app0End = 4 + (((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF));
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8, // 빅 엔디언 TIFF 헤더, 첫 IFD 오프셋 8
+                0, 1, // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation, SHORT, 1개
+                0, 0, 0, 0 // 다음 IFD 없음
+        };
+        ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(bytes, 0, app0End);
+        withExif.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.length + 2)});
+        withExif.write(exif);
+        withExif.write(bytes, app0End, bytes.length - app0End);
+        return new ByteArrayInputStream(withExif.toByteArray());
+    }
+
+    private static ByteArrayInputStream png(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,350 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.image.error.ImageErrorCode.IMAGE_SIZE_EXCEEDED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.IMAGE_UPLOAD_FAILED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.INVALID_IMAGE_EXTENSION;
+import static org.chzz.market.domain.image.error.ImageErrorCode.INVALID_UPLOADED_IMAGE;
+import static org.chzz.market.domain.image.error.ImageErrorCode.MAX_IMAGE_COUNT_EXCEEDED;
+import static org.chzz.market.domain.image.error.ImageErrorCode.NO_IMAGES_PROVIDED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.chzz.market.domain.image.dto.ImageUploadUrlRequest.ImageFile;
+import org.chzz.market.domain.image.dto.ImageUploadUrlResponse;
+import org.chzz.market.domain.image.error.exception.ImageException;
+import org.chzz.market.domain.image.repository.ImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+    private static final String CDN = "https://cdn.example.com";
+    private static final long MAX_IMAGE_SIZE = 1024;
+
+    @Mock
+    private ImageUploader imageUploader;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private AmazonS3 amazonS3Client;
+
+    @Mock
+    private ImageDeletionService imageDeletionService;
+
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageService(imageUploader, imageRepository, amazonS3Client, imageDeletionService, 2, 1000,
+                MAX_IMAGE_SIZE, 600);
+        ReflectionTestUtils.setField(imageService, "cloudfrontDomain", CDN);
+        ReflectionTestUtils.setField(imageService, "bucket", "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Nested
+    @DisplayName("서버 경유 이미지 업로드")
+    class UploadImages {
+        @Test
+        @DisplayName("이미지들을 동시에 올리고 CDN 경로를 요청 순서대로 반환한다")
+        void uploadImages_UploadsInParallel() {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            when(imageUploader.uploadImage(any(), any())).thenAnswer(invocation -> {
+                bothStarted.countDown();
+                if (!bothStarted.await(1, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("업로드가 차례로 실행되었습니다.");
+                }
+                return invocation.getArgument(1);
+            });
+
+            List<String> cdnPaths = imageService.uploadImages(List.of(image("a.jpg"), image("b.png")));
+
+            assertThat(cdnPaths).hasSize(2);
+            assertThat(cdnPaths.get(0)).startsWith(CDN + "/").endsWith(".jpg");
+            assertThat(cdnPaths.get(1)).startsWith(CDN + "/").endsWith(".png");
+            verify(imageDeletionService, never()).enqueue(anyCollection());
+        }
+
+        @Test
+        @DisplayName("하나라도 실패하면 이미 올라간 이미지를 지우고 업로드 실패를 던진다")
+        void uploadImages_DiscardsFinishedUploadsOnFailure() {
+            when(imageUploader.uploadImage(any(), any())).thenAnswer(invocation -> {
+                MultipartFile image = invocation.getArgument(0);
+                if (image.getOriginalFilename().equals("broken.jpg")) {
+                    throw new IllegalStateException("S3 오류");
+                }
+                return invocation.getArgument(1);
+            });
+
+            assertThatThrownBy(() -> imageService.uploadImages(List.of(image("ok.png"), image("broken.jpg"))))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(IMAGE_UPLOAD_FAILED);
+            verify(imageDeletionService, timeout(1000)).enqueue(singleCdnPathEndingWith(".png"));
+        }
+
+        @Test
+        @DisplayName("제한 시간을 넘긴 업로드는 기다리지 않고 실패하고, 늦게 끝나면 그때 지운다")
+        void uploadImages_DiscardsLateUploadAfterTimeout() {
+            ImageService shortTimeoutService = new ImageService(imageUploader, imageRepository, amazonS3Client,
+                    imageDeletionService, 2, 100, MAX_IMAGE_SIZE, 600);
+            ReflectionTestUtils.setField(shortTimeoutService, "cloudfrontDomain", CDN);
+            CountDownLatch release = new CountDownLatch(1);
+            when(imageUploader.uploadImage(any(), any())).thenAnswer(invocation -> {
+                MultipartFile image = invocation.getArgument(0);
+                if (image.getOriginalFilename().equals("slow.jpg")) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                return invocation.getArgument(1);
+            });
+            try {
+                List<MultipartFile> images = List.of(image("fast.png"), image("slow.jpg"));
+                assertThatThrownBy(() -> shortTimeoutService.uploadImages(images))
+                        .isInstanceOf(ImageException.class)
+                        .extracting("errorCode").isEqualTo(IMAGE_UPLOAD_FAILED);
+                verify(imageDeletionService, timeout(1000)).enqueue(singleCdnPathEndingWith(".png"));
+                verify(imageDeletionService, never()).enqueue(singleCdnPathEndingWith(".jpg"));
+
+                release.countDown();
+
+                verify(imageDeletionService, timeout(1000)).enqueue(singleCdnPathEndingWith(".jpg"));
+            } finally {
+                release.countDown();
+                shortTimeoutService.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("업로드 대기열이 가득 차면 요청 스레드에서 올리지 않고 먼저 맡긴 업로드를 지운 뒤 업로드 실패를 던진다")
+        void uploadImages_RejectsWhenQueueIsFull() {
+            ImageService singleWorkerService = new ImageService(imageUploader, imageRepository, amazonS3Client,
+                    imageDeletionService, 1, 1000, MAX_IMAGE_SIZE, 600);
+            ReflectionTestUtils.setField(singleWorkerService, "cloudfrontDomain", CDN);
+            ThreadPoolExecutor uploadExecutor =
+                    (ThreadPoolExecutor) ReflectionTestUtils.getField(singleWorkerService, "uploadExecutor");
+            CountDownLatch release = new CountDownLatch(1);
+            Thread requestThread = Thread.currentThread();
+            when(imageUploader.uploadImage(any(), any())).thenAnswer(invocation -> {
+                if (Thread.currentThread() == requestThread) {
+                    throw new IllegalStateException("요청 스레드에서 올렸습니다.");
+                }
+                return invocation.getArgument(1);
+            });
+            try {
+                // 작업 스레드 하나를 잡고 대기열(작업 스레드 수 x 5)에 한 자리만 남깁니다.
+                for (int i = 0; i < 5; i++) {
+                    uploadExecutor.execute(() -> awaitQuietly(release));
+                }
+                List<MultipartFile> images = List.of(image("queued.png"), image("rejected.jpg"));
+
+                assertThatThrownBy(() -> singleWorkerService.uploadImages(images))
+                        .isInstanceOf(ImageException.class)
+                        .extracting("errorCode").isEqualTo(IMAGE_UPLOAD_FAILED);
+                release.countDown();
+
+                verify(imageDeletionService, timeout(1000)).enqueue(singleCdnPathEndingWith(".png"));
+                verify(imageDeletionService, never()).enqueue(singleCdnPathEndingWith(".jpg"));
+            } finally {
+                release.countDown();
+                singleWorkerService.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("업로드 중 발생한 이미지 예외는 오류 코드를 그대로 던진다")
+        void uploadImages_RethrowsImageException() {
+            assertThatThrownBy(() -> imageService.uploadImages(List.of(image("a.gif"))))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(INVALID_IMAGE_EXTENSION);
+            verifyNoInteractions(imageUploader);
+        }
+
+        @Test
+        @DisplayName("이미지가 없으면 올리지 않고 NO_IMAGES_PROVIDED 를 던진다")
+        void uploadImages_NoImages() {
+            assertThatThrownBy(() -> imageService.uploadImages(List.of()))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(NO_IMAGES_PROVIDED);
+            assertThatThrownBy(() -> imageService.uploadImages(null))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(NO_IMAGES_PROVIDED);
+            verifyNoInteractions(imageUploader);
+        }
+
+        @Test
+        @DisplayName("이미지가 최대 개수를 넘으면 올리지 않고 MAX_IMAGE_COUNT_EXCEEDED 를 던진다")
+        void uploadImages_TooManyImages() {
+            List<MultipartFile> images = IntStream.rangeClosed(1, 6).mapToObj(i -> image(i + ".jpg")).toList();
+
+            assertThatThrownBy(() -> imageService.uploadImages(images))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(MAX_IMAGE_COUNT_EXCEEDED);
+            verifyNoInteractions(imageUploader);
+        }
+    }
+
+    @Nested
+    @DisplayName("업로드 URL 발급")
+    class CreateUploadUrls {
+        @Test
+        @DisplayName("사용자 ID로 시작하는 키에 Content-Type 과 Content-Length 를 서명한 PUT URL을 발급한다")
+        void createUploadUrls_SignsContentTypeAndLength() throws Exception {
+            when(amazonS3Client.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                    .thenReturn(new URL("https://bucket.s3.amazonaws.com/signed"));
+
+            List<ImageUploadUrlResponse> responses = imageService.createUploadUrls(1L,
+                    List.of(new ImageFile("photo.PNG", 512)));
+
+            ArgumentCaptor<GeneratePresignedUrlRequest> captor =
+                    ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+            verify(amazonS3Client).generatePresignedUrl(captor.capture());
+            GeneratePresignedUrlRequest request = captor.getValue();
+            assertThat(request.getMethod()).isEqualTo(HttpMethod.PUT);
+            assertThat(request.getContentType()).isEqualTo("image/png");
+            assertThat(request.getCustomRequestHeaders()).containsEntry(Headers.CONTENT_LENGTH, "512");
+            assertThat(responses).singleElement().satisfies(response -> {
+                assertThat(response.objectKey()).startsWith("1/").endsWith(".png");
+                assertThat(response.objectKey()).isEqualTo(request.getKey());
+                assertThat(response.contentType()).isEqualTo("image/png");
+            });
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘는 이미지는 URL을 발급하지 않는다")
+        void createUploadUrls_TooLarge() {
+            assertThatThrownBy(() -> imageService.createUploadUrls(1L,
+                    List.of(new ImageFile("photo.jpg", MAX_IMAGE_SIZE + 1))))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(IMAGE_SIZE_EXCEEDED);
+            verify(amazonS3Client, never()).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("직접 업로드한 이미지 확인")
+    class ConfirmUploadedImages {
+        @Test
+        @DisplayName("S3에 있는 이미지의 CDN 경로를 요청 순서대로 반환한다")
+        void confirmUploadedImages_Success() {
+            when(amazonS3Client.getObjectMetadata(eq("bucket"), any())).thenReturn(metadata(100));
+
+            List<String> cdnPaths = imageService.confirmUploadedImages(1L, List.of("1/a.jpg", "1/b.png"));
+
+            assertThat(cdnPaths).containsExactly(CDN + "/1/a.jpg", CDN + "/1/b.png");
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 키는 확인 요청 없이 거부한다")
+        void confirmUploadedImages_OtherUsersKey() {
+            assertThatThrownBy(() -> imageService.confirmUploadedImages(1L, List.of("2/a.jpg")))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(INVALID_UPLOADED_IMAGE);
+            verify(amazonS3Client, never()).getObjectMetadata(any(), any());
+        }
+
+        @Test
+        @DisplayName("올라가지 않은 이미지는 거부한다")
+        void confirmUploadedImages_NotUploaded() {
+            AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+            notFound.setStatusCode(404);
+            when(amazonS3Client.getObjectMetadata("bucket", "1/a.jpg")).thenThrow(notFound);
+
+            assertThatThrownBy(() -> imageService.confirmUploadedImages(1L, List.of("1/a.jpg")))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(INVALID_UPLOADED_IMAGE);
+            verify(imageRepository, never()).existsByCdnPathIn(anyList());
+        }
+
+        @Test
+        @DisplayName("이미 다른 상품에 쓰인 이미지는 거부한다")
+        void confirmUploadedImages_AlreadyUsed() {
+            when(amazonS3Client.getObjectMetadata("bucket", "1/a.jpg")).thenReturn(metadata(100));
+            when(imageRepository.existsByCdnPathIn(List.of(CDN + "/1/a.jpg"))).thenReturn(true);
+
+            assertThatThrownBy(() -> imageService.confirmUploadedImages(1L, List.of("1/a.jpg")))
+                    .isInstanceOf(ImageException.class)
+                    .extracting("errorCode").isEqualTo(INVALID_UPLOADED_IMAGE);
+        }
+
+        @Test
+        @DisplayName("상품 수정 요청의 이미지 키는 순서별 CDN 경로로 반환한다")
+        void confirmUploadedImages_BySequence() {
+            when(amazonS3Client.getObjectMetadata(eq("bucket"), any())).thenReturn(metadata(100));
+
+            Map<Integer, String> cdnPaths = imageService.confirmUploadedImages(1L, Map.of(2, "1/a.jpg", 5, "1/b.png"));
+
+            assertThat(cdnPaths).containsExactlyInAnyOrderEntriesOf(
+                    Map.of(2, CDN + "/1/a.jpg", 5, CDN + "/1/b.png"));
+        }
+
+        @Test
+        @DisplayName("상품 수정 요청에 이미지 키가 없으면 S3에 확인하지 않는다")
+        void confirmUploadedImages_NoKeys() {
+            assertThat(imageService.confirmUploadedImages(1L, Map.of())).isEmpty();
+            verify(amazonS3Client, never()).getObjectMetadata(any(), any());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MultipartFile image(String fileName) {
+        return new MockMultipartFile("images", fileName, "image/jpeg", new byte[]{1});
+    }
+
+    private static Collection<String> singleCdnPathEndingWith(String suffix) {
+        return argThat(cdnPaths -> cdnPaths.size() == 1
+                && cdnPaths.iterator().next().startsWith(CDN + "/")
+                && cdnPaths.iterator().next().endsWith(suffix));
+    }
+
+    private static ObjectMetadata metadata(long contentLength) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        return metadata;
+    }
+}
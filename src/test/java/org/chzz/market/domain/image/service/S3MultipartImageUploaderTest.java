@@ -0,0 +1,101 @@
+package org.chzz.market.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.chzz.market.domain.image.error.exception.ImageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class S3MultipartImageUploaderTest {
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3Client = mock(AmazonS3.class);
+    private S3MultipartImageUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        uploader = new S3MultipartImageUploader(amazonS3Client, PART_SIZE, 2, 2, 1000);
+        ReflectionTestUtils.setField(uploader, "bucket", "bucket");
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("임시 파일의 오프셋으로 조각을 나눠 올리고 조각 번호 순서로 업로드를 완료한 뒤 임시 파일을 지운다")
+    void uploadImage_UploadsPartsAndCompletes() {
+        ConcurrentLinkedQueue<UploadPartRequest> requests = new ConcurrentLinkedQueue<>();
+        when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            assertThat(request.getFile()).exists();
+            requests.add(request);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        String key = uploader.uploadImage(image(PART_SIZE * 2 + 10), "large.jpg");
+
+        assertThat(key).isEqualTo("large.jpg");
+        verify(amazonS3Client, times(3)).uploadPart(any(UploadPartRequest.class));
+        assertThat(requests).extracting(UploadPartRequest::getFileOffset, UploadPartRequest::getPartSize)
+                .containsExactlyInAnyOrder(tuple(0L, (long) PART_SIZE), tuple((long) PART_SIZE, (long) PART_SIZE),
+                        tuple(PART_SIZE * 2L, 10L));
+        assertThat(requests).extracting(UploadPartRequest::getFile).map(File::exists).containsOnly(false);
+        assertThat(requests).extracting(UploadPartRequest::getSdkClientExecutionTimeout).containsOnly(1000);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3);
+        verify(amazonS3Client, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("조각 업로드에 실패하면 멀티파트 업로드를 취소한다")
+    void uploadImage_PartFailed_Aborts() {
+        when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenThrow(new IllegalStateException("S3 오류"));
+
+        assertThatThrownBy(() -> uploader.uploadImage(image(PART_SIZE * 2 + 10), "large.jpg"))
+                .isInstanceOf(ImageException.class);
+
+        verify(amazonS3Client, never()).completeMultipartUpload(any());
+        ArgumentCaptor<AbortMultipartUploadRequest> captor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(amazonS3Client).abortMultipartUpload(captor.capture());
+        assertThat(List.of(captor.getValue().getKey(), captor.getValue().getUploadId()))
+                .containsExactly("large.jpg", "upload-id");
+    }
+
+    private static MockMultipartFile image(int size) {
+        return new MockMultipartFile("image", "large.jpg", "image/jpeg", new byte[size]);
+    }
+}
@@ -1,8 +1,13 @@
 package org.chzz.market.domain.notification.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_FAILURE;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_SUCCESS;
 
+import java.util.List;
 import org.chzz.market.common.DatabaseTest;
+import org.chzz.market.common.dto.CursorResponse;
+import org.chzz.market.domain.notification.dto.NotificationDraft;
 import org.chzz.market.domain.notification.dto.response.NotificationResponse;
 import org.chzz.market.domain.notification.entity.AuctionSuccessNotification;
 import org.chzz.market.domain.notification.entity.Notification;
@@ -60,4 +65,67 @@ class NotificationRepositoryImplTest {
         assertThat(notifications.getContent()).hasSize(2);
     }
 
+    @Test
+    @DisplayName("알림 목록을 커서로 이어서 조회할 수 있다.")
+    public void shouldRetrieveNotificationsByCursor() throws Exception {
+        // when
+        CursorResponse<NotificationResponse> first = notificationRepository.findByUserId(user1.getId(), null,
+                PageRequest.of(0, 1));
+        CursorResponse<NotificationResponse> second = notificationRepository.findByUserId(user1.getId(),
+                first.getNextCursor(), PageRequest.of(0, 1));
+
+        // then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getItems()).extracting(NotificationResponse::getNotificationId)
+                .doesNotContainAnyElementsOf(first.getItems().stream().map(NotificationResponse::getNotificationId)
+                        .toList())
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수를 세고, 한 번에 모두 읽음 처리할 수 있다.")
+    public void shouldCountAndReadAllUnreadNotifications() throws Exception {
+        // when
+        long unreadBefore = notificationRepository.countUnreadByUserId(user1.getId());
+        long updated = notificationRepository.readAllByUserId(user1.getId());
+
+        // then
+        assertThat(unreadBefore).isEqualTo(2);
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationRepository.countUnreadByUserId(user1.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("알림을 한 번에 모두 삭제 처리할 수 있다.")
+    public void shouldDeleteAllNotifications() throws Exception {
+        // when
+        long updated = notificationRepository.deleteAllByUserId(user1.getId());
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationRepository.findByUserId(user1.getId(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알림을 한 번에 저장하고 저장 순서대로 생성된 ID를 돌려준다")
+    public void shouldInsertAllAndReturnGeneratedIds() throws Exception {
+        // given
+        List<NotificationDraft> drafts = List.of(
+                new NotificationDraft(user1.getId(), AUCTION_SUCCESS, "배치 알림 1", null, 1L),
+                new NotificationDraft(user1.getId(), AUCTION_FAILURE, "배치 알림 2", null, null));
+
+        // when
+        List<Long> ids = notificationRepository.insertAll(drafts);
+
+        // then
+        assertThat(ids).hasSize(2).doesNotContainNull();
+        assertThat(notificationRepository.findById(ids.get(0)))
+                .get()
+                .extracting(Notification::getMessage, Notification::getType)
+                .containsExactly("배치 알림 1", AUCTION_SUCCESS.name());
+        Page<NotificationResponse> notifications = notificationRepository.findByUserId(user1.getId(),
+                PageRequest.of(0, 10));
+        assertThat(notifications.getTotalElements()).isEqualTo(4);
+    }
 }
@@ -0,0 +1,80 @@
+package org.chzz.market.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.chzz.market.common.RedisTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 배지 숫자 증감, 대사용 조회와 조건부 삭제 스크립트를 실제 Redis 에서 확인합니다.
+ */
+@RedisTest
+@Import(NotificationUnreadCountRepository.class)
+class NotificationUnreadCountRepositoryTest {
+    @Autowired
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE - 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of("notification:unread:" + userId, "notification:unread:" + (userId + 1)));
+    }
+
+    @Test
+    @DisplayName("배지 키가 없는 사용자는 증감하지 않고, 있으면 0 아래로 내려가지 않게 증감한다")
+    void increment_OnlyTouchesExistingBadges() {
+        notificationUnreadCountRepository.save(userId, 1L);
+
+        notificationUnreadCountRepository.increment(Map.of(userId, -3L, userId + 1, 2L));
+
+        assertThat(notificationUnreadCountRepository.findByUserId(userId)).contains(0L);
+        assertThat(notificationUnreadCountRepository.findByUserId(userId + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대사할 때 읽은 값 그대로인 배지만 지운다")
+    void invalidateIfUnchanged_DeletesOnlyUnchangedBadge() {
+        notificationUnreadCountRepository.save(userId, 2L);
+        notificationUnreadCountRepository.save(userId + 1, 2L);
+        notificationUnreadCountRepository.increment(Map.of(userId + 1, 1L));
+
+        assertThat(notificationUnreadCountRepository.invalidateIfUnchanged(userId, 2L)).isTrue();
+        assertThat(notificationUnreadCountRepository.invalidateIfUnchanged(userId + 1, 2L)).isFalse();
+        assertThat(notificationUnreadCountRepository.findByUserId(userId)).isEmpty();
+        assertThat(notificationUnreadCountRepository.findByUserId(userId + 1)).contains(3L);
+    }
+
+    @Test
+    @DisplayName("배지 키가 있는 사용자를 묶음 크기 이하로 나눠 넘기고 값은 한 번에 읽는다")
+    void forEachCachedUserIds_ScansBadgesInBatches() {
+        notificationUnreadCountRepository.save(userId, 4L);
+        notificationUnreadCountRepository.save(userId + 1, 0L);
+        List<List<Long>> batches = new ArrayList<>();
+
+        notificationUnreadCountRepository.forEachCachedUserIds(1, batches::add);
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(1));
+        assertThat(batches.stream().flatMap(List::stream).toList()).contains(userId, userId + 1);
+        assertThat(notificationUnreadCountRepository.findByUserIds(List.of(userId, userId + 1, userId + 2)))
+                .isEqualTo(Map.of(userId, 4L, userId + 1, 0L));
+    }
+}
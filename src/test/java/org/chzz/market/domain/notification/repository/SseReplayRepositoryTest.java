@@ -0,0 +1,131 @@
+package org.chzz.market.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.notification.repository.SseReplayRepository.MAX_LENGTH;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.chzz.market.common.RedisTest;
+import org.chzz.market.domain.notification.dto.SseReplayEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 재전송 로그 Lua 스크립트와 Stream 조회를 실제 Redis 에서 실행해 Last-Event-ID 이후만 다시 보내는지 확인합니다.
+ */
+@RedisTest
+@Import(SseReplayRepository.class)
+class SseReplayRepositoryTest {
+    @Autowired
+    private SseReplayRepository sseReplayRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("sse:replay:" + userId);
+    }
+
+    @Test
+    @DisplayName("마지막으로 받은 이벤트 ID 이후의 항목만 오래된 순으로 조회한다")
+    void findAfter_ReturnsEventsAfterLastEventId() {
+        String first = append("first");
+        String second = append("second");
+        String third = append("third");
+
+        List<SseReplayEvent> events = sseReplayRepository.findAfter(userId, first);
+
+        assertThat(events).extracting(SseReplayEvent::eventId).containsExactly(second, third);
+        assertThat(events).extracting(SseReplayEvent::data).containsExactly("second", "third");
+        assertThat(sseReplayRepository.findAfter(userId, third)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자마다 따로 기록하고 각자 발급된 이벤트 ID를 돌려준다")
+    void append_IssuesEventIdPerUser() {
+        Long otherUserId = userId + 1;
+        try {
+            Map<Long, String> eventIds = sseReplayRepository.append(Map.of(userId, "mine", otherUserId, "theirs"));
+
+            assertThat(eventIds).containsOnlyKeys(userId, otherUserId);
+            assertThat(sseReplayRepository.findAfter(userId, "0-0"))
+                    .extracting(SseReplayEvent::data).containsExactly("mine");
+        } finally {
+            redisTemplate.delete("sse:replay:" + otherUserId);
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 에 스크립트가 없어도 다시 올려 기록한다")
+    void append_ReloadsScriptAfterFlush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        String eventId = append("first");
+
+        assertThat(eventId).isNotNull();
+        assertThat(sseReplayRepository.findAfter(userId, "0-0"))
+                .extracting(SseReplayEvent::eventId).containsExactly(eventId);
+    }
+
+    @Test
+    @DisplayName("오래된 항목은 잘라 내어 로그 길이가 계속 늘지 않고, 한 번에 최대 MAX_LENGTH 개만 재전송한다")
+    void append_TrimsToMaxLength() {
+        int appended = MAX_LENGTH * 3;
+        for (int i = 0; i < appended; i++) {
+            append("event-" + i);
+        }
+
+        // MAXLEN ~ 는 Stream 내부 노드 단위로 잘라 내므로 정확히 MAX_LENGTH 가 아니라 그 이상으로 남습니다.
+        Long length = redisTemplate.opsForStream().size("sse:replay:" + userId);
+        assertThat(length).isBetween((long) MAX_LENGTH, (long) appended - 1);
+        assertThat(sseReplayRepository.findAfter(userId, "0-0")).hasSize(MAX_LENGTH);
+        assertThat(redisTemplate.getExpire("sse:replay:" + userId)).isPositive();
+    }
+
+    @Test
+    @DisplayName("이전 형식(userId_epochMillis)의 이벤트 ID는 해당 밀리초 이후 항목부터 조회한다")
+    void findAfter_SupportsLegacyEventId() {
+        String first = append("first");
+        long firstMillis = Long.parseLong(first.substring(0, first.indexOf('-')));
+
+        List<SseReplayEvent> sameMillis = sseReplayRepository.findAfter(userId, userId + "_" + (firstMillis - 1));
+        List<SseReplayEvent> afterMillis = sseReplayRepository.findAfter(userId, userId + "_" + firstMillis);
+
+        assertThat(sameMillis).extracting(SseReplayEvent::eventId).containsExactly(first);
+        assertThat(afterMillis).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 이벤트 ID나 기록이 없는 사용자는 빈 목록을 반환한다")
+    void findAfter_ReturnsEmptyForUnknownIds() {
+        append("first");
+
+        assertThat(sseReplayRepository.findAfter(userId, "not-an-id")).isEmpty();
+        assertThat(sseReplayRepository.findAfter(userId, "123")).isEmpty();
+        assertThat(sseReplayRepository.findAfter(userId, null)).isEmpty();
+        assertThat(sseReplayRepository.findAfter(userId, "9999999999999-0")).isEmpty();
+        assertThat(sseReplayRepository.findAfter(userId + 1, "0-0")).isEmpty();
+    }
+
+    private String append(String data) {
+        return sseReplayRepository.append(Map.of(userId, data)).get(userId);
+    }
+}
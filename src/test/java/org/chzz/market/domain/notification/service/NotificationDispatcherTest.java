@@ -0,0 +1,129 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.chzz.market.domain.notification.dto.response.NotificationSseResponse;
+import org.chzz.market.domain.notification.entity.NotificationType;
+import org.chzz.market.domain.notification.service.NotificationDispatcher.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+    @Mock
+    private NotificationService notificationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDispatcher dispatcher;
+    private CountDownLatch sentLatch;
+    private final List<List<NotificationSseResponse>> sentResponses = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 알림은 들어온 순서대로 전송한다")
+    void dispatch_KeepsOrderPerUser() throws Exception {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 4, 100,
+                OverflowPolicy.DROP_OLDEST);
+        List<String> sent = captureSent(3);
+
+        dispatcher.dispatch(1L, "1-0", List.of());
+        dispatcher.dispatch(1L, "2-0", List.of());
+        dispatcher.dispatch(1L, "3-0", List.of());
+        dispatcher.start();
+
+        awaitSent(sent, 3);
+        assertThat(sent).containsExactly("1-0", "2-0", "3-0");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 파티션에서 가장 오래된 알림을 버린다")
+    void dispatch_DropsOldestWhenFull() throws Exception {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 1, 2,
+                OverflowPolicy.DROP_OLDEST);
+        List<String> sent = captureSent(2);
+
+        dispatcher.dispatch(1L, "1-0", List.of());
+        dispatcher.dispatch(2L, "2-0", List.of());
+        dispatcher.dispatch(2L, "3-0", List.of());
+        assertThat(meterRegistry.get("notification.dispatch.queue.depth").gauge().value()).isEqualTo(2);
+        dispatcher.start();
+
+        awaitSent(sent, 2);
+        assertThat(sent).containsExactly("2-0", "3-0");
+        assertThat(meterRegistry.get("notification.dispatch.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("COALESCE 정책이면 버리지 않고 같은 사용자의 대기 중인 묶음에 합쳐 최신 이벤트 ID 로 보낸다")
+    void dispatch_CoalescesSameUser() throws Exception {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 1, 2,
+                OverflowPolicy.COALESCE);
+        List<String> sent = captureSent(2);
+
+        dispatcher.dispatch(1L, "1-0", List.of(sseResponse(1L)));
+        dispatcher.dispatch(2L, "2-0", List.of(sseResponse(2L)));
+        dispatcher.dispatch(2L, "3-0", List.of(sseResponse(3L)));
+        dispatcher.start();
+
+        awaitSent(sent, 2);
+        assertThat(sent).containsExactly("1-0", "3-0");
+        assertThat(sentResponses.get(1)).extracting(NotificationSseResponse::notificationId).containsExactly(2L, 3L);
+        assertThat(meterRegistry.get("notification.dispatch.coalesced").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.dispatch.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("COALESCE 정책이어도 같은 사용자의 대기 묶음이 없으면 가장 오래된 알림을 버린다")
+    void dispatch_CoalesceDropsOldestWithoutSameUser() throws Exception {
+        dispatcher = new NotificationDispatcher(notificationService, meterRegistry, 1, 2,
+                OverflowPolicy.COALESCE);
+        List<String> sent = captureSent(2);
+
+        dispatcher.dispatch(1L, "1-0", List.of());
+        dispatcher.dispatch(2L, "2-0", List.of());
+        dispatcher.dispatch(3L, "3-0", List.of());
+        dispatcher.start();
+
+        awaitSent(sent, 2);
+        assertThat(sent).containsExactly("2-0", "3-0");
+        assertThat(meterRegistry.get("notification.dispatch.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private static NotificationSseResponse sseResponse(Long notificationId) {
+        return new NotificationSseResponse(notificationId, "message", NotificationType.AUCTION_SUCCESS, Map.of());
+    }
+
+    private List<String> captureSent(int expected) {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        sentLatch = new CountDownLatch(expected);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            sentResponses.add(invocation.getArgument(2));
+            sentLatch.countDown();
+            return true;
+        }).when(notificationService).sendRealTimeNotifications(anyLong(), any(), any());
+        return sent;
+    }
+
+    private void awaitSent(List<String> sent, int expected) throws InterruptedException {
+        assertThat(sentLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).hasSize(expected);
+    }
+}
@@ -0,0 +1,80 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.chzz.market.domain.notification.dto.NotificationOutboxResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationOutboxRelay(notificationOutboxService, meterRegistry, 3, 5, 2);
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 한 건씩 다시 처리해 나머지 요청은 전달하고 실패한 요청만 기록한다")
+    void tick_RelaysOneByOneWhenBatchFails() {
+        DataIntegrityViolationException cause = new DataIntegrityViolationException("FK 위반");
+        when(notificationOutboxService.relay(3)).thenThrow(cause);
+        when(notificationOutboxService.findOldestIds(3)).thenReturn(List.of(1L, 2L, 3L));
+        when(notificationOutboxService.relayOne(1L)).thenReturn(new NotificationOutboxResult(1, 1, null, 0));
+        when(notificationOutboxService.relayOne(2L)).thenThrow(cause);
+        when(notificationOutboxService.relayOne(3L)).thenReturn(new NotificationOutboxResult(1, 2, null, 0));
+        when(notificationOutboxService.recordFailure(2L, cause, 2)).thenReturn(false);
+
+        relay.tick();
+
+        verify(notificationOutboxService).recordFailure(2L, cause, 2);
+        assertThat(meterRegistry.get("notification.outbox.relayed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.outbox.notifications").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.outbox.dead-lettered").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패한 요청이 격리되면 격리 수를 센다")
+    void tick_CountsDeadLetteredEntry() {
+        DataIntegrityViolationException cause = new DataIntegrityViolationException("FK 위반");
+        when(notificationOutboxService.relay(3)).thenThrow(cause);
+        when(notificationOutboxService.findOldestIds(3)).thenReturn(List.of(1L));
+        when(notificationOutboxService.relayOne(1L)).thenThrow(cause);
+        when(notificationOutboxService.recordFailure(1L, cause, 2)).thenReturn(true);
+
+        relay.tick();
+
+        assertThat(meterRegistry.get("notification.outbox.dead-lettered").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음이 성공하면 한 건씩 다시 처리하지 않고, 형식 오류로 격리한 요청 수를 센다")
+    void tick_DoesNotFallBackWhenBatchSucceeds() {
+        when(notificationOutboxService.relay(3)).thenReturn(new NotificationOutboxResult(2, 1, null, 1));
+
+        relay.tick();
+
+        verify(notificationOutboxService, never()).findOldestIds(anyInt());
+        verify(notificationOutboxService, never()).recordFailure(any(), any(), eq(2));
+        assertThat(meterRegistry.get("notification.outbox.dead-lettered").counter().count()).isEqualTo(1);
+    }
+}
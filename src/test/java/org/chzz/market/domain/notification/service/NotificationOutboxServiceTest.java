@@ -0,0 +1,167 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_START;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.chzz.market.domain.notification.dto.NotificationDraft;
+import org.chzz.market.domain.notification.dto.NotificationOutboxMessage;
+import org.chzz.market.domain.notification.dto.NotificationOutboxResult;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.entity.NotificationOutbox;
+import org.chzz.market.domain.notification.event.NotificationEvent;
+import org.chzz.market.domain.notification.event.NotificationStoredEvent;
+import org.chzz.market.domain.notification.repository.NotificationOutboxRepository;
+import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.user.entity.User;
+import org.chzz.market.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private NotificationOutboxService notificationOutboxService;
+
+    @Test
+    @DisplayName("묶음 알림 이벤트는 발송 요청 한 건으로 저장한다")
+    void append_SavesOneEntryPerCall() throws Exception {
+        notificationOutboxService.append(List.of(
+                NotificationEvent.createAuctionNotification(1L, AUCTION_START, "첫 번째", null, 10L),
+                NotificationEvent.createSimpleNotification(2L, AUCTION_START, "두 번째", null)));
+
+        ArgumentCaptor<NotificationOutbox> entry = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(entry.capture());
+        List<NotificationOutboxMessage> messages = List.of(
+                objectMapper.readValue(entry.getValue().getPayload(), NotificationOutboxMessage[].class));
+        assertThat(messages).extracting(NotificationOutboxMessage::auctionId).containsExactly(10L, null);
+    }
+
+    @Test
+    @DisplayName("여러 발송 요청의 알림을 한 번에 저장하고 요청을 지운 뒤 저장 이벤트를 한 번 발행한다")
+    void relay_StoresAndPublishesOnce() throws Exception {
+        NotificationOutbox first = entry(1L, List.of(
+                new NotificationOutboxMessage(List.of(1L), AUCTION_START, "첫 번째", null, 10L)));
+        NotificationOutbox second = entry(2L, List.of(
+                new NotificationOutboxMessage(List.of(1L, 2L), AUCTION_START, "두 번째", null, 20L)));
+        when(notificationOutboxRepository.lockOldest(100)).thenReturn(List.of(first, second));
+        when(userRepository.findAllById(Set.of(1L, 2L)))
+                .thenReturn(List.of(User.builder().id(1L).build(), User.builder().id(2L).build()));
+        when(notificationRepository.insertAll(any())).thenReturn(List.of(101L, 102L, 103L));
+
+        NotificationOutboxResult result = notificationOutboxService.relay(100);
+
+        ArgumentCaptor<List<NotificationDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).insertAll(drafts.capture());
+        assertThat(drafts.getValue()).extracting(NotificationDraft::userId).containsExactly(1L, 1L, 2L);
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        ArgumentCaptor<NotificationStoredEvent> storedEvent = ArgumentCaptor.forClass(NotificationStoredEvent.class);
+        verify(eventPublisher).publishEvent(storedEvent.capture());
+        List<NotificationRealMessage> messages = storedEvent.getValue().messages();
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0).notificationIds()).containsExactly(Map.entry(1L, 101L));
+        assertThat(messages.get(1).notificationIds()).containsExactly(Map.entry(1L, 102L), Map.entry(2L, 103L));
+        assertThat(storedEvent.getValue().unreadDeltas()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+        assertThat(result.entryCount()).isEqualTo(2);
+        assertThat(result.notificationCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 발송 요청은 지우지 않고 격리한 뒤 나머지 요청만 처리한다")
+    void relay_DeadLettersMalformedEntry() throws Exception {
+        NotificationOutbox malformed = new NotificationOutbox("not-json");
+        ReflectionTestUtils.setField(malformed, "id", 1L);
+        NotificationOutbox valid = entry(2L, List.of(
+                new NotificationOutboxMessage(List.of(1L), AUCTION_START, "정상", null, 10L)));
+        when(notificationOutboxRepository.lockOldest(100)).thenReturn(List.of(malformed, valid));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(User.builder().id(1L).build()));
+        when(notificationRepository.insertAll(any())).thenReturn(List.of(101L));
+
+        NotificationOutboxResult result = notificationOutboxService.relay(100);
+
+        assertThat(malformed.isDeadLettered()).isTrue();
+        assertThat(malformed.getPayload()).isEqualTo("not-json");
+        assertThat(malformed.getLastError()).isNotBlank();
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+        assertThat(result.entryCount()).isEqualTo(2);
+        assertThat(result.deadLetterCount()).isEqualTo(1);
+        assertThat(result.notificationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 요청만 있으면 아무 것도 지우지 않고 발행하지 않는다")
+    void relay_OnlyMalformedEntries() {
+        NotificationOutbox malformed = new NotificationOutbox("not-json");
+        ReflectionTestUtils.setField(malformed, "id", 1L);
+        when(notificationOutboxRepository.lockOldest(100)).thenReturn(List.of(malformed));
+        when(userRepository.findAllById(Set.of())).thenReturn(List.of());
+
+        notificationOutboxService.relay(100);
+
+        verify(notificationOutboxRepository, never()).deleteAllByIdInBatch(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("한 건 처리는 그 요청만 잠그고, 다른 노드가 잡고 있으면 아무 것도 하지 않는다")
+    void relayOne_LocksSingleEntry() {
+        when(notificationOutboxRepository.lockById(1L)).thenReturn(List.of());
+
+        assertThat(notificationOutboxService.relayOne(1L)).isEqualTo(NotificationOutboxResult.EMPTY);
+        verify(notificationOutboxRepository, never()).lockOldest(anyInt());
+    }
+
+    @Test
+    @DisplayName("실패 횟수가 최대 시도 횟수에 이르면 요청을 격리한다")
+    void recordFailure_DeadLettersAfterMaxAttempts() throws Exception {
+        NotificationOutbox failing = entry(1L, List.of());
+        when(notificationOutboxRepository.findById(1L)).thenReturn(Optional.of(failing));
+        RuntimeException cause = new IllegalStateException("FK 위반");
+
+        boolean first = notificationOutboxService.recordFailure(1L, cause, 2);
+        boolean second = notificationOutboxService.recordFailure(1L, cause, 2);
+
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        assertThat(failing.getAttempts()).isEqualTo(2);
+        assertThat(failing.getLastError()).contains("FK 위반");
+    }
+
+    private NotificationOutbox entry(Long id, List<NotificationOutboxMessage> messages) throws Exception {
+        NotificationOutbox entry = new NotificationOutbox(objectMapper.writeValueAsString(messages));
+        ReflectionTestUtils.setField(entry, "id", id);
+        return entry;
+    }
+}
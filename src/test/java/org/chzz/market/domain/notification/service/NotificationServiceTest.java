@@ -2,28 +2,67 @@ package org.chzz.market.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_START;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.dto.SseReplayEvent;
+import org.chzz.market.domain.notification.dto.response.NotificationSseResponse;
 import org.chzz.market.domain.notification.entity.AuctionSuccessNotification;
 import org.chzz.market.domain.notification.entity.Notification;
 import org.chzz.market.domain.notification.error.NotificationErrorCode;
 import org.chzz.market.domain.notification.error.NotificationException;
+import org.chzz.market.domain.notification.event.NotificationUnreadCountEvent;
+import org.chzz.market.domain.notification.repository.EmitterRepositoryImpl;
 import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.SseReplayRepository;
 import org.chzz.market.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.codec.ServerSentEvent;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private EmitterRepositoryImpl emitterRepository;
+
+    @Mock
+    private SseHeartbeatScheduler sseHeartbeatScheduler;
+
+    @Mock
+    private SseReplayRepository sseReplayRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -54,6 +93,33 @@ class NotificationServiceTest {
 
         // then
         assertThat(notification.isRead()).isTrue();
+        verify(eventPublisher).publishEvent(NotificationUnreadCountEvent.of(user.getId(), -1));
+    }
+
+    @Test
+    @DisplayName("이미 읽은 알림을 다시 읽어도 읽지 않은 알림 수는 바뀌지 않는다.")
+    public void shouldNotChangeUnreadCountForAlreadyReadNotification() {
+        // given
+        given(notificationRepository.findById(readNotification.getId())).willReturn(Optional.of(readNotification));
+
+        // when
+        notificationService.readNotification(user.getId(), readNotification.getId());
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("알림을 모두 읽으면 읽지 않은 알림 수를 다시 만든다.")
+    public void shouldResetUnreadCountAfterReadAll() {
+        // given
+        given(notificationRepository.readAllByUserId(1L)).willReturn(3L);
+
+        // when
+        notificationService.readAllNotifications(1L);
+
+        // then
+        verify(eventPublisher).publishEvent(NotificationUnreadCountEvent.reset(1L));
     }
 
     @Test
@@ -124,4 +190,141 @@ class NotificationServiceTest {
                 .isEqualTo(NotificationErrorCode.UNAUTHORIZED_ACCESS);
     }
 
+    @Test
+    @DisplayName("여러 기기로 연결된 사용자에게는 한 번 만든 프레임을 모든 연결에 보낸다")
+    public void shouldSerializeOnceForAllEmittersOfUser() throws Exception {
+        // given
+        SseConnection phone = mock(SseConnection.class);
+        SseConnection laptop = mock(SseConnection.class);
+        given(emitterRepository.findByUserId(1L)).willReturn(Optional.of(List.of(phone, laptop)));
+        NotificationSseResponse sseResponse = new NotificationSseResponse(10L, "메시지", AUCTION_START, Map.of());
+
+        // when
+        notificationService.sendRealTimeNotification(1L, "1-0", sseResponse);
+
+        // then
+        verify(objectMapper, times(1)).writeValueAsString(sseResponse);
+        ArgumentCaptor<SseFrame> phoneFrame = ArgumentCaptor.forClass(SseFrame.class);
+        ArgumentCaptor<SseFrame> laptopFrame = ArgumentCaptor.forClass(SseFrame.class);
+        verify(phone).send(phoneFrame.capture());
+        verify(laptop).send(laptopFrame.capture());
+        assertThat(phoneFrame.getValue()).isSameAs(laptopFrame.getValue());
+    }
+
+    @Test
+    @DisplayName("연결이 있지만 어느 연결에도 쓰지 못하면 전송 실패를 알린다")
+    public void shouldReportFailureWhenNoEmitterAcceptsFrame() throws Exception {
+        // given
+        SseConnection broken = mock(SseConnection.class);
+        SseConnection alive = mock(SseConnection.class);
+        doThrow(new IOException("broken pipe")).when(broken).send(any(SseFrame.class));
+        NotificationSseResponse sseResponse = new NotificationSseResponse(10L, "메시지", AUCTION_START, Map.of());
+
+        // when
+        given(emitterRepository.findByUserId(1L)).willReturn(Optional.of(List.of(broken)));
+        boolean allFailed = notificationService.sendRealTimeNotification(1L, "1-0", sseResponse);
+        given(emitterRepository.findByUserId(1L)).willReturn(Optional.of(List.of(broken, alive)));
+        boolean oneSent = notificationService.sendRealTimeNotification(1L, "1-0", sseResponse);
+
+        // then
+        assertThat(allFailed).isFalse();
+        assertThat(oneSent).isTrue();
+    }
+
+    @Test
+    @DisplayName("연결이 없는 사용자에게는 직렬화하지 않는다")
+    public void shouldSkipSerializationWithoutEmitters() throws Exception {
+        // given
+        given(emitterRepository.findByUserId(1L)).willReturn(Optional.empty());
+
+        // when
+        notificationService.sendRealTimeNotification(1L, "1-0",
+                new NotificationSseResponse(10L, "메시지", AUCTION_START, Map.of()));
+
+        // then
+        verify(objectMapper, never()).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 연결 이벤트 뒤에 놓친 알림을 이벤트 ID와 함께 다시 보낸다")
+    public void shouldReplayMissedEventsOnReconnect() {
+        // given
+        given(sseReplayRepository.findAfter(1L, "5-0")).willReturn(List.of(
+                new SseReplayEvent("6-0", "{\"notificationId\":6}"),
+                new SseReplayEvent("7-0", "{\"notificationId\":7}")));
+
+        // when
+        List<ServerSentEvent<String>> events = notificationService.subscribeStream(1L, "5-0")
+                .take(3)
+                .collectList()
+                .block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(events).hasSize(3);
+        assertThat(events.subList(1, 3)).extracting(ServerSentEvent::id).containsExactly("6-0", "7-0");
+        assertThat(events.subList(1, 3)).extracting(ServerSentEvent::event).containsOnly("notification");
+        assertThat(events.get(2).data()).isEqualTo("{\"notificationId\":7}");
+    }
+
+    @Test
+    @DisplayName("처음 연결하면 재전송 로그를 조회하지 않는다")
+    public void shouldNotReplayOnFirstConnect() {
+        // when
+        notificationService.subscribe(1L, null);
+        notificationService.subscribe(1L, " ");
+
+        // then
+        verify(sseReplayRepository, never()).findAfter(any(), any());
+        verify(emitterRepository, times(2)).save(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 재전송 없이 연결만 맺는다")
+    public void shouldConnectWithoutReplayWhenRedisIsDown() {
+        // given
+        given(sseReplayRepository.findAfter(1L, "5-0"))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        List<ServerSentEvent<String>> events = notificationService.subscribeStream(1L, "5-0")
+                .take(Duration.ofMillis(200))
+                .collectList()
+                .block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(events).hasSize(1);
+        verify(emitterRepository).save(eq(1L), any());
+        verify(sseHeartbeatScheduler).register(1L);
+    }
+
+    @Test
+    @DisplayName("재전송 로그에 기록하면 수신자별 이벤트 ID를 메시지에 채운다")
+    public void shouldFillEventIdsWhenRecorded() {
+        // given
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 10L), "메시지", AUCTION_START,
+                Map.of(), Map.of());
+        given(sseReplayRepository.append(any())).willReturn(Map.of(1L, "1-0"));
+
+        // when
+        NotificationRealMessage recorded = notificationService.recordForReplay(message);
+
+        // then
+        assertThat(recorded.eventIdOf(1L)).isEqualTo("1-0");
+    }
+
+    @Test
+    @DisplayName("재전송 로그에 기록하지 못해도 이벤트 ID 없이 실시간 전송을 계속한다")
+    public void shouldKeepMessageWhenRecordingFails() {
+        // given
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 10L), "메시지", AUCTION_START,
+                Map.of(), Map.of());
+        given(sseReplayRepository.append(any())).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        NotificationRealMessage recorded = notificationService.recordForReplay(message);
+
+        // then
+        assertThat(recorded).isSameAs(message);
+        assertThat(recorded.eventIdOf(1L)).isNull();
+    }
 }
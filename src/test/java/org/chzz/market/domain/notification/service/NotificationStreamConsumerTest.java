@@ -0,0 +1,92 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamConsumerTest {
+    private static final String KEY = "notification:stream:node-a";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedisSubscriber redisSubscriber;
+
+    @Mock
+    private SsePresenceRepository ssePresenceRepository;
+
+    private NotificationStreamConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        when(ssePresenceRepository.isNodeIdConfigured()).thenReturn(true);
+        when(ssePresenceRepository.getNodeId()).thenReturn("node-a");
+        consumer = new NotificationStreamConsumer(redisTemplate, redisSubscriber, ssePresenceRepository,
+                new SimpleMeterRegistry(), 100, 2000, 30000);
+    }
+
+    @Test
+    @DisplayName("전달한 항목과 형식이 잘못된 항목은 확인 응답하고 전달에 실패한 항목은 남겨 둔다")
+    void handle_AcknowledgesProcessedRecords() throws Exception {
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        MapRecord<String, Object, Object> delivered = record("1-0", "ok");
+        MapRecord<String, Object, Object> malformed = record("2-0", "broken");
+        MapRecord<String, Object, Object> failed = record("3-0", "fail");
+        doThrow(new JsonParseException(null, "broken")).when(redisSubscriber).deliver("broken");
+        doThrow(new IllegalStateException("fail")).when(redisSubscriber).deliver("fail");
+
+        int acknowledged = consumer.handle(List.of(delivered, malformed, failed));
+
+        assertThat(acknowledged).isEqualTo(2);
+        verify(redisSubscriber).deliver("ok");
+        verify(streamOperations).acknowledge(KEY, "sse-delivery", RecordId.of("1-0"), RecordId.of("2-0"));
+    }
+
+    @Test
+    @DisplayName("노드 ID가 설정되지 않으면 재시작 후 이전 스트림을 이어받을 수 없으므로 시작하지 않는다")
+    void constructor_RequiresConfiguredNodeId() {
+        SsePresenceRepository randomNode = new SsePresenceRepository(redisTemplate, "");
+
+        assertThatThrownBy(() -> new NotificationStreamConsumer(redisTemplate, redisSubscriber, randomNode,
+                new SimpleMeterRegistry(), 100, 2000, 30000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("읽은 항목이 없으면 확인 응답하지 않는다")
+    void handle_IgnoresEmptyBatch() {
+        assertThat(consumer.handle(List.of())).isZero();
+        assertThat(consumer.handle(null)).isZero();
+    }
+
+    private MapRecord<String, Object, Object> record(String id, String payload) {
+        Map<Object, Object> value = Map.of(StreamNotificationTransport.PAYLOAD_FIELD, payload);
+        return StreamRecords.mapBacked(value)
+                .withStreamKey(KEY)
+                .withId(RecordId.of(id));
+    }
+}
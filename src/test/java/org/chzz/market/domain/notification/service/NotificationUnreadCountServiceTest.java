@@ -0,0 +1,123 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.chzz.market.domain.notification.event.NotificationUnreadCountEvent;
+import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.NotificationUnreadCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCountServiceTest {
+    @Mock
+    private NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCountService notificationUnreadCountService;
+
+    @BeforeEach
+    void setUp() {
+        notificationUnreadCountService =
+                new NotificationUnreadCountService(notificationUnreadCountRepository, notificationRepository, 2);
+    }
+
+    @Test
+    @DisplayName("배지 숫자가 Redis 에 있으면 읽지 않은 알림을 세지 않는다")
+    void getUnreadCount_ReturnsBadgeFromRedis() {
+        when(notificationUnreadCountRepository.findByUserId(1L)).thenReturn(Optional.of(3L));
+
+        assertThat(notificationUnreadCountService.getUnreadCount(1L)).isEqualTo(3);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("배지 숫자가 만료되었으면 읽지 않은 알림을 세어 다시 채운다")
+    void getUnreadCount_RecountsExpiredBadge() {
+        when(notificationUnreadCountRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        when(notificationRepository.countUnreadByUserId(1L)).thenReturn(5L);
+
+        assertThat(notificationUnreadCountService.getUnreadCount(1L)).isEqualTo(5);
+        verify(notificationUnreadCountRepository).save(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에는 배지 숫자를 알림 테이블에서 바로 센다")
+    void getUnreadCount_CountsNotificationsWhenRedisIsDown() {
+        when(notificationUnreadCountRepository.findByUserId(1L))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(notificationRepository.countUnreadByUserId(1L)).thenReturn(2L);
+
+        assertThat(notificationUnreadCountService.getUnreadCount(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("알림을 하나 읽으면 배지를 줄이고, 모두 읽으면 배지 키를 지운다")
+    void onCountChanged_DecrementsOrClearsBadge() {
+        notificationUnreadCountService.onCountChanged(NotificationUnreadCountEvent.of(1L, -1));
+        notificationUnreadCountService.onCountChanged(NotificationUnreadCountEvent.reset(2L));
+
+        verify(notificationUnreadCountRepository).increment(Map.of(1L, -1L));
+        verify(notificationUnreadCountRepository).delete(2L);
+    }
+
+    @Test
+    @DisplayName("대사에서 알림 테이블과 다른 배지만 지우고, 읽지 않은 알림이 없는 사용자는 0과 비교한다")
+    void reconcile_InvalidatesDriftedBadges() {
+        givenCachedUserIds(List.of(1L, 2L), List.of(3L));
+        when(notificationUnreadCountRepository.findByUserIds(List.of(1L, 2L))).thenReturn(Map.of(1L, 4L, 2L, 1L));
+        when(notificationUnreadCountRepository.findByUserIds(List.of(3L))).thenReturn(Map.of(3L, 0L));
+        when(notificationRepository.countUnreadByUserIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, 4L, 2L, 3L));
+        when(notificationRepository.countUnreadByUserIds(Set.of(3L))).thenReturn(Map.of());
+        when(notificationUnreadCountRepository.invalidateIfUnchanged(2L, 1L)).thenReturn(true);
+
+        int invalidated = notificationUnreadCountService.reconcile();
+
+        assertThat(invalidated).isEqualTo(1);
+        verify(notificationUnreadCountRepository, never()).invalidateIfUnchanged(1L, 4L);
+        verify(notificationUnreadCountRepository, never()).invalidateIfUnchanged(3L, 0L);
+    }
+
+    @Test
+    @DisplayName("대사하는 사이에 새 알림으로 배지가 바뀌었으면 지운 것으로 세지 않는다")
+    void reconcile_KeepsBadgeChangedDuringReconcile() {
+        givenCachedUserIds(List.of(1L));
+        when(notificationUnreadCountRepository.findByUserIds(List.of(1L))).thenReturn(Map.of(1L, 2L));
+        when(notificationRepository.countUnreadByUserIds(Set.of(1L))).thenReturn(Map.of(1L, 3L));
+        when(notificationUnreadCountRepository.invalidateIfUnchanged(anyLong(), anyLong())).thenReturn(false);
+
+        assertThat(notificationUnreadCountService.reconcile()).isZero();
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenCachedUserIds(List<Long>... batches) {
+        doAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(1);
+            for (List<Long> batch : batches) {
+                consumer.accept(batch);
+            }
+            return null;
+        }).when(notificationUnreadCountRepository).forEachCachedUserIds(anyInt(), any(Consumer.class));
+    }
+}
@@ -0,0 +1,69 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+class ReactiveSseConnectionTest {
+
+    @Test
+    @DisplayName("SseFrame 으로 보낸 이벤트를 같은 필드의 ServerSentEvent 로 내보낸다")
+    void send_EmitsServerSentEvent() throws Exception {
+        ReactiveSseConnection connection = new ReactiveSseConnection(10);
+
+        connection.send(SseFrame.of("1-0", "notification", "{\"notificationId\":1}"));
+        connection.send(SseFrame.comment("heartbeat"));
+        connection.complete();
+
+        List<ServerSentEvent<String>> events = connection.asFlux().collectList().block();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).id()).isEqualTo("1-0");
+        assertThat(events.get(0).event()).isEqualTo("notification");
+        assertThat(events.get(0).data()).isEqualTo("{\"notificationId\":1}");
+        assertThat(events.get(1).comment()).isEqualTo("heartbeat");
+        assertThat(events.get(1).data()).isNull();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 IOException 을 던져 끊어진 연결로 처리되게 한다")
+    void send_ThrowsWhenBufferIsFull() throws Exception {
+        ReactiveSseConnection connection = new ReactiveSseConnection(1);
+        connection.send(SseFrame.comment("first"));
+
+        assertThatThrownBy(() -> connection.send(SseFrame.comment("second")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 가져간 만큼 버퍼에 다시 넣을 수 있다")
+    void send_AcceptsAfterClientDrains() throws Exception {
+        ReactiveSseConnection connection = new ReactiveSseConnection(1);
+        List<ServerSentEvent<String>> received = new ArrayList<>();
+        connection.asFlux().subscribe(received::add);
+
+        connection.send(SseFrame.comment("first"));
+        connection.send(SseFrame.comment("second"));
+
+        assertThat(received).extracting(ServerSentEvent::comment).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("클라이언트가 구독을 끊으면 완료 콜백을 한 번 실행한다")
+    void asFlux_RunsCompletionCallbackOnCancel() {
+        ReactiveSseConnection connection = new ReactiveSseConnection(10);
+        AtomicInteger completed = new AtomicInteger();
+        connection.onCompletion(completed::incrementAndGet);
+
+        connection.asFlux().subscribe().dispose();
+        connection.complete();
+
+        assertThat(completed).hasValue(1);
+    }
+}
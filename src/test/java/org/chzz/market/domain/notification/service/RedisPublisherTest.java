@@ -0,0 +1,111 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_START;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.chzz.market.domain.notification.dto.NotificationRealBatch;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class RedisPublisherTest {
+    @Mock
+    private NotificationTransport notificationTransport;
+
+    @Mock
+    private SsePresenceRepository ssePresenceRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private RedisPublisher redisPublisher;
+
+    @Test
+    @DisplayName("수신자가 연결된 노드의 채널로 해당 노드 수신자 몫만 보낸다")
+    void publish_SplitsMessageByNode() throws Exception {
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 11L, 2L, 12L, 3L, 13L),
+                "메시지", AUCTION_START, Map.of(), Map.of());
+        when(ssePresenceRepository.findRecipientsByNode(message.notificationIds().keySet()))
+                .thenReturn(Map.of("node-a", List.of(1L), "node-b", List.of(2L)));
+
+        redisPublisher.publish(NotificationRealBatch.of(message));
+
+        ArgumentCaptor<String> payloadA = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> payloadB = ArgumentCaptor.forClass(String.class);
+        verify(notificationTransport).send(eq("node-a"), payloadA.capture());
+        verify(notificationTransport).send(eq("node-b"), payloadB.capture());
+        assertThat(objectMapper.readValue(payloadA.getValue(), NotificationRealBatch.class)
+                .messages().get(0).notificationIds()).containsExactly(Map.entry(1L, 11L));
+        assertThat(objectMapper.readValue(payloadB.getValue(), NotificationRealBatch.class)
+                .messages().get(0).notificationIds()).containsExactly(Map.entry(2L, 12L));
+    }
+
+    @Test
+    @DisplayName("여러 메시지를 묶어 노드마다 한 번만 보낸다")
+    void publish_SendsBatchOncePerNode() throws Exception {
+        NotificationRealMessage first = new NotificationRealMessage(Map.of(1L, 11L), "첫 번째", AUCTION_START,
+                Map.of(), Map.of());
+        NotificationRealMessage second = new NotificationRealMessage(Map.of(1L, 12L, 2L, 13L), "두 번째",
+                AUCTION_START, Map.of(), Map.of());
+        when(ssePresenceRepository.findRecipientsByNode(Set.of(1L, 2L)))
+                .thenReturn(Map.of("node-a", List.of(1L)));
+
+        redisPublisher.publish(new NotificationRealBatch(List.of(first, second)));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(notificationTransport).send(eq("node-a"), payload.capture());
+        List<NotificationRealMessage> messages = objectMapper.readValue(payload.getValue(),
+                NotificationRealBatch.class).messages();
+        assertThat(messages).extracting(NotificationRealMessage::message).containsExactly("첫 번째", "두 번째");
+        assertThat(messages.get(1).notificationIds()).containsExactly(Map.entry(1L, 12L));
+    }
+
+    @Test
+    @DisplayName("한 노드로의 전송이 실패하면 그 노드만 다시 보내고 다른 노드에는 한 번만 보낸다")
+    void publish_RetriesOnlyFailedNode() {
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 11L, 2L, 12L), "메시지",
+                AUCTION_START, Map.of(), Map.of());
+        when(ssePresenceRepository.findRecipientsByNode(message.notificationIds().keySet()))
+                .thenReturn(Map.of("node-a", List.of(1L), "node-b", List.of(2L)));
+        doThrow(new RedisConnectionFailureException("연결 실패")).doNothing()
+                .when(notificationTransport).send(eq("node-a"), anyString());
+
+        redisPublisher.publish(NotificationRealBatch.of(message));
+
+        verify(notificationTransport, times(2)).send(eq("node-a"), anyString());
+        verify(notificationTransport, times(1)).send(eq("node-b"), anyString());
+    }
+
+    @Test
+    @DisplayName("연결된 수신자가 없으면 발행하지 않는다")
+    void publish_SkipsWhenNoRecipientConnected() {
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 11L), "메시지", AUCTION_START,
+                Map.of(), Map.of());
+        when(ssePresenceRepository.findRecipientsByNode(message.notificationIds().keySet())).thenReturn(Map.of());
+
+        redisPublisher.publish(NotificationRealBatch.of(message));
+
+        verify(notificationTransport, never()).send(anyString(), anyString());
+    }
+}
@@ -0,0 +1,60 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.chzz.market.domain.notification.entity.NotificationType.AUCTION_START;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.chzz.market.domain.notification.dto.NotificationRealBatch;
+import org.chzz.market.domain.notification.dto.NotificationRealMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSubscriberTest {
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private RedisSubscriber redisSubscriber;
+
+    @Test
+    @DisplayName("모든 수신자에게 전송하면 정상 종료해 스트림 항목을 확인 응답하게 한다")
+    void deliver_CompletesWhenAllSent() throws Exception {
+        when(notificationService.sendRealTimeNotifications(any(), any(), any())).thenReturn(true);
+
+        assertThatNoException().isThrownBy(() -> redisSubscriber.deliver(message()));
+    }
+
+    @Test
+    @DisplayName("SSE 쓰기에 실패한 수신자가 있으면 예외를 던져 스트림 항목을 확인 응답하지 않게 한다")
+    void deliver_ThrowsWhenWriteFailed() throws Exception {
+        when(notificationService.sendRealTimeNotifications(eq(1L), any(), any())).thenReturn(true);
+        when(notificationService.sendRealTimeNotifications(eq(2L), any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> redisSubscriber.deliver(message()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2");
+    }
+
+    private String message() throws Exception {
+        NotificationRealMessage message = new NotificationRealMessage(Map.of(1L, 11L, 2L, 12L), "메시지", AUCTION_START,
+                Map.of(), Map.of(1L, "1-0", 2L, "1-1"));
+        return objectMapper.writeValueAsString(NotificationRealBatch.of(message));
+    }
+}
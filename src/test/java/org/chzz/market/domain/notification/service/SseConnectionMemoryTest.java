@@ -0,0 +1,134 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.chzz.market.domain.notification.repository.EmitterRepositoryImpl;
+import org.chzz.market.domain.notification.repository.NotificationRepository;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.chzz.market.domain.notification.repository.SseReplayRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+
+/**
+ * 서블릿 연결({@code /subscribe})과 Flux 연결({@code /subscribe/stream})의 유휴 연결당 힙과 한 노드가 유지할 수 있는 최대 연결 수를 비교하는
+ * 부하 테스트. 오래 걸리고 GC 에 따라 값이 흔들리므로 {@code SSE_LOAD_TEST=true}일 때만 실행합니다.
+ * <pre>
+ * SSE_LOAD_TEST=true ./gradlew test --tests '*SseConnectionMemoryTest'
+ * </pre>
+ * 두 방식 모두 MockMvc 로 Spring MVC 의 반환값 처리와 비동기 요청 시작까지 거치므로, 이미터·싱크·구독 외에 MVC 가 요청마다 남기는 객체도 함께
+ * 잽니다. 서블릿 컨테이너는 목 요청·응답으로 대신하므로 소켓 버퍼처럼 컨테이너가 연결마다 잡는 메모리는 포함되지 않고, 두 방식에 똑같이 빠집니다.
+ * <p>
+ * 최대 연결 수는 연결을 {@value #STEP}개씩 더 열면서 늘어난 힙이 최대 힙의 {@value #HEAP_BUDGET_PERCENT}%를 넘기 직전까지 실제로 유지한
+ * 연결 수입니다. {@value #TARGET_CONNECTIONS}개에 닿으면 멈추므로, 목표를 넘는지 보려면 {@code -Xmx}를 운영 노드와 같게 맞춰 실행합니다.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "SSE_LOAD_TEST", matches = "true")
+class SseConnectionMemoryTest {
+    private static final int STEP = 10_000;
+    private static final int TARGET_CONNECTIONS = 100_000;
+    private static final int HEAP_BUDGET_PERCENT = 70;
+    private static final long MAX_BYTES_PER_CONNECTION = 16 * 1024;
+
+    @Test
+    @DisplayName("서블릿 연결과 Flux 연결의 연결당 힙과 유지할 수 있는 최대 연결 수를 비교한다")
+    void compareServletAndReactiveConnections() throws Exception {
+        Measurement servlet = measure("/subscribe");
+        Measurement reactive = measure("/subscribe/stream");
+
+        String report = String.format("서블릿 %s, Flux %s (최대 힙 %dMB)", servlet, reactive,
+                Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        log.info("[SSE] {}", report);
+        assertThat(servlet.bytesPerConnection()).as(report).isLessThan(MAX_BYTES_PER_CONNECTION);
+        assertThat(reactive.bytesPerConnection()).as(report).isLessThan(MAX_BYTES_PER_CONNECTION);
+    }
+
+    private static Measurement measure(String path) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SubscribeController(notificationService())).build();
+        long budget = Runtime.getRuntime().maxMemory() * HEAP_BUDGET_PERCENT / 100;
+        List<MvcResult> connections = new ArrayList<>(TARGET_CONNECTIONS);
+        long before = usedHeapAfterGc();
+        long used = 0;
+        int sustained = 0;
+        while (sustained < TARGET_CONNECTIONS) {
+            for (int i = 0; i < STEP; i++) {
+                connections.add(mockMvc.perform(get(path).param("userId", String.valueOf(connections.size())))
+                        .andReturn());
+            }
+            long grown = usedHeapAfterGc() - before;
+            if (grown > budget) {
+                break;
+            }
+            used = grown;
+            sustained = connections.size();
+        }
+        Measurement measurement = new Measurement(sustained, sustained == 0 ? 0 : used / sustained);
+        connections.clear();
+        return measurement;
+    }
+
+    private static NotificationService notificationService() {
+        EmitterRepositoryImpl emitterRepository = new EmitterRepositoryImpl(stub(SsePresenceRepository.class));
+        return new NotificationService(stub(NotificationRepository.class), emitterRepository,
+                stub(SseHeartbeatScheduler.class), stub(SseReplayRepository.class), new ObjectMapper(),
+                stub(ApplicationEventPublisher.class));
+    }
+
+    // 호출 기록을 남기지 않는 목이라야 연결 수만큼 쌓인 기록이 측정값에 섞이지 않습니다.
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private record Measurement(int sustainedConnections, long bytesPerConnection) {
+        @Override
+        public String toString() {
+            return String.format("연결당 %d bytes, 최대 %d개 유지", bytesPerConnection, sustainedConnections);
+        }
+    }
+
+    @RestController
+    @RequiredArgsConstructor
+    static class SubscribeController {
+        private final NotificationService notificationService;
+
+        @GetMapping(value = "/subscribe", produces = TEXT_EVENT_STREAM_VALUE)
+        SseEmitter subscribe(@RequestParam Long userId) {
+            return notificationService.subscribe(userId, null);
+        }
+
+        @GetMapping(value = "/subscribe/stream", produces = TEXT_EVENT_STREAM_VALUE)
+        Flux<ServerSentEvent<String>> subscribeStream(@RequestParam Long userId) {
+            return notificationService.subscribeStream(userId, null);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림 하나를 여러 서블릿 연결에 보낼 때 연결당 할당되는 힙을 {@link SseEmitter.SseEventBuilder}로 만든 프레임과 미리 인코딩한
+ * {@link SseFrame}으로 비교하는 벤치마크. JIT 와 장비에 따라 값이 달라지므로 {@code SSE_ALLOCATION_BENCHMARK=true}일 때만 실행합니다.
+ * <pre>
+ * SSE_ALLOCATION_BENCHMARK=true ./gradlew test --tests '*SseFrameAllocationBenchmarkTest'
+ * </pre>
+ * Spring MVC 가 이미터에 보낸 값을 응답에 쓸 때처럼 쓸 수 있는 첫 번째 메시지 컨버터로 쓰고, 응답 본문은 버립니다. 소켓 쓰기는 포함되지 않으므로
+ * 프레임 인코딩에 드는 할당만 비교합니다.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "SSE_ALLOCATION_BENCHMARK", matches = "true")
+class SseFrameAllocationBenchmarkTest {
+    private static final int WARMUP_CONNECTIONS = 100_000;
+    private static final int CONNECTIONS = 1_000_000;
+    private static final String DATA = "{\"notificationId\":1,\"message\":\"경매가 낙찰되었습니다.\","
+            + "\"type\":\"AUCTION_SUCCESS\",\"auctionId\":1}";
+
+    private final List<HttpMessageConverter<?>> converters = List.of(
+            new ByteArrayHttpMessageConverter(), new StringHttpMessageConverter(StandardCharsets.UTF_8));
+    private final HttpOutputMessage discarded = new DiscardedOutputMessage();
+
+    @Test
+    @DisplayName("SseEventBuilder 프레임과 미리 인코딩한 프레임의 연결당 할당을 비교한다")
+    void compareAllocationPerConnection() throws Exception {
+        Set<DataWithMediaType> builderFrame = SseEmitter.event().id("1-0").name("notification").data(DATA).build();
+        Set<DataWithMediaType> encodedFrame = SseFrame.of("1-0", "notification", DATA).servletFrame();
+
+        write(builderFrame, WARMUP_CONNECTIONS);
+        write(encodedFrame, WARMUP_CONNECTIONS);
+        long builder = write(builderFrame, CONNECTIONS) / CONNECTIONS;
+        long encoded = write(encodedFrame, CONNECTIONS) / CONNECTIONS;
+
+        String report = String.format("SseEventBuilder 연결당 %d bytes, SseFrame 연결당 %d bytes", builder, encoded);
+        log.info("[SSE] {}", report);
+        assertThat(encoded).as(report).isLessThan(builder);
+    }
+
+    /**
+     * 같은 프레임을 {@code connections}개 연결에 쓰는 동안 현재 스레드가 할당한 바이트 수
+     */
+    private long write(Set<DataWithMediaType> frame, int connections) throws IOException {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < connections; i++) {
+            for (DataWithMediaType item : frame) {
+                write(item);
+            }
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(DataWithMediaType item) throws IOException {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter.canWrite(item.getData().getClass(), item.getMediaType())) {
+                ((HttpMessageConverter<Object>) converter).write(item.getData(), item.getMediaType(), discarded);
+                return;
+            }
+        }
+        throw new IllegalStateException("쓸 수 있는 컨버터가 없습니다: " + item.getData().getClass());
+    }
+
+    // 스트리밍 응답처럼 헤더는 무시하고 본문은 버립니다.
+    private static class DiscardedOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
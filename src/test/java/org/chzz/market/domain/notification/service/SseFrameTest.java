@@ -0,0 +1,50 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseFrameTest {
+
+    @Test
+    @DisplayName("서블릿 프레임은 SseEmitter 가 쓰는 것과 같은 텍스트를 한 번 인코딩한 바이트다")
+    void servletFrame_MatchesSseEmitterFormat() {
+        String data = "{\"message\":\"낙찰\"}";
+        SseFrame frame = SseFrame.of("1-0", "notification", data);
+
+        Set<DataWithMediaType> servletFrame = frame.servletFrame();
+
+        assertThat(servletFrame).hasSize(1);
+        byte[] encoded = (byte[]) servletFrame.iterator().next().getData();
+        assertThat(new String(encoded, StandardCharsets.UTF_8))
+                .isEqualTo(text(SseEmitter.event().id("1-0").name("notification").data(data).build()));
+        assertThat(frame.servletFrame()).isSameAs(servletFrame);
+    }
+
+    @Test
+    @DisplayName("여러 줄 데이터는 줄마다 data: 를 붙인다")
+    void servletFrame_SplitsMultilineData() {
+        byte[] encoded = (byte[]) SseFrame.of("1-0", "init", "a\nb").servletFrame().iterator().next().getData();
+
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("id:1-0\nevent:init\ndata:a\ndata:b\n\n");
+    }
+
+    @Test
+    @DisplayName("주석 프레임도 SseEmitter 와 같은 형식으로 쓴다")
+    void comment_MatchesSseEmitterFormat() {
+        byte[] encoded = (byte[]) SseFrame.comment("heartbeat").servletFrame().iterator().next().getData();
+
+        assertThat(new String(encoded, StandardCharsets.UTF_8))
+                .isEqualTo(text(SseEmitter.event().comment("heartbeat").build()));
+    }
+
+    private static String text(Set<DataWithMediaType> items) {
+        return items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+    }
+}
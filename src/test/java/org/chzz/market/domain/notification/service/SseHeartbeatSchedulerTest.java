@@ -0,0 +1,125 @@
+package org.chzz.market.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.chzz.market.domain.notification.repository.EmitterRepository;
+import org.chzz.market.domain.notification.repository.SsePresenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SseHeartbeatSchedulerTest {
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    @Mock
+    private SsePresenceRepository ssePresenceRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SseHeartbeatScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new SseHeartbeatScheduler(emitterRepository, ssePresenceRepository, meterRegistry, 2, 1000, 2,
+                100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("틱마다 휠의 한 칸에 있는 사용자에게만 하트비트를 보내고 연결 위치를 갱신한다")
+    void tick_SendsOnlyToCurrentSlot() throws Exception {
+        SseConnection evenUserConnection = mock(SseConnection.class);
+        when(emitterRepository.findByUserId(2L)).thenReturn(Optional.of(List.of(evenUserConnection)));
+        scheduler.register(2L);
+        scheduler.register(3L);
+
+        scheduler.tick(); // 0번 칸: 사용자 2
+
+        verify(evenUserConnection, timeout(1000)).send(any(SseFrame.class));
+        verify(ssePresenceRepository).refresh(List.of(2L));
+        verify(emitterRepository, never()).findByUserId(3L);
+    }
+
+    @Test
+    @DisplayName("하트비트 전송에 실패한 연결은 바로 정리한다")
+    void tick_EvictsFailedEmitter() throws Exception {
+        SseConnection brokenConnection = mock(SseConnection.class);
+        doThrow(new IOException("broken pipe")).when(brokenConnection).send(any(SseFrame.class));
+        when(emitterRepository.findByUserId(2L)).thenReturn(Optional.of(List.of(brokenConnection)));
+        scheduler.register(2L);
+
+        scheduler.tick();
+
+        verify(emitterRepository, timeout(1000)).deleteEmitter(2L, brokenConnection);
+        verify(brokenConnection).abort();
+        assertThat(meterRegistry.get("sse.heartbeat.evicted").tag("reason", "error").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 제한 시간을 넘긴 연결은 다음 틱에 전송을 기다리지 않고 응답을 닫아 정리한다")
+    void tick_AbortsStalledWrite() throws Exception {
+        SseHeartbeatScheduler stallingScheduler =
+                new SseHeartbeatScheduler(emitterRepository, ssePresenceRepository, meterRegistry, 1, 50, 1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        SseConnection stuckConnection = mock(SseConnection.class);
+        when(stuckConnection.blocksOnSend()).thenReturn(true);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(stuckConnection).send(any(SseFrame.class));
+        when(emitterRepository.findByUserId(2L)).thenReturn(Optional.of(List.of(stuckConnection)));
+        stallingScheduler.register(2L);
+        try {
+            stallingScheduler.tick();
+            verify(stuckConnection, timeout(1000)).send(any(SseFrame.class));
+            Thread.sleep(100);
+
+            stallingScheduler.tick(); // 쓰기가 아직 끝나지 않았으므로 다시 보내지 않고 정리한다
+
+            verify(emitterRepository).deleteEmitter(2L, stuckConnection);
+            verify(stuckConnection).abort();
+            verify(stuckConnection, times(1)).send(any(SseFrame.class));
+            assertThat(meterRegistry.get("sse.heartbeat.evicted").tag("reason", "timeout").counter().count())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+            stallingScheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("연결이 모두 끊어진 사용자는 휠에서 뺀다")
+    void tick_RemovesDisconnectedUser() {
+        when(emitterRepository.findByUserId(2L)).thenReturn(Optional.empty());
+        scheduler.register(2L);
+
+        scheduler.tick();
+        scheduler.tick();
+        scheduler.tick(); // 다시 0번 칸
+
+        verify(emitterRepository, times(2)).findByUserId(2L);
+        verify(ssePresenceRepository, never()).refresh(List.of(2L));
+    }
+}
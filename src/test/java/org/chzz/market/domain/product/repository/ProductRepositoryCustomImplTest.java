@@ -23,6 +23,7 @@ import org.chzz.market.domain.like.entity.Like;
 import org.chzz.market.domain.like.repository.LikeRepository;
 import org.chzz.market.domain.product.dto.ProductDetailsResponse;
 import org.chzz.market.domain.product.dto.ProductResponse;
+import org.chzz.market.domain.product.dto.RegistrationCounts;
 import org.chzz.market.domain.product.dto.UpdateProductRequest;
 import org.chzz.market.domain.product.entity.Product;
 import org.chzz.market.domain.product.entity.Product.Category;
@@ -525,4 +526,18 @@ class ProductRepositoryCustomImplTest {
         }
 
     }
+
+    @Test
+    @DisplayName("사용자의 사전 등록 상품 수와 경매 등록 상품 수를 한 번에 조회")
+    void getRegistrationCounts() {
+        // when
+        RegistrationCounts counts = productRepository.getRegistrationCounts(user3.getId());
+        RegistrationCounts emptyCounts = productRepository.getRegistrationCounts(9999L);
+
+        // then
+        assertThat(counts.preRegisterCount()).isEqualTo(1); // product5
+        assertThat(counts.registeredAuctionCount()).isEqualTo(1); // product6
+        assertThat(emptyCounts.preRegisterCount()).isZero();
+        assertThat(emptyCounts.registeredAuctionCount()).isZero();
+    }
 }
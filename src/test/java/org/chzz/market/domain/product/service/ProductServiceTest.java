@@ -3,6 +3,7 @@ package org.chzz.market.domain.product.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.chzz.market.domain.image.error.ImageErrorCode.INVALID_UPLOADED_IMAGE;
 import static org.chzz.market.domain.product.entity.Product.Category.ELECTRONICS;
 import static org.chzz.market.domain.product.entity.Product.Category.HOME_APPLIANCES;
 import static org.chzz.market.domain.product.error.ProductErrorCode.ALREADY_IN_AUCTION;
@@ -12,9 +13,14 @@ import static org.chzz.market.domain.product.error.ProductErrorCode.PRODUCT_NOT_
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.chzz.market.domain.auction.repository.AuctionRepository;
 import org.chzz.market.domain.image.entity.Image;
+import org.chzz.market.domain.image.error.exception.ImageException;
 import org.chzz.market.domain.image.service.ImageService;
 import org.chzz.market.domain.product.dto.DeleteProductResponse;
 import org.chzz.market.domain.product.dto.ProductResponse;
@@ -42,15 +49,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,6 +75,12 @@ public class ProductServiceTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ProductService productService;
 
@@ -147,6 +164,11 @@ public class ProductServiceTest {
     @Nested
     @DisplayName("사전 등록 상품 수정")
     class preRegister_Update {
+        @BeforeEach
+        void setUp() {
+            when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                    invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
 
         @Test
         @DisplayName("1. 유효한 요청으로 사전 등록 상품 수정 성공 응답")
@@ -156,6 +178,7 @@ public class ProductServiceTest {
             List<Image> existingImages = createExistingImages();
             existingProduct.addImages(existingImages);
 
+            when(imageService.uploadImages(anyList())).thenReturn(List.of("new_image1.jpg", "new_image2.jpg"));
             when(productRepository.findProductByIdWithImage(anyLong())).thenReturn(Optional.of(existingProduct));
 
             // when
@@ -276,7 +299,8 @@ public class ProductServiceTest {
             when(productRepository.findProductByIdWithImage(anyLong())).thenReturn(Optional.of(existingProduct));
             when(auctionRepository.existsByProductId(anyLong())).thenReturn(false);
 
-            when(imageService.uploadSequentialImages(eq(existingProduct), anyMap()))
+            when(imageService.uploadImages(anyList())).thenReturn(List.of("new_image1.jpg", "new_image2.jpg"));
+            when(imageService.saveUploadedImages(eq(existingProduct), anyMap()))
                     .thenReturn(List.of(
                             new Image(1L, "new_image1.jpg", 2, existingProduct),
                             new Image(2L, "new_image2.jpg", 1, existingProduct)
@@ -331,7 +355,8 @@ public class ProductServiceTest {
             when(productRepository.findProductByIdWithImage(anyLong())).thenReturn(Optional.of(existingProduct));
             when(auctionRepository.existsByProductId(anyLong())).thenReturn(false);
 
-            when(imageService.uploadSequentialImages(eq(existingProduct), anyMap()))
+            when(imageService.uploadImages(anyList())).thenReturn(List.of("new_image1.jpg", "new_image2.jpg"));
+            when(imageService.saveUploadedImages(eq(existingProduct), anyMap()))
                     .thenReturn(List.of(
                             new Image(3L, "new_image1.jpg", 1, existingProduct) // 새로 추가될 이미지
                     ));
@@ -346,9 +371,80 @@ public class ProductServiceTest {
 
             // 이미지가 하나만 존재해야 함 (기존 이미지는 모두 삭제되고 새로운 이미지만 추가됨)
             assertEquals(1, response.imageUrls().size());
+            verify(imageService).deleteImages(existingImages); // 삭제된 기존 이미지는 S3 삭제 대기열로
             assertThat(response.imageUrls().get(0).imageUrl()).isEqualTo("new_image1.jpg");
             assertThat(response.imageUrls().get(0).imageId()).isEqualTo(3L);
         }
+
+        @Test
+        @DisplayName("10. 직접 올린 이미지는 트랜잭션을 열기 전에 확인하고 확인된 경로로 저장")
+        void updateProduct_ConfirmsUploadedImagesBeforeTransaction() {
+            // given
+            Map<Integer, String> imageKeys = Map.of(1, "1/uploaded.jpg");
+            Map<Integer, String> cdnPaths = Map.of(1, "https://cdn.example.com/1/uploaded.jpg");
+            UpdateProductRequest request = UpdateProductRequest.builder()
+                    .productName("수정된 상품")
+                    .description("수정된 설명")
+                    .category(HOME_APPLIANCES)
+                    .minPrice(20000)
+                    .imageSequence(Collections.emptyMap())
+                    .imageKeys(imageKeys)
+                    .build();
+
+            when(imageService.confirmUploadedImages(user.getId(), imageKeys)).thenReturn(cdnPaths);
+            when(productRepository.findProductByIdWithImage(anyLong())).thenReturn(Optional.of(existingProduct));
+            when(auctionRepository.existsByProductId(anyLong())).thenReturn(false);
+            when(imageService.saveUploadedImages(existingProduct, cdnPaths))
+                    .thenReturn(List.of(new Image(4L, "https://cdn.example.com/1/uploaded.jpg", 1, existingProduct)));
+
+            // when
+            UpdateProductResponse response = productService.updateProduct(user.getId(), 1L, request, null);
+
+            // then
+            InOrder inOrder = inOrder(imageService, transactionTemplate);
+            inOrder.verify(imageService).confirmUploadedImages(user.getId(), imageKeys);
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(imageService).saveUploadedImages(existingProduct, cdnPaths);
+            assertThat(response.imageUrls().get(0).imageId()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("11. 새 이미지 파일은 트랜잭션 전에 병렬로 올리고 수정에 실패하면 지운다")
+        void updateProduct_DiscardsNewImagesWhenUpdateFails() {
+            // given
+            Map<String, MultipartFile> newImages = createMockMultipartFiles();
+            when(imageService.uploadImages(anyList())).thenReturn(List.of("new_image1.jpg", "new_image2.jpg"));
+            when(productRepository.findProductByIdWithImage(anyLong())).thenReturn(Optional.of(existingProduct));
+            when(auctionRepository.existsByProductId(anyLong())).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> productService.updateProduct(user.getId(), 1L, updateRequest3, newImages))
+                    .isInstanceOf(ProductException.class)
+                    .hasMessageContaining(ALREADY_IN_AUCTION.getMessage());
+            InOrder inOrder = inOrder(imageService, transactionTemplate);
+            inOrder.verify(imageService).uploadImages(anyList());
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(imageService).discardUploadedImages(argThat(paths ->
+                    paths.containsAll(List.of("new_image1.jpg", "new_image2.jpg"))));
+        }
+    }
+
+    @Test
+    @DisplayName("직접 올린 이미지 확인에 실패하면 트랜잭션을 열지 않는다")
+    void updateProduct_InvalidUploadedImage_DoesNotOpenTransaction() {
+        // given
+        UpdateProductRequest request = UpdateProductRequest.builder()
+                .productName("수정된 상품")
+                .imageKeys(Map.of(1, "2/other-user.jpg"))
+                .build();
+        when(imageService.confirmUploadedImages(user.getId(), request.getImageKeys()))
+                .thenThrow(new ImageException(INVALID_UPLOADED_IMAGE));
+
+        // when & then
+        assertThatThrownBy(() -> productService.updateProduct(user.getId(), 1L, request, null))
+                .isInstanceOf(ImageException.class);
+        verify(transactionTemplate, never()).execute(any());
+        verify(productRepository, never()).findProductByIdWithImage(anyLong());
     }
 
     @Nested
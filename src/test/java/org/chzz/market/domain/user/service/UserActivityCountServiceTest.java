@@ -0,0 +1,87 @@
+package org.chzz.market.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.chzz.market.domain.auction.repository.AuctionRepository;
+import org.chzz.market.domain.product.dto.RegistrationCounts;
+import org.chzz.market.domain.product.repository.ProductRepository;
+import org.chzz.market.domain.user.dto.UserActivityCounts;
+import org.chzz.market.domain.user.dto.response.ParticipationCountsResponse;
+import org.chzz.market.domain.user.event.UserActivityCountEvent;
+import org.chzz.market.domain.user.event.UserActivityCountEvent.Field;
+import org.chzz.market.domain.user.repository.UserActivityCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class UserActivityCountServiceTest {
+    @Mock
+    private UserActivityCountRepository userActivityCountRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private UserActivityCountService userActivityCountService;
+
+    @Test
+    @DisplayName("집계가 있으면 DB를 조회하지 않는다")
+    void getCounts_ReturnsCachedCounts() {
+        UserActivityCounts cached = new UserActivityCounts(1, 2, 3, 4, 5);
+        when(userActivityCountRepository.findByUserId(1L)).thenReturn(Optional.of(cached));
+
+        UserActivityCounts counts = userActivityCountService.getCounts(1L);
+
+        assertThat(counts).isEqualTo(cached);
+        verifyNoInteractions(auctionRepository, productRepository);
+    }
+
+    @Test
+    @DisplayName("집계가 없으면 DB 집계로 다시 만들어 저장한다")
+    void getCounts_RebuildsWhenMissing() {
+        when(userActivityCountRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        when(auctionRepository.getParticipationCounts(1L)).thenReturn(new ParticipationCountsResponse(1, 2, 3));
+        when(productRepository.getRegistrationCounts(1L)).thenReturn(new RegistrationCounts(4, 5));
+
+        UserActivityCounts counts = userActivityCountService.getCounts(1L);
+
+        UserActivityCounts expected = new UserActivityCounts(1, 2, 3, 4, 5);
+        assertThat(counts).isEqualTo(expected);
+        verify(userActivityCountRepository).save(1L, expected);
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없어도 DB 집계로 응답한다")
+    void getCounts_FallsBackWhenRedisUnavailable() {
+        when(userActivityCountRepository.findByUserId(1L))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(auctionRepository.getParticipationCounts(1L)).thenReturn(new ParticipationCountsResponse(0, 0, 0));
+        when(productRepository.getRegistrationCounts(1L)).thenReturn(new RegistrationCounts(1, 0));
+
+        UserActivityCounts counts = userActivityCountService.getCounts(1L);
+
+        assertThat(counts.preRegisterCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("증감 이벤트를 집계에 반영한다")
+    void onCountChanged_IncrementsCounts() {
+        UserActivityCountEvent event = UserActivityCountEvent.of(1L, Field.ONGOING, 1);
+
+        userActivityCountService.onCountChanged(event);
+
+        verify(userActivityCountRepository).increment(event.changes());
+    }
+}
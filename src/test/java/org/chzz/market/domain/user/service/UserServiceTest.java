@@ -7,9 +7,11 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.chzz.market.domain.auction.entity.Auction;
 import org.chzz.market.domain.auction.type.AuctionStatus;
@@ -308,6 +310,7 @@ class UserServiceTest {
 
             // then
             assertThat(user3.getProfileImageUrl()).isNull(); // 기본 이미지로 변경 시 URL은 null
+            verify(imageService).deleteUploadImages(List.of("https://test"));
             assertThat(user3.getNickname()).isEqualTo("수정된 닉네임");
             assertThat(user3.getBio()).isEqualTo("수정된 자기 소개");
             assertThat(user3.getLink()).isEqualTo("수정된 URL");
@@ -340,6 +343,7 @@ class UserServiceTest {
 
             // then
             assertThat(user3.getProfileImageUrl()).isEqualTo("https://cdn.example.com/new-image.jpg");
+            verify(imageService).deleteUploadImages(List.of("https://test"));
             assertThat(user3.getNickname()).isEqualTo("수정된 닉네임");
             assertThat(user3.getBio()).isEqualTo("수정된 자기 소개");
             assertThat(user3.getLink()).isEqualTo("수정된 URL");